@@ -23,10 +23,14 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    implementation(libs.redisson)
+    implementation(libs.reactor.core)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+    testImplementation(libs.hdrhistogram)
 }
 
 // about source and compilation
@@ -48,5 +52,23 @@ tasks.getByName("jar") {
 // test tasks
 tasks.test {
     ignoreFailures = true
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("load")
+    }
+}
+// 부하 테스트: ./gradlew loadTest -Pload.mix=charge:1,use:1,point:6,history:2 -Pload.keys=zipf:1.1 -Pload.rate=200
+tasks.register<Test>("loadTest") {
+    group = "verification"
+    description = "부하 프로필을 실행하고 build/load-reports 에 지연 분위수/처리량 보고서를 남깁니다."
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+    project.properties
+        .filterKeys { it.startsWith("load.") }
+        .forEach { (key, value) -> systemProperty(key, value.toString()) }
+    systemProperty("load.reportDir", layout.buildDirectory.dir("load-reports").get().asFile.absolutePath)
+    testLogging.showStandardStreams = true
+    outputs.upToDateWhen { false }
 }
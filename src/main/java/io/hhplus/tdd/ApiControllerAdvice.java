@@ -1,12 +1,78 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.cluster.UserHandoffPendingException;
+import io.hhplus.tdd.cluster.UserNotOwnedException;
+import io.hhplus.tdd.deadline.DeadlineExceededException;
+import io.hhplus.tdd.lock.UserLockUnavailableException;
+import io.hhplus.tdd.point.InvalidChangeFeedCursorException;
+import io.hhplus.tdd.point.InvalidHistoryQueryException;
+import io.hhplus.tdd.ratelimit.ConcurrencyLimitExceededException;
+import io.hhplus.tdd.ratelimit.RateLimitExceededException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+    @ExceptionHandler(value = RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceeded(RateLimitExceededException e) {
+        long retryAfterSeconds = Math.max(1L, (e.getRetryAfterMillis() + 999) / 1000);
+        return ResponseEntity.status(429)
+                .header("Retry-After", String.valueOf(retryAfterSeconds))
+                .body(new ErrorResponse("429", e.getMessage()));
+    }
+
+    @ExceptionHandler(value = UserLockUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleUserLockUnavailable(UserLockUnavailableException e) {
+        return ResponseEntity.status(503)
+                .header("Retry-After", "1")
+                .body(new ErrorResponse("503", e.getMessage()));
+    }
+
+    @ExceptionHandler(value = ConcurrencyLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyLimitExceeded(ConcurrencyLimitExceededException e) {
+        return ResponseEntity.status(503)
+                .header("Retry-After", "1")
+                .body(new ErrorResponse("503", e.getMessage()));
+    }
+
+    @ExceptionHandler(value = RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecution(RejectedExecutionException e) {
+        return ResponseEntity.status(503)
+                .header("Retry-After", "1")
+                .body(new ErrorResponse("503", "요청이 많아 처리할 수 없습니다."));
+    }
+
+    @ExceptionHandler(value = DeadlineExceededException.class)
+    public ResponseEntity<ErrorResponse> handleDeadlineExceeded(DeadlineExceededException e) {
+        return ResponseEntity.status(504).body(new ErrorResponse("504", e.getMessage()));
+    }
+
+    @ExceptionHandler(value = UserNotOwnedException.class)
+    public ResponseEntity<ErrorResponse> handleUserNotOwned(UserNotOwnedException e) {
+        return ResponseEntity.status(409).body(new ErrorResponse("409", e.getMessage()));
+    }
+
+    @ExceptionHandler(value = UserHandoffPendingException.class)
+    public ResponseEntity<ErrorResponse> handleUserHandoffPending(UserHandoffPendingException e) {
+        return ResponseEntity.status(503)
+                .header("Retry-After", "1")
+                .body(new ErrorResponse("503", e.getMessage()));
+    }
+
+    @ExceptionHandler(value = InvalidHistoryQueryException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidHistoryQuery(InvalidHistoryQueryException e) {
+        return ResponseEntity.status(400).body(new ErrorResponse("400", e.getMessage()));
+    }
+
+    @ExceptionHandler(value = InvalidChangeFeedCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidChangeFeedCursor(InvalidChangeFeedCursorException e) {
+        return ResponseEntity.status(400).body(new ErrorResponse("400", e.getMessage()));
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
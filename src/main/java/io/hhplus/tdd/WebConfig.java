@@ -0,0 +1,35 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.deadline.DeadlineInterceptor;
+import io.hhplus.tdd.ratelimit.ConcurrencyLimitInterceptor;
+import io.hhplus.tdd.ratelimit.RateLimitInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+class WebConfig implements WebMvcConfigurer {
+
+    private final RateLimitInterceptor rateLimitInterceptor;
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+    private final DeadlineInterceptor deadlineInterceptor;
+
+    WebConfig(RateLimitInterceptor rateLimitInterceptor,
+              ConcurrencyLimitInterceptor concurrencyLimitInterceptor,
+              DeadlineInterceptor deadlineInterceptor) {
+        this.rateLimitInterceptor = rateLimitInterceptor;
+        this.concurrencyLimitInterceptor = concurrencyLimitInterceptor;
+        this.deadlineInterceptor = deadlineInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor)
+                .addPathPatterns("/point/*/charge", "/point/*/use", "/point/*/transfer",
+                        "/reactive/point/*/charge", "/reactive/point/*/use");
+        registry.addInterceptor(concurrencyLimitInterceptor)
+                .addPathPatterns("/point/**");
+        registry.addInterceptor(deadlineInterceptor)
+                .addPathPatterns("/point/**");
+    }
+}
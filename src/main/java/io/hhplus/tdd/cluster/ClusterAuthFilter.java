@@ -0,0 +1,100 @@
+package io.hhplus.tdd.cluster;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+
+/**
+ * 구성원 변경(POST, DELETE /cluster/nodes)과 인계 요청(POST /cluster/handoff, /cluster/handoff/abandon)을
+ * 클러스터 안에서 온 요청만 받도록 제한하는 필터
+ *
+ * point.cluster.secret 이 설정되어 있으면 X-Point-Cluster-Secret 헤더가 같은 요청만 받는다.
+ * 설정되어 있지 않으면 보낸 주소가 설정된 시드 노드나 현재 구성원의 호스트, 또는 이 호스트(loopback)인 요청만 받는다.
+ * 그 밖의 요청은 처리하지 않고 403 으로 응답한다. 헬스 체크와 조회(GET)는 제한하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+public class ClusterAuthFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterAuthFilter.class);
+
+    private static final String NODES_PATH = ClusterMembership.NODES_PATH;
+    private static final String HANDOFF_PATH = "/cluster/handoff";
+
+    private final ClusterMembership membership;
+    private final ClusterSecret secret;
+
+    public ClusterAuthFilter(ClusterMembership membership, ClusterSecret secret) {
+        this.membership = membership;
+        this.secret = secret;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return "GET".equals(request.getMethod())
+                || !(path.equals(NODES_PATH) || path.equals(HANDOFF_PATH) || path.startsWith(HANDOFF_PATH + "/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!isPeer(request)) {
+            log.warn("클러스터 외부 요청 거절: {} {} from {}", request.getMethod(), request.getRequestURI(),
+                    request.getRemoteAddr());
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    boolean isPeer(HttpServletRequest request) {
+        if (secret.isConfigured()) {
+            return secret.matches(request.getHeader(ClusterSecret.HEADER));
+        }
+        InetAddress remote;
+        try {
+            remote = InetAddress.getByName(request.getRemoteAddr());
+        } catch (UnknownHostException e) {
+            return false;
+        }
+        if (remote.isLoopbackAddress()) {
+            return true;
+        }
+        for (String node : membership.knownNodes()) {
+            if (resolves(node, remote)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean resolves(String node, InetAddress remote) {
+        try {
+            String host = URI.create(node).getHost();
+            if (host == null) {
+                return false;
+            }
+            for (InetAddress address : InetAddress.getAllByName(host)) {
+                if (address.equals(remote)) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (IllegalArgumentException | UnknownHostException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.hhplus.tdd.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping("/cluster")
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+public class ClusterController {
+
+    private final ClusterMembership membership;
+
+    public ClusterController(ClusterMembership membership) {
+        this.membership = membership;
+    }
+
+    @GetMapping("health")
+    public String health() {
+        return "UP";
+    }
+
+    @GetMapping("nodes")
+    public Set<String> nodes() {
+        return membership.nodes();
+    }
+
+    /**
+     * 노드 합류 - 본문은 합류할 노드의 base URL
+     */
+    @PostMapping("nodes")
+    public Set<String> join(
+            @RequestBody String node
+    ) {
+        membership.join(node);
+        return membership.nodes();
+    }
+
+    /**
+     * 노드 이탈
+     */
+    @DeleteMapping("nodes")
+    public Set<String> leave(
+            @RequestParam String node
+    ) {
+        membership.leave(node);
+        return membership.nodes();
+    }
+}
@@ -0,0 +1,349 @@
+package io.hhplus.tdd.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클러스터 구성원 관리
+ *
+ * 설정된 시드 노드와 join/leave 요청으로 구성원을 관리하고, 주기적인 헬스 체크로
+ * 응답하지 않는 노드는 링에서 빼고 복구된 노드는 다시 넣는다.
+ * 외부 코디네이션 서비스 없이 각 노드가 독립적으로 같은 규칙을 적용한다.
+ *
+ * 링이 바뀌어 새로 소유하게 된 사용자의 잔액은 이전 소유 노드에 남아 있으므로, 이전 링의 다른 노드들에서
+ * 인계(PointHandoffService)를 모두 받을 때까지 그 사용자의 쓰기를 거절한다. 인계한 쪽은 넘겨준 사용자를 더 쓰지 않는다.
+ * 장애로 응답하지 않는 노드는 인계할 수 없으므로, 운영자가 abandonHandoff 로 유실을 받아들이기 전까지 거절이 유지된다.
+ *
+ * 시드 노드가 있으면 시작할 때 기존 클러스터에 합류(또는 재시작 후 재합류)하는 것으로 본다.
+ * 시드 노드만으로 이루어진 링을 확정된 링으로 두고, 이 노드에 구간을 넘겨주는 시드 노드에서 인계받을 때까지
+ * 그 구간의 쓰기를 거절한다. 시작 후에는 각 시드 노드에 합류를 알려(POST /cluster/nodes) 그 노드들도 링을 바꾸고
+ * 넘겨준 구간의 쓰기를 멈추게 한다. 응답하지 않은 시드 노드에는 헬스 체크 주기마다 다시 알린다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+public class ClusterMembership implements UserOwnership {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterMembership.class);
+
+    static final String HEALTH_PATH = "/cluster/health";
+    static final String NODES_PATH = "/cluster/nodes";
+
+    private final String self;
+    private final int virtualNodes;
+    private final long heartbeatIntervalMillis;
+    private final int failureThreshold;
+    private final ClusterSecret secret;
+    private final HttpClient httpClient;
+    private final Map<String, Integer> peers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "point-cluster-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile ConsistentHashRing ring;
+    // 이 노드의 잔액이 원본이라고 확정된 링 (인계가 모두 끝나면 현재 링으로 바뀐다)
+    private volatile ConsistentHashRing settled;
+    // 아직 인계를 받지 못한 노드
+    private final Set<String> pendingSources = ConcurrentHashMap.newKeySet();
+    // 확정된 링 이후 인계받은 사용자
+    private final Set<Long> handedIn = ConcurrentHashMap.newKeySet();
+    // 다른 노드로 인계해 더 이상 쓰지 않는 사용자
+    private final Set<Long> handedAway = ConcurrentHashMap.newKeySet();
+    private final List<Runnable> rebalanceListeners = new CopyOnWriteArrayList<>();
+    // 아직 합류를 알리지 못한 시드 노드
+    private final Set<String> unannounced = ConcurrentHashMap.newKeySet();
+
+    public ClusterMembership(@Value("${point.cluster.self}") String self,
+                             @Value("${point.cluster.nodes:}") List<String> seedNodes,
+                             @Value("${point.cluster.virtual-nodes:128}") int virtualNodes,
+                             @Value("${point.cluster.heartbeat-interval-ms:2000}") long heartbeatIntervalMillis,
+                             @Value("${point.cluster.failure-threshold:3}") int failureThreshold,
+                             ClusterSecret secret) {
+        this.self = normalize(self);
+        this.secret = secret;
+        this.virtualNodes = virtualNodes;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.failureThreshold = failureThreshold;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(heartbeatIntervalMillis))
+                .build();
+
+        ConsistentHashRing seeds = new ConsistentHashRing(virtualNodes);
+        for (String node : seedNodes) {
+            if (node.isBlank()) {
+                continue;
+            }
+            String normalized = normalize(node);
+            if (!normalized.equals(this.self)) {
+                peers.put(normalized, 0);
+                seeds = seeds.withNode(normalized);
+            }
+        }
+        ConsistentHashRing initial = seeds.withNode(this.self);
+        this.ring = initial;
+        // 이 노드가 가져온 구간의 잔액은 그 구간을 가지고 있던 시드 노드에 있다
+        pendingSources.addAll(initial.donorsOf(this.self));
+        unannounced.addAll(seeds.nodes());
+        this.settled = pendingSources.isEmpty() ? initial : seeds;
+        if (!pendingSources.isEmpty()) {
+            log.info("클러스터 합류: {}, 인계 대기: {}", initial.nodes(), pendingSources);
+        }
+    }
+
+    @PostConstruct
+    void startHeartbeat() {
+        heartbeat.execute(this::announceJoin);
+        heartbeat.scheduleWithFixedDelay(this::checkPeers,
+                heartbeatIntervalMillis, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopHeartbeat() {
+        heartbeat.shutdownNow();
+    }
+
+    public String self() {
+        return self;
+    }
+
+    public boolean isOwner(long userId) {
+        return self.equals(ownerOf(userId));
+    }
+
+    /**
+     * 사용자 락 보유 중 호출해야 인계와 쓰기가 엇갈리지 않는다
+     */
+    @Override
+    public void checkWritable(long userId) {
+        String owner = ownerOf(userId);
+        if (!self.equals(owner) || handedAway.contains(userId)) {
+            throw new UserNotOwnedException(userId, owner);
+        }
+        String previousOwner = settled.ownerOf(userId);
+        if (!self.equals(previousOwner) && !pendingSources.isEmpty() && !handedIn.contains(userId)) {
+            throw new UserHandoffPendingException(userId, previousOwner);
+        }
+    }
+
+    /**
+     * 링이 바뀔 때마다 호출할 작업을 등록한다 (링 변경과 같은 스레드에서 호출되므로 오래 걸리는 작업은 넘겨서 실행)
+     */
+    public void onRebalance(Runnable listener) {
+        rebalanceListeners.add(listener);
+    }
+
+    /**
+     * @return 아직 인계를 받지 못한 노드
+     */
+    public Set<String> pendingSources() {
+        return Set.copyOf(pendingSources);
+    }
+
+    /**
+     * source 의 인계가 끝났음을 기록한다
+     *
+     * @param nodes 인계를 요청할 때 보낸 링 구성 (그 사이 링이 바뀌었으면 무시하고 다시 요청하게 한다)
+     */
+    public synchronized void completeHandoff(String source, Set<String> nodes) {
+        if (ring.nodes().equals(nodes)) {
+            removePendingSource(source);
+        }
+    }
+
+    /**
+     * 응답하지 않는 노드의 인계를 포기한다 - 그 노드에만 있던 잔액과 내역은 유실된다
+     */
+    public synchronized void abandonHandoff(String source) {
+        log.warn("노드 인계 포기: {}", source);
+        removePendingSource(normalize(source));
+    }
+
+    /**
+     * 인계받은 사용자를 쓸 수 있게 한다 (사용자 락 보유 중 호출)
+     */
+    public void markHandedIn(long userId) {
+        handedIn.add(userId);
+        handedAway.remove(userId);
+    }
+
+    /**
+     * 다른 노드로 인계한 사용자를 더 이상 쓰지 않는다 (사용자 락 보유 중 호출)
+     */
+    public void markHandedAway(long userId) {
+        handedAway.add(userId);
+    }
+
+    public boolean isHandedAway(long userId) {
+        return handedAway.contains(userId);
+    }
+
+    /**
+     * 다른 노드가 보낸 구성으로 그 노드와 같은 링을 만든다 (가상 노드 수는 클러스터 전체가 같아야 한다)
+     */
+    public ConsistentHashRing ringOf(Collection<String> nodes) {
+        ConsistentHashRing other = new ConsistentHashRing(virtualNodes);
+        for (String node : nodes) {
+            other = other.withNode(normalize(node));
+        }
+        return other;
+    }
+
+    public String ownerOf(long userId) {
+        return ring.ownerOf(userId);
+    }
+
+    public Set<String> nodes() {
+        return ring.nodes();
+    }
+
+    /**
+     * @return 현재 링의 노드와 헬스 체크 중인 노드 (링에서 빠진 장애 노드와 시드 노드 포함)
+     */
+    public Set<String> knownNodes() {
+        Set<String> known = new HashSet<>(peers.keySet());
+        known.addAll(ring.nodes());
+        return known;
+    }
+
+    /**
+     * 노드를 구성원으로 추가하고 링을 재구성한다
+     */
+    public synchronized void join(String node) {
+        String normalized = normalize(node);
+        if (normalized.equals(self)) {
+            return;
+        }
+        peers.put(normalized, 0);
+        rebalance(ring.withNode(normalized));
+    }
+
+    /**
+     * 노드를 구성원에서 제외하고 링을 재구성한다
+     */
+    public synchronized void leave(String node) {
+        String normalized = normalize(node);
+        if (normalized.equals(self)) {
+            return;
+        }
+        peers.remove(normalized);
+        rebalance(ring.withoutNode(normalized));
+    }
+
+    private void checkPeers() {
+        announceJoin();
+        for (String peer : peers.keySet()) {
+            boolean healthy = ping(peer);
+            markHealth(peer, healthy);
+        }
+    }
+
+    private synchronized void markHealth(String peer, boolean healthy) {
+        Integer failures = peers.get(peer);
+        if (failures == null) {
+            return;
+        }
+        if (healthy) {
+            peers.put(peer, 0);
+            if (!ring.nodes().contains(peer)) {
+                log.info("노드 복구 감지: {}", peer);
+                rebalance(ring.withNode(peer));
+            }
+            return;
+        }
+        int nextFailures = failures + 1;
+        peers.put(peer, nextFailures);
+        if (nextFailures >= failureThreshold && ring.nodes().contains(peer)) {
+            log.warn("노드 장애 감지, 링에서 제외: {}", peer);
+            rebalance(ring.withoutNode(peer));
+        }
+    }
+
+    /**
+     * 아직 합류를 알리지 못한 시드 노드에 이 노드를 구성원으로 추가하게 한다
+     */
+    private void announceJoin() {
+        for (String peer : unannounced) {
+            try {
+                HttpRequest request = secret.sign(HttpRequest.newBuilder(URI.create(peer + NODES_PATH)))
+                        .timeout(Duration.ofMillis(heartbeatIntervalMillis))
+                        .header("Content-Type", "text/plain")
+                        .POST(HttpRequest.BodyPublishers.ofString(self))
+                        .build();
+                if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    unannounced.remove(peer);
+                    log.info("클러스터 합류 알림: {}", peer);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.debug("클러스터 합류 알림 실패, 다음 주기에 다시 알림: {} ({})", peer, e.getMessage());
+            }
+        }
+    }
+
+    private boolean ping(String peer) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(peer + HEALTH_PATH))
+                    .timeout(Duration.ofMillis(heartbeatIntervalMillis))
+                    .GET()
+                    .build();
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void rebalance(ConsistentHashRing next) {
+        if (next != ring) {
+            // 새로 소유하게 될 사용자의 잔액을 가진 노드를 알 수 없으므로 이전 링의 모든 노드에서 인계받는다
+            ring.nodes().stream()
+                    .filter(node -> !node.equals(self))
+                    .forEach(pendingSources::add);
+            ring = next;
+            log.info("클러스터 링 재구성: {}, 인계 대기: {}", next.nodes(), pendingSources);
+            if (pendingSources.isEmpty()) {
+                settled = next;
+            }
+            rebalanceListeners.forEach(Runnable::run);
+        }
+    }
+
+    private void removePendingSource(String source) {
+        if (pendingSources.remove(source) && pendingSources.isEmpty()) {
+            settled = ring;
+            handedIn.clear();
+            log.info("노드 인계 완료, 링 확정: {}", ring.nodes());
+        }
+    }
+
+    private static String normalize(String node) {
+        String trimmed = node.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
@@ -0,0 +1,54 @@
+package io.hhplus.tdd.cluster;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 노드 사이 요청에 싣는 공유 비밀 값 (point.cluster.secret)
+ *
+ * 설정되어 있으면 노드가 다른 노드로 보내는 합류 알림, 인계 요청, 요청 전달에 X-Point-Cluster-Secret 헤더로 싣고,
+ * ClusterAuthFilter 는 구성원 변경과 인계 요청을 이 값이 맞을 때만 받는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+public class ClusterSecret {
+
+    public static final String HEADER = "X-Point-Cluster-Secret";
+
+    private final byte[] secret;
+
+    public ClusterSecret(@Value("${point.cluster.secret:}") String secret) {
+        this.secret = secret.trim().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 비밀 값 없이 구성원 주소로만 확인한다
+     */
+    public static ClusterSecret none() {
+        return new ClusterSecret("");
+    }
+
+    public boolean isConfigured() {
+        return secret.length > 0;
+    }
+
+    /**
+     * 비밀 값이 설정되어 있으면 요청에 싣는다
+     */
+    public HttpRequest.Builder sign(HttpRequest.Builder builder) {
+        return isConfigured() ? builder.header(HEADER, new String(secret, StandardCharsets.UTF_8)) : builder;
+    }
+
+    /**
+     * @param header 받은 X-Point-Cluster-Secret 값 (시간 차로 값을 알아낼 수 없도록 고정 시간에 비교)
+     */
+    public boolean matches(String header) {
+        return isConfigured() && header != null
+                && MessageDigest.isEqual(secret, header.trim().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,130 @@
+package io.hhplus.tdd.cluster;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 사용자 ID를 소유 노드에 매핑하는 불변 일관 해시 링
+ *
+ * 노드마다 가상 노드를 여러 개 배치해 부하를 고르게 나누고,
+ * 노드가 추가/제거되면 해당 노드와 인접한 구간의 사용자만 소유자가 바뀐다.
+ * 변경 메서드는 새 링을 반환하므로 읽는 쪽은 락 없이 스냅샷을 사용할 수 있다.
+ */
+public final class ConsistentHashRing {
+
+    private final int virtualNodes;
+    private final NavigableMap<Long, String> ring;
+    private final Set<String> nodes;
+
+    public ConsistentHashRing(int virtualNodes) {
+        this(virtualNodes, new TreeMap<>(), new TreeSet<>());
+    }
+
+    private ConsistentHashRing(int virtualNodes, NavigableMap<Long, String> ring, Set<String> nodes) {
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("가상 노드 수는 양수여야 합니다. 입력값: " + virtualNodes);
+        }
+        this.virtualNodes = virtualNodes;
+        this.ring = Collections.unmodifiableNavigableMap(ring);
+        this.nodes = Collections.unmodifiableSet(nodes);
+    }
+
+    public ConsistentHashRing withNode(String node) {
+        if (nodes.contains(node)) {
+            return this;
+        }
+        TreeMap<Long, String> nextRing = new TreeMap<>(ring);
+        for (int i = 0; i < virtualNodes; i++) {
+            nextRing.put(hash(node + "#" + i), node);
+        }
+        TreeSet<String> nextNodes = new TreeSet<>(nodes);
+        nextNodes.add(node);
+        return new ConsistentHashRing(virtualNodes, nextRing, nextNodes);
+    }
+
+    public ConsistentHashRing withoutNode(String node) {
+        if (!nodes.contains(node)) {
+            return this;
+        }
+        TreeMap<Long, String> nextRing = new TreeMap<>(ring);
+        nextRing.values().removeIf(node::equals);
+        TreeSet<String> nextNodes = new TreeSet<>(nodes);
+        nextNodes.remove(node);
+        return new ConsistentHashRing(virtualNodes, nextRing, nextNodes);
+    }
+
+    /**
+     * @return 사용자를 소유한 노드, 링이 비어 있으면 null
+     */
+    public String ownerOf(long userId) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> entry = ring.ceilingEntry(spread(userId));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public Set<String> nodes() {
+        return nodes;
+    }
+
+    /**
+     * @return node 가 합류하면서 구간을 넘겨준 노드 (이 링에서 node 를 빼면 node 의 구간을 다시 소유할 노드)
+     */
+    public Set<String> donorsOf(String node) {
+        Set<String> donors = new TreeSet<>();
+        for (Map.Entry<Long, String> entry : ring.entrySet()) {
+            if (entry.getValue().equals(node)) {
+                String donor = nextOwnerExcept(entry.getKey(), node);
+                if (donor != null) {
+                    donors.add(donor);
+                }
+            }
+        }
+        return Collections.unmodifiableSet(donors);
+    }
+
+    /**
+     * @return position 다음부터 시계 방향으로 처음 만나는 node 가 아닌 노드, 없으면 null
+     */
+    private String nextOwnerExcept(long position, String node) {
+        for (String owner : ring.tailMap(position, false).values()) {
+            if (!owner.equals(node)) {
+                return owner;
+            }
+        }
+        for (String owner : ring.headMap(position, false).values()) {
+            if (!owner.equals(node)) {
+                return owner;
+            }
+        }
+        return null;
+    }
+
+    private static long spread(long userId) {
+        long h = userId;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
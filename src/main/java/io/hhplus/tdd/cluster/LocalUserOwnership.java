@@ -0,0 +1,16 @@
+package io.hhplus.tdd.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클러스터 모드가 아닐 때의 소유권 - 모든 사용자를 이 노드가 소유한다
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class LocalUserOwnership implements UserOwnership {
+
+    @Override
+    public void checkWritable(long userId) {
+    }
+}
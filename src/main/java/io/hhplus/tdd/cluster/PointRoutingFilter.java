@@ -0,0 +1,165 @@
+package io.hhplus.tdd.cluster;
+
+import io.hhplus.tdd.deadline.DeadlineInterceptor;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * /point/{id} 요청을 사용자를 소유한 노드로 전달하는 필터
+ *
+ * 사용자별 락은 한 프로세스 안에서만 유효하므로, 한 사용자의 요청은 항상 소유 노드 한 곳에서만 처리한다.
+ * 이미 전달된 요청은 다시 전달하지 않아 링이 노드마다 잠시 달라도 요청이 순환하지 않는다.
+ *
+ * 요청/응답 헤더는 연결 단위 헤더를 빼고 그대로 전달한다. X-Request-Timeout-Ms 는 전달 전까지 쓴 시간을 뺀 값으로 바꿔
+ * 소유 노드가 남은 시간 안에서만 처리하게 하고, 이미 마감이 지났으면 전달하지 않고 504 로 응답한다.
+ * 클라이언트가 보낸 X-Point-Cluster-Secret 은 전달하지 않고, 설정된 공유 비밀 값(ClusterSecret)으로 바꿔 싣는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+public class PointRoutingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(PointRoutingFilter.class);
+
+    static final String FORWARDED_HEADER = "X-Point-Forwarded-By";
+    private static final Pattern POINT_PATH = Pattern.compile("^/point/(-?\\d+)(/.*)?$");
+    // 연결 단위 헤더와 HttpClient 가 직접 정하는 헤더
+    private static final Set<String> UNFORWARDED_HEADERS = Set.of("connection", "content-length", "expect", "host",
+            "upgrade", "keep-alive", "proxy-connection", "te", "trailer", "transfer-encoding", "http2-settings");
+
+    private final ClusterMembership membership;
+    private final ClusterSecret secret;
+    private final HttpClient httpClient;
+    private final Duration forwardTimeout;
+
+    public PointRoutingFilter(ClusterMembership membership,
+                              ClusterSecret secret,
+                              @Value("${point.cluster.forward-timeout-ms:3000}") long forwardTimeoutMillis) {
+        this.membership = membership;
+        this.secret = secret;
+        this.forwardTimeout = Duration.ofMillis(forwardTimeoutMillis);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(forwardTimeout)
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(FORWARDED_HEADER) != null
+                || !POINT_PATH.matcher(request.getRequestURI()).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Matcher matcher = POINT_PATH.matcher(request.getRequestURI());
+        if (!matcher.matches()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long startNanos = System.nanoTime();
+        long userId = Long.parseLong(matcher.group(1));
+        String owner = membership.ownerOf(userId);
+        if (owner == null || owner.equals(membership.self())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        forward(owner, request, response, startNanos);
+    }
+
+    private void forward(String owner, HttpServletRequest request, HttpServletResponse response, long startNanos)
+            throws IOException {
+        String query = request.getQueryString();
+        URI target = URI.create(owner + request.getRequestURI() + (query != null ? "?" + query : ""));
+        byte[] body = request.getInputStream().readAllBytes();
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(target)
+                .method(request.getMethod(), body.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body));
+        for (String name : Collections.list(request.getHeaderNames())) {
+            String lowerCaseName = name.toLowerCase(Locale.ROOT);
+            if (UNFORWARDED_HEADERS.contains(lowerCaseName)
+                    || lowerCaseName.equals(DeadlineInterceptor.TIMEOUT_HEADER.toLowerCase(Locale.ROOT))
+                    || lowerCaseName.equals(ClusterSecret.HEADER.toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            for (String value : Collections.list(request.getHeaders(name))) {
+                builder.header(name, value);
+            }
+        }
+        builder.header(FORWARDED_HEADER, membership.self());
+        secret.sign(builder);
+
+        Duration timeout = forwardTimeout;
+        Long remainingMillis = remainingMillis(request.getHeader(DeadlineInterceptor.TIMEOUT_HEADER), startNanos);
+        if (remainingMillis != null) {
+            if (remainingMillis <= 0) {
+                response.sendError(HttpServletResponse.SC_GATEWAY_TIMEOUT);
+                return;
+            }
+            builder.header(DeadlineInterceptor.TIMEOUT_HEADER, String.valueOf(remainingMillis));
+            timeout = Duration.ofMillis(Math.min(forwardTimeout.toMillis(), remainingMillis));
+        }
+        builder.timeout(timeout);
+
+        try {
+            HttpResponse<byte[]> forwarded = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            response.setStatus(forwarded.statusCode());
+            forwarded.headers().map().forEach((name, values) -> {
+                if (!UNFORWARDED_HEADERS.contains(name.toLowerCase(Locale.ROOT)) && !name.startsWith(":")) {
+                    values.forEach(value -> response.addHeader(name, value));
+                }
+            });
+            response.getOutputStream().write(forwarded.body());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        } catch (HttpTimeoutException e) {
+            log.warn("소유 노드 응답 시간 초과: {} ({}ms)", target, timeout.toMillis());
+            response.sendError(HttpServletResponse.SC_GATEWAY_TIMEOUT);
+        } catch (IOException e) {
+            log.warn("소유 노드로 요청 전달 실패: {} -> {}", target, e.getMessage());
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+    }
+
+    /**
+     * @param header 받은 X-Request-Timeout-Ms 값
+     * @return 받은 제한 시간에서 이 노드에서 쓴 시간을 뺀 값, 헤더가 없거나 숫자가 아니면 null (소유 노드의 기본값 적용)
+     */
+    static Long remainingMillis(String header, long startNanos) {
+        if (header == null) {
+            return null;
+        }
+        try {
+            long timeoutMillis = Long.parseLong(header.trim());
+            return timeoutMillis - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
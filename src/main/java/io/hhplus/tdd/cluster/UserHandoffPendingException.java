@@ -0,0 +1,18 @@
+package io.hhplus.tdd.cluster;
+
+/**
+ * 새로 소유하게 된 사용자의 잔액을 이전 소유 노드에서 아직 인계받지 못한 경우
+ */
+public class UserHandoffPendingException extends RuntimeException {
+
+    private final long userId;
+
+    public UserHandoffPendingException(long userId, String previousOwner) {
+        super(String.format("사용자 인계가 끝나지 않았습니다. 사용자: %d, 이전 소유 노드: %s", userId, previousOwner));
+        this.userId = userId;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+}
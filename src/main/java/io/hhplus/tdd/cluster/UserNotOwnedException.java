@@ -0,0 +1,18 @@
+package io.hhplus.tdd.cluster;
+
+/**
+ * 이 노드가 소유하지 않은 사용자의 잔액을 쓰려고 한 경우
+ */
+public class UserNotOwnedException extends RuntimeException {
+
+    private final long userId;
+
+    public UserNotOwnedException(long userId, String owner) {
+        super(String.format("이 노드가 소유하지 않은 사용자입니다. 사용자: %d, 소유 노드: %s", userId, owner));
+        this.userId = userId;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+}
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.cluster;
+
+/**
+ * 이 노드가 사용자의 잔액을 쓸 수 있는지 판단한다
+ *
+ * 클러스터 모드에서는 사용자마다 소유 노드 한 곳만 잔액을 쓴다 (단일 작성자).
+ * 사용자 락은 노드 안에서만 유효하므로, 소유하지 않은 사용자를 쓰면 두 노드가 같은 잔액을 동시에 쓸 수 있다.
+ */
+public interface UserOwnership {
+
+    /**
+     * @throws UserNotOwnedException 이 노드가 소유하지 않은 사용자인 경우
+     */
+    void checkWritable(long userId);
+
+    /**
+     * 단일 노드 실행용 - 모든 사용자를 소유한다
+     */
+    static UserOwnership local() {
+        return new LocalUserOwnership();
+    }
+}
@@ -0,0 +1,166 @@
+package io.hhplus.tdd.database;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * 고정 길이 레코드를 뒤에 추가만 하는 로그 파일
+ *
+ * 열 때 저장된 레코드를 순서대로 재생하며, 쓰는 도중 종료되어 마지막 레코드가 덜 쓰였으면 그 부분을 잘라낸다.
+ * sync 가 켜져 있으면 추가할 때마다 디스크에 기록을 확정(fsync)한 뒤 반환한다.
+ * 확정은 파일 쓰기 락 밖에서 하므로 그동안 다른 스레드가 레코드를 추가할 수 있고,
+ * 한 번의 fsync 가 그때까지 쓰인 레코드를 함께 확정한다 (그룹 커밋).
+ */
+final class AppendOnlyLog implements AutoCloseable {
+
+    private static final int READ_BATCH_RECORDS = 1_024;
+
+    private final Path file;
+    private final int recordBytes;
+    private final boolean sync;
+    private final Object syncLock = new Object();
+    private FileChannel channel;
+    private long records;
+    // 지금까지 쓴 레코드 순번 (this 로 보호)
+    private long written;
+    // 디스크에 확정된 마지막 순번 (syncLock 으로 보호)
+    private long durable;
+
+    /**
+     * @param replay 저장된 레코드마다 호출 (버퍼는 레코드 하나 크기이며 호출이 끝나면 재사용됨)
+     */
+    AppendOnlyLog(Path file, int recordBytes, boolean sync, Consumer<ByteBuffer> replay) {
+        this.file = file;
+        this.recordBytes = recordBytes;
+        this.sync = sync;
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            long complete = channel.size() - channel.size() % recordBytes;
+            replay(complete, replay);
+            channel.truncate(complete);
+            channel.position(complete);
+            this.records = complete / recordBytes;
+        } catch (IOException e) {
+            throw new UncheckedIOException("저장소 파일을 열 수 없습니다: " + file, e);
+        }
+    }
+
+    private void replay(long length, Consumer<ByteBuffer> replay) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(recordBytes * READ_BATCH_RECORDS);
+        long position = 0L;
+        while (position < length) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), length - position));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("저장소 파일이 예상보다 짧습니다: " + file);
+                }
+            }
+            buffer.flip();
+            while (buffer.remaining() >= recordBytes) {
+                replay.accept(buffer.slice(buffer.position(), recordBytes));
+                buffer.position(buffer.position() + recordBytes);
+            }
+            position += buffer.limit();
+        }
+    }
+
+    void append(ByteBuffer record) {
+        long sequence = write(record);
+        if (sync) {
+            force(sequence);
+        }
+    }
+
+    private synchronized long write(ByteBuffer record) {
+        if (record.remaining() != recordBytes) {
+            throw new IllegalArgumentException("레코드 크기가 맞지 않습니다: " + record.remaining());
+        }
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            records++;
+            return ++written;
+        } catch (IOException e) {
+            throw new UncheckedIOException("저장소 파일에 기록할 수 없습니다: " + file, e);
+        }
+    }
+
+    /**
+     * sequence 까지 쓴 레코드를 확정한다 (다른 스레드의 fsync 가 이미 확정했으면 바로 반환)
+     */
+    private void force(long sequence) {
+        synchronized (syncLock) {
+            if (durable >= sequence) {
+                return;
+            }
+            long target;
+            FileChannel current;
+            synchronized (this) {
+                target = written;
+                current = channel;
+            }
+            try {
+                current.force(false);
+            } catch (IOException e) {
+                throw new UncheckedIOException("저장소 파일에 기록할 수 없습니다: " + file, e);
+            }
+            durable = target;
+        }
+    }
+
+    /**
+     * 로그를 주어진 레코드들로 교체한다 (덮어쓰기/삭제로 쌓인 레코드를 정리할 때 사용)
+     *
+     * 임시 파일에 모두 기록하고 확정한 뒤 바꿔치기하므로 도중에 종료되어도 이전 로그는 그대로 남는다.
+     */
+    synchronized void rewrite(Collection<ByteBuffer> live) {
+        Path temp = file.resolveSibling(file.getFileName() + ".rewrite");
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (ByteBuffer record : live) {
+                    while (record.hasRemaining()) {
+                        out.write(record);
+                    }
+                }
+                out.force(true);
+            }
+            channel.close();
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+            records = live.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("저장소 파일을 정리할 수 없습니다: " + file, e);
+        }
+    }
+
+    /**
+     * @return 로그에 남아 있는 레코드 수 (덮어쓰기/삭제 레코드 포함)
+     */
+    synchronized long records() {
+        return records;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("저장소 파일을 닫을 수 없습니다: " + file, e);
+        }
+    }
+}
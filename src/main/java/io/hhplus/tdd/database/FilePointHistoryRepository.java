@@ -0,0 +1,181 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCheckpoint;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 추가 전용 로그 파일에 기록하는 내역 저장소 (point.storage.engine=file)
+ *
+ * 삽입은 INSERT 레코드, 압축은 일자별 CHECKPOINT 레코드로 로그에 추가하고
+ * 사용자별 세그먼트(PointHistoryTable 과 같은 구조)를 갱신한다. CHECKPOINT 레코드 하나가 체크포인트 저장과
+ * 그에 합쳐진 내역 삭제를 함께 나타내므로, 압축 도중 종료되어도 일자 단위로 모두 반영되거나 모두 반영되지 않는다.
+ * 시작 시 로그를 재생해 세그먼트, 체크포인트, id 커서를 복원한다.
+ * 압축으로 로그가 살아 있는 레코드 수의 두 배를 넘으면 시작 시 체크포인트와 남은 내역만 다시 쓴다.
+ * 다시 쓸 때는 id 커서를 CURSOR 레코드로 함께 남겨, 가장 최근 내역이 삭제되었더라도 이미 발급한 id 를 다시 발급하지 않는다.
+ * 샤드로 나눠 쓸 때는 PointHistoryTable 과 같이 샤드마다 시작 id 와 간격을 달리한다.
+ */
+public class FilePointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    static final String FILE_NAME = "point-history.log";
+    // [byte op] + long 6개
+    // INSERT     : id, userId, amount, type, updateMillis, (미사용)
+    // CHECKPOINT : userId, epochDay, chargeAmount, useAmount, count, lastHistoryId
+    // CURSOR     : 다음에 발급할 id, (미사용 5개)
+    private static final int RECORD_BYTES = 1 + 6 * Long.BYTES;
+    private static final byte INSERT = 1;
+    private static final byte CHECKPOINT = 2;
+    private static final byte CURSOR = 3;
+    private static final int MIN_REWRITE_RECORDS = 1_024;
+
+    private final ConcurrentHashMap<Long, List<PointHistory>> segments = new ConcurrentHashMap<>();
+    // 사용자별 일자 체크포인트 (해당 사용자 세그먼트의 모니터로 보호)
+    private final ConcurrentHashMap<Long, TreeMap<LocalDate, PointHistoryCheckpoint>> checkpoints = new ConcurrentHashMap<>();
+    private final AtomicLong cursor;
+    private final long idStride;
+    private final AppendOnlyLog log;
+
+    public FilePointHistoryRepository(Path directory, boolean sync) {
+        this(directory, sync, 1L, 1L);
+    }
+
+    /**
+     * @param firstId 처음 발급할 id
+     * @param idStride 다음 id 까지의 간격 (샤드 i 는 firstId = i + 1, idStride = 샤드 수)
+     */
+    public FilePointHistoryRepository(Path directory, boolean sync, long firstId, long idStride) {
+        PointHistoryTable.validateIdRange(firstId, idStride);
+        this.cursor = new AtomicLong(firstId);
+        this.idStride = idStride;
+        TransactionType[] types = TransactionType.values();
+        this.log = new AppendOnlyLog(directory.resolve(FILE_NAME), RECORD_BYTES, sync, record -> {
+            byte op = record.get();
+            if (op == INSERT) {
+                PointHistory pointHistory = new PointHistory(record.getLong(), record.getLong(), record.getLong(),
+                        types[(int) record.getLong()], record.getLong());
+                segments.computeIfAbsent(pointHistory.userId(), key -> new ArrayList<>()).add(pointHistory);
+                cursor.accumulateAndGet(pointHistory.id() + idStride, Math::max);
+            } else if (op == CHECKPOINT) {
+                long userId = record.getLong();
+                applyCheckpoint(segments.computeIfAbsent(userId, key -> new ArrayList<>()), new PointHistoryCheckpoint(
+                        userId, LocalDate.ofEpochDay(record.getLong()), record.getLong(), record.getLong(),
+                        record.getLong(), record.getLong()));
+            } else if (op == CURSOR) {
+                cursor.accumulateAndGet(record.getLong(), Math::max);
+            }
+        });
+        long live = segments.values().stream().mapToLong(List::size).sum()
+                + checkpoints.values().stream().mapToLong(TreeMap::size).sum();
+        if (log.records() > Math.max(MIN_REWRITE_RECORDS, live * 2)) {
+            List<ByteBuffer> records = new ArrayList<>((int) live + 1);
+            records.add(ByteBuffer.allocate(RECORD_BYTES).put(CURSOR).putLong(cursor.get()).putLong(0L).putLong(0L)
+                    .putLong(0L).putLong(0L).putLong(0L).flip());
+            // 체크포인트를 먼저 써도 남은 내역은 모두 체크포인트 이후 id 이므로 재생 결과가 같다
+            checkpoints.values().stream()
+                    .flatMap(days -> days.values().stream())
+                    .forEach(checkpoint -> records.add(encodeCheckpoint(checkpoint)));
+            segments.values().stream()
+                    .flatMap(List::stream)
+                    .sorted(Comparator.comparingLong(PointHistory::id))
+                    .forEach(pointHistory -> records.add(encodeInsert(pointHistory)));
+            log.rewrite(records);
+        }
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        List<PointHistory> segment = segments.computeIfAbsent(userId, id -> new ArrayList<>());
+        synchronized (segment) {
+            PointHistory pointHistory = new PointHistory(cursor.getAndAdd(idStride), userId, amount, type, updateMillis);
+            log.append(encodeInsert(pointHistory));
+            segment.add(pointHistory);
+            return pointHistory;
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        List<PointHistory> segment = segments.get(userId);
+        if (segment == null) {
+            return List.of();
+        }
+        synchronized (segment) {
+            return List.copyOf(segment);
+        }
+    }
+
+    @Override
+    public Set<Long> userIds() {
+        return Set.copyOf(segments.keySet());
+    }
+
+    @Override
+    public int compact(long userId, List<PointHistoryCheckpoint> checkpoints) {
+        List<PointHistory> segment = segments.computeIfAbsent(userId, id -> new ArrayList<>());
+        synchronized (segment) {
+            int before = segment.size();
+            for (PointHistoryCheckpoint checkpoint : checkpoints) {
+                log.append(encodeCheckpoint(checkpoint));
+                applyCheckpoint(segment, checkpoint);
+            }
+            return before - segment.size();
+        }
+    }
+
+    @Override
+    public List<PointHistoryCheckpoint> selectCheckpointsByUserId(long userId) {
+        List<PointHistory> segment = segments.get(userId);
+        if (segment == null) {
+            return List.of();
+        }
+        synchronized (segment) {
+            TreeMap<LocalDate, PointHistoryCheckpoint> days = checkpoints.get(userId);
+            return days != null ? List.copyOf(days.values()) : List.of();
+        }
+    }
+
+    @Override
+    public void close() {
+        log.close();
+    }
+
+    private void applyCheckpoint(List<PointHistory> segment, PointHistoryCheckpoint checkpoint) {
+        checkpoints.computeIfAbsent(checkpoint.userId(), id -> new TreeMap<>()).put(checkpoint.day(), checkpoint);
+        segment.removeIf(pointHistory -> pointHistory.id() <= checkpoint.lastHistoryId());
+    }
+
+    private static ByteBuffer encodeInsert(PointHistory pointHistory) {
+        return ByteBuffer.allocate(RECORD_BYTES)
+                .put(INSERT)
+                .putLong(pointHistory.id())
+                .putLong(pointHistory.userId())
+                .putLong(pointHistory.amount())
+                .putLong(pointHistory.type().ordinal())
+                .putLong(pointHistory.updateMillis())
+                .putLong(0L)
+                .flip();
+    }
+
+    private static ByteBuffer encodeCheckpoint(PointHistoryCheckpoint checkpoint) {
+        return ByteBuffer.allocate(RECORD_BYTES)
+                .put(CHECKPOINT)
+                .putLong(checkpoint.userId())
+                .putLong(checkpoint.day().toEpochDay())
+                .putLong(checkpoint.chargeAmount())
+                .putLong(checkpoint.useAmount())
+                .putLong(checkpoint.count())
+                .putLong(checkpoint.lastHistoryId())
+                .flip();
+    }
+}
@@ -0,0 +1,74 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 추가 전용 로그 파일에 기록하는 잔액 저장소 (point.storage.engine=file)
+ *
+ * 저장할 때마다 (id, point, updateMillis) 레코드를 로그에 추가하고 메모리 맵을 갱신한다.
+ * 같은 사용자의 기록 순서는 사용자별 줄무늬 락으로 지키고, 로그 추가(fsync 포함)는 맵의 락 밖에서 하므로
+ * 다른 사용자의 저장은 서로의 디스크 기록을 기다리지 않는다 (fsync 는 AppendOnlyLog 가 묶어서 처리).
+ * 조회는 메모리 맵에서 바로 응답하며, 시작 시 로그를 재생해 맵을 복원한다.
+ * 같은 사용자의 덮어쓰기가 쌓여 로그가 살아 있는 잔액 수의 두 배를 넘으면 시작 시 최신 값만 남기고 다시 쓴다.
+ */
+public class FileUserPointRepository implements UserPointRepository, AutoCloseable {
+
+    static final String FILE_NAME = "user-point.log";
+    private static final int RECORD_BYTES = 3 * Long.BYTES;
+    private static final int MIN_REWRITE_RECORDS = 1_024;
+    private static final int LOCK_STRIPES = 64;
+
+    private final ConcurrentHashMap<Long, UserPoint> userPoints = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final AppendOnlyLog log;
+
+    public FileUserPointRepository(Path directory, boolean sync) {
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        this.log = new AppendOnlyLog(directory.resolve(FILE_NAME), RECORD_BYTES, sync, record -> {
+            UserPoint userPoint = new UserPoint(record.getLong(), record.getLong(), record.getLong());
+            userPoints.put(userPoint.id(), userPoint);
+        });
+        if (log.records() > Math.max(MIN_REWRITE_RECORDS, userPoints.size() * 2L)) {
+            List<ByteBuffer> live = new ArrayList<>(userPoints.size());
+            userPoints.values().forEach(userPoint -> live.add(encode(userPoint)));
+            log.rewrite(live);
+        }
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        return userPoints.getOrDefault(id, UserPoint.empty(id));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        // 같은 사용자의 기록은 로그 추가와 맵 갱신이 같은 순서가 되도록 사용자별 락 안에서 처리한다
+        synchronized (locks[Math.floorMod(Long.hashCode(id), LOCK_STRIPES)]) {
+            log.append(encode(userPoint));
+            userPoints.put(id, userPoint);
+        }
+        return userPoint;
+    }
+
+    @Override
+    public void close() {
+        log.close();
+    }
+
+    private static ByteBuffer encode(UserPoint userPoint) {
+        return ByteBuffer.allocate(RECORD_BYTES)
+                .putLong(userPoint.id())
+                .putLong(userPoint.point())
+                .putLong(userPoint.updateMillis())
+                .flip();
+    }
+}
@@ -0,0 +1,50 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCheckpoint;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 포인트 내역 저장소 SPI
+ *
+ * 구현체 (point.storage.engine):
+ * - memory : PointHistoryTable (기본값, 프로세스 메모리)
+ * - file : FilePointHistoryRepository (추가 전용 로그 파일, 재시작 후에도 유지)
+ *
+ * 내역 id 는 저장소 전체에서 유일하고, 한 사용자의 내역은 항상 id 오름차순으로 쌓여야 한다.
+ * 모든 구현체는 StorageConformanceTest 를 통과해야 한다.
+ */
+public interface PointHistoryRepository {
+
+    PointHistory insert(long userId, long amount, TransactionType type, long updateMillis);
+
+    /**
+     * @return 사용자의 내역 (id 오름차순)
+     */
+    List<PointHistory> selectAllByUserId(long userId);
+
+    /**
+     * 내역이 있는 사용자 ID 목록 (이벤트 소싱 모드의 프로젝션 재구성용)
+     */
+    Set<Long> userIds();
+
+    /**
+     * 일자별 체크포인트를 저장하고 체크포인트에 합쳐진 내역(id 가 체크포인트의 lastHistoryId 이하)을 삭제한다 (내역 압축용)
+     *
+     * 체크포인트는 같은 일자의 기존 체크포인트를 대체하며 오래된 일자부터 반영한다.
+     * 일자 하나의 체크포인트 저장과 그에 해당하는 삭제는 한 번의 쓰기로 반영해야 한다.
+     * 그래야 도중에 종료되어도 남은 내역과 체크포인트의 합계가 압축 전 내역의 합계와 같다.
+     *
+     * @param checkpoints 이번 압축으로 바뀐 일자별 체크포인트 (오래된 순)
+     * @return 삭제된 행 수
+     */
+    int compact(long userId, List<PointHistoryCheckpoint> checkpoints);
+
+    /**
+     * @return 사용자의 일자별 체크포인트 (오래된 순)
+     */
+    List<PointHistoryCheckpoint> selectCheckpointsByUserId(long userId);
+}
@@ -2,30 +2,107 @@ package io.hhplus.tdd.database;
 
 
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCheckpoint;
 import io.hhplus.tdd.point.TransactionType;
-import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * 해당 Table 클래스는 변경하지 않고 공개된 API 만을 사용해 데이터를 제어합니다.
+ * 프로세스 메모리에 두는 내역 저장소 (point.storage.engine=memory, 기본값)
+ *
+ * 사용자별 세그먼트에 내역을 쌓고 세그먼트 단위로만 동기화하므로, 서로 다른 사용자의 삽입과 조회는 경합하지 않는다.
+ * id 는 전역 커서에서 세그먼트 락 안에 발급해 한 사용자의 내역이 항상 id 순서로 쌓인다.
+ * 샤드로 나눠 쓸 때는 샤드마다 시작 id 와 간격(샤드 수)을 달리해 샤드 사이에서도 id 가 겹치지 않는다.
+ * 압축 체크포인트도 같은 세그먼트 락 안에서 내역 삭제와 함께 반영한다.
+ * 삽입 지연은 외부 저장소를 흉내 내기 위해 임의로 넣는다.
  */
-@Component
-public class PointHistoryTable {
-    private final List<PointHistory> table = new ArrayList<>();
-    private long cursor = 1;
+public class PointHistoryTable implements PointHistoryRepository {
+    // 사용자별 세그먼트: 서로 다른 사용자의 삽입은 락을 공유하지 않는다
+    private final ConcurrentHashMap<Long, List<PointHistory>> segments = new ConcurrentHashMap<>();
+    // 사용자별 일자 체크포인트 (해당 사용자 세그먼트의 모니터로 보호)
+    private final ConcurrentHashMap<Long, TreeMap<LocalDate, PointHistoryCheckpoint>> checkpoints = new ConcurrentHashMap<>();
+    private final AtomicLong cursor;
+    private final long idStride;
 
+    public PointHistoryTable() {
+        this(1L, 1L);
+    }
+
+    /**
+     * @param firstId 처음 발급할 id
+     * @param idStride 다음 id 까지의 간격 (샤드 i 는 firstId = i + 1, idStride = 샤드 수)
+     */
+    public PointHistoryTable(long firstId, long idStride) {
+        validateIdRange(firstId, idStride);
+        this.cursor = new AtomicLong(firstId);
+        this.idStride = idStride;
+    }
+
+    static void validateIdRange(long firstId, long idStride) {
+        if (firstId <= 0 || idStride <= 0) {
+            throw new IllegalArgumentException("내역 id 시작값과 간격은 양수여야 합니다. 시작값: " + firstId + ", 간격: " + idStride);
+        }
+    }
+
+    @Override
     public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
         throttle(300L);
-        PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
-        table.add(pointHistory);
-        return pointHistory;
+        List<PointHistory> segment = segments.computeIfAbsent(userId, id -> new ArrayList<>());
+        synchronized (segment) {
+            // 세그먼트 안에서 id 를 발급해 사용자별 내역이 항상 id 순서로 쌓이도록 한다
+            PointHistory pointHistory = new PointHistory(cursor.getAndAdd(idStride), userId, amount, type, updateMillis);
+            segment.add(pointHistory);
+            return pointHistory;
+        }
     }
 
+    @Override
     public List<PointHistory> selectAllByUserId(long userId) {
-        return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        List<PointHistory> segment = segments.get(userId);
+        if (segment == null) {
+            return List.of();
+        }
+        synchronized (segment) {
+            return List.copyOf(segment);
+        }
+    }
+
+    @Override
+    public Set<Long> userIds() {
+        return Set.copyOf(segments.keySet());
+    }
+
+    @Override
+    public int compact(long userId, List<PointHistoryCheckpoint> checkpoints) {
+        List<PointHistory> segment = segments.computeIfAbsent(userId, id -> new ArrayList<>());
+        synchronized (segment) {
+            TreeMap<LocalDate, PointHistoryCheckpoint> days = this.checkpoints.computeIfAbsent(userId, id -> new TreeMap<>());
+            int before = segment.size();
+            for (PointHistoryCheckpoint checkpoint : checkpoints) {
+                days.put(checkpoint.day(), checkpoint);
+                segment.removeIf(pointHistory -> pointHistory.id() <= checkpoint.lastHistoryId());
+            }
+            return before - segment.size();
+        }
+    }
+
+    @Override
+    public List<PointHistoryCheckpoint> selectCheckpointsByUserId(long userId) {
+        List<PointHistory> segment = segments.get(userId);
+        if (segment == null) {
+            return List.of();
+        }
+        synchronized (segment) {
+            TreeMap<LocalDate, PointHistoryCheckpoint> days = checkpoints.get(userId);
+            return days != null ? List.copyOf(days.values()) : List.of();
+        }
     }
 
     private void throttle(long millis) {
@@ -0,0 +1,92 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCheckpoint;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.shard.UserShards;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 샤드마다 별도의 내역 저장소를 두는 PointHistoryRepository
+ *
+ * 사용자의 내역과 체크포인트는 hash(userId) % N 으로 고른 샤드의 저장소에만 기록한다.
+ * 샤드 저장소는 시작 id 와 간격을 달리해 만들어야 저장소 전체에서 id 가 유일하다 (샤드 i 는 i + 1 부터 N 간격).
+ * 종료 시 close 로 AutoCloseable 인 샤드 저장소(file 엔진)를 모두 닫는다.
+ */
+public class ShardedPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    private final UserShards shards;
+    private final List<PointHistoryRepository> delegates;
+
+    public ShardedPointHistoryRepository(UserShards shards, List<PointHistoryRepository> delegates) {
+        if (delegates.size() != shards.count()) {
+            throw new IllegalArgumentException("샤드 수와 저장소 수가 다릅니다. 샤드: " + shards.count() + ", 저장소: " + delegates.size());
+        }
+        this.shards = shards;
+        this.delegates = List.copyOf(delegates);
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return shardOf(userId).insert(userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return shardOf(userId).selectAllByUserId(userId);
+    }
+
+    @Override
+    public Set<Long> userIds() {
+        Set<Long> userIds = new HashSet<>();
+        for (PointHistoryRepository delegate : delegates) {
+            userIds.addAll(delegate.userIds());
+        }
+        return Set.copyOf(userIds);
+    }
+
+    @Override
+    public int compact(long userId, List<PointHistoryCheckpoint> checkpoints) {
+        return shardOf(userId).compact(userId, checkpoints);
+    }
+
+    @Override
+    public List<PointHistoryCheckpoint> selectCheckpointsByUserId(long userId) {
+        return shardOf(userId).selectCheckpointsByUserId(userId);
+    }
+
+    @Override
+    public void close() throws Exception {
+        closeAll(delegates);
+    }
+
+    private PointHistoryRepository shardOf(long userId) {
+        return delegates.get(shards.indexOf(userId));
+    }
+
+    /**
+     * 하나가 실패해도 나머지 샤드 저장소를 모두 닫고, 첫 실패를 다시 던진다
+     */
+    static void closeAll(List<?> delegates) throws Exception {
+        Exception failure = null;
+        for (Object delegate : delegates) {
+            if (delegate instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.shard.UserShards;
+
+import java.util.List;
+
+/**
+ * 샤드마다 별도의 잔액 저장소를 두는 UserPointRepository
+ *
+ * 사용자의 잔액은 hash(userId) % N 으로 고른 샤드의 저장소에만 기록한다.
+ * 종료 시 close 로 AutoCloseable 인 샤드 저장소(file 엔진)를 모두 닫는다.
+ */
+public class ShardedUserPointRepository implements UserPointRepository, AutoCloseable {
+
+    private final UserShards shards;
+    private final List<UserPointRepository> delegates;
+
+    public ShardedUserPointRepository(UserShards shards, List<UserPointRepository> delegates) {
+        if (delegates.size() != shards.count()) {
+            throw new IllegalArgumentException("샤드 수와 저장소 수가 다릅니다. 샤드: " + shards.count() + ", 저장소: " + delegates.size());
+        }
+        this.shards = shards;
+        this.delegates = List.copyOf(delegates);
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        return shardOf(id).selectById(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        return shardOf(id).insertOrUpdate(id, amount);
+    }
+
+    @Override
+    public void close() throws Exception {
+        ShardedPointHistoryRepository.closeAll(delegates);
+    }
+
+    private UserPointRepository shardOf(long userId) {
+        return delegates.get(shards.indexOf(userId));
+    }
+}
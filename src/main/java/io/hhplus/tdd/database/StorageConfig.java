@@ -0,0 +1,117 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.shard.UserShards;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * point.storage.engine 설정(memory | file)에 따라 잔액/내역 저장소를 등록한다
+ *
+ * file 엔진의 저장소는 종료 시 close 로 로그 파일을 닫는다.
+ * file 엔진은 잔액, 내역, 압축 체크포인트를 모두 로그에 남기므로 내역 압축(point.history.compaction)과 함께 써도
+ * 재시작 후 원장 합계가 유지된다.
+ *
+ * 샤드가 여러 개이면(point.shard.count) 샤드마다 저장소를 따로 만들어 Sharded 저장소로 묶는다.
+ * file 엔진은 샤드 i 의 로그를 directory/shard-i 에 두고, 샤드 수를 directory/shard-count 에 기록한다.
+ * 사용자가 속한 샤드는 샤드 수로 정해지므로, 기록된 샤드 수와 설정이 다르면 시작하지 않는다.
+ */
+@Configuration
+public class StorageConfig {
+
+    static final String SHARD_COUNT_FILE = "shard-count";
+
+    @Bean
+    public UserPointRepository userPointRepository(@Value("${point.storage.engine:memory}") String engine,
+                                                   @Value("${point.storage.file.directory:data/storage}") String directory,
+                                                   @Value("${point.storage.file.sync:true}") boolean sync,
+                                                   UserShards shards) {
+        if (!shards.isSharded()) {
+            return newUserPointRepository(engine, shardDirectories(engine, directory, shards).get(0), sync);
+        }
+        List<UserPointRepository> perShard = new ArrayList<>(shards.count());
+        for (Path shardDirectory : shardDirectories(engine, directory, shards)) {
+            perShard.add(newUserPointRepository(engine, shardDirectory, sync));
+        }
+        return new ShardedUserPointRepository(shards, perShard);
+    }
+
+    @Bean
+    public PointHistoryRepository pointHistoryRepository(@Value("${point.storage.engine:memory}") String engine,
+                                                         @Value("${point.storage.file.directory:data/storage}") String directory,
+                                                         @Value("${point.storage.file.sync:true}") boolean sync,
+                                                         UserShards shards) {
+        if (!shards.isSharded()) {
+            return newPointHistoryRepository(engine, shardDirectories(engine, directory, shards).get(0), sync, 1L, 1L);
+        }
+        List<Path> shardDirectories = shardDirectories(engine, directory, shards);
+        List<PointHistoryRepository> perShard = new ArrayList<>(shards.count());
+        for (int index = 0; index < shards.count(); index++) {
+            perShard.add(newPointHistoryRepository(engine, shardDirectories.get(index), sync, index + 1L, shards.count()));
+        }
+        return new ShardedPointHistoryRepository(shards, perShard);
+    }
+
+    private static UserPointRepository newUserPointRepository(String engine, Path directory, boolean sync) {
+        return switch (engine) {
+            case "memory" -> new UserPointTable();
+            case "file" -> new FileUserPointRepository(directory, sync);
+            default -> throw new IllegalArgumentException("지원하지 않는 저장소 엔진입니다: " + engine);
+        };
+    }
+
+    private static PointHistoryRepository newPointHistoryRepository(String engine, Path directory, boolean sync,
+                                                                    long firstId, long idStride) {
+        return switch (engine) {
+            case "memory" -> new PointHistoryTable(firstId, idStride);
+            case "file" -> new FilePointHistoryRepository(directory, sync, firstId, idStride);
+            default -> throw new IllegalArgumentException("지원하지 않는 저장소 엔진입니다: " + engine);
+        };
+    }
+
+    /**
+     * @return 샤드별 로그 디렉터리 (샤드가 하나면 directory 그대로)
+     * @throws IllegalStateException 기록된 샤드 수가 설정과 다른 경우
+     */
+    static List<Path> shardDirectories(String engine, String directory, UserShards shards) {
+        Path root = Path.of(directory);
+        if (!"file".equals(engine)) {
+            return List.of(root);
+        }
+        Path marker = root.resolve(SHARD_COUNT_FILE);
+        try {
+            if (Files.exists(marker)) {
+                int recorded = Integer.parseInt(Files.readString(marker, StandardCharsets.UTF_8).trim());
+                if (recorded != shards.count()) {
+                    throw new IllegalStateException("저장소의 샤드 수(" + recorded + ")와 설정(" + shards.count()
+                            + ")이 다릅니다. 디렉터리: " + root);
+                }
+            } else if (shards.isSharded()) {
+                if (Files.exists(root.resolve(FileUserPointRepository.FILE_NAME))
+                        || Files.exists(root.resolve(FilePointHistoryRepository.FILE_NAME))) {
+                    throw new IllegalStateException("샤드 없이 기록된 저장소는 샤드로 나눠 열 수 없습니다. 디렉터리: " + root);
+                }
+                Files.createDirectories(root);
+                Files.writeString(marker, Integer.toString(shards.count()), StandardCharsets.UTF_8);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("샤드 수를 확인하지 못했습니다: " + marker, e);
+        }
+        if (!shards.isSharded()) {
+            return List.of(root);
+        }
+        List<Path> directories = new ArrayList<>(shards.count());
+        for (int index = 0; index < shards.count(); index++) {
+            directories.add(root.resolve("shard-" + index));
+        }
+        return directories;
+    }
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 사용자 잔액 저장소 SPI
+ *
+ * 구현체 (point.storage.engine):
+ * - memory : UserPointTable (기본값, 프로세스 메모리)
+ * - file : FileUserPointRepository (추가 전용 로그 파일, 재시작 후에도 유지)
+ *
+ * 모든 구현체는 StorageConformanceTest 를 통과해야 한다.
+ */
+public interface UserPointRepository {
+
+    /**
+     * @return 저장된 잔액, 없으면 0 포인트
+     */
+    UserPoint selectById(Long id);
+
+    /**
+     * 잔액을 amount 로 저장한다 (updateMillis 는 저장 시각)
+     */
+    UserPoint insertOrUpdate(long id, long amount);
+}
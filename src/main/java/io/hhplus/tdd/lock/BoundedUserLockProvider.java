@@ -0,0 +1,155 @@
+package io.hhplus.tdd.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자별 락 대기열의 길이와 대기 시간을 제한하는 UserLockProvider 데코레이터
+ *
+ * 한 사용자에게 요청이 몰리면 대기 스레드가 무한정 쌓여 서블릿 스레드를 모두 붙잡는다.
+ * 대기 수가 max-waiters 를 넘는 요청은 기다리지 않고 바로 실패시키고,
+ * 대기열에 들어간 요청도 wait-timeout 안에 락을 얻지 못하면 실패시켜 꼬리 지연 시간을 제한한다.
+ * 대기 수가 많은 사용자 상위 N명은 point.lock.waiters{user} 게이지로 주기적으로 내보낸다.
+ *
+ * 제한은 요청 처리 경로가 쓰는 tryLock 에만 적용한다. lock 은 만료, 압축, 예열, 프로젝션 재구성 같은
+ * 백그라운드 작업용이라 실패하면 다시 시도할 곳이 없으므로, 대기 수에는 포함하되 제한 없이 기다린다.
+ */
+public class BoundedUserLockProvider implements UserLockProvider {
+
+    private final UserLockProvider delegate;
+    private final long waitTimeoutMillis;
+    private final int maxWaitersPerUser;
+    private final int hotWaiters;
+    private final int maxHotUsers;
+    // 락을 기다리는 중인 요청 수 (보유자는 제외), 0 이 되면 제거
+    private final ConcurrentHashMap<Long, AtomicInteger> waiters = new ConcurrentHashMap<>();
+    private final AtomicInteger totalWaiters = new AtomicInteger();
+    private final Counter queueFullRejections;
+    private final Counter timeoutRejections;
+    private final MultiGauge hotUserWaiters;
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "point-lock-waiters-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param hotWaiters 게이지로 내보낼 최소 대기 수
+     * @param maxHotUsers 게이지로 내보낼 최대 사용자 수
+     */
+    public BoundedUserLockProvider(UserLockProvider delegate,
+                                   MeterRegistry meterRegistry,
+                                   long waitTimeoutMillis,
+                                   int maxWaitersPerUser,
+                                   int hotWaiters,
+                                   int maxHotUsers,
+                                   long sampleIntervalMillis) {
+        this.delegate = delegate;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.maxWaitersPerUser = maxWaitersPerUser;
+        this.hotWaiters = hotWaiters;
+        this.maxHotUsers = maxHotUsers;
+
+        this.queueFullRejections = Counter.builder("point.lock.rejected")
+                .tag("reason", "queue-full")
+                .description("락을 기다리지 않고 실패한 요청 수")
+                .register(meterRegistry);
+        this.timeoutRejections = Counter.builder("point.lock.rejected")
+                .tag("reason", "timeout")
+                .description("락을 기다리지 않고 실패한 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("point.lock.waiters.total", totalWaiters, AtomicInteger::get)
+                .description("전체 사용자의 락 대기 요청 수")
+                .register(meterRegistry);
+        this.hotUserWaiters = MultiGauge.builder("point.lock.waiters")
+                .description("대기 요청이 많은 사용자별 락 대기 수")
+                .register(meterRegistry);
+        sampler.scheduleAtFixedRate(this::sampleHotUsers, sampleIntervalMillis, sampleIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public UserLock lock(long userId) {
+        enqueue(userId);
+        try {
+            return delegate.lock(userId);
+        } finally {
+            dequeue(userId);
+        }
+    }
+
+    @Override
+    public UserLock tryLock(long userId, long timeoutMillis) {
+        int depth = enqueue(userId);
+        try {
+            if (depth > maxWaitersPerUser) {
+                queueFullRejections.increment();
+                throw new LockQueueFullException(userId, maxWaitersPerUser);
+            }
+            return delegate.tryLock(userId, Math.min(timeoutMillis, waitTimeoutMillis));
+        } catch (LockTimeoutException e) {
+            timeoutRejections.increment();
+            throw e;
+        } finally {
+            dequeue(userId);
+        }
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    /**
+     * 현재 락을 기다리는 요청 수
+     */
+    int waiters(long userId) {
+        AtomicInteger count = waiters.get(userId);
+        return count == null ? 0 : count.get();
+    }
+
+    public void shutdown() {
+        sampler.shutdownNow();
+    }
+
+    /**
+     * 대기 수가 hot-waiters 이상인 사용자 상위 N명의 게이지를 갱신한다 (나머지 사용자의 게이지는 제거)
+     */
+    void sampleHotUsers() {
+        List<MultiGauge.Row<?>> rows = waiters.entrySet().stream()
+                .filter(entry -> entry.getValue().get() >= hotWaiters)
+                .sorted(Comparator.comparingInt((Map.Entry<Long, AtomicInteger> entry) -> entry.getValue().get()).reversed())
+                .limit(maxHotUsers)
+                .<MultiGauge.Row<?>>map(entry -> MultiGauge.Row.of(Tags.of("user", String.valueOf(entry.getKey())), entry.getValue().get()))
+                .toList();
+        hotUserWaiters.register(rows, true);
+    }
+
+    // compute 로 증감과 제거를 원자적으로 처리해, 0 이 되어 제거되는 카운터에 다른 요청이 더하는 일이 없도록 한다
+    private int enqueue(long userId) {
+        totalWaiters.incrementAndGet();
+        int[] depth = new int[1];
+        waiters.compute(userId, (id, count) -> {
+            AtomicInteger next = count != null ? count : new AtomicInteger();
+            depth[0] = next.incrementAndGet();
+            return next;
+        });
+        return depth[0];
+    }
+
+    private void dequeue(long userId) {
+        totalWaiters.decrementAndGet();
+        waiters.computeIfPresent(userId, (id, count) -> count.decrementAndGet() == 0 ? null : count);
+    }
+}
@@ -0,0 +1,121 @@
+package io.hhplus.tdd.lock;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분산 락 서버를 흉내 낸 임베디드 인메모리 사용자 락
+ *
+ * Redis 구현과 같은 의미를 가진다.
+ * - 락은 리스 시간이 지나면 보유자가 해제하지 않아도 만료된다.
+ * - 만료된 보유자의 해제 요청은 새 보유자의 락에 영향을 주지 않는다.
+ * 외부 서버 없이 테스트에서 리스 만료 시나리오를 재현하기 위한 구현이다.
+ */
+public class InMemoryUserLockProvider implements UserLockProvider {
+
+    private final long leaseNanos;
+    private final Map<Long, Lease> leases = new HashMap<>();
+
+    public InMemoryUserLockProvider(long leaseMillis) {
+        if (leaseMillis <= 0) {
+            throw new IllegalArgumentException("리스 시간은 양수여야 합니다. 입력값: " + leaseMillis);
+        }
+        this.leaseNanos = TimeUnit.MILLISECONDS.toNanos(leaseMillis);
+    }
+
+    @Override
+    public UserLock lock(long userId) {
+        return acquire(userId, Long.MAX_VALUE);
+    }
+
+    @Override
+    public UserLock tryLock(long userId, long timeoutMillis) {
+        UserLock lock = acquire(userId, TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+        if (lock == null) {
+            throw new LockTimeoutException(userId, timeoutMillis);
+        }
+        return lock;
+    }
+
+    /**
+     * @return 제한 시간 안에 획득하지 못하면 null
+     * @throws LockTimeoutException 기다리는 중 인터럽트된 경우 (인터럽트 상태는 유지)
+     */
+    private synchronized UserLock acquire(long userId, long timeoutNanos) {
+        long start = System.nanoTime();
+        while (true) {
+            long now = System.nanoTime();
+            Lease current = leases.get(userId);
+            if (current == null || current.isExpired(now)) {
+                Lease lease = new Lease(now + leaseNanos);
+                leases.put(userId, lease);
+                return new InMemoryUserLock(userId, lease);
+            }
+            long remainingNanos = timeoutNanos - (now - start);
+            if (remainingNanos <= 0) {
+                return null;
+            }
+            // 해제 알림, 리스 만료 또는 대기 제한 시점까지 대기
+            long waitNanos = Math.min(current.expiresAtNanos - now, remainingNanos);
+            try {
+                TimeUnit.NANOSECONDS.timedWait(this, Math.max(waitNanos, 1L));
+            } catch (InterruptedException e) {
+                // 다른 구현과 같이 획득하지 못한 것으로 보고 503 으로 응답하게 한다
+                Thread.currentThread().interrupt();
+                throw new LockTimeoutException(userId, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        }
+    }
+
+    @Override
+    public String name() {
+        return "in-memory";
+    }
+
+    private synchronized boolean isHeld(long userId, Lease lease) {
+        return leases.get(userId) == lease && !lease.isExpired(System.nanoTime());
+    }
+
+    private synchronized void release(long userId, Lease lease) {
+        if (leases.get(userId) == lease) {
+            leases.remove(userId);
+            notifyAll();
+        }
+    }
+
+    private record Lease(long expiresAtNanos) {
+
+        private boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+
+    private final class InMemoryUserLock implements UserLock {
+
+        private final long userId;
+        private final Lease lease;
+
+        private InMemoryUserLock(long userId, Lease lease) {
+            this.userId = userId;
+            this.lease = lease;
+        }
+
+        @Override
+        public long userId() {
+            return userId;
+        }
+
+        @Override
+        public void ensureHeld() {
+            if (!isHeld(userId, lease)) {
+                throw new LockLeaseExpiredException(userId);
+            }
+        }
+
+        @Override
+        public void close() {
+            release(userId, lease);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.hhplus.tdd.lock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JVM 로컬 ReentrantLock 기반 사용자 락
+ *
+ * 락은 보유 스레드가 해제할 때까지 유지되므로 리스 만료가 없다.
+ * 한 프로세스 안에서만 상호 배제를 보장한다.
+ */
+public class LocalUserLockProvider implements UserLockProvider {
+
+    private final ConcurrentHashMap<Long, ReentrantLock> userLocks = new ConcurrentHashMap<>();
+
+    @Override
+    public UserLock lock(long userId) {
+        ReentrantLock lock = userLocks.computeIfAbsent(userId, id -> new ReentrantLock());
+        lock.lock();
+        return new LocalUserLock(userId, lock);
+    }
+
+    @Override
+    public UserLock tryLock(long userId, long timeoutMillis) {
+        ReentrantLock lock = userLocks.computeIfAbsent(userId, id -> new ReentrantLock());
+        try {
+            if (!lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new LockTimeoutException(userId, timeoutMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LockTimeoutException(userId, timeoutMillis);
+        }
+        return new LocalUserLock(userId, lock);
+    }
+
+    @Override
+    public String name() {
+        return "local";
+    }
+
+    private record LocalUserLock(long userId, ReentrantLock lock) implements UserLock {
+
+        @Override
+        public void ensureHeld() {
+            if (!lock.isHeldByCurrentThread()) {
+                throw new LockLeaseExpiredException(userId);
+            }
+        }
+
+        @Override
+        public void close() {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.lock;
+
+public class LockLeaseExpiredException extends RuntimeException {
+
+    public LockLeaseExpiredException(String message) {
+        super(message);
+    }
+
+    public LockLeaseExpiredException(long userId) {
+        super(String.format("락 리스가 만료되었습니다. 사용자: %d", userId));
+    }
+}
@@ -0,0 +1,8 @@
+package io.hhplus.tdd.lock;
+
+public class LockQueueFullException extends UserLockUnavailableException {
+
+    public LockQueueFullException(long userId, int maxWaiters) {
+        super(userId, String.format("락 대기 요청이 너무 많습니다. 사용자: %d, 최대 대기 수: %d", userId, maxWaiters));
+    }
+}
@@ -0,0 +1,8 @@
+package io.hhplus.tdd.lock;
+
+public class LockTimeoutException extends UserLockUnavailableException {
+
+    public LockTimeoutException(long userId, long timeoutMillis) {
+        super(userId, String.format("락 대기 시간을 초과했습니다. 사용자: %d, 대기 시간: %dms", userId, timeoutMillis));
+    }
+}
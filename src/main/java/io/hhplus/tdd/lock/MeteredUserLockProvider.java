@@ -0,0 +1,51 @@
+package io.hhplus.tdd.lock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 락 획득 지연 시간을 기록하는 UserLockProvider 데코레이터
+ *
+ * point.lock.acquire 타이머에 구현체 이름(provider)을 태그로 남겨 로컬/분산 락 비용을 비교할 수 있다.
+ */
+public class MeteredUserLockProvider implements UserLockProvider {
+
+    private final UserLockProvider delegate;
+    private final Timer acquireTimer;
+
+    public MeteredUserLockProvider(UserLockProvider delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.acquireTimer = Timer.builder("point.lock.acquire")
+                .description("사용자 락 획득 지연 시간")
+                .tag("provider", delegate.name())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public UserLock lock(long userId) {
+        long start = System.nanoTime();
+        try {
+            return delegate.lock(userId);
+        } finally {
+            acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public UserLock tryLock(long userId, long timeoutMillis) {
+        long start = System.nanoTime();
+        try {
+            return delegate.tryLock(userId, timeoutMillis);
+        } finally {
+            acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+}
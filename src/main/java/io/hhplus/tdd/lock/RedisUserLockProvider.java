@@ -0,0 +1,70 @@
+package io.hhplus.tdd.lock;
+
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redisson 기반 분산 사용자 락
+ *
+ * 여러 인스턴스가 같은 Redis 를 바라볼 때 사용자 단위 상호 배제를 보장한다.
+ * 리스 시간이 지나면 락이 자동으로 풀리므로, 보유자는 쓰기 직전에 ensureHeld 로 보유 여부를 확인한다.
+ * 확인 직후 리스가 만료되는 경우는 막지 못하므로 상호 배제는 리스 시간이 요청 처리 시간보다 길 때만 보장된다.
+ */
+public class RedisUserLockProvider implements UserLockProvider {
+
+    private static final String KEY_PREFIX = "point:lock:";
+
+    private final RedissonClient redissonClient;
+    private final long leaseMillis;
+
+    public RedisUserLockProvider(RedissonClient redissonClient, long leaseMillis) {
+        this.redissonClient = redissonClient;
+        this.leaseMillis = leaseMillis;
+    }
+
+    @Override
+    public UserLock lock(long userId) {
+        RLock lock = redissonClient.getLock(KEY_PREFIX + userId);
+        lock.lock(leaseMillis, TimeUnit.MILLISECONDS);
+        return new RedisUserLock(userId, lock);
+    }
+
+    @Override
+    public UserLock tryLock(long userId, long timeoutMillis) {
+        RLock lock = redissonClient.getLock(KEY_PREFIX + userId);
+        try {
+            if (!lock.tryLock(timeoutMillis, leaseMillis, TimeUnit.MILLISECONDS)) {
+                throw new LockTimeoutException(userId, timeoutMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LockTimeoutException(userId, timeoutMillis);
+        }
+        return new RedisUserLock(userId, lock);
+    }
+
+    @Override
+    public String name() {
+        return "redis";
+    }
+
+    private record RedisUserLock(long userId, RLock lock) implements UserLock {
+
+        @Override
+        public void ensureHeld() {
+            if (!lock.isHeldByCurrentThread()) {
+                throw new LockLeaseExpiredException(userId);
+            }
+        }
+
+        @Override
+        public void close() {
+            // 리스가 만료되어 다른 보유자에게 넘어간 락은 해제하지 않는다
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
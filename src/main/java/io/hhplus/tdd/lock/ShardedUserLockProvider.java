@@ -0,0 +1,44 @@
+package io.hhplus.tdd.lock;
+
+import io.hhplus.tdd.shard.UserShards;
+
+import java.util.List;
+
+/**
+ * 샤드마다 별도의 락 레지스트리를 두는 UserLockProvider
+ *
+ * 사용자 락은 hash(userId) % N 으로 고른 샤드의 구현체에서만 획득하므로, 서로 다른 샤드의 사용자는
+ * 락 맵과 그 내부 잠금을 공유하지 않는다.
+ */
+public class ShardedUserLockProvider implements UserLockProvider {
+
+    private final UserShards shards;
+    private final List<UserLockProvider> delegates;
+
+    public ShardedUserLockProvider(UserShards shards, List<UserLockProvider> delegates) {
+        if (delegates.size() != shards.count()) {
+            throw new IllegalArgumentException("샤드 수와 락 구현체 수가 다릅니다. 샤드: " + shards.count() + ", 구현체: " + delegates.size());
+        }
+        this.shards = shards;
+        this.delegates = List.copyOf(delegates);
+    }
+
+    @Override
+    public UserLock lock(long userId) {
+        return shardOf(userId).lock(userId);
+    }
+
+    @Override
+    public UserLock tryLock(long userId, long timeoutMillis) {
+        return shardOf(userId).tryLock(userId, timeoutMillis);
+    }
+
+    @Override
+    public String name() {
+        return delegates.get(0).name();
+    }
+
+    private UserLockProvider shardOf(long userId) {
+        return delegates.get(shards.indexOf(userId));
+    }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.lock;
+
+/**
+ * 획득한 사용자 락
+ *
+ * try-with-resources 로 해제한다.
+ */
+public interface UserLock extends AutoCloseable {
+
+    long userId();
+
+    /**
+     * 리스가 만료되었거나 다른 보유자에게 넘어갔는지 확인한다
+     *
+     * 확인과 이후 쓰기 사이에 리스가 만료되는 것까지 막지는 못한다 (확인 후 실행).
+     * 만료된 보유자의 쓰기를 줄일 뿐이므로 리스 시간은 요청 처리 시간보다 충분히 길어야 한다.
+     *
+     * @throws LockLeaseExpiredException 더 이상 락을 보유하고 있지 않은 경우
+     */
+    void ensureHeld();
+
+    @Override
+    void close();
+}
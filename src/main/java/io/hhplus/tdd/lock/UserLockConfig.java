@@ -0,0 +1,67 @@
+package io.hhplus.tdd.lock;
+
+import io.hhplus.tdd.shard.UserShards;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * point.lock.provider 설정(local | redis | in-memory)에 따라 UserLockProvider 를 등록한다
+ *
+ * 샤드가 여러 개이면 샤드마다 구현체를 따로 만들어 ShardedUserLockProvider 로 묶는다.
+ * 모든 구현체는 획득 지연 시간 측정(Metered)과 대기열/대기 시간 제한(Bounded)으로 감싼다.
+ */
+@Configuration
+public class UserLockConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public UserLockProvider userLockProvider(@Value("${point.lock.provider:local}") String provider,
+                                             @Value("${point.lock.lease-ms:30000}") long leaseMillis,
+                                             @Value("${point.lock.wait-timeout-ms:2000}") long waitTimeoutMillis,
+                                             @Value("${point.lock.max-waiters-per-user:16}") int maxWaitersPerUser,
+                                             @Value("${point.lock.hot-waiters:4}") int hotWaiters,
+                                             @Value("${point.lock.max-hot-users:20}") int maxHotUsers,
+                                             ObjectProvider<RedissonClient> redissonClient,
+                                             UserShards shards,
+                                             MeterRegistry meterRegistry) {
+        UserLockProvider delegate;
+        if (shards.isSharded()) {
+            List<UserLockProvider> perShard = new ArrayList<>(shards.count());
+            for (int index = 0; index < shards.count(); index++) {
+                perShard.add(newProvider(provider, leaseMillis, redissonClient));
+            }
+            delegate = new ShardedUserLockProvider(shards, perShard);
+        } else {
+            delegate = newProvider(provider, leaseMillis, redissonClient);
+        }
+        return new BoundedUserLockProvider(new MeteredUserLockProvider(delegate, meterRegistry), meterRegistry,
+                waitTimeoutMillis, maxWaitersPerUser, hotWaiters, maxHotUsers, 1000L);
+    }
+
+    private static UserLockProvider newProvider(String provider, long leaseMillis,
+                                                ObjectProvider<RedissonClient> redissonClient) {
+        return switch (provider) {
+            case "local" -> new LocalUserLockProvider();
+            case "in-memory" -> new InMemoryUserLockProvider(leaseMillis);
+            case "redis" -> new RedisUserLockProvider(redissonClient.getObject(), leaseMillis);
+            default -> throw new IllegalArgumentException("지원하지 않는 락 구현체입니다: " + provider);
+        };
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(prefix = "point.lock", name = "provider", havingValue = "redis")
+    public RedissonClient redissonClient(@Value("${point.lock.redis.address:redis://localhost:6379}") String address) {
+        Config config = new Config();
+        config.useSingleServer().setAddress(address);
+        return Redisson.create(config);
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.lock;
+
+/**
+ * 사용자별 락 SPI
+ *
+ * 구현체:
+ * - local : JVM 로컬 ReentrantLock (단일 인스턴스 전용)
+ * - redis : Redisson 기반 분산 락 (여러 인스턴스 간 상호 배제)
+ * - in-memory : 리스 만료를 흉내 낸 테스트용 임베디드 락 서버
+ */
+public interface UserLockProvider {
+
+    /**
+     * 사용자 락을 획득할 때까지 대기한다 (실패하면 다시 시도할 곳이 없는 백그라운드 작업용)
+     */
+    UserLock lock(long userId);
+
+    /**
+     * 최대 timeoutMillis 동안만 사용자 락을 기다린다 (요청 처리 경로용)
+     *
+     * @throws LockTimeoutException 제한 시간 안에 획득하지 못했거나 기다리는 중 인터럽트된 경우
+     */
+    UserLock tryLock(long userId, long timeoutMillis);
+
+    /**
+     * 메트릭 태그에 사용할 구현체 이름
+     */
+    String name();
+}
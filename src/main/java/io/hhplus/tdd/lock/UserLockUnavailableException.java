@@ -0,0 +1,18 @@
+package io.hhplus.tdd.lock;
+
+/**
+ * 사용자 락을 기다리지 않고 바로 실패한 경우 (대기열 초과 또는 대기 시간 초과)
+ */
+public class UserLockUnavailableException extends RuntimeException {
+
+    private final long userId;
+
+    public UserLockUnavailableException(long userId, String message) {
+        super(message);
+        this.userId = userId;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+}
@@ -0,0 +1,50 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.shard.ShardWorkers;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * CompletableFuture 를 반환하는 PointService 래퍼
+ *
+ * 블로킹 테이블 호출을 사용자 샤드의 작업 스레드 풀(ShardWorkers)에서 실행하므로, 호출자는 서로 관계없는 조회(잔액, 최근 내역)를
+ * 동시에 보내고 결과를 합칠 수 있다. 호출 스레드의 마감 시각(Deadline)은 작업 스레드로 함께 전달된다.
+ *
+ * 샤드 대기열이 가득 차면 작업을 실행하지 않고 RejectedExecutionException 으로 실패한 future 를 반환한다.
+ */
+@Service
+public class AsyncPointService {
+
+    private final PointService pointService;
+    private final ShardWorkers shardWorkers;
+
+    public AsyncPointService(PointService pointService, ShardWorkers shardWorkers) {
+        this.pointService = pointService;
+        this.shardWorkers = shardWorkers;
+    }
+
+    CompletableFuture<UserPoint> chargeAsync(long id, long amount) {
+        return shardWorkers.submit(id, () -> pointService.charge(id, amount));
+    }
+
+    CompletableFuture<UserPoint> useAsync(long id, long amount) {
+        return shardWorkers.submit(id, () -> pointService.use(id, amount));
+    }
+
+    CompletableFuture<UserPoint> pointAsync(long id) {
+        return shardWorkers.submit(id, () -> pointService.point(id));
+    }
+
+    CompletableFuture<List<PointHistory>> historyAsync(long id) {
+        return shardWorkers.submit(id, () -> pointService.history(id));
+    }
+
+    /**
+     * 잔액과 최근 내역을 동시에 조회해 합친다 (지연 시간은 두 조회 중 느린 쪽에 가깝다)
+     */
+    CompletableFuture<PointSummary> summaryAsync(long id) {
+        return pointAsync(id).thenCombine(historyAsync(id), PointSummary::new);
+    }
+}
@@ -0,0 +1,107 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 합계가 큰 키를 고정 메모리로 추적하는 Space-Saving 스케치
+ *
+ * 키는 해시로 고른 스트라이프 하나에만 기록되므로 스트라이프끼리는 경합하지 않고,
+ * 조회 시 스트라이프 결과를 그대로 이어 붙여도 같은 키가 중복되지 않는다.
+ * 스트라이프마다 capacity 개의 키만 유지하며, 가득 찬 상태에서 새 키가 오면 합계가 가장 작은 키를 밀어내고
+ * 그 합계를 이어받는다. 따라서 보고된 합계는 실제보다 최대 error 만큼 클 수 있지만 작게 보고되지는 않는다.
+ */
+class HeavyHitters {
+
+    private final Stripe[] stripes;
+
+    HeavyHitters(int stripeCount, int capacity) {
+        if (stripeCount <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("스트라이프 수와 용량은 0보다 커야 합니다.");
+        }
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(capacity);
+        }
+    }
+
+    void add(long key, long amount) {
+        stripes[Math.floorMod(Long.hashCode(key * 0x9E3779B97F4A7C15L), stripes.length)].add(key, amount);
+    }
+
+    void clear() {
+        for (Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    /**
+     * 추적 중인 모든 키의 (합계, 오차) 를 into 에 더한다
+     */
+    void collect(Map<Long, long[]> into) {
+        for (Stripe stripe : stripes) {
+            stripe.collect(into);
+        }
+    }
+
+    /**
+     * @param totals collect 로 모은 키별 (합계, 오차)
+     * @return 합계가 큰 순서로 최대 k 개
+     */
+    static List<PointStats.Spender> top(Map<Long, long[]> totals, int k) {
+        List<PointStats.Spender> spenders = new ArrayList<>(totals.size());
+        totals.forEach((key, total) -> spenders.add(new PointStats.Spender(key, total[0], total[1])));
+        spenders.sort(Comparator.comparingLong(PointStats.Spender::amount).reversed()
+                .thenComparingLong(PointStats.Spender::userId));
+        return spenders.size() <= k ? spenders : List.copyOf(spenders.subList(0, k));
+    }
+
+    private static final class Stripe {
+
+        private final int capacity;
+        private final Map<Long, long[]> counters;
+
+        private Stripe(int capacity) {
+            this.capacity = capacity;
+            this.counters = new HashMap<>(capacity * 2);
+        }
+
+        private synchronized void add(long key, long amount) {
+            long[] counter = counters.get(key);
+            if (counter != null) {
+                counter[0] += amount;
+                return;
+            }
+            if (counters.size() < capacity) {
+                counters.put(key, new long[]{amount, 0L});
+                return;
+            }
+            // 가득 찬 경우에만 최솟값을 찾으므로 capacity 는 작게 유지한다
+            Long minKey = null;
+            long[] min = null;
+            for (Map.Entry<Long, long[]> entry : counters.entrySet()) {
+                if (min == null || entry.getValue()[0] < min[0]) {
+                    minKey = entry.getKey();
+                    min = entry.getValue();
+                }
+            }
+            counters.remove(minKey);
+            counters.put(key, new long[]{min[0] + amount, min[0]});
+        }
+
+        private synchronized void clear() {
+            counters.clear();
+        }
+
+        private synchronized void collect(Map<Long, long[]> into) {
+            counters.forEach((key, counter) -> {
+                long[] total = into.computeIfAbsent(key, ignored -> new long[2]);
+                total[0] += counter[0];
+                total[1] += counter[1];
+            });
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.UserPointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 잔액 조회(selectById)의 꼬리 지연을 줄이는 헤지 조회
+ *
+ * 첫 조회가 최근 지연 시간의 delay-percentile 분위수 안에 끝나지 않으면 같은 조회를 한 번 더 보내고
+ * 먼저 끝난 결과를 사용한다. 추가 조회는 예산(budget-ratio)으로 제한한다.
+ * 조회 한 건마다 budget-ratio 만큼 적립되고 헤지 한 건마다 1 을 차감하므로,
+ * 헤지로 늘어나는 부하는 장기적으로 전체 조회의 budget-ratio 를 넘지 않는다.
+ *
+ * 비활성화 상태에서는 호출 스레드에서 바로 selectById 를 호출한다.
+ */
+@Component
+public class HedgedPointReader {
+
+    private static final int WINDOW_SIZE = 512;
+    private static final int RECOMPUTE_EVERY = 64;
+    // 예산은 1/1000 단위 정수로 관리한다
+    private static final long CREDIT_UNIT = 1_000L;
+
+    private final UserPointRepository userPointRepository;
+    private final boolean enabled;
+    private final double delayPercentile;
+    private final long minDelayMillis;
+    private final long budgetPerRead;
+    private final long maxCredit;
+    private final ExecutorService executor;
+
+    private final AtomicLongArray latencyWindow = new AtomicLongArray(WINDOW_SIZE);
+    private final AtomicLong samples = new AtomicLong();
+    private final AtomicLong credit = new AtomicLong();
+    private volatile long hedgeDelayNanos;
+
+    private final Timer readTimer;
+    private final Counter primaryReads;
+    private final Counter hedgedReads;
+    private final Counter hedgeWins;
+    private final Counter budgetExhausted;
+
+    @Autowired
+    public HedgedPointReader(UserPointRepository userPointRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${point.read.hedge.enabled:false}") boolean enabled,
+                             @Value("${point.read.hedge.delay-percentile:0.9}") double delayPercentile,
+                             @Value("${point.read.hedge.min-delay-ms:10}") long minDelayMillis,
+                             @Value("${point.read.hedge.budget-ratio:0.1}") double budgetRatio,
+                             @Value("${point.read.hedge.threads:64}") int threads) {
+        this.userPointRepository = userPointRepository;
+        this.enabled = enabled;
+        this.delayPercentile = delayPercentile;
+        this.minDelayMillis = minDelayMillis;
+        this.budgetPerRead = Math.round(budgetRatio * CREDIT_UNIT);
+        // 유휴 상태 뒤에 한꺼번에 헤지가 몰리지 않도록 적립 상한을 둔다
+        this.maxCredit = 10 * CREDIT_UNIT;
+        this.hedgeDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(minDelayMillis, 1L));
+        this.executor = enabled ? Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "point-hedged-read");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+
+        String mode = enabled ? "hedged" : "direct";
+        this.readTimer = Timer.builder("point.read.latency")
+                .tag("mode", mode)
+                .description("잔액 조회 지연 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.primaryReads = Counter.builder("point.read.requests")
+                .tag("kind", "primary")
+                .description("테이블에 보낸 잔액 조회 수")
+                .register(meterRegistry);
+        this.hedgedReads = Counter.builder("point.read.requests")
+                .tag("kind", "hedge")
+                .description("테이블에 보낸 잔액 조회 수")
+                .register(meterRegistry);
+        this.hedgeWins = Counter.builder("point.read.hedge.wins")
+                .description("헤지 조회가 먼저 끝난 횟수")
+                .register(meterRegistry);
+        this.budgetExhausted = Counter.builder("point.read.hedge.budget-exhausted")
+                .description("예산 부족으로 헤지하지 못한 횟수")
+                .register(meterRegistry);
+        Gauge.builder("point.read.hedge.delay", this, reader -> reader.hedgeDelayNanos / 1_000_000.0)
+                .description("현재 헤지 지연 시간(ms)")
+                .register(meterRegistry);
+    }
+
+    static HedgedPointReader disabled(UserPointRepository userPointRepository) {
+        return new HedgedPointReader(userPointRepository, new SimpleMeterRegistry(), false, 0.9, 10L, 0.0, 1);
+    }
+
+    UserPoint selectById(long userId) {
+        long start = System.nanoTime();
+        try {
+            return enabled ? hedgedSelect(userId) : directSelect(userId);
+        } finally {
+            readTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    long hedgeDelayMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(hedgeDelayNanos);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private UserPoint directSelect(long userId) {
+        primaryReads.increment();
+        return userPointRepository.selectById(userId);
+    }
+
+    private UserPoint hedgedSelect(long userId) {
+        credit.accumulateAndGet(budgetPerRead, (current, add) -> Math.min(current + add, maxCredit));
+        CompletableFuture<UserPoint> primary = submit(userId, primaryReads);
+        try {
+            return primary.get(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (!tryConsumeCredit()) {
+                budgetExhausted.increment();
+                return join(primary);
+            }
+            CompletableFuture<UserPoint> hedge = submit(userId, hedgedReads);
+            hedge.thenRun(() -> {
+                if (!primary.isDone()) {
+                    hedgeWins.increment();
+                }
+            });
+            return join(primary.applyToEither(hedge, userPoint -> userPoint));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("잔액 조회 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private CompletableFuture<UserPoint> submit(long userId, Counter counter) {
+        counter.increment();
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            UserPoint userPoint = userPointRepository.selectById(userId);
+            recordLatency(System.nanoTime() - start);
+            return userPoint;
+        }, executor);
+    }
+
+    private boolean tryConsumeCredit() {
+        while (true) {
+            long current = credit.get();
+            if (current < CREDIT_UNIT) {
+                return false;
+            }
+            if (credit.compareAndSet(current, current - CREDIT_UNIT)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 최근 조회 지연 시간을 기록하고, 일정 횟수마다 헤지 지연 시간을 다시 계산한다
+     */
+    private void recordLatency(long nanos) {
+        long sample = samples.getAndIncrement();
+        latencyWindow.set((int) (sample % WINDOW_SIZE), nanos);
+        if (sample > 0 && sample % RECOMPUTE_EVERY == 0) {
+            int size = (int) Math.min(sample + 1, WINDOW_SIZE);
+            long[] sorted = new long[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = latencyWindow.get(i);
+            }
+            Arrays.sort(sorted);
+            long percentile = sorted[Math.min(size - 1, (int) (size * delayPercentile))];
+            hedgeDelayNanos = Math.max(percentile, TimeUnit.MILLISECONDS.toNanos(minDelayMillis));
+        }
+    }
+
+    private static UserPoint join(CompletableFuture<UserPoint> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("잔액 조회 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        return e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 변경 피드 재개 위치(Last-Event-ID)가 "epoch:offset" 형식이 아니거나 offset 이 음수인 경우
+ */
+public class InvalidChangeFeedCursorException extends IllegalArgumentException {
+
+    public InvalidChangeFeedCursorException(String lastEventId) {
+        super("잘못된 Last-Event-ID 입니다. (" + lastEventId + ")");
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 내역 검색 조건이 잘못된 경우 (시간 범위, 조회 건수)
+ */
+public class InvalidHistoryQueryException extends IllegalArgumentException {
+
+    public InvalidHistoryQueryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+public class InvalidTransferException extends RuntimeException {
+
+    public InvalidTransferException(String message) {
+        super(message);
+    }
+
+    public InvalidTransferException(long userId) {
+        super(String.format("자기 자신에게는 포인트를 전송할 수 없습니다. 사용자: %d", userId));
+    }
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 잔액과 내역 합계가 일치하지 않는 사용자
+ *
+ * @param balance UserPointTable 의 잔액
+ * @param ledgerBalance 체크포인트와 내역으로 재구성한 잔액
+ * @param histories 마지막 체크포인트 이후의 원본 내역
+ */
+public record LedgerMismatch(
+        long userId,
+        long balance,
+        long ledgerBalance,
+        List<PointHistory> histories
+) {
+}
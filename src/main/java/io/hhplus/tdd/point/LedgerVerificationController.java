@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/ledger/verification")
+public class LedgerVerificationController {
+
+    private final PointLedgerVerifier pointLedgerVerifier;
+
+    public LedgerVerificationController(PointLedgerVerifier pointLedgerVerifier) {
+        this.pointLedgerVerifier = pointLedgerVerifier;
+    }
+
+    /**
+     * 원장 검증을 백그라운드에서 시작한다 (이미 실행 중이면 409)
+     */
+    @PostMapping
+    public ResponseEntity<LedgerVerificationStatus> start() {
+        boolean started = pointLedgerVerifier.start();
+        return ResponseEntity.status(started ? 202 : 409).body(pointLedgerVerifier.status());
+    }
+
+    @GetMapping
+    public LedgerVerificationStatus status() {
+        return pointLedgerVerifier.status();
+    }
+}
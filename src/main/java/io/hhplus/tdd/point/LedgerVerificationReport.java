@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * @param mismatches 불일치 사용자 (최대 100명까지 기록)
+ */
+public record LedgerVerificationReport(
+        long scannedUsers,
+        long mismatchedUsers,
+        List<LedgerMismatch> mismatches,
+        long elapsedMillis
+) {
+}
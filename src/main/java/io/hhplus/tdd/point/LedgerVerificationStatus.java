@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+/**
+ * @param lastReport 마지막으로 완료된 검증 결과, 아직 없으면 null
+ */
+public record LedgerVerificationStatus(
+        boolean running,
+        long totalUsers,
+        long scannedUsers,
+        long mismatchedUsers,
+        LedgerVerificationReport lastReport
+) {
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 커밋된 포인트 변경 한 건
+ *
+ * @param userPoint 변경 후 잔액
+ * @param history 함께 기록된 내역
+ */
+public record PointChange(
+        UserPoint userPoint,
+        PointHistory history
+) {
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * @param epoch 이 배치를 만든 피드의 epoch (다음 요청에 함께 전달)
+ * @param events 요청한 offset 이후의 변경 (offset 순)
+ * @param nextOffset 다음 요청에 after 로 전달할 offset
+ * @param truncated 요청한 offset 이후의 변경 일부가 보관 범위를 벗어나 유실됐거나,
+ *                  요청한 epoch 가 현재 피드와 달라 (재시작 등) 이어 받을 수 없는 경우 true
+ *                  (구독자는 내역 API 로 상태를 다시 맞춘 뒤 nextOffset 부터 이어 받는다)
+ */
+public record PointChangeBatch(
+        String epoch,
+        List<PointChangeEvent> events,
+        long nextOffset,
+        boolean truncated
+) {
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 변경 피드로 전달되는 커밋된 포인트 변경 한 건
+ *
+ * @param offset 피드 순번 (1부터 증가, 재개 위치로 사용)
+ * @param historyId 변경을 기록한 PointHistory.id
+ * @param balance 변경 후 잔액
+ */
+public record PointChangeEvent(
+        long offset,
+        long historyId,
+        long userId,
+        TransactionType type,
+        long amount,
+        long balance,
+        long updateMillis
+) {
+}
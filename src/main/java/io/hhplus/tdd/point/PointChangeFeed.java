@@ -0,0 +1,115 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 커밋된 포인트 변경을 순서대로 보관하는 고정 크기 링 버퍼
+ *
+ * 변경 스트림 구독자로서 커밋마다 한 번 추가되며, 가장 오래된 항목부터 덮어쓴다.
+ * 구독자는 마지막으로 받은 offset 을 기억했다가 이어 받으므로, 보관 범위 안의 짧은 연결 끊김은 유실 없이 복구된다.
+ *
+ * offset 은 PointHistory.id 가 아니라 피드에 추가된 순번이다.
+ * 서로 다른 사용자의 커밋은 id 발급 순서와 다르게 발행될 수 있어, id 를 재개 위치로 쓰면 늦게 발행된 작은 id 를 놓친다.
+ * 각 이벤트는 historyId 를 함께 담는다.
+ *
+ * offset 은 재시작하면 다시 1부터 시작하므로, 피드마다 epoch 를 발급해 offset 과 함께 전달한다.
+ * 구독자가 보낸 epoch 가 현재 피드와 다르거나 offset 이 아직 발급되지 않은 값이면 truncated 로 알린다.
+ */
+@Component
+public class PointChangeFeed implements PointChangeListener {
+
+    private final String epoch = UUID.randomUUID().toString();
+    private final PointChangeEvent[] ring;
+    private final int mask;
+    // 다음에 추가될 offset
+    private long head = 1L;
+    // 대기 중이 아닐 때 요청된 깨우기도 다음 대기에서 바로 반영한다
+    private boolean wakeUpRequested;
+
+    public PointChangeFeed(@Value("${point.change-feed.capacity:65536}") int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("변경 피드 보관 크기는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.ring = new PointChangeEvent[capacity];
+        this.mask = capacity - 1;
+    }
+
+    @Override
+    public void onCommitted(PointChange change) {
+        PointHistory history = change.history();
+        if (history == null || change.userPoint() == null) {
+            return;
+        }
+        synchronized (this) {
+            ring[(int) (head & mask)] = new PointChangeEvent(head, history.id(), history.userId(), history.type(),
+                    history.amount(), change.userPoint().point(), history.updateMillis());
+            head++;
+            notifyAll();
+        }
+    }
+
+    String epoch() {
+        return epoch;
+    }
+
+    PointChangeBatch read(long after, int limit) {
+        return read(null, after, limit);
+    }
+
+    /**
+     * @param afterEpoch after 를 받은 피드의 epoch (처음이면 null)
+     * @param after 마지막으로 받은 offset (처음이면 0)
+     * @param limit 최대 건수
+     */
+    synchronized PointChangeBatch read(String afterEpoch, long after, int limit) {
+        boolean stale = afterEpoch != null && !afterEpoch.equals(epoch) || after >= head;
+        if (stale) {
+            // 다른 피드에서 받은 offset 은 의미가 없으므로 보관된 가장 오래된 변경부터 다시 전달한다
+            after = 0L;
+        }
+        long oldest = Math.max(1L, head - ring.length);
+        long from = Math.max(after + 1, oldest);
+        long to = Math.min(head, from + limit);
+        List<PointChangeEvent> events = new ArrayList<>((int) Math.max(0L, to - from));
+        for (long offset = from; offset < to; offset++) {
+            events.add(ring[(int) (offset & mask)]);
+        }
+        return new PointChangeBatch(epoch, events, Math.max(after, to - 1), stale || after + 1 < oldest);
+    }
+
+    /**
+     * @return 가장 최근에 추가된 offset (없으면 0)
+     */
+    synchronized long latestOffset() {
+        return head - 1;
+    }
+
+    /**
+     * 최근 offset 이 knownOffset 보다 커지거나 timeoutMillis 가 지날 때까지 기다린다
+     *
+     * @return 가장 최근에 추가된 offset
+     */
+    synchronized long awaitAfter(long knownOffset, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long remaining = timeoutMillis;
+        while (head - 1 <= knownOffset && !wakeUpRequested && remaining > 0) {
+            wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+        wakeUpRequested = false;
+        return head - 1;
+    }
+
+    /**
+     * awaitAfter 로 기다리는 스레드를 깨운다 (새 구독자 등록 시)
+     */
+    synchronized void wakeUp() {
+        wakeUpRequested = true;
+        notifyAll();
+    }
+}
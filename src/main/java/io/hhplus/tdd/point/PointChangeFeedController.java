@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+
+/**
+ * 커밋된 포인트 변경 피드
+ *
+ * 사용자별 내역을 주기적으로 조회하는 대신, 마지막으로 받은 offset 이후의 변경만 받아 간다.
+ */
+@RestController
+@RequestMapping("/changes")
+public class PointChangeFeedController {
+
+    private static final int MAX_LIMIT = 1_000;
+
+    private final PointChangeFeedPublisher publisher;
+    private final long maxWaitMillis;
+
+    public PointChangeFeedController(PointChangeFeedPublisher publisher,
+                                     @Value("${point.change-feed.max-wait-ms:30000}") long maxWaitMillis) {
+        this.publisher = publisher;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    /**
+     * 롱폴링: after 이후의 변경을 반환하고, 없으면 waitMs 동안 새 변경을 기다린다
+     * epoch 는 직전 응답의 epoch 로, 피드가 재시작돼 달라졌으면 truncated 와 함께 처음부터 전달한다.
+     */
+    @GetMapping
+    public DeferredResult<PointChangeBatch> poll(
+            @RequestParam(required = false) String epoch,
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "30000") long waitMs
+    ) {
+        return publisher.poll(epoch, after, Math.max(1, Math.min(limit, MAX_LIMIT)), Math.min(waitMs, maxWaitMillis));
+    }
+
+    /**
+     * SSE: 재연결 시 브라우저/클라이언트가 보내는 Last-Event-ID ("epoch:offset") 부터 이어서 전달한다
+     * 둘 다 없으면 구독 시점 이후의 변경부터 전달한다. 구독자 수가 상한이면 503, Last-Event-ID 가 잘못됐으면 400.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @RequestParam(required = false) String epoch,
+            @RequestParam(required = false) Long after
+    ) {
+        Optional<SseEmitter> emitter;
+        if (lastEventId != null) {
+            int separator = lastEventId.lastIndexOf(':');
+            emitter = publisher.subscribe(separator < 0 ? null : lastEventId.substring(0, separator),
+                    parseOffset(lastEventId, separator));
+        } else if (after != null) {
+            emitter = publisher.subscribe(epoch, after);
+        } else {
+            emitter = publisher.subscribe(publisher.epoch(), publisher.latestOffset());
+        }
+        return emitter
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(503).header("Retry-After", "1").body(null));
+    }
+
+    private static long parseOffset(String lastEventId, int separator) {
+        long offset;
+        try {
+            offset = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            throw new InvalidChangeFeedCursorException(lastEventId);
+        }
+        if (offset < 0) {
+            throw new InvalidChangeFeedCursorException(lastEventId);
+        }
+        return offset;
+    }
+}
@@ -0,0 +1,223 @@
+package io.hhplus.tdd.point;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 변경 피드를 롱폴링/SSE 구독자에게 전달한다
+ *
+ * 디스패처 스레드 하나가 피드에 변경이 추가될 때마다 깨어나 대기 중인 롱폴링 요청을 완료하고,
+ * SSE 구독자마다 전송 작업을 예약한다. 구독자별 전송은 별도 스레드에서 실행되므로
+ * 느린 구독자는 자신만 늦어지고, 밀린 만큼은 보관 범위 안에서 offset 으로 이어 받는다.
+ */
+@Component
+public class PointChangeFeedPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(PointChangeFeedPublisher.class);
+
+    private static final int SEND_BATCH_SIZE = 500;
+
+    private final PointChangeFeed feed;
+    private final int maxSubscribers;
+    private final long heartbeatMillis;
+
+    private final Queue<LongPoll> longPolls = new ConcurrentLinkedQueue<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders;
+    private final Thread dispatcher;
+    private volatile boolean running;
+
+    public PointChangeFeedPublisher(PointChangeFeed feed,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${point.change-feed.max-subscribers:32}") int maxSubscribers,
+                                    @Value("${point.change-feed.heartbeat-ms:15000}") long heartbeatMillis) {
+        this.feed = feed;
+        this.maxSubscribers = maxSubscribers;
+        this.heartbeatMillis = heartbeatMillis;
+        this.senders = Executors.newFixedThreadPool(maxSubscribers, runnable -> {
+            Thread thread = new Thread(runnable, "point-change-feed-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dispatcher = new Thread(this::dispatchLoop, "point-change-feed");
+        this.dispatcher.setDaemon(true);
+
+        Gauge.builder("point.changes.subscribers", subscribers, Set::size)
+                .description("연결된 SSE 변경 피드 구독자 수")
+                .register(meterRegistry);
+        Gauge.builder("point.changes.long-polls", longPolls, Queue::size)
+                .description("변경을 기다리는 롱폴링 요청 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        dispatcher.interrupt();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdownNow();
+    }
+
+    /**
+     * after 이후의 변경을 조회하고, 아직 없으면 waitMillis 동안 새 변경을 기다린다
+     *
+     * @param epoch after 를 받은 피드의 epoch (처음이면 null)
+     */
+    DeferredResult<PointChangeBatch> poll(String epoch, long after, int limit, long waitMillis) {
+        PointChangeBatch batch = feed.read(epoch, after, limit);
+        if (!batch.events().isEmpty() || batch.truncated() || waitMillis <= 0) {
+            DeferredResult<PointChangeBatch> result = new DeferredResult<>();
+            result.setResult(batch);
+            return result;
+        }
+        DeferredResult<PointChangeBatch> result = new DeferredResult<>(waitMillis);
+        LongPoll longPoll = new LongPoll(epoch, after, limit, result);
+        result.onTimeout(() -> result.setResult(feed.read(epoch, after, limit)));
+        result.onCompletion(() -> longPolls.remove(longPoll));
+        longPolls.add(longPoll);
+        // 조회와 등록 사이에 추가된 변경을 놓치지 않도록 디스패처가 다시 확인하게 한다
+        feed.wakeUp();
+        return result;
+    }
+
+    /**
+     * after 이후의 변경부터 SSE 로 전달한다
+     *
+     * @param epoch after 를 받은 피드의 epoch (처음이면 null)
+     * @return 구독자 수가 상한에 도달했으면 empty
+     */
+    Optional<SseEmitter> subscribe(String epoch, long after) {
+        if (subscribers.size() >= maxSubscribers) {
+            return Optional.empty();
+        }
+        // 타임아웃 없이 구독자가 끊을 때까지 유지한다
+        SseEmitter emitter = new SseEmitter(0L);
+        Subscriber subscriber = new Subscriber(emitter, epoch, after);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        subscriber.schedule();
+        return Optional.of(emitter);
+    }
+
+    long latestOffset() {
+        return feed.latestOffset();
+    }
+
+    String epoch() {
+        return feed.epoch();
+    }
+
+    private void dispatchLoop() {
+        long known = feed.latestOffset();
+        while (running) {
+            try {
+                known = feed.awaitAfter(known, heartbeatMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            for (LongPoll longPoll : longPolls) {
+                if (longPoll.after < known) {
+                    longPoll.result.setResult(feed.read(longPoll.epoch, longPoll.after, longPoll.limit));
+                    longPolls.remove(longPoll);
+                }
+            }
+            long now = System.currentTimeMillis();
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.cursor < known || now - subscriber.lastSentMillis >= heartbeatMillis) {
+                    subscriber.schedule();
+                }
+            }
+        }
+    }
+
+    private record LongPoll(String epoch, long after, int limit, DeferredResult<PointChangeBatch> result) {
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile String epoch;
+        private volatile long cursor;
+        private volatile long lastSentMillis = System.currentTimeMillis();
+
+        private Subscriber(SseEmitter emitter, String epoch, long cursor) {
+            this.emitter = emitter;
+            this.epoch = epoch;
+            this.cursor = cursor;
+        }
+
+        private void schedule() {
+            if (sending.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                boolean sent = false;
+                while (true) {
+                    PointChangeBatch batch = feed.read(epoch, cursor, SEND_BATCH_SIZE);
+                    if (batch.truncated()) {
+                        // 보관 범위를 벗어난 변경이 있음을 알려 구독자가 상태를 다시 맞추게 한다
+                        emitter.send(SseEmitter.event().name("truncated").data(cursor));
+                    }
+                    for (PointChangeEvent event : batch.events()) {
+                        emitter.send(SseEmitter.event()
+                                .id(batch.epoch() + ":" + event.offset())
+                                .name("point-change")
+                                .data(event));
+                    }
+                    sent |= !batch.events().isEmpty() || batch.truncated();
+                    epoch = batch.epoch();
+                    cursor = batch.nextOffset();
+                    if (batch.events().size() < SEND_BATCH_SIZE) {
+                        break;
+                    }
+                }
+                long now = System.currentTimeMillis();
+                if (!sent && now - lastSentMillis >= heartbeatMillis) {
+                    // 끊긴 연결을 감지하고 프록시가 유휴 연결을 닫지 않도록 주석 이벤트를 보낸다
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                    sent = true;
+                }
+                if (sent) {
+                    lastSentMillis = now;
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("변경 피드 구독자 연결 종료: {}", e.getMessage());
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+            } finally {
+                sending.set(false);
+            }
+        }
+    }
+}
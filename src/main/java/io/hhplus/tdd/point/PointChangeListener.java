@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 커밋된 포인트 변경을 전달받는 변경 스트림 구독자
+ *
+ * 사용자 락을 보유한 상태에서 커밋 순서대로 호출되므로, 한 사용자의 변경은 항상 순서대로 전달된다.
+ * 쓰기 경로를 지연시키지 않도록 구현체는 블로킹 없이 빠르게 반환해야 한다.
+ */
+public interface PointChangeListener {
+
+    void onCommitted(PointChange change);
+}
@@ -1,10 +1,12 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.deadline.RequestDeadline;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/point")
@@ -13,35 +15,72 @@ public class PointController {
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
 
     private final PointService pointService;
+    private final AsyncPointService asyncPointService;
 
-    public PointController(PointService pointService) {
+    public PointController(PointService pointService, AsyncPointService asyncPointService) {
         this.pointService = pointService;
+        this.asyncPointService = asyncPointService;
     }
 
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
      */
     @GetMapping("{id}")
+    @RequestDeadline(millis = 1_000L)
     public UserPoint point(
             @PathVariable long id
     ) {
         return pointService.point(id);
     }
 
+    /**
+     * 쓰기 응답의 updateMillis 를 전달하면 해당 쓰기가 반영된 값을 조회한다 (read-your-writes)
+     */
+    @GetMapping(value = "{id}", params = "minUpdateMillis")
+    @RequestDeadline(millis = 1_000L)
+    public UserPoint point(
+            @PathVariable long id,
+            @RequestParam long minUpdateMillis
+    ) {
+        return pointService.point(id, minUpdateMillis);
+    }
+
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
      */
     @GetMapping("{id}/histories")
+    @RequestDeadline(millis = 1_000L)
     public List<PointHistory> history(
             @PathVariable long id
     ) {
         return pointService.history(id);
     }
 
+    @GetMapping(value = "{id}/histories", params = "minUpdateMillis")
+    @RequestDeadline(millis = 1_000L)
+    public List<PointHistory> history(
+            @PathVariable long id,
+            @RequestParam long minUpdateMillis
+    ) {
+        return pointService.history(id, minUpdateMillis);
+    }
+
+    /**
+     * 잔액과 최근 내역을 동시에 조회해 함께 반환한다
+     */
+    @GetMapping("{id}/summary")
+    @RequestDeadline(millis = 1_000L)
+    public CompletableFuture<PointSummary> summary(
+            @PathVariable long id
+    ) {
+        return asyncPointService.summaryAsync(id);
+    }
+
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
      */
     @PatchMapping("{id}/charge")
+    @RequestDeadline(millis = 3_000L)
     public UserPoint charge(
             @PathVariable long id,
             @RequestBody long amount
@@ -53,10 +92,47 @@ public class PointController {
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
      */
     @PatchMapping("{id}/use")
+    @RequestDeadline(millis = 3_000L)
     public UserPoint use(
             @PathVariable long id,
             @RequestBody long amount
     ) {
         return pointService.use(id, amount);
     }
+
+    /**
+     * 충전하면 성공할지 미리 확인한다 (반영하지 않음)
+     */
+    @PostMapping("{id}/charge/quote")
+    @RequestDeadline(millis = 1_000L)
+    public PointQuote chargeQuote(
+            @PathVariable long id,
+            @RequestBody long amount
+    ) {
+        return pointService.quote(id, TransactionType.CHARGE, amount);
+    }
+
+    /**
+     * 사용하면 성공할지 미리 확인한다 (반영하지 않음)
+     */
+    @PostMapping("{id}/use/quote")
+    @RequestDeadline(millis = 1_000L)
+    public PointQuote useQuote(
+            @PathVariable long id,
+            @RequestBody long amount
+    ) {
+        return pointService.quote(id, TransactionType.USE, amount);
+    }
+
+    /**
+     * 다른 사용자에게 포인트를 전송한다
+     */
+    @PatchMapping("{id}/transfer")
+    @RequestDeadline(millis = 3_000L)
+    public UserPoint transfer(
+            @PathVariable long id,
+            @RequestBody TransferRequest request
+    ) {
+        return pointService.transfer(id, request.toUserId(), request.amount());
+    }
 }
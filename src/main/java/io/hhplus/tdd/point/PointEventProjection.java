@@ -0,0 +1,178 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.lock.UserLock;
+import io.hhplus.tdd.lock.UserLockProvider;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 소싱 모드의 잔액 프로젝션
+ *
+ * 이벤트 소싱 모드에서는 내역(PointHistory)이 유일한 원본이다. 쓰기는 내역을 한 번 추가하는 것으로 끝나고,
+ * 잔액은 추가된 내역을 이 프로젝션에 반영해 메모리에서 계산한다 (UserPointRepository 는 쓰지 않는다).
+ *
+ * 시작 시 저장소의 체크포인트 합계와 남은 내역을 사용자 단위로 병렬 재생해 잔액을 재구성한다.
+ * 체크포인트는 저장소에 내역 삭제와 함께 기록되므로 압축과 함께 켜도 재시작 후 잔액이 유지된다.
+ */
+@Component
+public class PointEventProjection {
+
+    private static final Logger log = LoggerFactory.getLogger(PointEventProjection.class);
+
+    private static final int SPLIT_THRESHOLD = 64;
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointHistoryCompactor pointHistoryCompactor;
+    private final UserLockProvider userLockProvider;
+    private final boolean enabled;
+    private final int rebuildParallelism;
+
+    private final ConcurrentHashMap<Long, Projection> projections = new ConcurrentHashMap<>();
+
+    public PointEventProjection(PointHistoryRepository pointHistoryRepository,
+                                PointHistoryCompactor pointHistoryCompactor,
+                                UserLockProvider userLockProvider,
+                                @Value("${point.event-sourcing.enabled:false}") boolean enabled,
+                                @Value("${point.event-sourcing.rebuild-parallelism:8}") int rebuildParallelism) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.pointHistoryCompactor = pointHistoryCompactor;
+        this.userLockProvider = userLockProvider;
+        this.enabled = enabled;
+        this.rebuildParallelism = rebuildParallelism;
+    }
+
+    /**
+     * 비활성화 상태에서는 어떤 메서드도 협력 객체를 사용하지 않는다
+     */
+    static PointEventProjection disabled() {
+        return new PointEventProjection(null, null, null, false, 1);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        rebuild();
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 사용자 락 보유 중 호출
+     */
+    UserPoint balance(long userId) {
+        Projection projection = projections.get(userId);
+        return projection != null ? projection.userPoint() : UserPoint.empty(userId);
+    }
+
+    /**
+     * 추가된 내역을 잔액에 반영한다 (사용자 락 보유 중 호출)
+     *
+     * @return 반영 후 잔액
+     */
+    UserPoint apply(PointHistory event) {
+        return projections.compute(event.userId(), (userId, current) ->
+                        (current != null ? current : Projection.empty(userId)).apply(event))
+                .userPoint();
+    }
+
+    /**
+     * 저장소의 체크포인트와 내역으로 모든 사용자의 잔액을 다시 계산한다
+     *
+     * @return 재구성한 사용자 수
+     */
+    int rebuild() {
+        long start = System.nanoTime();
+        long[] ids = pointHistoryRepository.userIds().stream().mapToLong(Long::longValue).sorted().toArray();
+
+        ForkJoinPool pool = new ForkJoinPool(rebuildParallelism);
+        try {
+            pool.invoke(new RebuildRange(ids, 0, ids.length));
+        } finally {
+            pool.shutdown();
+        }
+        log.info("잔액 프로젝션 재구성 완료: 사용자 {}명, {}ms", ids.length,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return ids.length;
+    }
+
+    private void rebuild(long userId) {
+        try (UserLock lock = userLockProvider.lock(userId)) {
+            reload(userId);
+        }
+    }
+
+    /**
+     * 저장소의 체크포인트와 내역으로 사용자 잔액을 다시 계산한다 (사용자 락 보유 중 호출, 인계받은 사용자 등)
+     */
+    void reload(long userId) {
+        PointLedger ledger = pointHistoryCompactor.ledger(userId);
+        projections.put(userId, Projection.of(ledger, pointHistoryCompactor.compactedUpTo(userId)));
+    }
+
+    /**
+     * @param lastEventId 마지막으로 반영한 내역 id
+     */
+    record Projection(UserPoint userPoint, long lastEventId) {
+
+        static Projection empty(long userId) {
+            return new Projection(new UserPoint(userId, 0L, 0L), 0L);
+        }
+
+        /**
+         * @param compactedUpTo 체크포인트로 합쳐진 마지막 내역 id
+         */
+        static Projection of(PointLedger ledger, long compactedUpTo) {
+            List<PointHistory> histories = ledger.histories();
+            if (histories.isEmpty()) {
+                return new Projection(new UserPoint(ledger.userId(), ledger.balance(), 0L), compactedUpTo);
+            }
+            PointHistory last = histories.get(histories.size() - 1);
+            return new Projection(new UserPoint(ledger.userId(), ledger.balance(), last.updateMillis()), last.id());
+        }
+
+        Projection apply(PointHistory event) {
+            UserPoint updated = new UserPoint(userPoint.id(), userPoint.point() + event.signedAmount(),
+                    event.updateMillis());
+            return new Projection(updated, event.id());
+        }
+    }
+
+    private final class RebuildRange extends RecursiveAction {
+
+        private final long[] userIds;
+        private final int from;
+        private final int to;
+
+        private RebuildRange(long[] userIds, int from, int to) {
+            this.userIds = userIds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    rebuild(userIds[i]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RebuildRange(userIds, from, middle), new RebuildRange(userIds, middle, to));
+        }
+    }
+}
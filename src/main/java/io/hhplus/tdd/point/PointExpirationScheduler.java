@@ -0,0 +1,69 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 틱마다 타이밍 휠을 진행해 만료 시각이 지난 사용자만 골라 포인트를 소멸시킨다
+ *
+ * 전체 사용자를 훑지 않으며, 한 틱의 비용은 그 틱에 만료된 묶음 수에 비례한다.
+ */
+@Component
+public class PointExpirationScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PointExpirationScheduler.class);
+
+    private final PointService pointService;
+    private final PointLotBook pointLotBook;
+    private final long tickMillis;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "point-expiration");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PointExpirationScheduler(PointService pointService,
+                                    PointLotBook pointLotBook,
+                                    @Value("${point.expiration.tick-ms:1000}") long tickMillis) {
+        this.pointService = pointService;
+        this.pointLotBook = pointLotBook;
+        this.tickMillis = tickMillis;
+    }
+
+    @PostConstruct
+    void start() {
+        if (pointLotBook.isEnabled()) {
+            scheduler.scheduleAtFixedRate(() -> tick(System.currentTimeMillis()),
+                    tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * @return 만료 시각이 지나 확인한 사용자 수
+     */
+    int tick(long nowMillis) {
+        Set<Long> userIds = pointLotBook.pollExpiredUsers(nowMillis);
+        for (Long userId : userIds) {
+            try {
+                pointService.expire(userId, () -> pointLotBook.expiredAmount(userId, nowMillis));
+            } catch (RuntimeException e) {
+                log.warn("포인트 만료 처리 실패: 사용자 {}", userId, e);
+            }
+        }
+        return userIds.size();
+    }
+}
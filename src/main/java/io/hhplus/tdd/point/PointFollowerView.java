@@ -0,0 +1,175 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 변경 스트림으로 갱신되는 읽기 전용 팔로워 뷰 (잔액 맵 + 사용자별 최근 내역)
+ *
+ * 변경은 별도 스레드에서 비동기로 반영되므로 원본 테이블보다 늦을 수 있다.
+ * 아직 반영되지 않은 가장 오래된 변경이 허용 지연(max-staleness)보다 오래되면 조회를 거절하고,
+ * 호출자는 원본 테이블에서 읽는다.
+ *
+ * 변경 스트림에는 프로세스가 시작된 뒤의 내역만 흐르므로, 시작 후 처음 쓰이는 사용자는
+ * 쓰는 쪽(PointService)이 사용자 락 안에서 원본의 최근 내역으로 먼저 채운다(seed).
+ */
+@Component
+public class PointFollowerView implements PointChangeListener {
+
+    private final boolean enabled;
+    private final long maxStalenessNanos;
+    private final ConcurrentHashMap<Long, UserPoint> balances = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, List<PointHistory>> recentHistories = new ConcurrentHashMap<>();
+    // 원본의 최근 내역으로 채운 사용자 (이후 변경만 이어 붙여도 최근 내역이 잘리지 않음)
+    private final Set<Long> seededUsers = ConcurrentHashMap.newKeySet();
+    private final Deque<Long> pendingPublishNanos = new ArrayDeque<>();
+    private final ExecutorService applier;
+
+    public PointFollowerView(@Value("${point.read.follower.enabled:false}") boolean enabled,
+                             @Value("${point.read.follower.max-staleness-ms:0}") long maxStalenessMillis) {
+        this.enabled = enabled;
+        this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(maxStalenessMillis);
+        this.applier = enabled ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-follower-applier");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    static PointFollowerView disabled() {
+        return new PointFollowerView(false, 0L);
+    }
+
+    @Override
+    public void onCommitted(PointChange change) {
+        if (!enabled || change.userPoint() == null) {
+            return;
+        }
+        enqueue(() -> apply(change));
+    }
+
+    /**
+     * 원본 테이블에서 읽은 잔액과 최근 내역으로 사용자 항목을 채운다 (시작 시 예열)
+     *
+     * 사용자 락을 보유한 상태에서 읽고 호출해야 한다. 커밋과 같은 순서로 반영되므로
+     * 먼저 커밋된 변경은 이 값에 포함되어 있고, 이후 커밋된 변경은 이 값 위에 반영된다.
+     */
+    void seed(UserPoint userPoint, List<PointHistory> histories) {
+        if (!enabled) {
+            return;
+        }
+        seededUsers.add(userPoint.id());
+        List<PointHistory> recent = List.copyOf(histories.size() <= PointService.MAX_HISTORY_SIZE ? histories
+                : histories.subList(histories.size() - PointService.MAX_HISTORY_SIZE, histories.size()));
+        enqueue(() -> {
+            recentHistories.put(userPoint.id(), recent);
+            balances.put(userPoint.id(), userPoint);
+        });
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return 원본의 최근 내역으로 채운 사용자이면 true (비활성화 상태에서는 채울 필요가 없으므로 항상 true)
+     */
+    boolean isSeeded(long userId) {
+        return !enabled || seededUsers.contains(userId);
+    }
+
+    /**
+     * @param minUpdateMillis 이 시각 이후의 쓰기가 반영된 경우에만 응답 (read-your-writes), 0 이면 제한 없음
+     * @return 팔로워가 응답할 수 없으면 empty
+     */
+    Optional<UserPoint> point(long userId, long minUpdateMillis) {
+        if (!isReadable(userId, minUpdateMillis)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(balances.get(userId));
+    }
+
+    Optional<List<PointHistory>> history(long userId, long minUpdateMillis) {
+        if (!isReadable(userId, minUpdateMillis)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(recentHistories.get(userId));
+    }
+
+    boolean isCaughtUp() {
+        synchronized (pendingPublishNanos) {
+            return pendingPublishNanos.isEmpty();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (applier != null) {
+            applier.shutdown();
+        }
+    }
+
+    private boolean isReadable(long userId, long minUpdateMillis) {
+        if (!enabled || !isFresh()) {
+            return false;
+        }
+        UserPoint userPoint = balances.get(userId);
+        return userPoint != null && userPoint.updateMillis() >= minUpdateMillis;
+    }
+
+    private boolean isFresh() {
+        synchronized (pendingPublishNanos) {
+            Long oldest = pendingPublishNanos.peekFirst();
+            return oldest == null || System.nanoTime() - oldest <= maxStalenessNanos;
+        }
+    }
+
+    private void enqueue(Runnable update) {
+        synchronized (pendingPublishNanos) {
+            pendingPublishNanos.addLast(System.nanoTime());
+            applier.execute(() -> {
+                update.run();
+                synchronized (pendingPublishNanos) {
+                    pendingPublishNanos.pollFirst();
+                }
+            });
+        }
+    }
+
+    private void apply(PointChange change) {
+        long userId = change.userPoint().id();
+        if (change.history() != null) {
+            // 잔액보다 내역을 먼저 반영해, 잔액이 보이면 해당 내역도 보이도록 한다
+            recentHistories.compute(userId, (id, current) -> append(current, change.history()));
+        }
+        balances.put(userId, change.userPoint());
+    }
+
+    private static List<PointHistory> append(List<PointHistory> current, PointHistory history) {
+        if (current != null && !current.isEmpty() && current.get(current.size() - 1).id() >= history.id()) {
+            // 원본에서 채울 때 이미 포함된 내역
+            return current;
+        }
+        List<PointHistory> next = new ArrayList<>(PointService.MAX_HISTORY_SIZE + 1);
+        if (current != null) {
+            next.addAll(current);
+        }
+        next.add(history);
+        if (next.size() > PointService.MAX_HISTORY_SIZE) {
+            next.remove(0);
+        }
+        return List.copyOf(next);
+    }
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 클러스터 링이 바뀔 때 이전 소유 노드가 새 소유 노드로 넘기는 사용자 데이터
+ *
+ * @param point 인계 시점의 잔액
+ * @param histories 압축되지 않은 내역 (id 순)
+ * @param checkpoints 압축된 날짜별 합계
+ */
+public record PointHandoff(
+        long userId,
+        long point,
+        List<PointHistory> histories,
+        List<PointHistoryCheckpoint> checkpoints
+) {
+}
@@ -0,0 +1,52 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.cluster.ClusterMembership;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping(PointHandoffService.HANDOFF_PATH)
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+public class PointHandoffController {
+
+    private final PointHandoffService handoffService;
+    private final ClusterMembership membership;
+
+    public PointHandoffController(PointHandoffService handoffService, ClusterMembership membership) {
+        this.handoffService = handoffService;
+        this.membership = membership;
+    }
+
+    /**
+     * 인계 요청 - 본문은 요청한 노드의 링 구성, 그 링에서 owner 가 소유하는 사용자 데이터를 반환
+     */
+    @PostMapping
+    public List<PointHandoff> export(
+            @RequestParam String owner,
+            @RequestBody List<String> nodes
+    ) {
+        return handoffService.export(owner, nodes);
+    }
+
+    /**
+     * 아직 인계를 받지 못한 노드
+     */
+    @GetMapping("pending")
+    public Set<String> pending() {
+        return membership.pendingSources();
+    }
+
+    /**
+     * 응답하지 않는 노드의 인계를 포기하고 그 노드가 소유했던 사용자의 쓰기를 허용한다 (그 노드의 데이터는 유실)
+     */
+    @PostMapping("abandon")
+    public Set<String> abandon(
+            @RequestParam String node
+    ) {
+        membership.abandonHandoff(node);
+        return membership.pendingSources();
+    }
+}
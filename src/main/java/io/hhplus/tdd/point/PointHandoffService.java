@@ -0,0 +1,254 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.cluster.ClusterMembership;
+import io.hhplus.tdd.cluster.ClusterSecret;
+import io.hhplus.tdd.cluster.ConsistentHashRing;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.hhplus.tdd.lock.UserLock;
+import io.hhplus.tdd.lock.UserLockProvider;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클러스터 링이 바뀌었을 때 사용자 잔액과 내역을 이전 소유 노드에서 새 소유 노드로 옮긴다
+ *
+ * 새 소유 노드가 이전 링의 각 노드에 자신의 링 구성을 보내면, 그 노드는 새 링에서 요청한 노드가 소유하는
+ * 사용자를 사용자 락 안에서 더 쓰지 않도록 표시한 뒤 데이터를 돌려준다 (pull).
+ * 새 소유 노드는 받은 데이터를 반영한 뒤에야 그 사용자의 쓰기를 받는다 (ClusterMembership.checkWritable).
+ * 응답하지 않는 노드는 heartbeat-interval-ms 마다 다시 요청한다.
+ *
+ * 인계한 내역은 새 노드에서 새 id 로 기록되며, 변경 피드와 내역 색인에는 반영하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+public class PointHandoffService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHandoffService.class);
+
+    static final String HANDOFF_PATH = "/cluster/handoff";
+
+    private final ClusterMembership membership;
+    private final ClusterSecret secret;
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final UserLockProvider userLockProvider;
+    private final PointEventProjection eventProjection;
+    private final PointLotBook pointLotBook;
+    private final PointFollowerView followerView;
+    private final ObjectMapper objectMapper;
+    private final long retryIntervalMillis;
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "point-cluster-handoff");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PointHandoffService(ClusterMembership membership,
+                               ClusterSecret secret,
+                               UserPointRepository userPointRepository,
+                               PointHistoryRepository pointHistoryRepository,
+                               UserLockProvider userLockProvider,
+                               PointEventProjection eventProjection,
+                               PointLotBook pointLotBook,
+                               PointFollowerView followerView,
+                               ObjectMapper objectMapper,
+                               @Value("${point.cluster.heartbeat-interval-ms:2000}") long retryIntervalMillis) {
+        this.membership = membership;
+        this.secret = secret;
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.userLockProvider = userLockProvider;
+        this.eventProjection = eventProjection;
+        this.pointLotBook = pointLotBook;
+        this.followerView = followerView;
+        this.objectMapper = objectMapper;
+        this.retryIntervalMillis = retryIntervalMillis;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(retryIntervalMillis))
+                .build();
+    }
+
+    @PostConstruct
+    void start() {
+        membership.onRebalance(() -> executor.execute(this::pullPending));
+        // 기존 클러스터에 합류한 노드는 시작하자마자 인계를 요청한다
+        executor.execute(this::pullPending);
+        executor.scheduleWithFixedDelay(this::pullPending, retryIntervalMillis, retryIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 아직 인계를 받지 못한 노드마다 인계를 요청한다
+     */
+    void pullPending() {
+        for (String source : membership.pendingSources()) {
+            Set<String> nodes = membership.nodes();
+            try {
+                List<PointHandoff> handoffs = pull(source, nodes);
+                for (PointHandoff handoff : handoffs) {
+                    importUser(handoff);
+                }
+                membership.completeHandoff(source, nodes);
+                log.info("노드 인계 수신: {} -> 사용자 {}명", source, handoffs.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("노드 인계 실패, 다음 주기에 다시 요청: {} ({})", source, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * owner 가 nodes 구성의 링에서 소유하는 사용자를 넘긴다 (이전 소유 노드 쪽)
+     *
+     * 넘긴 사용자는 사용자 락 안에서 쓰기 금지로 표시하므로, 넘긴 뒤에 커밋되는 쓰기는 없다.
+     * 이미 다른 노드로 넘긴 사용자는 이 노드의 데이터가 원본이 아니므로 넘기지 않는다.
+     */
+    List<PointHandoff> export(String owner, Collection<String> nodes) {
+        ConsistentHashRing ring = membership.ringOf(nodes);
+        List<PointHandoff> handoffs = new ArrayList<>();
+        for (long userId : pointHistoryRepository.userIds().stream().mapToLong(Long::longValue).sorted().toArray()) {
+            if (!owner.equals(ring.ownerOf(userId)) || membership.isHandedAway(userId)) {
+                continue;
+            }
+            try (UserLock lock = userLockProvider.lock(userId)) {
+                membership.markHandedAway(userId);
+                long point = eventProjection.isEnabled()
+                        ? eventProjection.balance(userId).point()
+                        : userPointRepository.selectById(userId).point();
+                handoffs.add(new PointHandoff(userId, point, pointHistoryRepository.selectAllByUserId(userId),
+                        pointHistoryRepository.selectCheckpointsByUserId(userId)));
+            }
+        }
+        return handoffs;
+    }
+
+    /**
+     * 넘겨받은 사용자 데이터를 반영하고 쓰기를 허용한다 (새 소유 노드 쪽)
+     *
+     * 이 노드에 이미 있는 내역은 넘겨받은 내역의 앞부분이어야 하며 (이전에 이 노드가 소유했다가 넘긴 경우),
+     * 그 뒤의 내역만 추가한다. 같은 인계를 다시 받아도 결과가 같다.
+     *
+     * @throws IllegalStateException 이 노드의 내역/체크포인트가 넘겨받은 데이터와 맞지 않는 경우 (인계 대기 유지)
+     */
+    void importUser(PointHandoff handoff) {
+        long userId = handoff.userId();
+        try (UserLock lock = userLockProvider.lock(userId)) {
+            List<PointHistory> existing = pointHistoryRepository.selectAllByUserId(userId);
+            List<PointHistoryCheckpoint> existingCheckpoints = pointHistoryRepository.selectCheckpointsByUserId(userId);
+            if (!existingCheckpoints.isEmpty() && !sameTotals(existingCheckpoints, handoff.checkpoints())
+                    || existingCheckpoints.isEmpty() && !handoff.checkpoints().isEmpty() && !existing.isEmpty()) {
+                throw new IllegalStateException("인계받은 체크포인트가 이 노드의 기록과 맞지 않습니다. 사용자: " + userId);
+            }
+            if (isPrefix(handoff.histories(), existing)) {
+                // 이 노드가 이미 같거나 더 최신인 기록을 가지고 있다
+                membership.markHandedIn(userId);
+                return;
+            }
+            if (!isPrefix(existing, handoff.histories())) {
+                throw new IllegalStateException("인계받은 내역이 이 노드의 내역과 맞지 않습니다. 사용자: " + userId);
+            }
+
+            if (existingCheckpoints.isEmpty() && !handoff.checkpoints().isEmpty()) {
+                // 이 노드에는 압축된 원본 내역이 없으므로 지울 내역 없이 합계만 기록한다
+                pointHistoryRepository.compact(userId, handoff.checkpoints().stream()
+                        .map(checkpoint -> new PointHistoryCheckpoint(userId, checkpoint.day(),
+                                checkpoint.chargeAmount(), checkpoint.useAmount(), checkpoint.count(), 0L))
+                        .toList());
+            }
+            for (PointHistory history : handoff.histories().subList(existing.size(), handoff.histories().size())) {
+                pointHistoryRepository.insert(userId, history.amount(), history.type(), history.updateMillis());
+            }
+            UserPoint userPoint;
+            if (eventProjection.isEnabled()) {
+                eventProjection.reload(userId);
+                userPoint = eventProjection.balance(userId);
+            } else {
+                userPoint = userPointRepository.insertOrUpdate(userId, handoff.point());
+            }
+            if (pointLotBook.isEnabled()) {
+                pointLotBook.reload(userId);
+            }
+            if (followerView.isEnabled()) {
+                followerView.seed(userPoint, pointHistoryRepository.selectAllByUserId(userId));
+            }
+            membership.markHandedIn(userId);
+        }
+    }
+
+    private List<PointHandoff> pull(String source, Set<String> nodes) throws IOException, InterruptedException {
+        URI target = URI.create(source + HANDOFF_PATH + "?owner=" + membership.self());
+        HttpRequest request = secret.sign(HttpRequest.newBuilder(target))
+                .timeout(Duration.ofMillis(retryIntervalMillis * 5))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(nodes)))
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("인계 요청 실패: HTTP " + response.statusCode());
+        }
+        return objectMapper.readValue(response.body(), new TypeReference<List<PointHandoff>>() {
+        });
+    }
+
+    /**
+     * @return prefix 의 내역이 순서대로 histories 의 앞부분과 같으면 true (id 는 노드마다 다르므로 비교하지 않는다)
+     */
+    private static boolean isPrefix(List<PointHistory> prefix, List<PointHistory> histories) {
+        if (prefix.size() > histories.size()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.size(); i++) {
+            PointHistory a = prefix.get(i);
+            PointHistory b = histories.get(i);
+            if (a.amount() != b.amount() || a.type() != b.type() || a.updateMillis() != b.updateMillis()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameTotals(List<PointHistoryCheckpoint> a, List<PointHistoryCheckpoint> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            PointHistoryCheckpoint x = a.get(i);
+            PointHistoryCheckpoint y = b.get(i);
+            if (!x.day().equals(y.day()) || x.chargeAmount() != y.chargeAmount()
+                    || x.useAmount() != y.useAmount() || x.count() != y.count()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
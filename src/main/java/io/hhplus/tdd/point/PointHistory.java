@@ -7,4 +7,14 @@ public record PointHistory(
         TransactionType type,
         long updateMillis
 ) {
+
+    /**
+     * 잔액 기준 부호가 붙은 금액 (적립은 양수, 차감은 음수)
+     */
+    public long signedAmount() {
+        return switch (type) {
+            case CHARGE, TRANSFER_IN -> amount;
+            case USE, TRANSFER_OUT, EXPIRE -> -amount;
+        };
+    }
 }
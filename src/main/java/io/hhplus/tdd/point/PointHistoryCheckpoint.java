@@ -0,0 +1,38 @@
+package io.hhplus.tdd.point;
+
+import java.time.LocalDate;
+
+/**
+ * 하루치 내역을 압축한 사용자별 체크포인트
+ *
+ * @param chargeAmount 적립 합계 (충전, 전송 받음)
+ * @param useAmount 차감 합계 (사용, 전송 보냄, 만료)
+ * @param count 압축된 내역 수
+ * @param lastHistoryId 압축된 내역 중 가장 큰 id
+ */
+public record PointHistoryCheckpoint(
+        long userId,
+        LocalDate day,
+        long chargeAmount,
+        long useAmount,
+        long count,
+        long lastHistoryId
+) {
+
+    public long netAmount() {
+        return chargeAmount - useAmount;
+    }
+
+    PointHistoryCheckpoint merge(PointHistory history) {
+        long signed = history.signedAmount();
+        return new PointHistoryCheckpoint(userId, day,
+                chargeAmount + Math.max(signed, 0),
+                useAmount + Math.max(-signed, 0),
+                count + 1,
+                Math.max(lastHistoryId, history.id()));
+    }
+
+    static PointHistoryCheckpoint empty(long userId, LocalDate day) {
+        return new PointHistoryCheckpoint(userId, day, 0, 0, 0, 0);
+    }
+}
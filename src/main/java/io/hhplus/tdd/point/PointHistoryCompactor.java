@@ -0,0 +1,194 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.lock.UserLock;
+import io.hhplus.tdd.lock.UserLockProvider;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오래된 내역을 사용자별/일자별 체크포인트로 압축하는 백그라운드 작업
+ *
+ * 보존 기간(retention-days)보다 오래된 내역은 하루 단위 체크포인트(적립 합계, 차감 합계, 건수)로 합치고
+ * 원본 행은 삭제한다. 체크포인트는 삭제와 함께 내역 저장소에 기록되므로 재시작 후에도 원장 합계가 유지된다. 최근 조회(history)에 쓰이는 마지막 N건은 항상 원본으로 남긴다.
+ * 잔액 재구성은 체크포인트 누적 합계 + 남은 원본 내역 합계로 계산하므로 전체 내역을 다시 읽지 않는다.
+ */
+@Component
+public class PointHistoryCompactor implements PointChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryCompactor.class);
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final UserLockProvider userLockProvider;
+    private final boolean enabled;
+    private final int retentionDays;
+    private final long intervalMillis;
+    private final Clock clock;
+    // 압축할 내역이 남아 있을 수 있는 사용자
+    private final Set<Long> pendingUsers = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "point-history-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public PointHistoryCompactor(PointHistoryRepository pointHistoryRepository,
+                                 UserLockProvider userLockProvider,
+                                 @Value("${point.history.compaction.enabled:false}") boolean enabled,
+                                 @Value("${point.history.compaction.retention-days:30}") int retentionDays,
+                                 @Value("${point.history.compaction.interval-ms:60000}") long intervalMillis) {
+        this(pointHistoryRepository, userLockProvider, enabled, retentionDays, intervalMillis, Clock.systemDefaultZone());
+    }
+
+    PointHistoryCompactor(PointHistoryRepository pointHistoryRepository,
+                          UserLockProvider userLockProvider,
+                          boolean enabled,
+                          int retentionDays,
+                          long intervalMillis,
+                          Clock clock) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.userLockProvider = userLockProvider;
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.intervalMillis = intervalMillis;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    void start() {
+        if (enabled) {
+            scheduler.scheduleWithFixedDelay(this::compactPending, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public void onCommitted(PointChange change) {
+        if (change.history() != null) {
+            pendingUsers.add(change.history().userId());
+        }
+    }
+
+    void compactPending() {
+        for (Long userId : pendingUsers) {
+            try {
+                compact(userId);
+            } catch (RuntimeException e) {
+                log.warn("내역 압축 실패: 사용자 {}", userId, e);
+            }
+        }
+    }
+
+    /**
+     * 사용자의 오래된 내역을 체크포인트로 압축한다
+     *
+     * @return 압축 후 남은 원본 내역 수
+     */
+    int compact(long userId) {
+        LocalDate cutoff = LocalDate.now(clock).minusDays(retentionDays);
+        try (UserLock lock = userLockProvider.lock(userId)) {
+            List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(userId);
+            TreeMap<LocalDate, PointHistoryCheckpoint> days = new TreeMap<>();
+            pointHistoryRepository.selectCheckpointsByUserId(userId)
+                    .forEach(checkpoint -> days.put(checkpoint.day(), checkpoint));
+            // 이번 압축으로 바뀐 일자만 저장소에 기록한다
+            TreeMap<LocalDate, PointHistoryCheckpoint> changed = new TreeMap<>();
+
+            int compacted = 0;
+            int compactable = histories.size() - PointService.MAX_HISTORY_SIZE;
+            for (int i = 0; i < compactable; i++) {
+                PointHistory history = histories.get(i);
+                LocalDate day = dayOf(history);
+                if (!day.isBefore(cutoff)) {
+                    break;
+                }
+                changed.put(day, days.compute(day, (d, checkpoint) ->
+                        (checkpoint != null ? checkpoint : PointHistoryCheckpoint.empty(userId, d)).merge(history)));
+                compacted++;
+            }
+
+            if (compacted > 0) {
+                lock.ensureHeld();
+                // 일자별 체크포인트 저장과 원본 삭제는 저장소가 한 번의 쓰기로 반영한다
+                pointHistoryRepository.compact(userId, List.copyOf(changed.values()));
+            }
+
+            int remaining = histories.size() - compacted;
+            if (remaining <= PointService.MAX_HISTORY_SIZE) {
+                pendingUsers.remove(userId);
+            }
+            return remaining;
+        }
+    }
+
+    /**
+     * 체크포인트와 남은 원본 내역을 합친 원장을 조회한다
+     */
+    PointLedger ledger(long userId) {
+        // 원본 내역을 먼저 읽고 체크포인트를 나중에 읽어, 그 사이 압축이 일어나도 중복/누락 없이 합친다
+        List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(userId);
+        UserCheckpoints current = UserCheckpoints.of(pointHistoryRepository.selectCheckpointsByUserId(userId));
+        List<PointHistory> tail = histories.stream()
+                .filter(history -> history.id() > current.lastHistoryId())
+                .toList();
+        long balance = current.netAmount() + tail.stream().mapToLong(PointHistory::signedAmount).sum();
+        return new PointLedger(userId, current.days(), tail, balance);
+    }
+
+    /**
+     * @return 체크포인트로 합쳐진 마지막 내역 id (압축된 적이 없으면 0)
+     */
+    long compactedUpTo(long userId) {
+        return UserCheckpoints.of(pointHistoryRepository.selectCheckpointsByUserId(userId)).lastHistoryId();
+    }
+
+    /**
+     * @return 체크포인트 일자를 나누는 시간대
+     */
+    ZoneId zone() {
+        return clock.getZone();
+    }
+
+    private LocalDate dayOf(PointHistory history) {
+        return Instant.ofEpochMilli(history.updateMillis()).atZone(clock.getZone()).toLocalDate();
+    }
+
+    private record UserCheckpoints(
+            List<PointHistoryCheckpoint> days,
+            long netAmount,
+            long lastHistoryId
+    ) {
+
+        private static UserCheckpoints of(List<PointHistoryCheckpoint> days) {
+            long netAmount = 0;
+            long lastHistoryId = 0;
+            for (PointHistoryCheckpoint checkpoint : days) {
+                netAmount += checkpoint.netAmount();
+                lastHistoryId = Math.max(lastHistoryId, checkpoint.lastHistoryId());
+            }
+            return new UserCheckpoints(days, netAmount, lastHistoryId);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 트랜잭션 종류별로 나눈 내역 보조 인덱스
+ *
+ * 커밋된 내역을 변경 스트림으로 받아 두 가지 인덱스에 추가한다.
+ * - 시간 인덱스: (updateMillis, id) 순 정렬. 시간 범위 조회는 O(log n + 결과 수)
+ * - 금액 버킷 인덱스: bucket-ms 단위 시간 버킷마다 (amount, id) 순 정렬.
+ *   금액 조건이 있는 조회와 top-K 는 범위에 걸친 버킷만 보고, 버킷 안에서는 금액 범위만 읽는다.
+ *   버킷 경계에 걸친 양 끝 버킷만 시각으로 한 번 더 거른다.
+ *
+ * retention-hours 보다 오래된 항목은 주기적으로 제거하므로 원본 테이블(압축 포함)보다 짧은 기간만 보관한다.
+ * 기동 시 저장소에 남아 있는 보관 기간 안의 내역으로 인덱스를 채운다 (압축된 내역은 채우지 않음).
+ */
+@Component
+public class PointHistoryIndex implements PointChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryIndex.class);
+
+    private static final Comparator<PointHistory> BY_TIME = Comparator.comparingLong(PointHistory::updateMillis)
+            .thenComparingLong(PointHistory::id);
+    private static final Comparator<PointHistory> BY_AMOUNT = Comparator.comparingLong(PointHistory::amount)
+            .thenComparingLong(PointHistory::id);
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final long bucketMillis;
+    private final long retentionMillis;
+    private final Clock clock;
+    private final Map<TransactionType, Partition> partitions = new EnumMap<>(TransactionType.class);
+    private final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "point-history-index-evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public PointHistoryIndex(PointHistoryRepository pointHistoryRepository,
+                             @Value("${point.history.index.bucket-ms:60000}") long bucketMillis,
+                             @Value("${point.history.index.retention-hours:24}") long retentionHours) {
+        this(pointHistoryRepository, bucketMillis, Duration.ofHours(retentionHours), Clock.systemDefaultZone());
+    }
+
+    PointHistoryIndex(PointHistoryRepository pointHistoryRepository, long bucketMillis, Duration retention, Clock clock) {
+        if (bucketMillis <= 0) {
+            throw new IllegalArgumentException("버킷 크기는 0보다 커야 합니다: " + bucketMillis);
+        }
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.bucketMillis = bucketMillis;
+        this.retentionMillis = retention.toMillis();
+        this.clock = clock;
+        for (TransactionType type : TransactionType.values()) {
+            partitions.put(type, new Partition());
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        backfill();
+        evictor.scheduleWithFixedDelay(this::evictExpired, bucketMillis, bucketMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        evictor.shutdownNow();
+    }
+
+    /**
+     * 저장소에 남아 있는 보관 기간 안의 내역을 인덱스에 추가한다
+     *
+     * 채우는 도중 커밋된 내역이 변경 스트림으로 함께 들어와도 (시각, id) 가 같으면 한 번만 저장된다.
+     *
+     * @return 추가한 내역 수
+     */
+    int backfill() {
+        long start = System.nanoTime();
+        long cutoff = clock.millis() - retentionMillis;
+        int added = 0;
+        for (long userId : pointHistoryRepository.userIds()) {
+            for (PointHistory history : pointHistoryRepository.selectAllByUserId(userId)) {
+                if (history.updateMillis() >= cutoff) {
+                    partitions.get(history.type()).add(history);
+                    added++;
+                }
+            }
+        }
+        log.info("내역 인덱스 채우기 완료: 내역 {}건, {}ms", added,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return added;
+    }
+
+    @Override
+    public void onCommitted(PointChange change) {
+        PointHistory history = change.history();
+        if (history != null) {
+            partitions.get(history.type()).add(history);
+        }
+    }
+
+    /**
+     * 조건에 맞는 내역을 시간 순으로 조회한다
+     */
+    List<PointHistory> search(PointHistoryQuery query) {
+        List<PointHistory> merged = new ArrayList<>();
+        for (TransactionType type : query.types()) {
+            merged.addAll(partitions.get(type).search(query));
+        }
+        merged.sort(BY_TIME);
+        return merged.size() <= query.limit() ? merged : List.copyOf(merged.subList(0, query.limit()));
+    }
+
+    /**
+     * 조건에 맞는 내역 중 금액이 큰 순서로 limit 건을 조회한다
+     *
+     * 범위에 걸친 모든 (종류, 버킷) 의 금액 내림차순 반복자를 우선순위 큐로 병합하므로
+     * 비용은 O(버킷 수 + K log 버킷 수) 이다.
+     */
+    List<PointHistory> top(PointHistoryQuery query) {
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>(
+                Comparator.comparing((Cursor cursor) -> cursor.current, BY_AMOUNT).reversed());
+        for (TransactionType type : query.types()) {
+            for (NavigableSet<PointHistory> bucket : partitions.get(type).bucketsIn(query)) {
+                Cursor cursor = new Cursor(amountRange(bucket, query).descendingIterator(), query);
+                if (cursor.advance()) {
+                    cursors.add(cursor);
+                }
+            }
+        }
+
+        List<PointHistory> top = new ArrayList<>(Math.min(query.limit(), 1_024));
+        while (top.size() < query.limit() && !cursors.isEmpty()) {
+            Cursor cursor = cursors.poll();
+            top.add(cursor.current);
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+        return top;
+    }
+
+    /**
+     * 보관 기간이 지난 항목을 제거한다
+     */
+    void evictExpired() {
+        long cutoff = clock.millis() - retentionMillis;
+        for (Partition partition : partitions.values()) {
+            partition.evictBefore(cutoff);
+        }
+    }
+
+    private long bucketOf(long updateMillis) {
+        return Math.floorDiv(updateMillis, bucketMillis);
+    }
+
+    private static NavigableSet<PointHistory> amountRange(NavigableSet<PointHistory> bucket, PointHistoryQuery query) {
+        return bucket.subSet(probe(query.minAmount(), Long.MIN_VALUE, 0L), true,
+                probe(query.maxAmount(), Long.MAX_VALUE, 0L), true);
+    }
+
+    private static PointHistory probe(long amount, long id, long updateMillis) {
+        return new PointHistory(id, 0L, amount, TransactionType.CHARGE, updateMillis);
+    }
+
+    private final class Partition {
+
+        private final ConcurrentSkipListSet<PointHistory> byTime = new ConcurrentSkipListSet<>(BY_TIME);
+        private final ConcurrentSkipListMap<Long, ConcurrentSkipListSet<PointHistory>> buckets =
+                new ConcurrentSkipListMap<>();
+
+        private void add(PointHistory history) {
+            byTime.add(history);
+            buckets.computeIfAbsent(bucketOf(history.updateMillis()), bucket -> new ConcurrentSkipListSet<>(BY_AMOUNT))
+                    .add(history);
+        }
+
+        private List<PointHistory> search(PointHistoryQuery query) {
+            List<PointHistory> results = new ArrayList<>();
+            if (!query.hasAmountFilter()) {
+                for (PointHistory history : timeRange(query)) {
+                    if (results.size() >= query.limit()) {
+                        break;
+                    }
+                    results.add(history);
+                }
+                return results;
+            }
+            // 버킷은 시간 순이므로 앞 버킷부터 채우고, 버킷 안에서만 시간 순으로 정렬한다
+            for (NavigableSet<PointHistory> bucket : bucketsIn(query)) {
+                List<PointHistory> matched = new ArrayList<>();
+                for (PointHistory history : amountRange(bucket, query)) {
+                    if (inWindow(history, query)) {
+                        matched.add(history);
+                    }
+                }
+                matched.sort(BY_TIME);
+                for (PointHistory history : matched) {
+                    if (results.size() >= query.limit()) {
+                        return results;
+                    }
+                    results.add(history);
+                }
+            }
+            return results;
+        }
+
+        private NavigableSet<PointHistory> timeRange(PointHistoryQuery query) {
+            return byTime.subSet(probe(0L, Long.MIN_VALUE, query.fromMillis()), true,
+                    probe(0L, Long.MIN_VALUE, query.toMillis()), false);
+        }
+
+        private Iterable<ConcurrentSkipListSet<PointHistory>> bucketsIn(PointHistoryQuery query) {
+            return buckets.subMap(bucketOf(query.fromMillis()), true, bucketOf(query.toMillis()), true).values();
+        }
+
+        private void evictBefore(long cutoffMillis) {
+            byTime.headSet(probe(0L, Long.MIN_VALUE, cutoffMillis)).clear();
+            // 경계 버킷은 모두 지난 뒤 다음 주기에 제거한다
+            buckets.headMap(bucketOf(cutoffMillis)).clear();
+        }
+    }
+
+    private static boolean inWindow(PointHistory history, PointHistoryQuery query) {
+        return history.updateMillis() >= query.fromMillis() && history.updateMillis() < query.toMillis();
+    }
+
+    /**
+     * 한 버킷의 금액 내림차순 반복자 (시간 범위 밖 항목은 건너뜀)
+     */
+    private static final class Cursor {
+
+        private final Iterator<PointHistory> iterator;
+        private final PointHistoryQuery query;
+        private PointHistory current;
+
+        private Cursor(Iterator<PointHistory> iterator, PointHistoryQuery query) {
+            this.iterator = iterator;
+            this.query = query;
+        }
+
+        private boolean advance() {
+            while (iterator.hasNext()) {
+                PointHistory next = iterator.next();
+                if (inWindow(next, query)) {
+                    current = next;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.hhplus.tdd.point;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 내역 검색 조건
+ *
+ * @param fromMillis 시작 시각 (포함)
+ * @param toMillis 종료 시각 (제외)
+ * @param types 조회할 트랜잭션 종류 (비어 있으면 전체)
+ * @param minAmount 최소 금액 (포함)
+ * @param maxAmount 최대 금액 (포함)
+ * @param limit 최대 건수
+ */
+public record PointHistoryQuery(
+        long fromMillis,
+        long toMillis,
+        Set<TransactionType> types,
+        long minAmount,
+        long maxAmount,
+        int limit
+) {
+
+    public PointHistoryQuery {
+        if (fromMillis > toMillis) {
+            throw new InvalidHistoryQueryException("시작 시각이 종료 시각보다 늦습니다: " + fromMillis + " > " + toMillis);
+        }
+        if (limit <= 0) {
+            throw new InvalidHistoryQueryException("조회 건수는 0보다 커야 합니다: " + limit);
+        }
+        types = types == null || types.isEmpty() ? EnumSet.allOf(TransactionType.class) : EnumSet.copyOf(types);
+    }
+
+    boolean hasAmountFilter() {
+        return minAmount > 0 || maxAmount < Long.MAX_VALUE;
+    }
+}
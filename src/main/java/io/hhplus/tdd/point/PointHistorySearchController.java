@@ -0,0 +1,68 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * 운영용 내역 검색 (보조 인덱스 사용)
+ *
+ * 예) 최근 1시간 USE 중 50,000 이상: GET /histories/search?type=USE&minAmount=50000
+ */
+@RestController
+@RequestMapping("/histories")
+public class PointHistorySearchController {
+
+    private static final int MAX_LIMIT = 10_000;
+    private static final long DEFAULT_WINDOW_MILLIS = Duration.ofHours(1).toMillis();
+
+    private final PointHistoryIndex pointHistoryIndex;
+
+    public PointHistorySearchController(PointHistoryIndex pointHistoryIndex) {
+        this.pointHistoryIndex = pointHistoryIndex;
+    }
+
+    /**
+     * 시간 범위(기본 최근 1시간), 종류, 금액 범위 조건의 내역을 시간 순으로 조회한다
+     */
+    @GetMapping("/search")
+    public List<PointHistory> search(
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) List<TransactionType> type,
+            @RequestParam(defaultValue = "0") long minAmount,
+            @RequestParam(defaultValue = "" + Long.MAX_VALUE) long maxAmount,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return pointHistoryIndex.search(query(from, to, type, minAmount, maxAmount, limit));
+    }
+
+    /**
+     * 같은 조건에서 금액이 큰 순서로 k 건을 조회한다
+     */
+    @GetMapping("/top")
+    public List<PointHistory> top(
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) List<TransactionType> type,
+            @RequestParam(defaultValue = "0") long minAmount,
+            @RequestParam(defaultValue = "" + Long.MAX_VALUE) long maxAmount,
+            @RequestParam(defaultValue = "10") int k
+    ) {
+        return pointHistoryIndex.top(query(from, to, type, minAmount, maxAmount, k));
+    }
+
+    private static PointHistoryQuery query(Long from, Long to, List<TransactionType> types,
+                                           long minAmount, long maxAmount, int limit) {
+        long toMillis = to != null ? to : System.currentTimeMillis();
+        long fromMillis = from != null ? from : toMillis - DEFAULT_WINDOW_MILLIS;
+        return new PointHistoryQuery(fromMillis, toMillis,
+                types == null ? EnumSet.noneOf(TransactionType.class) : EnumSet.copyOf(types),
+                minAmount, maxAmount, Math.min(limit, MAX_LIMIT));
+    }
+}
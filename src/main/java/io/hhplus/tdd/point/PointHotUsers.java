@@ -0,0 +1,129 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 조회가 잦은 사용자 목록
+ *
+ * 잔액/내역 조회의 사용자별 조회 수를 Space-Saving 스케치에 기록하고, 종료 시 조회 수가 많은 순서로
+ * max-users 명의 ID 를 파일에 남긴다. 다음 시작 시 PointWarmup 이 이 목록을 읽어 미리 조회해 둔다.
+ *
+ * 조회 경로에서 스케치의 락과 최솟값 탐색을 매번 거치지 않도록 sample-interval 건 중 한 건만 골라
+ * sample-interval 만큼 더한다. 기댓값은 같고, 상위 사용자는 조회가 많으므로 순위는 거의 바뀌지 않는다.
+ */
+@Component
+public class PointHotUsers {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHotUsers.class);
+
+    private static final int STRIPES = 8;
+
+    private final boolean enabled;
+    private final Path file;
+    private final int maxUsers;
+    private final int sampleInterval;
+    private final HeavyHitters accesses;
+
+    @Autowired
+    public PointHotUsers(@Value("${point.warmup.enabled:false}") boolean enabled,
+                         @Value("${point.warmup.hot-users-file:data/hot-users.txt}") String file,
+                         @Value("${point.warmup.max-users:1000}") int maxUsers,
+                         @Value("${point.warmup.sample-interval:16}") int sampleInterval) {
+        this(enabled, Path.of(file), maxUsers, sampleInterval);
+    }
+
+    PointHotUsers(boolean enabled, Path file, int maxUsers, int sampleInterval) {
+        if (sampleInterval <= 0) {
+            throw new IllegalArgumentException("조회 기록 간격은 0보다 커야 합니다. 입력값: " + sampleInterval);
+        }
+        this.enabled = enabled;
+        this.file = file;
+        this.maxUsers = maxUsers;
+        this.sampleInterval = sampleInterval;
+        // 여유를 두어 추적해야 경계 근처 사용자가 밀려나도 상위 max-users 명은 남는다
+        this.accesses = new HeavyHitters(STRIPES, Math.max(16, maxUsers * 2 / STRIPES));
+    }
+
+    static PointHotUsers disabled() {
+        return new PointHotUsers(false, (Path) null, 0, 1);
+    }
+
+    void recordAccess(long userId) {
+        if (enabled && (sampleInterval == 1 || ThreadLocalRandom.current().nextInt(sampleInterval) == 0)) {
+            accesses.add(userId, sampleInterval);
+        }
+    }
+
+    /**
+     * @return 조회 수가 많은 순서의 사용자 ID (최대 max-users 명)
+     */
+    List<Long> hottest() {
+        Map<Long, long[]> totals = new HashMap<>();
+        accesses.collect(totals);
+        return HeavyHitters.top(totals, maxUsers).stream()
+                .map(PointStats.Spender::userId)
+                .toList();
+    }
+
+    /**
+     * 현재 목록을 파일에 저장한다. 저장 도중 종료되어도 이전 목록이 깨지지 않도록 임시 파일을 옮긴다.
+     */
+    @PreDestroy
+    void persist() {
+        if (!enabled) {
+            return;
+        }
+        List<Long> userIds = hottest();
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "hot-users", ".tmp");
+            Files.write(temp, userIds.stream().map(String::valueOf).toList());
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("조회 빈도 상위 사용자 {}명 저장: {}", userIds.size(), file);
+        } catch (IOException e) {
+            log.warn("조회 빈도 상위 사용자 저장 실패: {}", file, e);
+        }
+    }
+
+    /**
+     * 이전 실행에서 저장한 목록을 읽는다 (파일이 없거나 읽을 수 없으면 빈 목록)
+     */
+    List<Long> load() {
+        if (!enabled || !Files.isReadable(file)) {
+            return List.of();
+        }
+        try {
+            List<Long> userIds = new ArrayList<>();
+            for (String line : Files.readAllLines(file)) {
+                try {
+                    userIds.add(Long.parseLong(line.trim()));
+                } catch (NumberFormatException ignored) {
+
+                }
+                if (userIds.size() >= maxUsers) {
+                    break;
+                }
+            }
+            return userIds;
+        } catch (IOException e) {
+            log.warn("조회 빈도 상위 사용자 목록을 읽지 못했습니다: {}", file, e);
+            return List.of();
+        }
+    }
+}
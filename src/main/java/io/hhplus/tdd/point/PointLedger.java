@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 체크포인트와 압축되지 않은 최근 내역을 합친 사용자 원장
+ *
+ * @param checkpoints 일자별 체크포인트 (오래된 순)
+ * @param histories 마지막 체크포인트 이후의 원본 내역 (id 순)
+ * @param balance 체크포인트 합계와 원본 내역으로 재구성한 잔액
+ */
+public record PointLedger(
+        long userId,
+        List<PointHistoryCheckpoint> checkpoints,
+        List<PointHistory> histories,
+        long balance
+) {
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/point")
+public class PointLedgerController {
+
+    private final PointHistoryCompactor pointHistoryCompactor;
+
+    public PointLedgerController(PointHistoryCompactor pointHistoryCompactor) {
+        this.pointHistoryCompactor = pointHistoryCompactor;
+    }
+
+    /**
+     * 일자별 체크포인트와 최근 원본 내역, 재구성한 잔액을 조회한다
+     */
+    @GetMapping("{id}/ledger")
+    public PointLedger ledger(
+            @PathVariable long id
+    ) {
+        return pointHistoryCompactor.ledger(id);
+    }
+}
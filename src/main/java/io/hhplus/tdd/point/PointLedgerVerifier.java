@@ -0,0 +1,243 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모든 사용자의 잔액(UserPoint.point)이 내역의 부호 합계와 같은지 병렬로 검증한다
+ *
+ * 내역 저장소에 내역이 있는 사용자 ID 범위를 fork-join 으로 나누어 검사하며, 사용자 락을 잡지 않아 쓰기 경로를 막지 않는다.
+ * 잔액 갱신과 내역 기록 사이에 읽으면 일시적으로 어긋나 보이므로, 불일치는 쓰기가 끝날 시간을 둔 뒤
+ * 잔액이 그대로인 상태에서 다시 어긋날 때만 보고한다.
+ */
+@Component
+public class PointLedgerVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(PointLedgerVerifier.class);
+
+    private static final int SPLIT_THRESHOLD = 64;
+    private static final int MAX_REPORTED_MISMATCHES = 100;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryCompactor pointHistoryCompactor;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointEventProjection eventProjection;
+    private final int parallelism;
+    private final long confirmDelayMillis;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong totalUsers = new AtomicLong();
+    private final AtomicLong scannedUsers = new AtomicLong();
+    private final AtomicLong mismatchedUsers = new AtomicLong();
+    private final Counter scannedCounter;
+    private final Counter mismatchCounter;
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "point-ledger-verifier");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile LedgerVerificationReport lastReport;
+
+    /**
+     * @param eventProjection 활성화되어 있으면 테이블 대신 프로젝션의 잔액을 검증한다 (이벤트 소싱 모드)
+     */
+    public PointLedgerVerifier(UserPointRepository userPointRepository,
+                               PointHistoryCompactor pointHistoryCompactor,
+                               PointHistoryRepository pointHistoryRepository,
+                               PointEventProjection eventProjection,
+                               MeterRegistry meterRegistry,
+                               @Value("${point.ledger.verify.parallelism:64}") int parallelism,
+                               @Value("${point.ledger.verify.confirm-delay-ms:1000}") long confirmDelayMillis) {
+        this.userPointRepository = userPointRepository;
+        this.eventProjection = eventProjection;
+        this.pointHistoryCompactor = pointHistoryCompactor;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.parallelism = parallelism;
+        this.confirmDelayMillis = confirmDelayMillis;
+
+        Gauge.builder("point.ledger.verify.progress", this, PointLedgerVerifier::progress)
+                .description("진행 중인 원장 검증의 진행률 (0~1)")
+                .register(meterRegistry);
+        Gauge.builder("point.ledger.verify.running", running, flag -> flag.get() ? 1 : 0)
+                .register(meterRegistry);
+        this.scannedCounter = Counter.builder("point.ledger.verify.scanned")
+                .description("검증한 사용자 수")
+                .register(meterRegistry);
+        this.mismatchCounter = Counter.builder("point.ledger.verify.mismatches")
+                .description("잔액과 내역 합계가 일치하지 않는 사용자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 백그라운드에서 검증을 시작한다
+     *
+     * @return 이미 실행 중이면 false
+     */
+    boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        runner.execute(() -> {
+            try {
+                runVerification();
+            } catch (RuntimeException e) {
+                log.error("원장 검증 실패", e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 현재 스레드에서 검증을 실행하고 결과를 반환한다
+     */
+    LedgerVerificationReport verify() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("원장 검증이 이미 실행 중입니다.");
+        }
+        try {
+            return runVerification();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    LedgerVerificationStatus status() {
+        return new LedgerVerificationStatus(running.get(), totalUsers.get(), scannedUsers.get(),
+                mismatchedUsers.get(), lastReport);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+    }
+
+    private LedgerVerificationReport runVerification() {
+        long start = System.nanoTime();
+        // 잔액은 항상 내역과 함께 기록되므로 내역이 있는 사용자가 곧 전체 사용자다 (재시작 후 포함)
+        long[] userIds = pointHistoryRepository.userIds().stream().mapToLong(Long::longValue).sorted().toArray();
+        totalUsers.set(userIds.length);
+        scannedUsers.set(0);
+        mismatchedUsers.set(0);
+
+        Queue<LedgerMismatch> mismatches = new ConcurrentLinkedQueue<>();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new VerifyRange(userIds, 0, userIds.length, mismatches));
+        } finally {
+            pool.shutdown();
+        }
+
+        List<LedgerMismatch> reported = new ArrayList<>(mismatches);
+        LedgerVerificationReport report = new LedgerVerificationReport(
+                scannedUsers.get(),
+                mismatchedUsers.get(),
+                List.copyOf(reported.subList(0, Math.min(reported.size(), MAX_REPORTED_MISMATCHES))),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        lastReport = report;
+        log.info("원장 검증 완료: 사용자 {}명, 불일치 {}명, {}ms",
+                report.scannedUsers(), report.mismatchedUsers(), report.elapsedMillis());
+        return report;
+    }
+
+    private Optional<LedgerMismatch> verifyUser(long userId) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            UserPoint before = balance(userId);
+            PointLedger ledger = pointHistoryCompactor.ledger(userId);
+            if (before.point() == ledger.balance()) {
+                return Optional.empty();
+            }
+            // 잔액 갱신 직후 내역 기록 전일 수 있으므로 쓰기가 끝날 시간을 둔 뒤 다시 확인
+            sleep(confirmDelayMillis);
+            UserPoint after = balance(userId);
+            PointLedger confirmed = pointHistoryCompactor.ledger(userId);
+            if (after.point() == confirmed.balance()) {
+                return Optional.empty();
+            }
+            if (after.updateMillis() == before.updateMillis()) {
+                return Optional.of(new LedgerMismatch(userId, after.point(), confirmed.balance(), confirmed.histories()));
+            }
+        }
+        // 계속 쓰기가 진행 중인 사용자는 다음 검증에서 다시 확인한다
+        return Optional.empty();
+    }
+
+    private UserPoint balance(long userId) {
+        return eventProjection.isEnabled() ? eventProjection.balance(userId) : userPointRepository.selectById(userId);
+    }
+
+    private double progress() {
+        long total = totalUsers.get();
+        return total == 0 ? 0 : (double) scannedUsers.get() / total;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 정렬된 사용자 ID 배열의 [from, to) 구간을 검증하는 fork-join 작업
+     */
+    private final class VerifyRange extends RecursiveAction {
+
+        private final long[] userIds;
+        private final int from;
+        private final int to;
+        private final Queue<LedgerMismatch> mismatches;
+
+        private VerifyRange(long[] userIds, int from, int to, Queue<LedgerMismatch> mismatches) {
+            this.userIds = userIds;
+            this.from = from;
+            this.to = to;
+            this.mismatches = mismatches;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    verifyUser(userIds[i]).ifPresent(mismatch -> {
+                        mismatchedUsers.incrementAndGet();
+                        mismatchCounter.increment();
+                        if (mismatches.size() < MAX_REPORTED_MISMATCHES) {
+                            mismatches.add(mismatch);
+                        }
+                    });
+                    scannedUsers.incrementAndGet();
+                    scannedCounter.increment();
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new VerifyRange(userIds, from, mid, mismatches),
+                    new VerifyRange(userIds, mid, to, mismatches));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 충전(또는 전송 받음) 한 건으로 생긴 포인트 묶음
+ *
+ * @param amount 최초 금액
+ * @param remaining 사용/만료되지 않고 남은 금액
+ * @param expiresAtMillis 만료 시각
+ */
+public record PointLot(
+        long userId,
+        long historyId,
+        long amount,
+        long remaining,
+        long expiresAtMillis
+) {
+}
@@ -0,0 +1,254 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.lock.UserLock;
+import io.hhplus.tdd.lock.UserLockProvider;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 포인트 묶음(lot) 장부
+ *
+ * 잔액은 그대로 UserPointTable 에 두고, 변경 스트림으로 잔액의 구성(언제 충전되어 언제 만료되는지)을 추적한다.
+ * 적립(CHARGE, TRANSFER_IN)은 새 묶음을 만들고 만료 시각을 타이밍 휠에 등록하며,
+ * 차감(USE, TRANSFER_OUT, EXPIRE)은 가장 오래된 묶음부터 소진한다.
+ * 유효기간이 모두 같으므로 먼저 만들어진 묶음이 항상 먼저 만료된다.
+ *
+ * 장부 변경은 사용자 락 안에서 호출되는 onCommitted 와 reload 에서만 일어난다.
+ *
+ * 장부는 메모리에만 있으므로 기동 시 저장소의 체크포인트와 내역으로 다시 만든다.
+ * 압축된 일자는 적립 합계 하나를 그날 마지막 순간에 적립한 묶음으로 보므로 실제보다 늦게 만료될 수는 있어도 일찍 만료되지는 않는다.
+ */
+@Component
+public class PointLotBook implements PointChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PointLotBook.class);
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointHistoryCompactor pointHistoryCompactor;
+    private final UserLockProvider userLockProvider;
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final ConcurrentHashMap<Long, ArrayDeque<MutableLot>> lots = new ConcurrentHashMap<>();
+    private final TimingWheel<Long> expirations;
+
+    @Autowired
+    public PointLotBook(PointHistoryRepository pointHistoryRepository,
+                        PointHistoryCompactor pointHistoryCompactor,
+                        UserLockProvider userLockProvider,
+                        @Value("${point.expiration.enabled:false}") boolean enabled,
+                        @Value("${point.expiration.ttl-days:365}") int ttlDays,
+                        @Value("${point.expiration.tick-ms:1000}") long tickMillis) {
+        this(pointHistoryRepository, pointHistoryCompactor, userLockProvider, enabled, Duration.ofDays(ttlDays), tickMillis);
+    }
+
+    PointLotBook(PointHistoryRepository pointHistoryRepository,
+                 PointHistoryCompactor pointHistoryCompactor,
+                 UserLockProvider userLockProvider,
+                 boolean enabled,
+                 Duration ttl,
+                 long tickMillis) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.pointHistoryCompactor = pointHistoryCompactor;
+        this.userLockProvider = userLockProvider;
+        this.enabled = enabled;
+        this.ttlMillis = ttl.toMillis();
+        this.expirations = new TimingWheel<>(tickMillis, System.currentTimeMillis());
+    }
+
+    /**
+     * 비활성화 상태에서는 어떤 메서드도 협력 객체를 사용하지 않는다
+     */
+    static PointLotBook disabled() {
+        return new PointLotBook(null, null, null, false, Duration.ZERO, 1L);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        rebuild();
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 저장소의 체크포인트와 내역으로 모든 사용자의 장부를 다시 만든다
+     *
+     * @return 재구성한 사용자 수
+     */
+    int rebuild() {
+        long start = System.nanoTime();
+        Set<Long> userIds = pointHistoryRepository.userIds();
+        for (long userId : userIds) {
+            try (UserLock lock = userLockProvider.lock(userId)) {
+                reload(userId);
+            }
+        }
+        log.info("포인트 묶음 장부 재구성 완료: 사용자 {}명, {}ms", userIds.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return userIds.size();
+    }
+
+    /**
+     * 저장소의 체크포인트와 내역으로 사용자 장부를 다시 만든다 (사용자 락 보유 중 호출, 인계받은 사용자 등)
+     *
+     * 일자 안의 적립/차감 순서는 체크포인트에 남지 않지만, 차감은 항상 가장 오래된 묶음부터 소진하므로
+     * 그날 적립을 먼저 반영하고 차감을 반영해도 일자 단위의 남은 금액은 같다.
+     */
+    void reload(long userId) {
+        PointLedger ledger = pointHistoryCompactor.ledger(userId);
+        ZoneId zone = pointHistoryCompactor.zone();
+        ArrayDeque<MutableLot> userLots = new ArrayDeque<>();
+        for (PointHistoryCheckpoint checkpoint : ledger.checkpoints()) {
+            long endOfDayMillis = checkpoint.day().plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+            add(userLots, checkpoint.lastHistoryId(), checkpoint.chargeAmount(), endOfDayMillis + ttlMillis);
+            consume(userLots, checkpoint.useAmount());
+        }
+        for (PointHistory history : ledger.histories()) {
+            switch (history.type()) {
+                case CHARGE, TRANSFER_IN ->
+                        add(userLots, history.id(), history.amount(), history.updateMillis() + ttlMillis);
+                case USE, TRANSFER_OUT, EXPIRE -> consume(userLots, history.amount());
+            }
+        }
+        if (userLots.isEmpty()) {
+            lots.remove(userId);
+            return;
+        }
+        lots.put(userId, userLots);
+        for (MutableLot lot : userLots) {
+            // 이전에 등록된 만료 항목이 남아 있어도 만료 시 남은 금액을 다시 계산하므로 중복 소멸은 없다
+            expirations.schedule(userId, lot.expiresAtMillis);
+        }
+    }
+
+    @Override
+    public void onCommitted(PointChange change) {
+        PointHistory history = change.history();
+        if (!enabled || history == null) {
+            return;
+        }
+        long userId = history.userId();
+        switch (history.type()) {
+            case CHARGE, TRANSFER_IN -> {
+                long expiresAtMillis = history.updateMillis() + ttlMillis;
+                ArrayDeque<MutableLot> userLots = lots.computeIfAbsent(userId, id -> new ArrayDeque<>());
+                synchronized (userLots) {
+                    userLots.addLast(new MutableLot(history.id(), history.amount(), expiresAtMillis));
+                }
+                expirations.schedule(userId, expiresAtMillis);
+            }
+            case USE, TRANSFER_OUT, EXPIRE -> consume(userId, history.amount());
+        }
+    }
+
+    /**
+     * 사용자의 묶음 중 nowMillis 기준으로 만료되었지만 아직 남아 있는 금액의 합계 (사용자 락 안에서 호출)
+     */
+    long expiredAmount(long userId, long nowMillis) {
+        ArrayDeque<MutableLot> userLots = lots.get(userId);
+        if (userLots == null) {
+            return 0;
+        }
+        long amount = 0;
+        synchronized (userLots) {
+            for (MutableLot lot : userLots) {
+                if (lot.expiresAtMillis > nowMillis) {
+                    break;
+                }
+                amount += lot.remaining;
+            }
+        }
+        return amount;
+    }
+
+    /**
+     * nowMillis 까지 만료 시각이 지난 묶음을 가진 사용자 ID 를 반환한다
+     */
+    Set<Long> pollExpiredUsers(long nowMillis) {
+        return new LinkedHashSet<>(expirations.advance(nowMillis));
+    }
+
+    /**
+     * @return 남은 금액이 있는 묶음 (오래된 순)
+     */
+    List<PointLot> lots(long userId) {
+        ArrayDeque<MutableLot> userLots = lots.get(userId);
+        if (userLots == null) {
+            return List.of();
+        }
+        synchronized (userLots) {
+            return userLots.stream()
+                    .map(lot -> new PointLot(userId, lot.historyId, lot.amount, lot.remaining, lot.expiresAtMillis))
+                    .toList();
+        }
+    }
+
+    int scheduledCount() {
+        return expirations.size();
+    }
+
+    private void consume(long userId, long amount) {
+        ArrayDeque<MutableLot> userLots = lots.get(userId);
+        if (userLots == null) {
+            return;
+        }
+        synchronized (userLots) {
+            consume(userLots, amount);
+            if (userLots.isEmpty()) {
+                // 적립도 같은 사용자 락 안에서만 일어나므로 빈 장부를 제거해도 경합하지 않는다
+                lots.remove(userId, userLots);
+            }
+        }
+    }
+
+    private static void add(ArrayDeque<MutableLot> userLots, long historyId, long amount, long expiresAtMillis) {
+        if (amount > 0) {
+            userLots.addLast(new MutableLot(historyId, amount, expiresAtMillis));
+        }
+    }
+
+    private static void consume(ArrayDeque<MutableLot> userLots, long amount) {
+        long left = amount;
+        while (left > 0 && !userLots.isEmpty()) {
+            MutableLot oldest = userLots.peekFirst();
+            long taken = Math.min(oldest.remaining, left);
+            oldest.remaining -= taken;
+            left -= taken;
+            if (oldest.remaining == 0) {
+                userLots.pollFirst();
+            }
+        }
+    }
+
+    private static final class MutableLot {
+        private final long historyId;
+        private final long amount;
+        private final long expiresAtMillis;
+        private long remaining;
+
+        private MutableLot(long historyId, long amount, long expiresAtMillis) {
+            this.historyId = historyId;
+            this.amount = amount;
+            this.expiresAtMillis = expiresAtMillis;
+            this.remaining = amount;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 충전/사용 요청의 예상 결과 (실제로 반영하지 않음)
+ *
+ * 락 없이 캐시된 잔액으로 계산하므로, 응답 이후의 다른 변경에 따라 실제 요청의 결과는 달라질 수 있다.
+ *
+ * @param allowed 지금 요청하면 성공할지 여부
+ * @param currentPoint 계산에 사용한 잔액
+ * @param expectedPoint 성공 시 예상 잔액 (거절이면 currentPoint)
+ * @param reason 거절 사유 (허용이면 null)
+ * @param snapshotMillis 계산에 사용한 잔액의 마지막 변경 시각
+ */
+public record PointQuote(
+        long userId,
+        TransactionType type,
+        long amount,
+        boolean allowed,
+        long currentPoint,
+        long expectedPoint,
+        String reason,
+        long snapshotMillis
+) {
+
+    static PointQuote allowed(TransactionType type, long amount, UserPoint snapshot, UserPoint expected) {
+        return new PointQuote(snapshot.id(), type, amount, true, snapshot.point(), expected.point(), null,
+                snapshot.updateMillis());
+    }
+
+    static PointQuote rejected(TransactionType type, long amount, UserPoint snapshot, String reason) {
+        return new PointQuote(snapshot.id(), type, amount, false, snapshot.point(), snapshot.point(), reason,
+                snapshot.updateMillis());
+    }
+}
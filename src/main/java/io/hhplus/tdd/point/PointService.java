@@ -1,35 +1,81 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.cluster.UserOwnership;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.hhplus.tdd.deadline.Deadline;
+import io.hhplus.tdd.lock.LocalUserLockProvider;
+import io.hhplus.tdd.lock.LockTimeoutException;
+import io.hhplus.tdd.lock.UserLock;
+import io.hhplus.tdd.lock.UserLockProvider;
+import io.hhplus.tdd.shard.ShardWorkers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 
 @Service
 public class PointService {
 
-    private static final int MAX_HISTORY_SIZE = 5;
+    private static final Logger log = LoggerFactory.getLogger(PointService.class);
 
-    private final UserPointTable userPointRepository;
-    private final PointHistoryTable pointHistoryRepository;
-    private final ConcurrentHashMap<Long, Lock> userLocks = new ConcurrentHashMap<>();
+    static final int MAX_HISTORY_SIZE = 5;
 
-    public PointService(UserPointTable userPointRepository, PointHistoryTable pointHistoryRepository) {
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final UserLockProvider userLockProvider;
+    private final List<PointChangeListener> changeListeners;
+    private final PointFollowerView followerView;
+    private final HedgedPointReader hedgedReader;
+    private final PointEventProjection eventProjection;
+    private final PointHotUsers hotUsers;
+    private final UserOwnership ownership;
+    private final ShardWorkers shardWorkers;
+
+    /**
+     * @param changeListeners 커밋된 변경을 전달받을 변경 스트림 구독자 (followerView 포함)
+     * @param followerView 조회를 처리할 팔로워 뷰
+     * @param hedgedReader 팔로워가 응답하지 못할 때 잔액을 조회할 헤지 조회기
+     * @param eventProjection 활성화되어 있으면 잔액을 UserPointRepository 대신 내역 프로젝션으로 관리 (이벤트 소싱 모드)
+     * @param hotUsers 다음 시작 시 예열할 사용자를 고르기 위한 조회 빈도 기록
+     * @param ownership 클러스터 모드에서 이 노드가 쓸 수 있는 사용자인지 판단
+     * @param shardWorkers 충전/사용/전송을 사용자 샤드의 작업 스레드에서 실행
+     */
+    public PointService(UserPointRepository userPointRepository,
+                        PointHistoryRepository pointHistoryRepository,
+                        UserLockProvider userLockProvider,
+                        List<PointChangeListener> changeListeners,
+                        PointFollowerView followerView,
+                        HedgedPointReader hedgedReader,
+                        PointEventProjection eventProjection,
+                        PointHotUsers hotUsers,
+                        UserOwnership ownership,
+                        ShardWorkers shardWorkers) {
         this.userPointRepository = userPointRepository;
         this.pointHistoryRepository = pointHistoryRepository;
+        this.userLockProvider = userLockProvider;
+        this.changeListeners = List.copyOf(changeListeners);
+        this.followerView = followerView;
+        this.hedgedReader = hedgedReader;
+        this.eventProjection = eventProjection;
+        this.hotUsers = hotUsers;
+        this.ownership = ownership;
+        this.shardWorkers = shardWorkers;
     }
 
-    private Lock getUserLock(long userId) {
-        return userLocks.computeIfAbsent(userId, id -> new ReentrantLock());
+    /**
+     * 필요한 협력 객체만 지정해 만든다 (지정하지 않은 기능은 비활성화, 락은 JVM 로컬, 샤드 작업 스레드 없이 호출 스레드에서 실행)
+     */
+    static Builder builder(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository) {
+        return new Builder(userPointRepository, pointHistoryRepository);
     }
 
     /**
      * 락을 사용하여 포인트 트랜잭션을 실행하는 공통 메서드
+     * 사용자 샤드의 작업 스레드에서 실행한다 (샤드 대기열이 가득 차면 RejectedExecutionException).
      *
      * @param userId 사용자 ID
      * @param domainOperation 도메인 객체에서 수행할 작업 (charge 또는 use)
@@ -41,16 +87,79 @@ public class PointService {
                                                Function<UserPoint, UserPoint> domainOperation,
                                                long amount,
                                                TransactionType transactionType) {
-        Lock lock = getUserLock(userId);
-        lock.lock();
-        try {
-            UserPoint userPoint = userPointRepository.selectById(userId);
+        return shardWorkers.call(userId, () -> writeTransaction(userId, domainOperation, amount, transactionType));
+    }
+
+    private UserPoint writeTransaction(long userId,
+                                       Function<UserPoint, UserPoint> domainOperation,
+                                       long amount,
+                                       TransactionType transactionType) {
+        Deadline deadline = Deadline.current();
+        try (UserLock lock = acquireLock(userId, deadline)) {
+            // 락 안에서 확인해야 확인 후 다른 노드로 인계된 사용자를 쓰지 않는다
+            ownership.checkWritable(userId);
+            deadline.check("select");
+            UserPoint userPoint = selectBalance(userId);
             UserPoint updatedUserPoint = domainOperation.apply(userPoint);
+            // 리스가 만료되어 다른 인스턴스가 락을 가져갔다면 쓰지 않는다 (확인 후 쓰기 전의 만료는 막지 못함)
+            lock.ensureHeld();
+            // 잔액과 내역은 함께 기록되어야 하므로 마지막 확인 이후에는 중단하지 않는다
+            deadline.check("write");
+            if (eventProjection.isEnabled()) {
+                PointHistory event = pointHistoryRepository.insert(userId, amount, transactionType, System.currentTimeMillis());
+                UserPoint projected = eventProjection.apply(event);
+                publish(new PointChange(projected, event));
+                return projected;
+            }
             UserPoint savedUserPoint = userPointRepository.insertOrUpdate(userId, updatedUserPoint.point());
-            pointHistoryRepository.insert(userId, amount, transactionType, System.currentTimeMillis());
+            PointHistory history = pointHistoryRepository.insert(userId, amount, transactionType, System.currentTimeMillis());
+            publish(new PointChange(savedUserPoint, history));
             return savedUserPoint;
-        } finally {
-            lock.unlock();
+        }
+    }
+
+    /**
+     * 쓰기 전에 현재 잔액을 읽는다 (사용자 락 보유 중 호출)
+     * 이벤트 소싱 모드에서는 테이블 왕복 없이 프로젝션에서 읽는다.
+     */
+    private UserPoint selectBalance(long userId) {
+        return eventProjection.isEnabled() ? eventProjection.balance(userId) : userPointRepository.selectById(userId);
+    }
+
+    /**
+     * 요청 마감 시각을 넘지 않는 범위에서 사용자 락을 기다린다
+     *
+     * 요청 처리 경로는 마감이 없어도 tryLock 으로 기다려 대기열/대기 시간 제한을 받는다.
+     * 제한 없이 기다리는 lock 은 만료, 예열 같은 백그라운드 작업에서만 쓴다.
+     */
+    private UserLock acquireLock(long userId, Deadline deadline) {
+        deadline.check("lock");
+        try {
+            return userLockProvider.tryLock(userId, deadline.remainingMillis());
+        } catch (LockTimeoutException e) {
+            // 마감 때문에 기다림을 멈춘 경우에는 마감 초과로 응답한다
+            deadline.check("lock");
+            throw e;
+        }
+    }
+
+    /**
+     * 커밋된 변경을 변경 스트림 구독자에게 전달한다 (사용자 락 보유 중 호출)
+     * 팔로워 뷰가 아직 모르는 사용자는 변경을 전달하기 전에 원본에서 채운다 (prefetch 와 같은 방식).
+     * 구독자의 실패는 이미 커밋된 트랜잭션에 영향을 주지 않는다.
+     */
+    private void publish(PointChange change) {
+        UserPoint userPoint = change.userPoint();
+        if (userPoint != null && !followerView.isSeeded(userPoint.id())) {
+            // 시작 후 처음 쓰는 사용자는 이전 내역을 원본에서 채워야 팔로워의 최근 내역이 잘리지 않는다
+            followerView.seed(userPoint, pointHistoryRepository.selectAllByUserId(userPoint.id()));
+        }
+        for (PointChangeListener listener : changeListeners) {
+            try {
+                listener.onCommitted(change);
+            } catch (RuntimeException e) {
+                log.warn("변경 스트림 구독자 처리 실패: {}", listener.getClass().getSimpleName(), e);
+            }
         }
     }
 
@@ -58,8 +167,121 @@ public class PointService {
         return executePointTransaction(id, userPoint -> userPoint.charge(amount), amount, TransactionType.CHARGE);
     }
 
+    /**
+     * 두 사용자 사이에 포인트를 전송한다
+     *
+     * 교착 상태를 막기 위해 두 사용자의 락을 항상 사용자 ID 오름차순으로 획득한다.
+     * 보낸 사용자는 use 규칙, 받은 사용자는 charge 규칙으로 검증하며 내역은 TRANSFER_OUT / TRANSFER_IN 쌍으로 기록한다.
+     * 클러스터 모드에서는 요청이 보낸 사용자의 소유 노드로만 전달되므로, 받는 사용자도 이 노드가 소유한 경우에만 전송한다.
+     * 보낸 사용자 샤드의 작업 스레드에서 실행한다 (받는 사용자의 락과 저장소는 해당 샤드의 것을 사용).
+     *
+     * @return 보낸 사용자의 변경된 UserPoint
+     */
+    UserPoint transfer(long fromId, long toId, long amount) {
+        if (fromId == toId) {
+            throw new InvalidTransferException(fromId);
+        }
+        return shardWorkers.call(fromId, () -> writeTransfer(fromId, toId, amount));
+    }
+
+    private UserPoint writeTransfer(long fromId, long toId, long amount) {
+        Deadline deadline = Deadline.current();
+        try (UserLock firstLock = acquireLock(Math.min(fromId, toId), deadline);
+             UserLock secondLock = acquireLock(Math.max(fromId, toId), deadline)) {
+            ownership.checkWritable(fromId);
+            ownership.checkWritable(toId);
+            deadline.check("select");
+            UserPoint debited = selectBalance(fromId).use(amount);
+            deadline.check("select");
+            UserPoint credited = selectBalance(toId).charge(amount);
+            firstLock.ensureHeld();
+            secondLock.ensureHeld();
+            deadline.check("write");
+
+            long updateMillis = System.currentTimeMillis();
+            if (eventProjection.isEnabled()) {
+                PointHistory out = pointHistoryRepository.insert(fromId, amount, TransactionType.TRANSFER_OUT, updateMillis);
+                PointHistory in = pointHistoryRepository.insert(toId, amount, TransactionType.TRANSFER_IN, updateMillis);
+                UserPoint projectedFrom = eventProjection.apply(out);
+                publish(new PointChange(projectedFrom, out));
+                publish(new PointChange(eventProjection.apply(in), in));
+                return projectedFrom;
+            }
+            UserPoint savedFrom = userPointRepository.insertOrUpdate(fromId, debited.point());
+            UserPoint savedTo = userPointRepository.insertOrUpdate(toId, credited.point());
+            PointHistory out = pointHistoryRepository.insert(fromId, amount, TransactionType.TRANSFER_OUT, updateMillis);
+            PointHistory in = pointHistoryRepository.insert(toId, amount, TransactionType.TRANSFER_IN, updateMillis);
+            publish(new PointChange(savedFrom, out));
+            publish(new PointChange(savedTo, in));
+            return savedFrom;
+        }
+    }
+
+    /**
+     * 유효기간이 지난 포인트를 소멸시키고 EXPIRE 내역을 기록한다
+     *
+     * @param expiredAmount 사용자 락 안에서 계산할 만료 금액 (다른 트랜잭션이 먼저 소진했을 수 있으므로 락 안에서 다시 계산)
+     * @return 변경된 UserPoint, 만료할 금액이 없으면 현재 UserPoint
+     */
+    UserPoint expire(long id, LongSupplier expiredAmount) {
+        try (UserLock lock = userLockProvider.lock(id)) {
+            ownership.checkWritable(id);
+            UserPoint userPoint = selectBalance(id);
+            long amount = Math.min(expiredAmount.getAsLong(), userPoint.point());
+            if (amount <= 0) {
+                return userPoint;
+            }
+            UserPoint expiredUserPoint = userPoint.expire(amount);
+            lock.ensureHeld();
+            if (eventProjection.isEnabled()) {
+                PointHistory event = pointHistoryRepository.insert(id, amount, TransactionType.EXPIRE, System.currentTimeMillis());
+                UserPoint projected = eventProjection.apply(event);
+                publish(new PointChange(projected, event));
+                return projected;
+            }
+            UserPoint savedUserPoint = userPointRepository.insertOrUpdate(id, expiredUserPoint.point());
+            PointHistory history = pointHistoryRepository.insert(id, amount, TransactionType.EXPIRE, System.currentTimeMillis());
+            publish(new PointChange(savedUserPoint, history));
+            return savedUserPoint;
+        }
+    }
+
     UserPoint point(long id) {
-        return userPointRepository.selectById(id);
+        return point(id, 0L);
+    }
+
+    /**
+     * 팔로워 뷰에서 조회하고, 팔로워가 응답할 수 없으면 원본 테이블에서 조회한다
+     *
+     * @param minUpdateMillis 이 시각 이후의 쓰기가 반영된 값만 허용 (read-your-writes), 0 이면 제한 없음
+     */
+    UserPoint point(long id, long minUpdateMillis) {
+        hotUsers.recordAccess(id);
+        return followerView.point(id, minUpdateMillis)
+                .orElseGet(() -> {
+                    Deadline.current().check("select");
+                    return eventProjection.isEnabled() ? eventProjection.balance(id) : hedgedReader.selectById(id);
+                });
+    }
+
+    /**
+     * 충전/사용 요청이 지금 성공할지 미리 계산한다 (사용자 락을 잡지 않고 아무것도 기록하지 않음)
+     *
+     * 잔액은 팔로워 뷰의 캐시된 값을 우선 사용하고, 없으면 락 없이 원본에서 읽는다.
+     */
+    PointQuote quote(long id, TransactionType type, long amount) {
+        UserPoint snapshot = point(id);
+        try {
+            UserPoint expected = switch (type) {
+                case CHARGE -> snapshot.charge(amount);
+                case USE -> snapshot.use(amount);
+                default -> throw new IllegalArgumentException("예상 결과를 계산할 수 없는 트랜잭션 종류입니다: " + type);
+            };
+            return PointQuote.allowed(type, amount, snapshot, expected);
+        } catch (InsufficientPointException | MaxPointExceededException | MinimumUseAmountException
+                 | InvalidUseUnitException | InvalidChargeUnitException | InvalidPointAmountException e) {
+            return PointQuote.rejected(type, amount, snapshot, e.getMessage());
+        }
     }
 
     UserPoint use(long id, long amount) {
@@ -67,6 +289,28 @@ public class PointService {
     }
 
     List<PointHistory> history(long id) {
+        return history(id, 0L);
+    }
+
+    List<PointHistory> history(long id, long minUpdateMillis) {
+        hotUsers.recordAccess(id);
+        return followerView.history(id, minUpdateMillis)
+                .orElseGet(() -> recentHistories(id));
+    }
+
+    /**
+     * 원본에서 잔액과 최근 내역을 읽어 팔로워 뷰를 채운다 (시작 시 예열)
+     *
+     * 읽는 동안 커밋이 끼어들지 않도록 사용자 락 안에서 읽고 팔로워 뷰에 넘긴다.
+     */
+    void prefetch(long id) {
+        try (UserLock lock = userLockProvider.lock(id)) {
+            followerView.seed(selectBalance(id), recentHistories(id));
+        }
+    }
+
+    private List<PointHistory> recentHistories(long id) {
+        Deadline.current().check("select");
         List<PointHistory> allHistories = pointHistoryRepository.selectAllByUserId(id);
 
         // 최근 N건만 반환
@@ -78,4 +322,69 @@ public class PointService {
         // 마지막 N건 반환
         return allHistories.subList(size - MAX_HISTORY_SIZE, size);
     }
+
+    static final class Builder {
+
+        private final UserPointRepository userPointRepository;
+        private final PointHistoryRepository pointHistoryRepository;
+        private UserLockProvider userLockProvider = new LocalUserLockProvider();
+        private List<PointChangeListener> changeListeners = List.of();
+        private PointFollowerView followerView = PointFollowerView.disabled();
+        private HedgedPointReader hedgedReader;
+        private PointEventProjection eventProjection = PointEventProjection.disabled();
+        private PointHotUsers hotUsers = PointHotUsers.disabled();
+        private UserOwnership ownership = UserOwnership.local();
+        private ShardWorkers shardWorkers = ShardWorkers.direct();
+
+        private Builder(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository) {
+            this.userPointRepository = userPointRepository;
+            this.pointHistoryRepository = pointHistoryRepository;
+        }
+
+        Builder userLockProvider(UserLockProvider userLockProvider) {
+            this.userLockProvider = userLockProvider;
+            return this;
+        }
+
+        Builder changeListeners(List<PointChangeListener> changeListeners) {
+            this.changeListeners = changeListeners;
+            return this;
+        }
+
+        Builder followerView(PointFollowerView followerView) {
+            this.followerView = followerView;
+            return this;
+        }
+
+        Builder hedgedReader(HedgedPointReader hedgedReader) {
+            this.hedgedReader = hedgedReader;
+            return this;
+        }
+
+        Builder eventProjection(PointEventProjection eventProjection) {
+            this.eventProjection = eventProjection;
+            return this;
+        }
+
+        Builder hotUsers(PointHotUsers hotUsers) {
+            this.hotUsers = hotUsers;
+            return this;
+        }
+
+        Builder ownership(UserOwnership ownership) {
+            this.ownership = ownership;
+            return this;
+        }
+
+        Builder shardWorkers(ShardWorkers shardWorkers) {
+            this.shardWorkers = shardWorkers;
+            return this;
+        }
+
+        PointService build() {
+            return new PointService(userPointRepository, pointHistoryRepository, userLockProvider, changeListeners,
+                    followerView, hedgedReader != null ? hedgedReader : HedgedPointReader.disabled(userPointRepository),
+                    eventProjection, hotUsers, ownership, shardWorkers);
+        }
+    }
 }
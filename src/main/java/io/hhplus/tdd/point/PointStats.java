@@ -0,0 +1,51 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 실시간 포인트 집계 (GET /stats)
+ *
+ * @param generatedMillis 집계 시각 (refresh-ms 주기로 갱신)
+ * @param lastMinute 최근 1분
+ * @param lastHour 최근 window-minutes (기본 1시간)
+ * @param topSpenders 사용 금액이 큰 사용자 (근사치)
+ */
+public record PointStats(
+        long generatedMillis,
+        Window lastMinute,
+        Window lastHour,
+        List<Spender> topSpenders
+) {
+
+    static PointStats empty() {
+        return new PointStats(0L, Window.empty(0L), Window.empty(0L), List.of());
+    }
+
+    /**
+     * @param transferredAmount 전송 금액 (보낸 쪽 기준 한 번만 집계)
+     * @param activeUsers 내역이 발생한 서로 다른 사용자 수 (HyperLogLog 추정치, 오차 약 2%)
+     */
+    public record Window(
+            long windowMillis,
+            long chargedAmount,
+            long chargeCount,
+            long usedAmount,
+            long useCount,
+            long transferredAmount,
+            long transferCount,
+            long expiredAmount,
+            long activeUsers
+    ) {
+
+        static Window empty(long windowMillis) {
+            return new Window(windowMillis, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L);
+        }
+    }
+
+    /**
+     * @param amount 추정 사용 금액 (실제보다 작지 않음)
+     * @param maxError amount 가 실제보다 클 수 있는 최대 금액
+     */
+    public record Spender(long userId, long amount, long maxError) {
+    }
+}
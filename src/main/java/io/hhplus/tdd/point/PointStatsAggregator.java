@@ -0,0 +1,221 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 커밋마다 갱신하는 실시간 집계
+ *
+ * 쓰기 경로에서는 현재 시간 칸의 LongAdder 와 HyperLogLog 에 더하고, 사용 금액을 Space-Saving 스케치에 기록할 뿐
+ * 내역을 다시 읽지 않는다. 칸은 slot-ms 단위의 링 버퍼로 재사용하며 window-minutes 만큼 보관한다.
+ *
+ * 조회용 PointStats 는 refresh-ms 주기로 백그라운드에서 미리 계산해 두므로 조회는 O(1) 이다.
+ * 사용 금액 상위 사용자는 window 주기로 교대하는 두 스케치를 합쳐 계산하므로 최근 1~2 window 구간을 반영한다.
+ */
+@Component
+public class PointStatsAggregator implements PointChangeListener {
+
+    private static final int HLL_PRECISION = 11;
+    private static final int SPENDER_STRIPES = 8;
+    private static final long MINUTE_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private final boolean enabled;
+    private final long slotMillis;
+    private final Slot[] slots;
+    private final int minuteSlots;
+    private final long refreshMillis;
+    private final int topSpenderCount;
+    private final Clock clock;
+    private final ScheduledExecutorService refresher;
+
+    private volatile HeavyHitters currentSpenders;
+    private volatile HeavyHitters previousSpenders;
+    private long spenderPeriodStartMillis;
+    private volatile PointStats latest = PointStats.empty();
+
+    @Autowired
+    public PointStatsAggregator(@Value("${point.stats.enabled:true}") boolean enabled,
+                                @Value("${point.stats.slot-ms:10000}") long slotMillis,
+                                @Value("${point.stats.window-minutes:60}") int windowMinutes,
+                                @Value("${point.stats.refresh-ms:1000}") long refreshMillis,
+                                @Value("${point.stats.top-spenders:10}") int topSpenderCount) {
+        this(enabled, slotMillis, windowMinutes, refreshMillis, topSpenderCount, Clock.systemDefaultZone());
+    }
+
+    PointStatsAggregator(boolean enabled, long slotMillis, int windowMinutes, long refreshMillis,
+                         int topSpenderCount, Clock clock) {
+        if (slotMillis <= 0 || MINUTE_MILLIS % slotMillis != 0) {
+            throw new IllegalArgumentException("slot-ms 는 1분의 약수여야 합니다: " + slotMillis);
+        }
+        if (windowMinutes <= 0) {
+            throw new IllegalArgumentException("window-minutes 는 0보다 커야 합니다: " + windowMinutes);
+        }
+        this.enabled = enabled;
+        this.slotMillis = slotMillis;
+        this.minuteSlots = (int) (MINUTE_MILLIS / slotMillis);
+        this.slots = new Slot[enabled ? minuteSlots * windowMinutes : 0];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Slot();
+        }
+        this.refreshMillis = refreshMillis;
+        this.topSpenderCount = topSpenderCount;
+        this.clock = clock;
+        int capacity = Math.max(16, topSpenderCount * 4);
+        this.currentSpenders = new HeavyHitters(SPENDER_STRIPES, capacity);
+        this.previousSpenders = new HeavyHitters(SPENDER_STRIPES, capacity);
+        this.spenderPeriodStartMillis = clock.millis();
+        this.refresher = enabled ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-stats-refresher");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    @PostConstruct
+    void start() {
+        if (enabled) {
+            refresher.scheduleWithFixedDelay(this::refresh, 0L, refreshMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    @Override
+    public void onCommitted(PointChange change) {
+        PointHistory history = change.history();
+        if (!enabled || history == null) {
+            return;
+        }
+        long epoch = Math.floorDiv(history.updateMillis(), slotMillis);
+        Slot slot = slots[(int) Math.floorMod(epoch, (long) slots.length)];
+        if (!slot.claim(epoch)) {
+            // 이미 지나간 칸의 늦은 기록은 버린다
+            return;
+        }
+        int type = history.type().ordinal();
+        slot.amounts[type].add(history.amount());
+        slot.counts[type].increment();
+        slot.users.add(history.userId());
+        if (history.type() == TransactionType.USE) {
+            currentSpenders.add(history.userId(), history.amount());
+        }
+    }
+
+    /**
+     * 마지막으로 계산해 둔 집계
+     */
+    PointStats stats() {
+        return latest;
+    }
+
+    /**
+     * 현재 시각 기준으로 집계를 다시 계산한다
+     */
+    PointStats refresh() {
+        if (!enabled) {
+            return latest;
+        }
+        long now = clock.millis();
+        if (now - spenderPeriodStartMillis >= slots.length * slotMillis) {
+            HeavyHitters recycled = previousSpenders;
+            previousSpenders = currentSpenders;
+            recycled.clear();
+            currentSpenders = recycled;
+            spenderPeriodStartMillis = now;
+        }
+        Map<Long, long[]> spenders = new HashMap<>();
+        previousSpenders.collect(spenders);
+        currentSpenders.collect(spenders);
+
+        long epoch = Math.floorDiv(now, slotMillis);
+        PointStats stats = new PointStats(now, aggregate(epoch, minuteSlots), aggregate(epoch, slots.length),
+                HeavyHitters.top(spenders, topSpenderCount));
+        latest = stats;
+        return stats;
+    }
+
+    private PointStats.Window aggregate(long currentEpoch, int slotCount) {
+        long[] amounts = new long[TransactionType.values().length];
+        long[] counts = new long[amounts.length];
+        HyperLogLog users = new HyperLogLog(HLL_PRECISION);
+        for (long epoch = currentEpoch - slotCount + 1; epoch <= currentEpoch; epoch++) {
+            Slot slot = slots[(int) Math.floorMod(epoch, (long) slots.length)];
+            if (slot.epoch != epoch) {
+                continue;
+            }
+            for (int type = 0; type < amounts.length; type++) {
+                amounts[type] += slot.amounts[type].sum();
+                counts[type] += slot.counts[type].sum();
+            }
+            users.merge(slot.users);
+        }
+        return new PointStats.Window(slotCount * slotMillis,
+                amounts[TransactionType.CHARGE.ordinal()], counts[TransactionType.CHARGE.ordinal()],
+                amounts[TransactionType.USE.ordinal()], counts[TransactionType.USE.ordinal()],
+                amounts[TransactionType.TRANSFER_OUT.ordinal()], counts[TransactionType.TRANSFER_OUT.ordinal()],
+                amounts[TransactionType.EXPIRE.ordinal()], users.estimate());
+    }
+
+    /**
+     * slot-ms 구간 하나의 집계
+     */
+    private static final class Slot {
+
+        private final LongAdder[] amounts = newAdders();
+        private final LongAdder[] counts = newAdders();
+        private final HyperLogLog users = new HyperLogLog(HLL_PRECISION);
+        private volatile long epoch = Long.MIN_VALUE;
+
+        /**
+         * 칸을 epoch 구간용으로 사용한다. 이전 구간의 값이 남아 있으면 비운다.
+         * 비우는 순간 이전 구간에 더하던 기록이 섞일 수 있지만 구간이 바뀌는 순간에만 생기는 오차다.
+         *
+         * @return epoch 보다 새 구간이 이미 칸을 차지한 경우 false
+         */
+        private boolean claim(long epoch) {
+            long current = this.epoch;
+            if (current == epoch) {
+                return true;
+            }
+            if (current > epoch) {
+                return false;
+            }
+            synchronized (this) {
+                if (this.epoch < epoch) {
+                    for (int type = 0; type < amounts.length; type++) {
+                        amounts[type].reset();
+                        counts[type].reset();
+                    }
+                    users.clear();
+                    this.epoch = epoch;
+                }
+                return this.epoch == epoch;
+            }
+        }
+
+        private static LongAdder[] newAdders() {
+            LongAdder[] adders = new LongAdder[TransactionType.values().length];
+            for (int i = 0; i < adders.length; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+    }
+}
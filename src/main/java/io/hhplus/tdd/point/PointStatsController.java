@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 대시보드용 실시간 집계
+ */
+@RestController
+@RequestMapping("/stats")
+public class PointStatsController {
+
+    private final PointStatsAggregator pointStatsAggregator;
+
+    public PointStatsController(PointStatsAggregator pointStatsAggregator) {
+        this.pointStatsAggregator = pointStatsAggregator;
+    }
+
+    /**
+     * 최근 1분/1시간 충전·사용·전송 합계, 활성 사용자 수, 사용 금액 상위 사용자
+     */
+    @GetMapping
+    public PointStats stats() {
+        return pointStatsAggregator.stats();
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 잔액과 최근 내역을 함께 담은 계정 요약 (GET /point/{id}/summary)
+ *
+ * 두 값은 동시에 따로 조회하므로 그 사이에 커밋된 변경이 한쪽에만 보일 수 있다.
+ */
+public record PointSummary(
+        UserPoint point,
+        List<PointHistory> histories
+) {
+}
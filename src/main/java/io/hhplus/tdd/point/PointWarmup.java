@@ -0,0 +1,130 @@
+package io.hhplus.tdd.point;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시작 시 이전 실행의 조회 빈도 상위 사용자를 팔로워 뷰에 미리 채운다
+ *
+ * 배포 직후 첫 조회마다 selectById 지연을 겪지 않도록, 저장된 사용자들의 잔액과 최근 내역을 병렬로 읽어 둔다.
+ * ApplicationRunner 는 ApplicationReadyEvent 전에 실행되므로 예열이 끝날 때까지 readiness 는
+ * REFUSING_TRAFFIC 으로 남는다. budget-ms 가 지나면 남은 사용자는 건너뛰고 바로 준비 상태가 된다.
+ */
+@Component
+public class PointWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWarmup.class);
+
+    private final PointService pointService;
+    private final PointHotUsers hotUsers;
+    private final PointFollowerView followerView;
+    private final boolean enabled;
+    private final int parallelism;
+    private final long budgetMillis;
+
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger loaded = new AtomicInteger();
+    private final Counter failures;
+    private final Timer duration;
+
+    public PointWarmup(PointService pointService,
+                       PointHotUsers hotUsers,
+                       PointFollowerView followerView,
+                       MeterRegistry meterRegistry,
+                       @Value("${point.warmup.enabled:false}") boolean enabled,
+                       @Value("${point.warmup.parallelism:16}") int parallelism,
+                       @Value("${point.warmup.budget-ms:30000}") long budgetMillis) {
+        this.pointService = pointService;
+        this.hotUsers = hotUsers;
+        this.followerView = followerView;
+        this.enabled = enabled;
+        this.parallelism = parallelism;
+        this.budgetMillis = budgetMillis;
+        Gauge.builder("point.warmup.users.total", total, AtomicInteger::get)
+                .description("예열 대상 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("point.warmup.users.loaded", loaded, AtomicInteger::get)
+                .description("예열을 마친 사용자 수")
+                .register(meterRegistry);
+        this.failures = Counter.builder("point.warmup.users.failed")
+                .description("예열 중 조회에 실패한 사용자 수")
+                .register(meterRegistry);
+        this.duration = Timer.builder("point.warmup.duration")
+                .description("예열 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        warmUp();
+    }
+
+    /**
+     * @return 예열을 마친 사용자 수
+     */
+    int warmUp() {
+        if (!enabled) {
+            return 0;
+        }
+        if (!followerView.isEnabled()) {
+            log.info("팔로워 뷰가 비활성화되어 있어 예열을 건너뜁니다.");
+            return 0;
+        }
+        List<Long> userIds = hotUsers.load();
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        total.set(userIds.size());
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, userIds.size()), runnable -> {
+            Thread thread = new Thread(runnable, "point-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>(userIds.size());
+            for (long userId : userIds) {
+                tasks.add(() -> {
+                    prefetch(userId);
+                    return null;
+                });
+            }
+            // 예산이 지나면 끝나지 않은 작업은 취소된다
+            executor.invokeAll(tasks, budgetMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+            duration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        log.info("예열 완료: {}/{}명, 실패 {}명, {}ms", loaded.get(), userIds.size(), (long) failures.count(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return loaded.get();
+    }
+
+    private void prefetch(long userId) {
+        try {
+            pointService.prefetch(userId);
+            loaded.incrementAndGet();
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.debug("예열 실패: userId={}", userId, e);
+        }
+    }
+}
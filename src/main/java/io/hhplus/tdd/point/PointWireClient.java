@@ -0,0 +1,141 @@
+package io.hhplus.tdd.point;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * PointWireProtocol 클라이언트
+ *
+ * send 는 응답을 기다리지 않고 프레임을 보내므로 여러 스레드가 하나의 연결로 파이프라이닝할 수 있다.
+ * 서버는 프레임을 받은 순서대로 응답하므로 응답은 보낸 순서대로 대기 중인 요청에 연결한다.
+ */
+public class PointWireClient implements AutoCloseable {
+
+    private final SocketChannel channel;
+    private final Queue<Pending> pending = new ConcurrentLinkedQueue<>();
+    private final Thread reader;
+    private int nextCorrelationId;
+    private volatile boolean closed;
+
+    public PointWireClient(String host, int port) {
+        try {
+            this.channel = SocketChannel.open(new InetSocketAddress(host, port));
+            this.channel.socket().setTcpNoDelay(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("바이너리 프로토콜 서버에 연결할 수 없습니다: " + host + ":" + port, e);
+        }
+        this.reader = new Thread(this::readLoop, "point-wire-client");
+        this.reader.setDaemon(true);
+        this.reader.start();
+    }
+
+    /**
+     * 작업들을 한 프레임으로 보낸다
+     *
+     * @return 작업 순서와 같은 순서의 결과
+     */
+    public CompletableFuture<List<PointWireProtocol.Result>> send(List<PointWireProtocol.Operation> operations) {
+        CompletableFuture<List<PointWireProtocol.Result>> future = new CompletableFuture<>();
+        synchronized (this) {
+            if (closed) {
+                future.completeExceptionally(new IOException("연결이 닫혔습니다."));
+                return future;
+            }
+            int correlationId = nextCorrelationId;
+            ByteBuffer frame;
+            try {
+                frame = PointWireProtocol.encodeRequest(correlationId, operations);
+            } catch (IllegalArgumentException e) {
+                // 보내지 않은 요청은 대기열에 남기지 않는다
+                future.completeExceptionally(e);
+                return future;
+            }
+            nextCorrelationId++;
+            // 응답이 먼저 도착해도 대기열에 있도록 보내기 전에 등록한다
+            pending.add(new Pending(correlationId, future));
+            try {
+                while (frame.hasRemaining()) {
+                    channel.write(frame);
+                }
+            } catch (IOException e) {
+                failAll(e);
+            }
+        }
+        return future;
+    }
+
+    /**
+     * 작업 하나를 보내고 결과를 기다린다
+     */
+    public PointWireProtocol.Result call(PointWireProtocol.Operation operation) {
+        try {
+            return send(List.of(operation)).get().get(0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("응답 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("바이너리 프로토콜 요청이 실패했습니다.", e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+
+        }
+    }
+
+    private void readLoop() {
+        ByteBuffer length = ByteBuffer.allocate(PointWireProtocol.LENGTH_BYTES);
+        try {
+            while (true) {
+                length.clear();
+                readFully(length);
+                ByteBuffer body = ByteBuffer.allocate(length.flip().getInt());
+                readFully(body);
+                PointWireProtocol.Frame<PointWireProtocol.Result> frame = PointWireProtocol.decodeResponse(body.flip());
+                Pending request = pending.poll();
+                if (request == null || request.correlationId() != frame.correlationId()) {
+                    throw new IOException("요청하지 않은 응답을 받았습니다: " + frame.correlationId());
+                }
+                request.future().complete(frame.items());
+            }
+        } catch (IOException | RuntimeException e) {
+            synchronized (this) {
+                closed = true;
+                failAll(e);
+            }
+        }
+    }
+
+    private void readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("서버가 연결을 닫았습니다.");
+            }
+        }
+    }
+
+    private void failAll(Exception cause) {
+        Pending request;
+        while ((request = pending.poll()) != null) {
+            request.future().completeExceptionally(cause);
+        }
+    }
+
+    private record Pending(int correlationId, CompletableFuture<List<PointWireProtocol.Result>> future) {
+    }
+}
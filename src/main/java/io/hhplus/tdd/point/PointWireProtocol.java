@@ -0,0 +1,229 @@
+package io.hhplus.tdd.point;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 내부 호출용 포인트 바이너리 프로토콜
+ *
+ * 모든 정수는 빅엔디언이며, 프레임은 길이(int) 뒤에 본문이 오는 형태다.
+ * 한 프레임에 여러 작업을 담을 수 있고(배치), 응답을 기다리지 않고 프레임을 이어 보낼 수 있다(파이프라이닝).
+ * 응답 프레임은 요청 프레임과 같은 순서로, 같은 correlationId 를 달고 돌아온다.
+ *
+ * <pre>
+ * 요청: [int length][int correlationId][short count] + count x [byte opcode][long userId][long arg1][long arg2]
+ *   POINT, HISTORY : arg1, arg2 미사용
+ *   CHARGE, USE    : arg1 = 금액
+ *   TRANSFER       : arg1 = 받는 사용자 ID, arg2 = 금액
+ * 응답: [int length][int correlationId][short count] + count x [byte opcode][byte status][결과]
+ *   OK + HISTORY   : [long userId][int n] + n x [long id][byte type][long amount][long updateMillis]
+ *   OK + 그 외      : [long id][long point][long updateMillis]
+ *   OK 가 아니면    : [short length][UTF-8 메시지]
+ * </pre>
+ */
+public final class PointWireProtocol {
+
+    public static final byte POINT = 1;
+    public static final byte CHARGE = 2;
+    public static final byte USE = 3;
+    public static final byte TRANSFER = 4;
+    public static final byte HISTORY = 5;
+
+    public static final byte OK = 0;
+    // 도메인 규칙 위반 (잔액 부족, 충전 단위 오류 등) - 재시도해도 같은 결과
+    public static final byte REJECTED = 1;
+    // 락 대기 초과, 마감 초과 - 잠시 후 재시도 가능
+    public static final byte UNAVAILABLE = 2;
+    public static final byte ERROR = 3;
+
+    static final int LENGTH_BYTES = Integer.BYTES;
+    static final int HEADER_BYTES = Integer.BYTES + Short.BYTES;
+    static final int OPERATION_BYTES = 1 + 3 * Long.BYTES;
+    public static final int MAX_OPERATIONS = Short.MAX_VALUE;
+
+    private PointWireProtocol() {
+    }
+
+    public record Operation(byte opcode, long userId, long arg1, long arg2) {
+
+        public static Operation point(long userId) {
+            return new Operation(POINT, userId, 0L, 0L);
+        }
+
+        public static Operation history(long userId) {
+            return new Operation(HISTORY, userId, 0L, 0L);
+        }
+
+        public static Operation charge(long userId, long amount) {
+            return new Operation(CHARGE, userId, amount, 0L);
+        }
+
+        public static Operation use(long userId, long amount) {
+            return new Operation(USE, userId, amount, 0L);
+        }
+
+        public static Operation transfer(long fromId, long toId, long amount) {
+            return new Operation(TRANSFER, fromId, toId, amount);
+        }
+    }
+
+    /**
+     * @param userId OK 인 작업의 대상 사용자 ID
+     * @param userPoint OK 인 잔액 작업의 결과
+     * @param histories OK 인 HISTORY 작업의 결과
+     * @param message OK 가 아닐 때의 오류 메시지
+     */
+    public record Result(byte opcode, byte status, long userId, UserPoint userPoint,
+                         List<PointHistory> histories, String message) {
+
+        static Result of(byte opcode, UserPoint userPoint) {
+            return new Result(opcode, OK, userPoint.id(), userPoint, null, null);
+        }
+
+        static Result of(byte opcode, long userId, List<PointHistory> histories) {
+            return new Result(opcode, OK, userId, null, histories, null);
+        }
+
+        static Result failure(byte opcode, byte status, String message) {
+            return new Result(opcode, status, 0L, null, null, message);
+        }
+
+        public boolean isOk() {
+            return status == OK;
+        }
+    }
+
+    public record Frame<T>(int correlationId, List<T> items) {
+    }
+
+    public static ByteBuffer encodeRequest(int correlationId, List<Operation> operations) {
+        checkCount(operations.size());
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH_BYTES + HEADER_BYTES + operations.size() * OPERATION_BYTES);
+        buffer.putInt(HEADER_BYTES + operations.size() * OPERATION_BYTES);
+        buffer.putInt(correlationId);
+        buffer.putShort((short) operations.size());
+        for (Operation operation : operations) {
+            buffer.put(operation.opcode());
+            buffer.putLong(operation.userId());
+            buffer.putLong(operation.arg1());
+            buffer.putLong(operation.arg2());
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * @param body 길이 필드를 제외한 프레임 본문
+     * @throws IllegalArgumentException 작업 수가 MAX_OPERATIONS 를 넘거나 본문 길이와 맞지 않는 경우
+     */
+    public static Frame<Operation> decodeRequest(ByteBuffer body) {
+        int correlationId = body.getInt();
+        int count = Short.toUnsignedInt(body.getShort());
+        // 응답에 담을 수 없는 작업 수는 아무것도 실행하기 전에 거절한다
+        checkCount(count);
+        if (body.remaining() != count * OPERATION_BYTES) {
+            throw new IllegalArgumentException("요청 프레임 길이가 작업 수와 맞지 않습니다: " + count);
+        }
+        List<Operation> operations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            operations.add(new Operation(body.get(), body.getLong(), body.getLong(), body.getLong()));
+        }
+        return new Frame<>(correlationId, operations);
+    }
+
+    public static ByteBuffer encodeResponse(int correlationId, List<Result> results) {
+        checkCount(results.size());
+        List<byte[]> messages = new ArrayList<>(results.size());
+        int size = LENGTH_BYTES + HEADER_BYTES;
+        for (Result result : results) {
+            byte[] message = null;
+            size += 2;
+            if (!result.isOk()) {
+                message = truncate(result.message());
+                size += Short.BYTES + message.length;
+            } else if (result.histories() != null) {
+                size += Long.BYTES + Integer.BYTES + result.histories().size() * (3 * Long.BYTES + 1);
+            } else {
+                size += 3 * Long.BYTES;
+            }
+            messages.add(message);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(size - LENGTH_BYTES);
+        buffer.putInt(correlationId);
+        buffer.putShort((short) results.size());
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            buffer.put(result.opcode());
+            buffer.put(result.status());
+            if (!result.isOk()) {
+                byte[] message = messages.get(i);
+                buffer.putShort((short) message.length);
+                buffer.put(message);
+            } else if (result.histories() != null) {
+                buffer.putLong(result.userId());
+                buffer.putInt(result.histories().size());
+                for (PointHistory history : result.histories()) {
+                    buffer.putLong(history.id());
+                    buffer.put((byte) history.type().ordinal());
+                    buffer.putLong(history.amount());
+                    buffer.putLong(history.updateMillis());
+                }
+            } else {
+                buffer.putLong(result.userPoint().id());
+                buffer.putLong(result.userPoint().point());
+                buffer.putLong(result.userPoint().updateMillis());
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * @param body 길이 필드를 제외한 프레임 본문
+     */
+    public static Frame<Result> decodeResponse(ByteBuffer body) {
+        int correlationId = body.getInt();
+        int count = Short.toUnsignedInt(body.getShort());
+        TransactionType[] types = TransactionType.values();
+        List<Result> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte opcode = body.get();
+            byte status = body.get();
+            if (status != OK) {
+                byte[] message = new byte[Short.toUnsignedInt(body.getShort())];
+                body.get(message);
+                results.add(Result.failure(opcode, status, new String(message, StandardCharsets.UTF_8)));
+            } else if (opcode == HISTORY) {
+                long userId = body.getLong();
+                int size = body.getInt();
+                List<PointHistory> histories = new ArrayList<>(size);
+                for (int j = 0; j < size; j++) {
+                    long id = body.getLong();
+                    TransactionType type = types[body.get()];
+                    histories.add(new PointHistory(id, userId, body.getLong(), type, body.getLong()));
+                }
+                results.add(Result.of(opcode, userId, histories));
+            } else {
+                results.add(Result.of(opcode, new UserPoint(body.getLong(), body.getLong(), body.getLong())));
+            }
+        }
+        return new Frame<>(correlationId, results);
+    }
+
+    private static void checkCount(int count) {
+        if (count > MAX_OPERATIONS) {
+            throw new IllegalArgumentException("한 프레임에 담을 수 있는 작업 수를 초과했습니다: " + count);
+        }
+    }
+
+    private static byte[] truncate(String message) {
+        byte[] bytes = (message != null ? message : "").getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= Short.MAX_VALUE) {
+            return bytes;
+        }
+        return Arrays.copyOf(bytes, Short.MAX_VALUE);
+    }
+}
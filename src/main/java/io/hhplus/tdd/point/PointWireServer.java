@@ -0,0 +1,432 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.deadline.Deadline;
+import io.hhplus.tdd.deadline.DeadlineExceededException;
+import io.hhplus.tdd.lock.UserLockUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PointService 를 PointWireProtocol 로 노출하는 NIO 서버 (내부 호출 전용)
+ *
+ * 셀렉터 스레드 하나가 모든 연결의 읽기/쓰기를 처리하고, 작업 실행은 워커 풀에 맡긴다.
+ * - 같은 연결에서 같은 사용자(전송은 보내는 사용자 기준)에 대한 작업은 프레임을 넘어 받은 순서대로 실행하고,
+ *   서로 다른 사용자 작업은 프레임 안팎을 가리지 않고 병렬로 실행한다.
+ * - 응답은 실행이 끝난 순서와 관계없이 프레임을 받은 순서대로 보낸다.
+ *   아직 응답하지 않은 프레임이 pipeline-depth 개를 넘으면 그 연결은 읽기를 멈춘다 (배압).
+ * - 프레임마다 deadline-ms 의 마감 시각을 붙여 HTTP 경로와 같은 방식으로 락 대기와 테이블 호출을 제한한다.
+ *
+ * HTTP 인터셉터(처리율 제한, 동시 처리 한도)는 거치지 않으므로 신뢰할 수 있는 내부 호출자에게만 열어야 한다.
+ * 클러스터 라우팅(PointRoutingFilter)도 거치지 않아 다른 노드 소유 사용자를 쓸 수 있으므로 클러스터 모드에서는 시작하지 않는다.
+ */
+@Component
+public class PointWireServer {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWireServer.class);
+
+    private static final int READ_BUFFER_BYTES = 64 * 1024;
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    private final PointService pointService;
+    private final boolean enabled;
+    private final boolean clusterEnabled;
+    private final String host;
+    private final int port;
+    private final int workerThreads;
+    private final int maxFrameBytes;
+    private final int pipelineDepth;
+    private final long deadlineMillis;
+
+    private final Queue<Connection> pendingConnections = new ConcurrentLinkedQueue<>();
+    private final Counter frames;
+    private final Counter operations;
+    private final Counter protocolErrors;
+    private final Timer frameTimer;
+
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private ExecutorService workers;
+    private Thread selectorThread;
+    private volatile boolean running;
+
+    public PointWireServer(PointService pointService,
+                           MeterRegistry meterRegistry,
+                           @Value("${point.wire.enabled:false}") boolean enabled,
+                           @Value("${point.cluster.enabled:false}") boolean clusterEnabled,
+                           @Value("${point.wire.host:127.0.0.1}") String host,
+                           @Value("${point.wire.port:7070}") int port,
+                           @Value("${point.wire.worker-threads:64}") int workerThreads,
+                           @Value("${point.wire.max-frame-bytes:1048576}") int maxFrameBytes,
+                           @Value("${point.wire.pipeline-depth:128}") int pipelineDepth,
+                           @Value("${point.wire.deadline-ms:3000}") long deadlineMillis) {
+        this.pointService = pointService;
+        this.enabled = enabled;
+        this.clusterEnabled = clusterEnabled;
+        this.host = host;
+        this.port = port;
+        this.workerThreads = workerThreads;
+        this.maxFrameBytes = maxFrameBytes;
+        this.pipelineDepth = pipelineDepth;
+        this.deadlineMillis = deadlineMillis;
+
+        this.frames = Counter.builder("point.wire.frames")
+                .description("처리한 바이너리 프로토콜 프레임 수")
+                .register(meterRegistry);
+        this.operations = Counter.builder("point.wire.operations")
+                .description("처리한 바이너리 프로토콜 작업 수")
+                .register(meterRegistry);
+        this.protocolErrors = Counter.builder("point.wire.protocol-errors")
+                .description("잘못된 프레임으로 끊은 연결 수")
+                .register(meterRegistry);
+        this.frameTimer = Timer.builder("point.wire.frame.latency")
+                .description("프레임 수신부터 응답 준비까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (clusterEnabled) {
+            throw new IllegalStateException("바이너리 프로토콜 서버는 클러스터 모드(point.cluster.enabled)와 함께 사용할 수 없습니다.");
+        }
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(host, port));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "point-wire-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        selectorThread = new Thread(this::selectLoop, "point-wire-selector");
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+        log.info("포인트 바이너리 프로토콜 서버 시작: {}", serverChannel.getLocalAddress());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        selector.wakeup();
+        try {
+            selectorThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        workers.shutdownNow();
+    }
+
+    /**
+     * @return 실제로 바인딩된 포트 (port 를 0 으로 설정한 경우 확인용), 비활성화 상태면 -1
+     */
+    public int port() {
+        return serverChannel != null ? serverChannel.socket().getLocalPort() : -1;
+    }
+
+    private void selectLoop() {
+        try {
+            while (running) {
+                selector.select();
+                Connection connection;
+                while ((connection = pendingConnections.poll()) != null) {
+                    connection.updateInterest();
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key);
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            log.error("바이너리 프로토콜 셀렉터 오류", e);
+        } finally {
+            closeQuietly();
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        try {
+            if (key.isAcceptable()) {
+                accept();
+                return;
+            }
+            Connection connection = (Connection) key.attachment();
+            if (key.isReadable()) {
+                connection.read();
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.flush();
+            }
+        } catch (IOException e) {
+            if (key.attachment() instanceof Connection connection) {
+                connection.close();
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            Connection connection = new Connection(channel);
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+        }
+    }
+
+    /**
+     * 같은 사용자 작업끼리 묶어 그 사용자의 이전 작업이 끝난 뒤에 실행한다
+     *
+     * @param userTails 연결별 사용자 ID → 그 사용자의 마지막 작업
+     */
+    private CompletableFuture<ByteBuffer> execute(PointWireProtocol.Frame<PointWireProtocol.Operation> frame,
+                                                  Map<Long, CompletableFuture<Void>> userTails) {
+        long start = System.nanoTime();
+        Deadline deadline = Deadline.after(deadlineMillis);
+        List<PointWireProtocol.Operation> requested = frame.items();
+        PointWireProtocol.Result[] results = new PointWireProtocol.Result[requested.size()];
+
+        Map<Long, List<Integer>> byUser = new LinkedHashMap<>();
+        for (int i = 0; i < requested.size(); i++) {
+            byUser.computeIfAbsent(requested.get(i).userId(), userId -> new ArrayList<>()).add(i);
+        }
+        CompletableFuture<?>[] groups = new CompletableFuture<?>[byUser.size()];
+        int group = 0;
+        for (Map.Entry<Long, List<Integer>> entry : byUser.entrySet()) {
+            Long userId = entry.getKey();
+            List<Integer> indexes = entry.getValue();
+            CompletableFuture<Void> previous = userTails.getOrDefault(userId, DONE);
+            CompletableFuture<Void> current = previous.exceptionally(e -> null).thenRunAsync(() -> {
+                try (Deadline.Scope ignored = Deadline.attach(deadline)) {
+                    for (int index : indexes) {
+                        results[index] = execute(requested.get(index));
+                    }
+                }
+            }, workers);
+            userTails.put(userId, current);
+            current.whenComplete((done, e) -> userTails.remove(userId, current));
+            groups[group++] = current;
+        }
+        return CompletableFuture.allOf(groups).thenApply(done -> {
+            frames.increment();
+            operations.increment(results.length);
+            frameTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return PointWireProtocol.encodeResponse(frame.correlationId(), Arrays.asList(results));
+        });
+    }
+
+    private PointWireProtocol.Result execute(PointWireProtocol.Operation operation) {
+        byte opcode = operation.opcode();
+        long userId = operation.userId();
+        try {
+            return switch (opcode) {
+                case PointWireProtocol.POINT -> PointWireProtocol.Result.of(opcode, pointService.point(userId));
+                case PointWireProtocol.CHARGE ->
+                        PointWireProtocol.Result.of(opcode, pointService.charge(userId, operation.arg1()));
+                case PointWireProtocol.USE ->
+                        PointWireProtocol.Result.of(opcode, pointService.use(userId, operation.arg1()));
+                case PointWireProtocol.TRANSFER -> PointWireProtocol.Result.of(opcode,
+                        pointService.transfer(userId, operation.arg1(), operation.arg2()));
+                case PointWireProtocol.HISTORY ->
+                        PointWireProtocol.Result.of(opcode, userId, pointService.history(userId));
+                default -> PointWireProtocol.Result.failure(opcode, PointWireProtocol.ERROR,
+                        "지원하지 않는 작업입니다: " + opcode);
+            };
+        } catch (InsufficientPointException | MaxPointExceededException | MinimumUseAmountException
+                 | InvalidUseUnitException | InvalidChargeUnitException | InvalidPointAmountException
+                 | InvalidTransferException e) {
+            return PointWireProtocol.Result.failure(opcode, PointWireProtocol.REJECTED, e.getMessage());
+        } catch (UserLockUnavailableException | DeadlineExceededException e) {
+            return PointWireProtocol.Result.failure(opcode, PointWireProtocol.UNAVAILABLE, e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("바이너리 프로토콜 작업 처리 실패: opcode {}, 사용자 {}", opcode, userId, e);
+            return PointWireProtocol.Result.failure(opcode, PointWireProtocol.ERROR, "에러가 발생했습니다.");
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            for (SelectionKey key : selector.keys()) {
+                key.channel().close();
+            }
+            selector.close();
+        } catch (IOException | ClosedSelectorException ignored) {
+
+        }
+    }
+
+    /**
+     * 연결별 상태. read/flush/updateInterest 는 셀렉터 스레드에서만 호출된다.
+     */
+    private final class Connection {
+
+        private final SocketChannel channel;
+        private final Queue<ByteBuffer> writes = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Map<Long, CompletableFuture<Void>> userTails = new ConcurrentHashMap<>();
+        private ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_BYTES);
+        // 이전 프레임의 응답을 보낸 뒤에 다음 프레임의 응답을 보내도록 잇는 꼬리
+        private CompletableFuture<Void> responseTail = DONE;
+        private SelectionKey key;
+
+        private Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        private void read() throws IOException {
+            int read = channel.read(readBuffer);
+            if (read < 0) {
+                close();
+                return;
+            }
+            readBuffer.flip();
+            while (readBuffer.remaining() >= PointWireProtocol.LENGTH_BYTES) {
+                int length = readBuffer.getInt(readBuffer.position());
+                if (length < PointWireProtocol.HEADER_BYTES || length > maxFrameBytes) {
+                    protocolErrors.increment();
+                    log.warn("잘못된 프레임 길이로 연결을 끊습니다: {}", length);
+                    close();
+                    return;
+                }
+                if (readBuffer.remaining() < PointWireProtocol.LENGTH_BYTES + length) {
+                    break;
+                }
+                readBuffer.position(readBuffer.position() + PointWireProtocol.LENGTH_BYTES);
+                ByteBuffer body = readBuffer.slice(readBuffer.position(), length);
+                readBuffer.position(readBuffer.position() + length);
+                if (!submit(body)) {
+                    return;
+                }
+            }
+            readBuffer.compact();
+            ensureCapacity();
+            updateInterest();
+        }
+
+        private boolean submit(ByteBuffer body) {
+            PointWireProtocol.Frame<PointWireProtocol.Operation> frame;
+            try {
+                frame = PointWireProtocol.decodeRequest(body);
+            } catch (RuntimeException e) {
+                protocolErrors.increment();
+                log.warn("잘못된 프레임으로 연결을 끊습니다: {}", e.getMessage());
+                close();
+                return false;
+            }
+            inFlight.incrementAndGet();
+            CompletableFuture<ByteBuffer> response = execute(frame, userTails);
+            responseTail = responseTail.thenCombine(response, (previous, buffer) -> buffer)
+                    .thenAccept(buffer -> {
+                        writes.add(buffer);
+                        inFlight.decrementAndGet();
+                        wakeup();
+                    })
+                    .whenComplete((done, e) -> {
+                        if (e != null) {
+                            // 응답 순서를 지킬 수 없으므로 연결을 끊는다 (워커 풀 종료 등)
+                            log.warn("바이너리 프로토콜 프레임 처리 실패로 연결을 끊습니다", e);
+                            close();
+                        }
+                    });
+            return true;
+        }
+
+        /**
+         * 버퍼에 남은 미완성 프레임이 버퍼보다 크면 프레임 크기만큼 늘린다
+         */
+        private void ensureCapacity() {
+            if (readBuffer.position() < PointWireProtocol.LENGTH_BYTES || readBuffer.hasRemaining()) {
+                return;
+            }
+            int frameBytes = PointWireProtocol.LENGTH_BYTES + readBuffer.getInt(0);
+            if (frameBytes > readBuffer.capacity()) {
+                ByteBuffer larger = ByteBuffer.allocate(frameBytes);
+                readBuffer.flip();
+                larger.put(readBuffer);
+                readBuffer = larger;
+            }
+        }
+
+        private void flush() throws IOException {
+            ByteBuffer buffer;
+            while ((buffer = writes.peek()) != null) {
+                channel.write(buffer);
+                if (buffer.hasRemaining()) {
+                    break;
+                }
+                writes.poll();
+            }
+            updateInterest();
+        }
+
+        private void wakeup() {
+            pendingConnections.add(this);
+            selector.wakeup();
+        }
+
+        private void updateInterest() {
+            if (!key.isValid()) {
+                return;
+            }
+            int interest = 0;
+            if (inFlight.get() < pipelineDepth) {
+                interest |= SelectionKey.OP_READ;
+            }
+            if (!writes.isEmpty()) {
+                interest |= SelectionKey.OP_WRITE;
+            }
+            key.interestOps(interest);
+        }
+
+        private void close() {
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+
+            }
+        }
+    }
+}
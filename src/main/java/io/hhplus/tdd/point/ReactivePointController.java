@@ -0,0 +1,53 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * PointController 의 리액티브 버전
+ *
+ * reactive 프로필에서 MVC 컨트롤러와 함께 /reactive/point 경로로 제공되어 두 방식을 나란히 부하 테스트할 수 있다.
+ */
+@RestController
+@RequestMapping("/reactive/point")
+@Profile("reactive")
+public class ReactivePointController {
+
+    private final ReactivePointService reactivePointService;
+
+    public ReactivePointController(ReactivePointService reactivePointService) {
+        this.reactivePointService = reactivePointService;
+    }
+
+    @GetMapping("{id}")
+    public Mono<UserPoint> point(
+            @PathVariable long id
+    ) {
+        return reactivePointService.point(id);
+    }
+
+    @GetMapping("{id}/histories")
+    public Flux<PointHistory> history(
+            @PathVariable long id
+    ) {
+        return reactivePointService.history(id);
+    }
+
+    @PatchMapping("{id}/charge")
+    public Mono<UserPoint> charge(
+            @PathVariable long id,
+            @RequestBody long amount
+    ) {
+        return reactivePointService.charge(id, amount);
+    }
+
+    @PatchMapping("{id}/use")
+    public Mono<UserPoint> use(
+            @PathVariable long id,
+            @RequestBody long amount
+    ) {
+        return reactivePointService.use(id, amount);
+    }
+}
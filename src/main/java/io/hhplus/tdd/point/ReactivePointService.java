@@ -0,0 +1,154 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * PointService 의 논블로킹 래퍼
+ *
+ * 블로킹 테이블 호출은 크기가 제한된 bounded elastic 스케줄러에서만 실행한다.
+ * 같은 사용자의 쓰기는 사용자별 작업 큐로 직렬화하므로, 대기 중인 요청은 스레드를 점유하지 않고
+ * 사용자 락 경합 없이 한 번에 하나씩 실행된다. 처리할 작업이 없는 사용자 큐는 제거한다.
+ */
+@Service
+@Profile("reactive")
+public class ReactivePointService {
+
+    private final PointService pointService;
+    private final Scheduler scheduler;
+    private final ConcurrentHashMap<Long, UserLane> lanes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ReactivePointService(PointService pointService,
+                                @Value("${point.reactive.thread-cap:0}") int threadCap,
+                                @Value("${point.reactive.queued-task-cap:100000}") int queuedTaskCap) {
+        this(pointService, Schedulers.newBoundedElastic(threadCap > 0 ? threadCap : Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+                queuedTaskCap, "point-reactive"));
+    }
+
+    ReactivePointService(PointService pointService, Scheduler scheduler) {
+        this.pointService = pointService;
+        this.scheduler = scheduler;
+    }
+
+    Mono<UserPoint> charge(long id, long amount) {
+        return serialized(id, () -> pointService.charge(id, amount));
+    }
+
+    Mono<UserPoint> use(long id, long amount) {
+        return serialized(id, () -> pointService.use(id, amount));
+    }
+
+    Mono<UserPoint> point(long id) {
+        return Mono.fromCallable(() -> pointService.point(id))
+                .subscribeOn(scheduler);
+    }
+
+    Flux<PointHistory> history(long id) {
+        return Mono.fromCallable(() -> pointService.history(id))
+                .subscribeOn(scheduler)
+                .flatMapMany(Flux::fromIterable);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+    }
+
+    /**
+     * 작업이 남아 있는 사용자 큐 수
+     */
+    int lanes() {
+        return lanes.size();
+    }
+
+    private <T> Mono<T> serialized(long userId, Callable<T> task) {
+        return Mono.create(sink -> submit(userId, new LaneTask(() -> {
+            try {
+                sink.success(task.call());
+            } catch (Throwable e) {
+                sink.error(e);
+            }
+        }, sink::error)));
+    }
+
+    private void submit(long userId, LaneTask task) {
+        // 큐 제거(retireIfIdle)와 같은 락 안에서 작업을 넣어, 제거된 큐에 작업이 남는 일이 없도록 한다
+        UserLane[] lane = new UserLane[1];
+        lanes.compute(userId, (id, current) -> {
+            lane[0] = current != null ? current : new UserLane(id);
+            lane[0].tasks.offer(task);
+            return lane[0];
+        });
+        lane[0].schedule();
+    }
+
+    /**
+     * @param fail 드레인을 예약하지 못해 실행하지 않고 거절할 때 호출
+     */
+    private record LaneTask(Runnable run, Consumer<Throwable> fail) {
+    }
+
+    /**
+     * 사용자별 작업 큐
+     * 실행 중인 작업이 없을 때만 스케줄러에 드레인 작업을 올리므로, 한 사용자는 최대 한 스레드만 사용한다.
+     */
+    private final class UserLane {
+
+        private final long userId;
+        private final Queue<LaneTask> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        private UserLane(long userId) {
+            this.userId = userId;
+        }
+
+        private void schedule() {
+            while (!tasks.isEmpty() && running.compareAndSet(false, true)) {
+                try {
+                    scheduler.schedule(this::drain);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // 스케줄러 큐가 가득 차 드레인을 예약할 수 없으면 대기 중인 작업을 모두 거절한다
+                    // (거절하는 동안 다른 요청이 넣은 작업은 반복문에서 다시 예약을 시도한다)
+                    LaneTask queued;
+                    while ((queued = tasks.poll()) != null) {
+                        queued.fail().accept(e);
+                    }
+                    running.set(false);
+                }
+            }
+            retireIfIdle();
+        }
+
+        private void drain() {
+            do {
+                LaneTask task;
+                while ((task = tasks.poll()) != null) {
+                    task.run().run();
+                }
+                running.set(false);
+            } while (!tasks.isEmpty() && running.compareAndSet(false, true));
+            retireIfIdle();
+        }
+
+        private void retireIfIdle() {
+            lanes.computeIfPresent(userId, (id, lane) -> lane == this && tasks.isEmpty() && !running.get() ? null : lane);
+        }
+    }
+}
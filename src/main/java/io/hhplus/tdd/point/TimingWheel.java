@@ -0,0 +1,120 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 해시 타이밍 휠
+ *
+ * 레벨마다 64칸 휠을 두고, 레벨 L 의 한 칸은 64^L 틱을 담당한다.
+ * 등록은 남은 틱 수로 레벨을 고른 뒤 마감 틱의 비트로 칸을 정하므로 O(1)이며,
+ * 상위 레벨의 칸은 해당 구간이 시작될 때 한 번만 하위 레벨로 내려보낸다(cascade).
+ * 따라서 항목당 비용은 레벨 수에 비례하고, 틱마다 전체 항목을 훑지 않는다.
+ *
+ * @param <T> 만료 시 돌려줄 항목
+ */
+public class TimingWheel<T> {
+
+    private static final int BITS = 6;
+    private static final int WHEEL_SIZE = 1 << BITS;
+    private static final int MASK = WHEEL_SIZE - 1;
+    // 6 레벨이면 2^36 틱까지 표현 (1초 틱 기준 약 2000년)
+    private static final int LEVELS = 6;
+
+    private final long tickMillis;
+    private final ArrayDeque<Entry<T>>[][] buckets;
+    // 이 틱까지의 항목은 모두 만료 처리됨
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("틱 간격은 0보다 커야 합니다: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        this.buckets = new ArrayDeque[LEVELS][WHEEL_SIZE];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                buckets[level][slot] = new ArrayDeque<>();
+            }
+        }
+    }
+
+    /**
+     * 항목을 deadlineMillis 이후 첫 틱에 만료되도록 등록한다
+     * 이미 지난 시각이면 다음 틱에 만료된다.
+     */
+    public synchronized void schedule(T item, long deadlineMillis) {
+        long deadlineTick = Math.max(-Math.floorDiv(-deadlineMillis, tickMillis), currentTick + 1);
+        place(new Entry<>(item, deadlineTick));
+        size++;
+    }
+
+    /**
+     * nowMillis 까지 휠을 진행하고 만료된 항목을 반환한다
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+        if (size == 0) {
+            // 등록된 항목이 없으면 빈 칸을 하나씩 지나갈 필요가 없다
+            currentTick = Math.max(currentTick, targetTick);
+            return expired;
+        }
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade(expired);
+            drain(buckets[0][(int) (currentTick & MASK)], expired);
+        }
+        size -= expired.size();
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 현재 틱이 상위 레벨 칸의 시작이면 그 칸의 항목을 하위 레벨로 다시 배치한다
+     */
+    private void cascade(List<T> expired) {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (BITS * level)) - 1)) != 0) {
+                return;
+            }
+            ArrayDeque<Entry<T>> bucket = buckets[level][(int) ((currentTick >>> (BITS * level)) & MASK)];
+            int count = bucket.size();
+            for (int i = 0; i < count; i++) {
+                Entry<T> entry = bucket.poll();
+                if (entry.deadlineTick <= currentTick) {
+                    expired.add(entry.item);
+                } else {
+                    place(entry);
+                }
+            }
+        }
+    }
+
+    private void drain(ArrayDeque<Entry<T>> bucket, List<T> expired) {
+        Entry<T> entry;
+        while ((entry = bucket.poll()) != null) {
+            expired.add(entry.item);
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = entry.deadlineTick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (BITS * (level + 1)))) {
+            level++;
+        }
+        // 최상위 레벨을 넘는 마감은 해당 칸이 돌아올 때 다시 배치된다
+        buckets[level][(int) ((entry.deadlineTick >>> (BITS * level)) & MASK)].add(entry);
+    }
+
+    private record Entry<T>(T item, long deadlineTick) {
+    }
+}
@@ -33,6 +33,16 @@ public record UserPoint(
         return new UserPoint(this.id, this.point - amount, System.currentTimeMillis());
     }
 
+    /**
+     * 유효기간이 지난 포인트를 소멸시킨다 (사용 단위/최소 금액 규칙은 적용하지 않음)
+     */
+    public UserPoint expire(long amount) {
+        validatePositiveAmount(amount);
+        validateSufficientBalance(amount);
+
+        return new UserPoint(this.id, this.point - amount, System.currentTimeMillis());
+    }
+
     // 검증 메서드들
     private void validatePositiveAmount(long amount) {
         if (amount <= 0) {
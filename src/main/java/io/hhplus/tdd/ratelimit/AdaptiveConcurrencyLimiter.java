@@ -0,0 +1,123 @@
+package io.hhplus.tdd.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관측한 지연 시간으로 동시 처리 한도를 조절하는 적응형 동시성 제한기 (gradient 방식)
+ *
+ * 처리 중인 요청 수가 한도에 도달하면 새 요청은 기다리지 않고 거절한다.
+ * window-size 건마다 창의 평균 지연(shortRtt)을 기준 지연(baseRtt)과 비교해 한도를 조절한다.
+ * - gradient = clamp(tolerance * baseRtt / shortRtt, 0.5, 1.0)
+ * - 새 한도 = 한도 * gradient + sqrt(한도)   (지연이 기준 이내이면 sqrt(한도)만큼 늘어남)
+ * - 창 안에 마감 초과/락 대기 실패 등 실패 응답이 있으면 한도를 10% 줄인다
+ * - 처리 중인 요청이 한도의 절반도 되지 않았던 창은 한도를 판단할 근거가 없으므로 유지한다
+ * 기준 지연은 지금까지 관측한 가장 낮은 창 평균이며, 느려진 백엔드를 다시 학습하도록 창마다 1%씩 완화한다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double BASE_RTT_DECAY = 1.01;
+    private static final double DROP_DECREASE = 0.9;
+
+    private final Settings settings;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejections;
+    private volatile double limit;
+
+    // 아래 필드는 this 로 보호
+    private double baseRttNanos;
+    private long windowSumNanos;
+    private int windowCount;
+    private int windowMaxInFlight;
+    private boolean windowDropped;
+
+    /**
+     * @param tolerance 기준 지연의 몇 배까지를 정상으로 볼지
+     * @param windowSize 한도를 다시 계산할 표본 수
+     * @param smoothing 새 한도를 반영하는 비율 (0~1)
+     */
+    public record Settings(int initialLimit, int minLimit, int maxLimit,
+                           double tolerance, int windowSize, double smoothing) {
+    }
+
+    public AdaptiveConcurrencyLimiter(String kind, Settings settings, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.limit = settings.initialLimit();
+        this.rejections = Counter.builder("point.concurrency.rejected")
+                .tag("kind", kind)
+                .description("동시 처리 한도 초과로 거절된 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("point.concurrency.limit", this, AdaptiveConcurrencyLimiter::limit)
+                .tag("kind", kind)
+                .description("현재 동시 처리 한도")
+                .register(meterRegistry);
+        Gauge.builder("point.concurrency.inflight", inFlight, AtomicInteger::get)
+                .tag("kind", kind)
+                .description("처리 중인 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 한도 안이면 true (반드시 release 를 호출해야 함), 한도를 넘으면 false
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit()) {
+                rejections.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @param latencyNanos 처리에 걸린 시간
+     * @param dropped 과부하로 실패한 요청인지 (마감 초과, 락 대기 실패 등)
+     */
+    public void release(long latencyNanos, boolean dropped) {
+        int inFlightBeforeRelease = inFlight.getAndDecrement();
+        onSample(latencyNanos, inFlightBeforeRelease, dropped);
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    private synchronized void onSample(long latencyNanos, int inFlightAtSample, boolean dropped) {
+        windowSumNanos += latencyNanos;
+        windowCount++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtSample);
+        windowDropped |= dropped;
+        if (windowCount < settings.windowSize()) {
+            return;
+        }
+
+        double shortRttNanos = (double) windowSumNanos / windowCount;
+        baseRttNanos = baseRttNanos == 0 ? shortRttNanos : Math.min(shortRttNanos, baseRttNanos * BASE_RTT_DECAY);
+
+        double current = limit;
+        double next;
+        if (windowDropped) {
+            next = current * DROP_DECREASE;
+        } else if (windowMaxInFlight < current / 2) {
+            next = current;
+        } else {
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, settings.tolerance() * baseRttNanos / shortRttNanos));
+            next = current * gradient + Math.sqrt(current);
+        }
+        next = current * (1 - settings.smoothing()) + next * settings.smoothing();
+        limit = Math.max(settings.minLimit(), Math.min(settings.maxLimit(), next));
+
+        windowSumNanos = 0;
+        windowCount = 0;
+        windowMaxInFlight = 0;
+        windowDropped = false;
+    }
+}
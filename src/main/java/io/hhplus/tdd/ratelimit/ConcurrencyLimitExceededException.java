@@ -0,0 +1,8 @@
+package io.hhplus.tdd.ratelimit;
+
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(String kind, int limit) {
+        super(String.format("동시 처리 한도를 초과했습니다. 종류: %s, 한도: %d", kind, limit));
+    }
+}
@@ -0,0 +1,69 @@
+package io.hhplus.tdd.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 포인트 조회/변경 요청을 각각의 적응형 동시성 한도로 제한한다
+ *
+ * GET 과 예상 결과 조회(/quote)는 조회 한도, 그 외 메서드는 변경 한도를 사용한다.
+ * 요청이 끝나면 처리 시간을 한도 계산에 반영하며, 503/504 응답은 과부하 신호로 본다.
+ * 비동기 핸들러는 결과를 응답하는 재디스패치에서 다시 획득하지 않고, 그 완료 시점에 한 번만 반납한다.
+ */
+@Component
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".start";
+    private static final String LIMITER_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".limiter";
+
+    private final boolean enabled;
+    private final AdaptiveConcurrencyLimiter readLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+
+    public ConcurrencyLimitInterceptor(MeterRegistry meterRegistry,
+                                       @Value("${point.concurrency.enabled:false}") boolean enabled,
+                                       @Value("${point.concurrency.read.initial-limit:64}") int readInitialLimit,
+                                       @Value("${point.concurrency.read.max-limit:512}") int readMaxLimit,
+                                       @Value("${point.concurrency.write.initial-limit:32}") int writeInitialLimit,
+                                       @Value("${point.concurrency.write.max-limit:256}") int writeMaxLimit,
+                                       @Value("${point.concurrency.min-limit:4}") int minLimit,
+                                       @Value("${point.concurrency.tolerance:1.5}") double tolerance,
+                                       @Value("${point.concurrency.window-size:20}") int windowSize,
+                                       @Value("${point.concurrency.smoothing:0.2}") double smoothing) {
+        this.enabled = enabled;
+        this.readLimiter = new AdaptiveConcurrencyLimiter("read", new AdaptiveConcurrencyLimiter.Settings(
+                readInitialLimit, minLimit, readMaxLimit, tolerance, windowSize, smoothing), meterRegistry);
+        this.writeLimiter = new AdaptiveConcurrencyLimiter("write", new AdaptiveConcurrencyLimiter.Settings(
+                writeInitialLimit, minLimit, writeMaxLimit, tolerance, windowSize, smoothing), meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || request.getAttribute(LIMITER_ATTRIBUTE) != null) {
+            return true;
+        }
+        boolean read = "GET".equalsIgnoreCase(request.getMethod()) || request.getRequestURI().endsWith("/quote");
+        AdaptiveConcurrencyLimiter limiter = read ? readLimiter : writeLimiter;
+        if (!limiter.tryAcquire()) {
+            throw new ConcurrencyLimitExceededException(read ? "read" : "write", limiter.limit());
+        }
+        request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(LIMITER_ATTRIBUTE) instanceof AdaptiveConcurrencyLimiter limiter)) {
+            return;
+        }
+        request.removeAttribute(LIMITER_ATTRIBUTE);
+        long latencyNanos = System.nanoTime() - (long) request.getAttribute(START_ATTRIBUTE);
+        int status = response.getStatus();
+        limiter.release(latencyNanos, status == 503 || status == 504);
+    }
+}
@@ -0,0 +1,170 @@
+package io.hhplus.tdd.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 충전/사용 요청의 사용자별 + 전체 처리율 제한
+ *
+ * 사용자 락과 테이블에 닿기 전에 호출되어, 한도를 넘는 요청은 바로 거절한다.
+ * 사용자별 버킷은 최대 max-users 개까지만 유지하며, 가득 찬(유휴) 버킷은 백그라운드에서 주기적으로 제거한다.
+ * 상한에 도달하면 버킷이 없는 새 사용자의 요청은 다음 제거 주기까지 거절한다 (요청 경로에서는 제거하지 않는다).
+ * 사용자 토큰을 꺼낸 뒤 전체 한도에 걸리면 사용자 토큰은 되돌린다.
+ */
+@Component
+public class PointRateLimiter {
+
+    private final boolean enabled;
+    private final double userPermitsPerSecond;
+    private final int userBurst;
+    private final int maxUsers;
+    private final long evictionIntervalMillis;
+    private final TokenBucket globalBucket;
+    private final ConcurrentHashMap<Long, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+    // 버킷을 만들기 전에 자리를 예약해 동시에 만들어도 max-users 를 넘지 않게 한다
+    private final AtomicInteger reservedBuckets = new AtomicInteger();
+    private final Counter userRejections;
+    private final Counter globalRejections;
+    private final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "point-rate-limit-evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public PointRateLimiter(MeterRegistry meterRegistry,
+                            @Value("${point.rate-limit.enabled:false}") boolean enabled,
+                            @Value("${point.rate-limit.user.permits-per-second:10}") double userPermitsPerSecond,
+                            @Value("${point.rate-limit.user.burst:20}") int userBurst,
+                            @Value("${point.rate-limit.global.permits-per-second:2000}") double globalPermitsPerSecond,
+                            @Value("${point.rate-limit.global.burst:4000}") int globalBurst,
+                            @Value("${point.rate-limit.max-users:100000}") int maxUsers,
+                            @Value("${point.rate-limit.eviction-interval-ms:10000}") long evictionIntervalMillis) {
+        this(meterRegistry, enabled, userPermitsPerSecond, userBurst, globalPermitsPerSecond, globalBurst, maxUsers,
+                evictionIntervalMillis, System.nanoTime());
+    }
+
+    /**
+     * @param startNanos 전체 버킷이 가득 차 있는 시각 (테스트에서 시각을 직접 넘길 때 사용)
+     */
+    PointRateLimiter(MeterRegistry meterRegistry, boolean enabled, double userPermitsPerSecond, int userBurst,
+                     double globalPermitsPerSecond, int globalBurst, int maxUsers, long evictionIntervalMillis,
+                     long startNanos) {
+        this.enabled = enabled;
+        this.userPermitsPerSecond = userPermitsPerSecond;
+        this.userBurst = userBurst;
+        this.maxUsers = maxUsers;
+        this.evictionIntervalMillis = evictionIntervalMillis;
+        this.globalBucket = new TokenBucket(globalPermitsPerSecond, globalBurst, startNanos);
+
+        this.userRejections = Counter.builder("point.ratelimit.rejected")
+                .tag("scope", "user")
+                .description("처리율 제한으로 거절된 요청 수")
+                .register(meterRegistry);
+        this.globalRejections = Counter.builder("point.ratelimit.rejected")
+                .tag("scope", "global")
+                .description("처리율 제한으로 거절된 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("point.ratelimit.buckets", userBuckets, ConcurrentHashMap::size)
+                .description("유지 중인 사용자별 버킷 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (enabled) {
+            evictor.scheduleWithFixedDelay(() -> evictIdle(System.nanoTime()),
+                    evictionIntervalMillis, evictionIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        evictor.shutdownNow();
+    }
+
+    /**
+     * 요청 한 건을 허용할지 판단한다
+     *
+     * @throws RateLimitExceededException 사용자 또는 전체 한도를 넘은 경우
+     */
+    public void acquire(long userId) {
+        if (enabled) {
+            acquire(userId, System.nanoTime());
+        }
+    }
+
+    void acquire(long userId, long nowNanos) {
+        TokenBucket userBucket = userBucket(userId, nowNanos);
+        if (userBucket == null) {
+            // 버킷 상한에 도달 - 다음 제거 주기에 다시 시도하게 한다
+            userRejections.increment();
+            throw new RateLimitExceededException("user", evictionIntervalMillis);
+        }
+        long userWaitNanos = userBucket.tryAcquire(nowNanos);
+        if (userWaitNanos > 0) {
+            userRejections.increment();
+            throw new RateLimitExceededException("user", toRetryAfterMillis(userWaitNanos));
+        }
+        long waitNanos = globalBucket.tryAcquire(nowNanos);
+        if (waitNanos > 0) {
+            userBucket.release();
+            globalRejections.increment();
+            throw new RateLimitExceededException("global", toRetryAfterMillis(waitNanos));
+        }
+    }
+
+    /**
+     * 가득 찬 사용자별 버킷을 제거한다 (백그라운드 전용, 버킷 수에 비례)
+     *
+     * @return 제거된 버킷 수
+     */
+    int evictIdle(long nowNanos) {
+        int evicted = 0;
+        for (Map.Entry<Long, TokenBucket> entry : userBuckets.entrySet()) {
+            if (entry.getValue().isIdle(nowNanos) && userBuckets.remove(entry.getKey(), entry.getValue())) {
+                reservedBuckets.decrementAndGet();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    int bucketCount() {
+        return userBuckets.size();
+    }
+
+    /**
+     * @return 사용자 버킷, 상한에 도달해 새로 만들 수 없으면 null
+     */
+    private TokenBucket userBucket(long userId, long nowNanos) {
+        TokenBucket bucket = userBuckets.get(userId);
+        if (bucket != null) {
+            return bucket;
+        }
+        return userBuckets.computeIfAbsent(userId, id -> {
+            if (reservedBuckets.incrementAndGet() > maxUsers) {
+                reservedBuckets.decrementAndGet();
+                return null;
+            }
+            return new TokenBucket(userPermitsPerSecond, userBurst, nowNanos);
+        });
+    }
+
+    private static long toRetryAfterMillis(long waitNanos) {
+        return Math.max(1L, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+    }
+}
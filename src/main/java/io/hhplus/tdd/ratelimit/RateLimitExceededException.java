@@ -0,0 +1,21 @@
+package io.hhplus.tdd.ratelimit;
+
+public class RateLimitExceededException extends RuntimeException {
+
+    private final String scope;
+    private final long retryAfterMillis;
+
+    public RateLimitExceededException(String scope, long retryAfterMillis) {
+        super(String.format("요청이 너무 많습니다. 범위: %s, 재시도 가능 시간: %dms 후", scope, retryAfterMillis));
+        this.scope = scope;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
@@ -0,0 +1,38 @@
+package io.hhplus.tdd.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 포인트 변경 요청을 컨트롤러 호출 전에 처리율 제한으로 거른다
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final PointRateLimiter pointRateLimiter;
+
+    public RateLimitInterceptor(PointRateLimiter pointRateLimiter) {
+        this.pointRateLimiter = pointRateLimiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> pathVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (pathVariables == null || pathVariables.get("id") == null) {
+            return true;
+        }
+        try {
+            pointRateLimiter.acquire(Long.parseLong(pathVariables.get("id")));
+        } catch (NumberFormatException ignored) {
+            // 잘못된 id 는 컨트롤러의 바인딩 오류로 처리된다
+        }
+        return true;
+    }
+}
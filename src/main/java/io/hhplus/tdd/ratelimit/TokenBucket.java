@@ -0,0 +1,63 @@
+package io.hhplus.tdd.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없이 동작하는 토큰 버킷
+ *
+ * 토큰 수와 마지막 충전 시각을 따로 두지 않고, "버킷이 다시 가득 차는 시각"(GCRA 의 이론적 도착 시각)
+ * 하나만 AtomicLong 으로 관리한다. 요청마다 이 값을 토큰 한 개 간격만큼 밀어내며,
+ * 밀어낸 값이 버스트 허용 범위를 넘으면 거절한다. 상태가 long 하나이므로 CAS 한 번으로 갱신된다.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAtNanos;
+
+    /**
+     * @param permitsPerSecond 초당 보충되는 토큰 수
+     * @param burst 버킷 최대 토큰 수
+     */
+    public TokenBucket(double permitsPerSecond, int burst, long nowNanos) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("토큰 버킷 설정이 올바르지 않습니다: rate=" + permitsPerSecond + ", burst=" + burst);
+        }
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / permitsPerSecond));
+        this.burstNanos = intervalNanos * burst;
+        this.fullAtNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 한 개를 꺼낸다
+     *
+     * @return 0 이면 허용, 양수이면 다음 토큰까지 기다려야 하는 시간(ns)
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long fullAt = fullAtNanos.get();
+            long next = Math.max(fullAt, nowNanos) + intervalNanos;
+            long waitNanos = next - burstNanos - nowNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (fullAtNanos.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * tryAcquire 로 꺼낸 토큰 한 개를 되돌린다 (다른 한도에 걸려 요청을 처리하지 않은 경우)
+     */
+    public void release() {
+        fullAtNanos.addAndGet(-intervalNanos);
+    }
+
+    /**
+     * 버킷이 가득 찬 상태이면 새로 만든 버킷과 구별되지 않으므로 제거해도 된다
+     */
+    public boolean isIdle(long nowNanos) {
+        return fullAtNanos.get() - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,17 @@
+package io.hhplus.tdd.shard;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * point.shard.count 설정으로 UserShards 를 등록한다 (0 이하이면 CPU 코어 수)
+ */
+@Configuration
+public class ShardConfig {
+
+    @Bean
+    public UserShards userShards(@Value("${point.shard.count:1}") int count) {
+        return new UserShards(count > 0 ? count : Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -0,0 +1,133 @@
+package io.hhplus.tdd.shard;
+
+import io.hhplus.tdd.deadline.Deadline;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 샤드별 작업 스레드 풀
+ *
+ * 사용자의 작업은 그 사용자가 속한 샤드의 풀에서만 실행하므로, 한 샤드에 요청이 몰려도 다른 샤드의 작업 스레드와
+ * 대기열은 영향을 받지 않는다. 호출 스레드의 마감 시각(Deadline)은 작업 스레드로 함께 전달된다.
+ *
+ * 샤드 대기열(queue-capacity)이 가득 차면 작업을 실행하지 않고 RejectedExecutionException 으로 실패한다.
+ */
+@Component
+public class ShardWorkers {
+
+    private final UserShards shards;
+    private final ThreadPoolExecutor[] pools;
+    // 작업 스레드가 속한 샤드 (같은 샤드 작업 안에서 다시 호출하면 대기 없이 바로 실행)
+    private final ThreadLocal<Integer> currentShard = new ThreadLocal<>();
+
+    @Autowired
+    public ShardWorkers(UserShards shards,
+                        @Value("${point.shard.workers-per-shard:64}") int workersPerShard,
+                        @Value("${point.shard.queue-capacity:1000}") int queueCapacity) {
+        if (workersPerShard <= 0) {
+            throw new IllegalArgumentException("샤드별 작업 스레드 수는 양수여야 합니다. 입력값: " + workersPerShard);
+        }
+        this.shards = shards;
+        this.pools = new ThreadPoolExecutor[shards.count()];
+        for (int index = 0; index < pools.length; index++) {
+            pools[index] = newPool(index, workersPerShard, queueCapacity);
+        }
+    }
+
+    private ShardWorkers() {
+        this.shards = UserShards.single();
+        this.pools = null;
+    }
+
+    /**
+     * 작업 스레드 없이 호출 스레드에서 바로 실행한다 (샤드 풀을 거치지 않는 테스트와 도구용)
+     */
+    public static ShardWorkers direct() {
+        return new ShardWorkers();
+    }
+
+    /**
+     * 사용자 샤드의 작업 스레드에서 실행하고 끝날 때까지 기다린다
+     *
+     * @throws RejectedExecutionException 샤드 대기열이 가득 찬 경우
+     */
+    public <T> T call(long userId, Supplier<T> task) {
+        int index = shards.indexOf(userId);
+        Integer current = currentShard.get();
+        if (pools == null || (current != null && current == index)) {
+            return task.get();
+        }
+        try {
+            return submit(index, task).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 사용자 샤드의 작업 스레드에서 실행한다
+     *
+     * @return 샤드 대기열이 가득 차면 RejectedExecutionException 으로 실패한 future
+     */
+    public <T> CompletableFuture<T> submit(long userId, Supplier<T> task) {
+        if (pools == null) {
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        try {
+            return submit(shards.indexOf(userId), task);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pools != null) {
+            for (ThreadPoolExecutor pool : pools) {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(int index, Supplier<T> task) {
+        Deadline deadline = Deadline.current();
+        return CompletableFuture.supplyAsync(() -> {
+            try (Deadline.Scope scope = Deadline.attach(deadline)) {
+                return task.get();
+            }
+        }, pools[index]);
+    }
+
+    private ThreadPoolExecutor newPool(int index, int workers, int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(workers, workers, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(() -> {
+                currentShard.set(index);
+                runnable.run();
+            }, "point-shard-" + index + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
@@ -0,0 +1,52 @@
+package io.hhplus.tdd.shard;
+
+/**
+ * 사용자 ID 해시로 N개의 샤드 중 하나를 고른다
+ *
+ * 샤드마다 락 레지스트리(ShardedUserLockProvider), 저장소(ShardedUserPointRepository, ShardedPointHistoryRepository),
+ * 작업 스레드 풀(ShardWorkers)을 따로 두므로 서로 다른 샤드의 사용자는 어떤 자료구조도 공유하지 않는다.
+ * 샤드가 하나면 샤딩하지 않은 구성과 같다.
+ */
+public final class UserShards {
+
+    private final int count;
+
+    public UserShards(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("샤드 수는 양수여야 합니다. 입력값: " + count);
+        }
+        this.count = count;
+    }
+
+    public static UserShards single() {
+        return new UserShards(1);
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public boolean isSharded() {
+        return count > 1;
+    }
+
+    /**
+     * @return hash(userId) % N
+     */
+    public int indexOf(long userId) {
+        return Math.floorMod(spread(userId), count);
+    }
+
+    /**
+     * 연속된 사용자 ID 가 특정 샤드에 몰리지 않도록 비트를 섞는다 (MurmurHash3 fmix64)
+     */
+    private static int spread(long userId) {
+        long h = userId;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
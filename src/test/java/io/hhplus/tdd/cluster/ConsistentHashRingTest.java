@@ -0,0 +1,102 @@
+package io.hhplus.tdd.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("일관 해시 링 테스트")
+class ConsistentHashRingTest {
+
+    private static final int USER_COUNT = 100_000;
+
+    private final ConsistentHashRing ring = new ConsistentHashRing(128)
+            .withNode("http://node-a")
+            .withNode("http://node-b")
+            .withNode("http://node-c");
+
+    @Test
+    @DisplayName("빈 링은 소유자가 없다")
+    void 빈_링은_소유자가_없다() {
+        assertNull(new ConsistentHashRing(16).ownerOf(1L));
+    }
+
+    @Test
+    @DisplayName("사용자는 노드에 고르게 분산된다")
+    void 사용자_고른_분산() {
+        // When
+        Map<String, Integer> counts = new HashMap<>();
+        for (long userId = 0; userId < USER_COUNT; userId++) {
+            counts.merge(ring.ownerOf(userId), 1, Integer::sum);
+        }
+
+        // Then - 각 노드가 평균(1/3)의 ±20% 안에서 사용자를 소유해야 함
+        assertEquals(3, counts.size());
+        double expected = USER_COUNT / 3.0;
+        counts.values().forEach(count ->
+                assertTrue(Math.abs(count - expected) < expected * 0.2, "분산 편차가 너무 큽니다: " + counts));
+    }
+
+    @Test
+    @DisplayName("노드가 합류하면 새 노드로 옮겨가는 사용자만 소유자가 바뀐다")
+    void 노드_합류_시_최소_이동() {
+        // When
+        ConsistentHashRing joined = ring.withNode("http://node-d");
+
+        // Then - 소유자가 바뀐 사용자는 모두 새 노드로 이동했고, 이동량은 약 1/4 이어야 함
+        int moved = 0;
+        for (long userId = 0; userId < USER_COUNT; userId++) {
+            String before = ring.ownerOf(userId);
+            String after = joined.ownerOf(userId);
+            if (!before.equals(after)) {
+                assertEquals("http://node-d", after);
+                moved++;
+            }
+        }
+        assertTrue(moved < USER_COUNT * 0.35, "이동한 사용자가 너무 많습니다: " + moved);
+    }
+
+    @Test
+    @DisplayName("합류한 노드에 구간을 넘겨준 노드는 합류 전후 소유자가 바뀐 사용자의 이전 소유자와 같다")
+    void 구간을_넘겨준_노드() {
+        // Given
+        ConsistentHashRing pair = new ConsistentHashRing(4).withNode("http://node-a").withNode("http://node-b");
+        ConsistentHashRing joined = pair.withNode("http://node-c");
+
+        // When
+        Set<String> losers = new HashSet<>();
+        for (long userId = 0; userId < USER_COUNT; userId++) {
+            if (!pair.ownerOf(userId).equals(joined.ownerOf(userId))) {
+                losers.add(pair.ownerOf(userId));
+            }
+        }
+
+        // Then
+        assertEquals(losers, joined.donorsOf("http://node-c"));
+        assertEquals(Set.of(), new ConsistentHashRing(16).withNode("http://node-a").donorsOf("http://node-a"));
+    }
+
+    @Test
+    @DisplayName("노드가 이탈하면 이탈한 노드의 사용자만 소유자가 바뀐다")
+    void 노드_이탈_시_최소_이동() {
+        // When
+        ConsistentHashRing left = ring.withoutNode("http://node-b");
+
+        // Then
+        for (long userId = 0; userId < USER_COUNT; userId++) {
+            String before = ring.ownerOf(userId);
+            String after = left.ownerOf(userId);
+            if (!before.equals("http://node-b")) {
+                assertEquals(before, after);
+            } else {
+                assertNotEquals("http://node-b", after);
+            }
+        }
+        assertFalse(left.nodes().contains("http://node-b"));
+    }
+}
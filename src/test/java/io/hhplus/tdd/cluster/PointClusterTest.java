@@ -0,0 +1,338 @@
+package io.hhplus.tdd.cluster;
+
+import com.sun.net.httpserver.HttpServer;
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.database.UserPointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * localhost 2노드 클러스터 테스트
+ *
+ * 소유하지 않은 사용자의 요청이 소유 노드로 전달되고, 노드 이탈 시 링이 재구성되는지 검증
+ * 서로 다른 노드가 소유한 사용자 사이의 전송은 어느 노드에서도 쓰지 않고 거절되는지 검증
+ * 링이 바뀐 사용자는 이전 소유 노드에서 인계받은 뒤에만 쓰는지, 전달 시 헤더와 남은 제한 시간이 유지되는지 검증
+ * 새 노드가 시드 노드로 합류하면 넘겨받은 구간의 잔액을 인계받고, 기존 노드는 그 구간을 더 쓰지 않는지 검증
+ * 구성원 변경과 인계 요청은 공유 비밀 값이 맞는 요청만 받는지 검증
+ */
+@DisplayName("포인트 클러스터 라우팅 테스트")
+class PointClusterTest {
+
+    private static final String SECRET = "cluster-test-secret";
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+    private String urlA;
+    private String urlB;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int portA = freePort();
+        int portB = freePort();
+        urlA = "http://localhost:" + portA;
+        urlB = "http://localhost:" + portB;
+        nodeA = startNode(portA, urlA, urlB);
+        nodeB = startNode(portB, urlB, urlA);
+        // 시드 노드끼리 서로 합류한 것으로 보므로 첫 인계가 끝난 뒤에 시작한다
+        awaitHandoff(nodeA.getBean(ClusterMembership.class));
+        awaitHandoff(nodeB.getBean(ClusterMembership.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    @DisplayName("소유하지 않은 사용자의 충전 요청은 소유 노드에서 처리된다")
+    void 비소유_사용자_요청_전달() throws Exception {
+        // Given - 노드 B가 소유한 사용자
+        long userId = userOwnedBy(nodeA.getBean(ClusterMembership.class), urlB);
+
+        // When - 노드 A로 충전 요청
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(urlA + "/point/" + userId + "/charge"))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("5000"))
+                .build());
+
+        // Then - 응답은 성공이고, 데이터는 노드 B에만 저장되어야 함
+        assertEquals(200, response.statusCode());
+        assertEquals(5_000L, nodeB.getBean(UserPointRepository.class).selectById(userId).point());
+        assertEquals(0L, nodeA.getBean(UserPointRepository.class).selectById(userId).point());
+    }
+
+    @Test
+    @DisplayName("노드가 이탈하면 남은 노드가 이탈한 노드의 사용자를 인계받아 이전 잔액에 이어 처리한다")
+    void 노드_이탈_후_재구성() throws Exception {
+        // Given - 노드 B에 잔액 5,000
+        ClusterMembership membership = nodeA.getBean(ClusterMembership.class);
+        long userId = userOwnedBy(membership, urlB);
+        charge(urlA, userId, 5_000L);
+
+        // When - 노드 A에서 노드 B를 이탈 처리하고 인계가 끝난 뒤 충전
+        send(admin(urlA + "/cluster/nodes?node=" + urlB).DELETE().build());
+        awaitHandoff(membership);
+        HttpResponse<String> response = charge(urlA, userId, 5_000L);
+
+        // Then - 요청은 노드 A에서 이전 잔액에 이어 처리되고, 노드 B는 넘긴 사용자를 더 쓰지 않음
+        assertEquals(200, response.statusCode());
+        assertTrue(membership.isOwner(userId));
+        assertEquals(10_000L, nodeA.getBean(UserPointRepository.class).selectById(userId).point());
+        assertEquals(409, charge(urlB, userId, 5_000L).statusCode());
+        assertEquals(5_000L, nodeB.getBean(UserPointRepository.class).selectById(userId).point());
+    }
+
+    @Test
+    @DisplayName("새 노드가 합류하면 기존 노드에서 구간의 잔액을 인계받아 이어 쓰고, 기존 노드는 넘긴 사용자를 더 쓰지 않는다")
+    void 노드_합류_후_인계() throws Exception {
+        // Given - 노드 C가 합류하면 노드 B에서 노드 C로 옮겨 갈 사용자에게 잔액 5,000
+        int portC = freePort();
+        String urlC = "http://localhost:" + portC;
+        ClusterMembership membershipA = nodeA.getBean(ClusterMembership.class);
+        long userId = userOwnedBy(membershipA.ringOf(List.of(urlA, urlB, urlC)), urlC, membershipA, urlB);
+        assertEquals(200, charge(urlA, userId, 5_000L).statusCode());
+
+        // When - 노드 C를 시드 노드 A, B 로 시작
+        ConfigurableApplicationContext nodeC = startNode(portC, urlC, urlA + "," + urlB);
+        try {
+            ClusterMembership membershipC = nodeC.getBean(ClusterMembership.class);
+            awaitHandoff(membershipC);
+            awaitMember(membershipA, urlC);
+            awaitMember(nodeB.getBean(ClusterMembership.class), urlC);
+            HttpResponse<String> response = charge(urlA, userId, 5_000L);
+
+            // 링이 바뀌기 전의 노드가 노드 B로 전달한 요청
+            HttpResponse<String> stale = send(HttpRequest.newBuilder(URI.create(urlB + "/point/" + userId + "/charge"))
+                    .header("Content-Type", "application/json")
+                    .header(PointRoutingFilter.FORWARDED_HEADER, urlA)
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString("5000"))
+                    .build());
+
+            // Then - 노드 C가 이전 잔액에 이어 처리하고, 노드 B는 넘긴 사용자를 더 쓰지 않음
+            assertEquals(200, response.statusCode());
+            assertEquals(10_000L, nodeC.getBean(UserPointRepository.class).selectById(userId).point());
+            assertEquals(409, stale.statusCode());
+            assertEquals(5_000L, nodeB.getBean(UserPointRepository.class).selectById(userId).point());
+        } finally {
+            nodeC.close();
+        }
+    }
+
+    @Test
+    @DisplayName("공유 비밀 값이 없거나 다른 구성원 변경, 인계 요청은 처리하지 않고 403 으로 응답한다")
+    void 클러스터_외부_요청_거절() throws Exception {
+        // Given
+        ClusterMembership membership = nodeA.getBean(ClusterMembership.class);
+        Set<String> before = membership.nodes();
+
+        // When
+        HttpResponse<String> leave = send(HttpRequest.newBuilder(URI.create(urlA + "/cluster/nodes?node=" + urlB))
+                .DELETE()
+                .build());
+        HttpResponse<String> join = send(HttpRequest.newBuilder(URI.create(urlA + "/cluster/nodes"))
+                .header(ClusterSecret.HEADER, "wrong-secret")
+                .POST(HttpRequest.BodyPublishers.ofString("http://localhost:1"))
+                .build());
+        HttpResponse<String> export = send(HttpRequest.newBuilder(URI.create(urlB + "/cluster/handoff?owner=" + urlA))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("[\"" + urlA + "\"]"))
+                .build());
+        HttpResponse<String> abandon = send(HttpRequest.newBuilder(URI.create(urlA + "/cluster/handoff/abandon?node=" + urlB))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build());
+        HttpResponse<String> nodes = send(HttpRequest.newBuilder(URI.create(urlA + "/cluster/nodes")).GET().build());
+
+        // Then - 조회만 허용되고 링은 그대로
+        assertEquals(403, leave.statusCode());
+        assertEquals(403, join.statusCode());
+        assertEquals(403, export.statusCode());
+        assertEquals(403, abandon.statusCode());
+        assertEquals(200, nodes.statusCode());
+        assertEquals(before, membership.nodes());
+    }
+
+    @Test
+    @DisplayName("응답하지 않는 노드의 사용자는 인계를 포기하기 전까지 쓰기가 거절된다")
+    void 인계_전_쓰기_거절() throws Exception {
+        // Given - 노드 B 중단
+        long userId = userOwnedBy(nodeA.getBean(ClusterMembership.class), urlB);
+        nodeB.close();
+
+        // When
+        send(admin(urlA + "/cluster/nodes?node=" + urlB).DELETE().build());
+        HttpResponse<String> pending = charge(urlA, userId, 5_000L);
+        send(admin(urlA + "/cluster/handoff/abandon?node=" + urlB)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build());
+        HttpResponse<String> abandoned = charge(urlA, userId, 5_000L);
+
+        // Then
+        assertEquals(503, pending.statusCode());
+        assertEquals(200, abandoned.statusCode());
+        assertEquals(5_000L, nodeA.getBean(UserPointRepository.class).selectById(userId).point());
+    }
+
+    @Test
+    @DisplayName("소유 노드로 전달할 때 요청 헤더와 남은 제한 시간, 응답 헤더를 함께 전달한다")
+    void 전달_헤더_유지() throws Exception {
+        // Given - 요청 헤더를 기록하는 가짜 노드를 링에 추가
+        Map<String, String> received = new ConcurrentHashMap<>();
+        HttpServer fake = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        fake.createContext("/", exchange -> {
+            exchange.getRequestHeaders().forEach((name, values) -> received.put(name.toLowerCase(), values.get(0)));
+            byte[] body = "{}".getBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("X-Served-By", "fake");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        fake.start();
+        String urlFake = "http://localhost:" + fake.getAddress().getPort();
+        try {
+            send(admin(urlA + "/cluster/nodes")
+                    .POST(HttpRequest.BodyPublishers.ofString(urlFake))
+                    .build());
+            long userId = userOwnedBy(nodeA.getBean(ClusterMembership.class), urlFake);
+
+            // When
+            HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(urlA + "/point/" + userId))
+                    .header("X-Request-Timeout-Ms", "2000")
+                    .header("X-Trace-Id", "trace-1")
+                    .GET()
+                    .build());
+
+            // Then
+            assertEquals(200, response.statusCode());
+            assertEquals("fake", response.headers().firstValue("X-Served-By").orElse(null));
+            assertEquals("trace-1", received.get("x-trace-id"));
+            assertEquals(urlA, received.get("x-point-forwarded-by"));
+            long forwardedTimeout = Long.parseLong(received.get("x-request-timeout-ms"));
+            assertTrue(forwardedTimeout > 0 && forwardedTimeout <= 2_000L, "전달된 제한 시간: " + forwardedTimeout);
+        } finally {
+            fake.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("서로 다른 노드가 소유한 사용자 사이의 전송은 거절되고 두 노드의 잔액은 바뀌지 않는다")
+    void 다른_노드_사용자_전송_거절() throws Exception {
+        // Given - 보내는 사용자는 노드 B, 받는 사용자는 노드 A 소유
+        ClusterMembership membership = nodeA.getBean(ClusterMembership.class);
+        long fromId = userOwnedBy(membership, urlB);
+        long toId = userOwnedBy(membership, urlA);
+        send(HttpRequest.newBuilder(URI.create(urlA + "/point/" + fromId + "/charge"))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("10000"))
+                .build());
+
+        // When - 노드 A로 전송 요청 (보내는 사용자의 소유 노드 B로 전달됨)
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(urlA + "/point/" + fromId + "/transfer"))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                        "{\"toUserId\": " + toId + ", \"amount\": 5000}"))
+                .build());
+
+        // Then - 노드 B는 받는 사용자를 소유하지 않아 409 로 거절
+        assertEquals(409, response.statusCode());
+        assertTrue(response.body().contains("\"code\":\"409\""), response.body());
+        assertTrue(response.body().contains("사용자: " + toId + ", 소유 노드: " + urlA), response.body());
+        assertEquals(10_000L, nodeB.getBean(UserPointRepository.class).selectById(fromId).point());
+        assertEquals(0L, nodeA.getBean(UserPointRepository.class).selectById(toId).point());
+        assertEquals(0L, nodeB.getBean(UserPointRepository.class).selectById(toId).point());
+    }
+
+    private ConfigurableApplicationContext startNode(int port, String self, String peers) {
+        return new SpringApplicationBuilder(TddApplication.class)
+                .properties(
+                        "server.port=" + port,
+                        "point.cluster.enabled=true",
+                        "point.cluster.self=" + self,
+                        "point.cluster.nodes=" + self + "," + peers,
+                        "point.cluster.secret=" + SECRET
+                )
+                .run();
+    }
+
+    /**
+     * 다른 노드가 보내는 것처럼 공유 비밀 값을 실은 요청
+     */
+    private HttpRequest.Builder admin(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).header(ClusterSecret.HEADER, SECRET);
+    }
+
+    private HttpResponse<String> charge(String url, long userId, long amount) throws Exception {
+        return send(HttpRequest.newBuilder(URI.create(url + "/point/" + userId + "/charge"))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(amount)))
+                .build());
+    }
+
+    private void awaitHandoff(ClusterMembership membership) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!membership.pendingSources().isEmpty() && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+        assertTrue(membership.pendingSources().isEmpty(), "인계 대기: " + membership.pendingSources());
+    }
+
+    private void awaitMember(ClusterMembership membership, String node) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!membership.nodes().contains(node) && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+        assertTrue(membership.nodes().contains(node), "구성원: " + membership.nodes());
+        awaitHandoff(membership);
+    }
+
+    /**
+     * @return 지금은 membership 에서 previousOwner 가, 합류 후 링(next)에서는 node 가 소유하는 사용자
+     */
+    private long userOwnedBy(ConsistentHashRing next, String node, ClusterMembership membership, String previousOwner) {
+        for (long userId = 1; ; userId++) {
+            if (node.equals(next.ownerOf(userId)) && previousOwner.equals(membership.ownerOf(userId))) {
+                return userId;
+            }
+        }
+    }
+
+    private long userOwnedBy(ClusterMembership membership, String node) {
+        for (long userId = 1; ; userId++) {
+            if (node.equals(membership.ownerOf(userId))) {
+                return userId;
+            }
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
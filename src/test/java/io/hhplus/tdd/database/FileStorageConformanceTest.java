@@ -0,0 +1,152 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCheckpoint;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("저장소 적합성 테스트 - file")
+class FileStorageConformanceTest extends StorageConformanceTest {
+
+    private Path directory;
+
+    @Override
+    protected UserPointRepository newUserPointRepository() throws IOException {
+        directory = Files.createTempDirectory("point-storage");
+        return new FileUserPointRepository(directory, true);
+    }
+
+    @Override
+    protected PointHistoryRepository newPointHistoryRepository() {
+        return new FilePointHistoryRepository(directory, true);
+    }
+
+    @Override
+    protected String engine() {
+        return "file";
+    }
+
+    @AfterEach
+    void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("다시 열면 잔액, 내역, 체크포인트(압축으로 인한 삭제 포함)가 복원되고 새 내역 id 는 이어서 발급된다")
+    void 재시작_후_복원() {
+        // Given
+        userPointRepository.insertOrUpdate(1L, 5_000L);
+        userPointRepository.insertOrUpdate(1L, 15_000L);
+        PointHistory first = pointHistoryRepository.insert(1L, 5_000L, TransactionType.CHARGE, 1_000L);
+        PointHistory second = pointHistoryRepository.insert(1L, 10_000L, TransactionType.CHARGE, 2_000L);
+        PointHistoryCheckpoint checkpoint = new PointHistoryCheckpoint(1L, LocalDate.of(2026, 1, 1), 5_000L, 0L, 1,
+                first.id());
+        pointHistoryRepository.compact(1L, List.of(checkpoint));
+
+        // When
+        reopen();
+        PointHistory third = pointHistoryRepository.insert(1L, 1_000L, TransactionType.USE, 3_000L);
+
+        // Then
+        assertEquals(15_000L, userPointRepository.selectById(1L).point());
+        assertEquals(List.of(second, third), pointHistoryRepository.selectAllByUserId(1L));
+        assertEquals(List.of(checkpoint), pointHistoryRepository.selectCheckpointsByUserId(1L));
+        assertTrue(third.id() > second.id());
+    }
+
+    @Test
+    @DisplayName("쓰는 도중 종료되어 마지막 레코드가 덜 쓰였으면 그 레코드만 버리고 연다")
+    void 덜_쓰인_레코드_무시() throws IOException {
+        // Given
+        userPointRepository.insertOrUpdate(1L, 5_000L);
+        pointHistoryRepository.insert(1L, 5_000L, TransactionType.CHARGE, 1_000L);
+        close();
+        Files.write(directory.resolve(FileUserPointRepository.FILE_NAME), new byte[]{1, 2, 3}, StandardOpenOption.APPEND);
+        Files.write(directory.resolve(FilePointHistoryRepository.FILE_NAME), new byte[]{1, 2}, StandardOpenOption.APPEND);
+
+        // When
+        open();
+        userPointRepository.insertOrUpdate(2L, 10_000L);
+        reopen();
+
+        // Then
+        assertEquals(5_000L, userPointRepository.selectById(1L).point());
+        assertEquals(10_000L, userPointRepository.selectById(2L).point());
+        assertEquals(1, pointHistoryRepository.selectAllByUserId(1L).size());
+    }
+
+    @Test
+    @DisplayName("덮어쓰기가 쌓인 로그는 다시 열 때 최신 값만 남기고 줄어든다")
+    void 로그_정리() throws IOException {
+        // Given - 사용자 2명이 각각 1,000번 덮어씀
+        for (int i = 1; i <= 1_000; i++) {
+            userPointRepository.insertOrUpdate(1L, i);
+            userPointRepository.insertOrUpdate(2L, i * 2L);
+        }
+        Path log = directory.resolve(FileUserPointRepository.FILE_NAME);
+        long before = Files.size(log);
+
+        // When
+        reopen();
+
+        // Then
+        System.out.println("로그 크기: " + before + " -> " + Files.size(log));
+        assertTrue(Files.size(log) < before / 100);
+        assertEquals(1_000L, userPointRepository.selectById(1L).point());
+        assertEquals(2_000L, userPointRepository.selectById(2L).point());
+    }
+
+    @Test
+    @DisplayName("가장 최근 내역까지 압축된 로그를 다시 쓴 뒤에도 이미 발급한 id 는 다시 발급하지 않는다")
+    void 로그_정리_후_id_유지() {
+        // Given - 로그 정리가 일어나도록 1,100건을 쓰고 모두 체크포인트로 압축
+        PointHistory last = null;
+        for (int i = 0; i < 1_100; i++) {
+            last = pointHistoryRepository.insert(1L, 100L, TransactionType.CHARGE, i);
+        }
+        pointHistoryRepository.compact(1L, List.of(
+                new PointHistoryCheckpoint(1L, LocalDate.of(2026, 1, 1), 110_000L, 0L, 1_100, last.id())));
+
+        // When - 처음 열 때 로그를 다시 쓰고, 다시 쓴 로그로 한 번 더 연다
+        reopen();
+        reopen();
+        PointHistory next = pointHistoryRepository.insert(1L, 100L, TransactionType.CHARGE, 2_000L);
+
+        // Then
+        assertTrue(next.id() > last.id());
+        assertEquals(List.of(next), pointHistoryRepository.selectAllByUserId(1L));
+        assertEquals(1, pointHistoryRepository.selectCheckpointsByUserId(1L).size());
+    }
+
+    private void reopen() {
+        close();
+        open();
+    }
+
+    private void open() {
+        userPointRepository = new FileUserPointRepository(directory, true);
+        pointHistoryRepository = new FilePointHistoryRepository(directory, true);
+    }
+
+    private void close() {
+        ((FileUserPointRepository) userPointRepository).close();
+        ((FilePointHistoryRepository) pointHistoryRepository).close();
+    }
+}
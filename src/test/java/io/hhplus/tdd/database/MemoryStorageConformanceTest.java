@@ -0,0 +1,22 @@
+package io.hhplus.tdd.database;
+
+import org.junit.jupiter.api.DisplayName;
+
+@DisplayName("저장소 적합성 테스트 - memory")
+class MemoryStorageConformanceTest extends StorageConformanceTest {
+
+    @Override
+    protected UserPointRepository newUserPointRepository() {
+        return new UserPointTable();
+    }
+
+    @Override
+    protected PointHistoryRepository newPointHistoryRepository() {
+        return new PointHistoryTable();
+    }
+
+    @Override
+    protected String engine() {
+        return "memory";
+    }
+}
@@ -0,0 +1,102 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 테이블 단독 동시성 스트레스 테스트
+ *
+ * PointService 의 사용자별 락 없이, 수백 명의 사용자가 병렬로 쓰는 상황에서
+ * 내역 id 의 유일성과 행 수가 보장되는지 검증
+ */
+@DisplayName("테이블 동시성 스트레스 테스트")
+class PointTableConcurrencyTest {
+
+    private static final int USER_COUNT = 300;
+    private static final int INSERTS_PER_USER = 5;
+    private static final int THREAD_COUNT = 128;
+
+    @Test
+    @DisplayName("수백 명의 사용자가 병렬로 내역을 쓰면 id 는 유일하고 행은 유실되지 않는다")
+    void 병렬_내역_삽입_id_유일성과_행_수() throws InterruptedException {
+        // Given
+        PointHistoryTable table = new PointHistoryTable();
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(USER_COUNT * INSERTS_PER_USER);
+
+        // When - 같은 사용자의 삽입도 서로 다른 스레드에서 동시에 실행
+        for (int i = 0; i < INSERTS_PER_USER; i++) {
+            for (long userId = 1; userId <= USER_COUNT; userId++) {
+                long id = userId;
+                executorService.submit(() -> {
+                    try {
+                        table.insert(id, 5_000L, TransactionType.CHARGE, System.currentTimeMillis());
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        Set<Long> ids = new HashSet<>();
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            List<PointHistory> histories = table.selectAllByUserId(userId);
+            assertEquals(INSERTS_PER_USER, histories.size(), "사용자 " + userId + "의 내역이 유실되었습니다.");
+            for (int i = 1; i < histories.size(); i++) {
+                assertTrue(histories.get(i - 1).id() < histories.get(i).id(), "사용자별 내역은 id 순서여야 합니다.");
+            }
+            histories.forEach(history -> assertTrue(ids.add(history.id()), "중복 id: " + history.id()));
+        }
+        assertEquals(USER_COUNT * INSERTS_PER_USER, ids.size());
+    }
+
+    @Test
+    @DisplayName("수백 명의 사용자가 병렬로 잔액을 쓰면 모든 사용자의 잔액이 저장된다")
+    void 병렬_잔액_저장() throws Exception {
+        // Given
+        UserPointTable table = new UserPointTable();
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(USER_COUNT);
+
+        // When
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            long id = userId;
+            executorService.submit(() -> {
+                try {
+                    table.insertOrUpdate(id, id * 100);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        // Then - 조회도 병렬로 수행해 테이블 지연이 누적되지 않도록 함
+        List<Callable<Boolean>> checks = new ArrayList<>();
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            long id = userId;
+            checks.add(() -> table.selectById(id).point() == id * 100);
+        }
+        for (Future<Boolean> check : executorService.invokeAll(checks)) {
+            assertTrue(check.get(), "저장된 잔액이 유실되었습니다.");
+        }
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,131 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.shard.UserShards;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("저장소 적합성 테스트 - file, 샤드 4개")
+class ShardedStorageConformanceTest extends StorageConformanceTest {
+
+    private static final UserShards SHARDS = new UserShards(4);
+
+    private final StorageConfig storageConfig = new StorageConfig();
+    private Path directory;
+
+    @Override
+    protected UserPointRepository newUserPointRepository() throws IOException {
+        directory = Files.createTempDirectory("point-storage");
+        return storageConfig.userPointRepository("file", directory.toString(), true, SHARDS);
+    }
+
+    @Override
+    protected PointHistoryRepository newPointHistoryRepository() {
+        return storageConfig.pointHistoryRepository("file", directory.toString(), true, SHARDS);
+    }
+
+    @Override
+    protected String engine() {
+        return "file-sharded";
+    }
+
+    @AfterEach
+    void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("사용자는 hash(userId) % N 으로 고른 샤드 디렉터리에만 기록되고, 내역 id 는 샤드 사이에서도 겹치지 않는다")
+    void 샤드별_기록() throws Exception {
+        // Given
+        Set<Long> ids = new HashSet<>();
+        Set<Integer> usedShards = new HashSet<>();
+
+        // When
+        for (long userId = 1; userId <= 40; userId++) {
+            userPointRepository.insertOrUpdate(userId, userId * 100L);
+            ids.add(pointHistoryRepository.insert(userId, 100L, TransactionType.CHARGE, userId).id());
+            ids.add(pointHistoryRepository.insert(userId, 100L, TransactionType.CHARGE, userId).id());
+            usedShards.add(SHARDS.indexOf(userId));
+        }
+        reopen();
+        PointHistory next = pointHistoryRepository.insert(1L, 100L, TransactionType.CHARGE, 100L);
+
+        // Then
+        assertEquals(80, ids.size());
+        assertEquals(4, usedShards.size());
+        assertFalse(ids.contains(next.id()));
+        assertEquals(40, pointHistoryRepository.userIds().size());
+        assertEquals(4_000L, userPointRepository.selectById(40L).point());
+        for (int index = 0; index < SHARDS.count(); index++) {
+            assertTrue(Files.exists(directory.resolve("shard-" + index).resolve(FilePointHistoryRepository.FILE_NAME)));
+        }
+        assertFalse(Files.exists(directory.resolve(FilePointHistoryRepository.FILE_NAME)));
+    }
+
+    @Test
+    @DisplayName("기록된 샤드 수와 다른 설정으로는 저장소를 열지 않는다")
+    void 샤드_수_변경_거부() throws Exception {
+        // Given
+        userPointRepository.insertOrUpdate(1L, 5_000L);
+        close();
+
+        // When & Then
+        assertThrows(IllegalStateException.class,
+                () -> storageConfig.userPointRepository("file", directory.toString(), true, new UserShards(2)));
+        assertThrows(IllegalStateException.class,
+                () -> storageConfig.pointHistoryRepository("file", directory.toString(), true, UserShards.single()));
+        open();
+    }
+
+    @Test
+    @DisplayName("샤드 없이 기록된 저장소는 샤드로 나눠 열지 않는다")
+    void 샤드_없는_저장소_거부() throws IOException {
+        // Given
+        Path legacy = Files.createTempDirectory("point-storage");
+        new FileUserPointRepository(legacy, true).close();
+
+        try {
+            // When & Then
+            assertThrows(IllegalStateException.class,
+                    () -> storageConfig.userPointRepository("file", legacy.toString(), true, SHARDS));
+        } finally {
+            try (Stream<Path> files = Files.walk(legacy)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private void reopen() throws Exception {
+        close();
+        open();
+    }
+
+    private void open() {
+        userPointRepository = storageConfig.userPointRepository("file", directory.toString(), true, SHARDS);
+        pointHistoryRepository = storageConfig.pointHistoryRepository("file", directory.toString(), true, SHARDS);
+    }
+
+    private void close() throws Exception {
+        ((AutoCloseable) userPointRepository).close();
+        ((AutoCloseable) pointHistoryRepository).close();
+    }
+}
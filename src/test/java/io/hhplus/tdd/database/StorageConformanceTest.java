@@ -0,0 +1,207 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryCheckpoint;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 저장소 SPI 공통 적합성/성능 테스트
+ *
+ * 엔진마다 이 클래스를 상속해 저장소를 만드는 메서드만 구현한다.
+ * 성능 테스트는 같은 작업량의 처리량과 지연 분위수를 엔진 이름과 함께 출력하므로 엔진끼리 나란히 비교할 수 있다.
+ */
+abstract class StorageConformanceTest {
+
+    private static final int PERF_THREADS = 16;
+    private static final int PERF_OPERATIONS_PER_THREAD = 20;
+
+    protected UserPointRepository userPointRepository;
+    protected PointHistoryRepository pointHistoryRepository;
+
+    /**
+     * 테스트마다 비어 있는 저장소를 만든다
+     */
+    protected abstract UserPointRepository newUserPointRepository() throws Exception;
+
+    protected abstract PointHistoryRepository newPointHistoryRepository() throws Exception;
+
+    protected abstract String engine();
+
+    @BeforeEach
+    void setUpStorage() throws Exception {
+        userPointRepository = newUserPointRepository();
+        pointHistoryRepository = newPointHistoryRepository();
+    }
+
+    @AfterEach
+    void tearDownStorage() throws Exception {
+        if (userPointRepository instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        if (pointHistoryRepository instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Test
+    @DisplayName("저장하지 않은 사용자는 0 포인트이고, 저장하면 마지막 값으로 조회된다")
+    void 잔액_저장_조회() {
+        // When
+        UserPoint empty = userPointRepository.selectById(1L);
+        userPointRepository.insertOrUpdate(1L, 5_000L);
+        UserPoint saved = userPointRepository.insertOrUpdate(1L, 7_000L);
+
+        // Then
+        assertEquals(0L, empty.point());
+        assertEquals(7_000L, saved.point());
+        assertEquals(saved, userPointRepository.selectById(1L));
+        assertEquals(0L, userPointRepository.selectById(2L).point());
+    }
+
+    @Test
+    @DisplayName("내역은 사용자별로 id 오름차순으로 조회되고 다른 사용자의 내역은 섞이지 않는다")
+    void 사용자별_내역_조회() {
+        // When
+        PointHistory first = pointHistoryRepository.insert(1L, 5_000L, TransactionType.CHARGE, 1_000L);
+        pointHistoryRepository.insert(2L, 10_000L, TransactionType.CHARGE, 1_500L);
+        PointHistory second = pointHistoryRepository.insert(1L, 1_000L, TransactionType.USE, 2_000L);
+
+        // Then
+        assertEquals(List.of(first, second), pointHistoryRepository.selectAllByUserId(1L));
+        assertEquals(1, pointHistoryRepository.selectAllByUserId(2L).size());
+        assertTrue(pointHistoryRepository.selectAllByUserId(3L).isEmpty());
+        assertEquals(Set.of(1L, 2L), pointHistoryRepository.userIds());
+        assertEquals(new PointHistory(first.id(), 1L, 5_000L, TransactionType.CHARGE, 1_000L), first);
+    }
+
+    @Test
+    @DisplayName("체크포인트를 저장하면 체크포인트에 합쳐진 내역만 삭제되고 같은 일자의 체크포인트는 대체된다")
+    void 체크포인트_저장과_내역_삭제() {
+        // Given
+        List<PointHistory> histories = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            histories.add(pointHistoryRepository.insert(1L, 5_000L, TransactionType.CHARGE, i));
+        }
+        pointHistoryRepository.insert(2L, 5_000L, TransactionType.CHARGE, 0L);
+        LocalDate day1 = LocalDate.of(2026, 1, 1);
+        LocalDate day2 = LocalDate.of(2026, 1, 2);
+
+        // When
+        int deleted = pointHistoryRepository.compact(1L, List.of(
+                new PointHistoryCheckpoint(1L, day1, 10_000L, 0L, 2, histories.get(1).id()),
+                new PointHistoryCheckpoint(1L, day2, 5_000L, 0L, 1, histories.get(2).id())));
+        int again = pointHistoryRepository.compact(1L, List.of(
+                new PointHistoryCheckpoint(1L, day2, 10_000L, 0L, 2, histories.get(3).id())));
+
+        // Then
+        assertEquals(3, deleted);
+        assertEquals(1, again);
+        assertEquals(histories.subList(4, 5), pointHistoryRepository.selectAllByUserId(1L));
+        assertEquals(List.of(
+                new PointHistoryCheckpoint(1L, day1, 10_000L, 0L, 2, histories.get(1).id()),
+                new PointHistoryCheckpoint(1L, day2, 10_000L, 0L, 2, histories.get(3).id())),
+                pointHistoryRepository.selectCheckpointsByUserId(1L));
+        assertEquals(1, pointHistoryRepository.selectAllByUserId(2L).size());
+        assertTrue(pointHistoryRepository.selectCheckpointsByUserId(2L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 삽입해도 id 는 유일하고 사용자별 순서가 유지된다")
+    void 동시_삽입() throws Exception {
+        // Given
+        int threads = 8;
+        int insertsPerThread = 25;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < insertsPerThread; i++) {
+                    pointHistoryRepository.insert(i % 4, 100L, TransactionType.USE, i);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        Set<Long> ids = new HashSet<>();
+        for (long userId = 0; userId < 4; userId++) {
+            List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(userId);
+            for (int i = 1; i < histories.size(); i++) {
+                assertTrue(histories.get(i - 1).id() < histories.get(i).id());
+            }
+            histories.forEach(history -> ids.add(history.id()));
+        }
+        assertEquals(threads * insertsPerThread, ids.size());
+    }
+
+    @Test
+    @DisplayName("같은 작업량(잔액 조회/저장, 내역 추가/조회)의 처리량과 지연 분위수를 출력한다")
+    void 성능_비교() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(PERF_THREADS);
+        List<Future<long[]>> futures = new ArrayList<>();
+
+        // When
+        long start = System.nanoTime();
+        for (int t = 0; t < PERF_THREADS; t++) {
+            long userId = t;
+            futures.add(executor.submit(() -> {
+                long[] latencies = new long[PERF_OPERATIONS_PER_THREAD];
+                for (int i = 0; i < PERF_OPERATIONS_PER_THREAD; i++) {
+                    long operationStart = System.nanoTime();
+                    switch (i % 4) {
+                        case 0 -> userPointRepository.selectById(userId);
+                        case 1 -> userPointRepository.insertOrUpdate(userId, i * 100L);
+                        case 2 -> pointHistoryRepository.insert(userId, 100L, TransactionType.CHARGE, i);
+                        default -> pointHistoryRepository.selectAllByUserId(userId);
+                    }
+                    latencies[i] = System.nanoTime() - operationStart;
+                }
+                return latencies;
+            }));
+        }
+        long[] latencies = new long[PERF_THREADS * PERF_OPERATIONS_PER_THREAD];
+        int index = 0;
+        for (Future<long[]> future : futures) {
+            for (long latency : future.get(120, TimeUnit.SECONDS)) {
+                latencies[index++] = latency;
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdown();
+
+        // Then
+        Arrays.sort(latencies);
+        System.out.printf("[storage:%s] %d ops, %.0f ops/s, p50 %.3fms, p99 %.3fms%n", engine(), latencies.length,
+                latencies.length * 1e9 / elapsedNanos, percentileMillis(latencies, 0.50),
+                percentileMillis(latencies, 0.99));
+        assertEquals(PERF_THREADS, pointHistoryRepository.userIds().size());
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * percentile))] / 1e6;
+    }
+}
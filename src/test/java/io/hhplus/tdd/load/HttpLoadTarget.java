@@ -0,0 +1,52 @@
+package io.hhplus.tdd.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * 실행 중인 서버의 /point API 로 부하를 주는 대상
+ *
+ * 4xx 응답(도메인 검증 실패, 처리율 제한 등)은 서버가 응답한 것으로 보고, 5xx 와 연결 실패만 오류로 센다.
+ */
+public class HttpLoadTarget implements LoadTarget {
+
+    private static final long CHARGE_AMOUNT = 5_000L;
+    private static final long USE_AMOUNT = 1_000L;
+
+    private final String baseUrl;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public HttpLoadTarget(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    @Override
+    public void execute(LoadOperation operation, long userId) throws Exception {
+        HttpRequest request = switch (operation) {
+            case CHARGE -> patch(userId + "/charge", CHARGE_AMOUNT);
+            case USE -> patch(userId + "/use", USE_AMOUNT);
+            case POINT -> get(String.valueOf(userId));
+            case HISTORY -> get(userId + "/histories");
+        };
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 500) {
+            throw new IllegalStateException("서버 오류 응답: " + response.statusCode());
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/point/" + path)).GET().build();
+    }
+
+    private HttpRequest patch(String path, long amount) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/point/" + path))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(amount)))
+                .build();
+    }
+}
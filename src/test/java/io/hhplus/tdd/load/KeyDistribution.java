@@ -0,0 +1,51 @@
+package io.hhplus.tdd.load;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 대상 사용자 ID 분포
+ * - uniform : 1 ~ users 균등
+ * - zipf : 순위 k 의 확률이 1/k^s 에 비례 (소수 사용자에게 요청이 몰림)
+ * - hot : 모든 요청이 사용자 1
+ */
+public interface KeyDistribution {
+
+    long next();
+
+    static KeyDistribution uniform(int users) {
+        return () -> ThreadLocalRandom.current().nextLong(users) + 1;
+    }
+
+    static KeyDistribution hot() {
+        return () -> 1L;
+    }
+
+    static KeyDistribution zipf(int users, double exponent) {
+        double[] cumulative = new double[users];
+        double sum = 0;
+        for (int rank = 1; rank <= users; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        double total = sum;
+        return () -> {
+            double target = ThreadLocalRandom.current().nextDouble() * total;
+            int index = Arrays.binarySearch(cumulative, target);
+            return (index >= 0 ? index : -index - 1) + 1L;
+        };
+    }
+
+    /**
+     * @param spec uniform | zipf[:지수] | hot
+     */
+    static KeyDistribution parse(String spec, int users) {
+        String[] parts = spec.split(":");
+        return switch (parts[0]) {
+            case "uniform" -> uniform(users);
+            case "zipf" -> zipf(users, parts.length > 1 ? Double.parseDouble(parts[1]) : 1.0);
+            case "hot" -> hot();
+            default -> throw new IllegalArgumentException("지원하지 않는 사용자 분포입니다: " + spec);
+        };
+    }
+}
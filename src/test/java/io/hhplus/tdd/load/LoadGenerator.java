@@ -0,0 +1,113 @@
+package io.hhplus.tdd.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LoadProfile 에 따라 LoadTarget 에 부하를 주고 지연 시간을 HdrHistogram 으로 기록한다
+ *
+ * - closed-loop : concurrency 개 워커가 응답을 받는 즉시 다음 요청을 보낸다 (처리량 측정)
+ * - open-loop : 응답과 무관하게 ratePerSecond 로 요청을 발행한다.
+ *   지연 시간은 실제 시작 시각이 아니라 예정된 발행 시각부터 재므로, 대상이 밀려도 지연이 과소 측정되지 않는다.
+ * warmup 동안의 결과는 버린다.
+ */
+public class LoadGenerator {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final LoadProfile profile;
+    private final LoadTarget target;
+    private final KeyDistribution keyDistribution;
+    private final Map<LoadOperation, Histogram> histograms = new EnumMap<>(LoadOperation.class);
+    private final Map<LoadOperation, AtomicLong> errors = new EnumMap<>(LoadOperation.class);
+    private volatile long measureFromNanos;
+
+    public LoadGenerator(LoadProfile profile, LoadTarget target) {
+        this.profile = profile;
+        this.target = target;
+        this.keyDistribution = profile.keyDistribution();
+        for (LoadOperation operation : LoadOperation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    public LoadReport run() throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(profile.concurrency(), runnable -> {
+            Thread thread = new Thread(runnable, "load-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long startNanos = System.nanoTime();
+        measureFromNanos = startNanos + profile.warmup().toNanos();
+        long endNanos = measureFromNanos + profile.duration().toNanos();
+        try {
+            if (profile.isOpenLoop()) {
+                runOpenLoop(workers, startNanos, endNanos);
+            } else {
+                runClosedLoop(workers, endNanos);
+            }
+        } finally {
+            workers.shutdown();
+            workers.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        long measuredMillis = TimeUnit.NANOSECONDS.toMillis(Math.max(0, endNanos - measureFromNanos));
+
+        Map<LoadOperation, LoadReport.OperationStats> operations = new EnumMap<>(LoadOperation.class);
+        for (LoadOperation operation : profile.mix().keySet()) {
+            operations.put(operation, LoadReport.OperationStats.of(
+                    histograms.get(operation), errors.get(operation).get(), measuredMillis));
+        }
+        return new LoadReport(profile, operations, measuredMillis);
+    }
+
+    private void runClosedLoop(ExecutorService workers, long endNanos) {
+        for (int i = 0; i < profile.concurrency(); i++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < endNanos) {
+                    execute(System.nanoTime());
+                }
+            });
+        }
+    }
+
+    private void runOpenLoop(ExecutorService workers, long startNanos, long endNanos) {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / profile.ratePerSecond());
+        for (long scheduledNanos = startNanos; scheduledNanos < endNanos; scheduledNanos += intervalNanos) {
+            long waitNanos = scheduledNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            long intendedStartNanos = scheduledNanos;
+            workers.execute(() -> execute(intendedStartNanos));
+        }
+    }
+
+    private void execute(long intendedStartNanos) {
+        LoadOperation operation = profile.nextOperation();
+        long userId = keyDistribution.next();
+        boolean failed = false;
+        try {
+            target.execute(operation, userId);
+        } catch (Exception e) {
+            failed = true;
+        }
+        // warmup 중에 시작된 요청은 집계하지 않는다
+        if (intendedStartNanos - measureFromNanos < 0) {
+            return;
+        }
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+        histograms.get(operation).recordValue(Math.max(latencyMicros, 0));
+        if (failed) {
+            errors.get(operation).incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.hhplus.tdd.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("부하 생성 하네스 테스트")
+class LoadGeneratorTest {
+
+    @Test
+    @DisplayName("zipf 분포는 상위 사용자에게 요청이 몰리고, hot 분포는 한 사용자만 고른다")
+    void 사용자_분포() {
+        // Given
+        KeyDistribution zipf = KeyDistribution.parse("zipf:1.2", 1_000);
+        KeyDistribution hot = KeyDistribution.parse("hot", 1_000);
+
+        // When
+        int topTen = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long userId = zipf.next();
+            assertTrue(userId >= 1 && userId <= 1_000);
+            if (userId <= 10) {
+                topTen++;
+            }
+        }
+
+        // Then - 상위 1% 사용자가 절반 이상의 요청을 받음
+        System.out.println("zipf 상위 10명 비율: " + topTen / 100.0 + "%");
+        assertTrue(topTen > 5_000);
+        assertEquals(1L, hot.next());
+    }
+
+    @Test
+    @DisplayName("closed-loop 는 작업 비율대로 실행하고 결과를 JSON 으로 남긴다")
+    void closed_loop_작업_비율과_JSON() throws Exception {
+        // Given
+        LoadProfile profile = new LoadProfile("harness-closed", LoadProfile.parseMix("charge:1,point:3"),
+                "uniform", 10, 0, 4, Duration.ofMillis(100), Duration.ofMillis(500));
+        AtomicInteger failures = new AtomicInteger();
+        LoadTarget target = (operation, userId) -> {
+            TimeUnit.MILLISECONDS.sleep(1);
+            if (operation == LoadOperation.CHARGE && failures.incrementAndGet() % 10 == 0) {
+                throw new IllegalStateException("실패 주입");
+            }
+        };
+
+        // When
+        LoadReport report = new LoadGenerator(profile, target).run();
+
+        // Then
+        System.out.print(report.summary());
+        Map<LoadOperation, LoadReport.OperationStats> operations = report.operations();
+        assertEquals(2, operations.size());
+        long charges = operations.get(LoadOperation.CHARGE).count();
+        long points = operations.get(LoadOperation.POINT).count();
+        assertTrue(points > charges * 2, "작업 비율은 가중치를 따라야 합니다.");
+        assertTrue(operations.get(LoadOperation.CHARGE).errors() > 0);
+        assertTrue(report.toJson().contains("\"p99Micros\""));
+        assertTrue(report.toJson().contains("\"mode\":\"closed\""));
+    }
+
+    @Test
+    @DisplayName("open-loop 는 대상이 밀리면 예정 발행 시각부터의 대기 시간까지 지연으로 기록한다")
+    void open_loop_대기_시간_포함() throws Exception {
+        // Given - 초당 100건을 보내지만 대상은 한 번에 하나씩 20ms 씩 처리 (초당 50건)
+        LoadProfile profile = new LoadProfile("harness-open", LoadProfile.parseMix("point:1"),
+                "hot", 1, 100, 1, Duration.ZERO, Duration.ofMillis(500));
+        LoadTarget target = (operation, userId) -> TimeUnit.MILLISECONDS.sleep(20);
+
+        // When
+        LoadReport report = new LoadGenerator(profile, target).run();
+
+        // Then - 처리 시간은 20ms 지만 뒤에 발행된 요청일수록 대기 시간이 쌓임
+        LoadReport.OperationStats stats = report.operations().get(LoadOperation.POINT);
+        System.out.print(report.summary());
+        assertTrue(stats.maxMicros() > 100_000L, "대기 시간이 지연에 포함되어야 합니다: " + stats.maxMicros());
+    }
+}
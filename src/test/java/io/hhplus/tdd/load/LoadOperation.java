@@ -0,0 +1,8 @@
+package io.hhplus.tdd.load;
+
+/**
+ * 부하 생성기가 실행하는 작업 종류
+ */
+public enum LoadOperation {
+    CHARGE, USE, POINT, HISTORY
+}
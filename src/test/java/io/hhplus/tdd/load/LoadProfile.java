@@ -0,0 +1,76 @@
+package io.hhplus.tdd.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 생성 설정
+ *
+ * @param mix 작업별 가중치
+ * @param keys 사용자 ID 분포 (uniform | zipf[:지수] | hot)
+ * @param ratePerSecond 0 이면 closed-loop (워커가 응답을 받자마자 다음 요청), 양수이면 open-loop 고정 도착률
+ * @param concurrency closed-loop 워커 수 / open-loop 최대 동시 요청 수
+ */
+public record LoadProfile(
+        String name,
+        Map<LoadOperation, Integer> mix,
+        String keys,
+        int users,
+        double ratePerSecond,
+        int concurrency,
+        Duration warmup,
+        Duration duration
+) {
+
+    /**
+     * load.* 시스템 프로퍼티로 설정을 읽는다 (./gradlew loadTest -Pload.users=1000 ...)
+     *
+     * 예) load.mix=charge:2,use:2,point:5,history:1 / load.keys=zipf:1.1 / load.rate=200
+     */
+    public static LoadProfile fromProperties(String defaultName, Properties properties) {
+        return new LoadProfile(
+                properties.getProperty("load.name", defaultName),
+                parseMix(properties.getProperty("load.mix", "charge:2,use:2,point:5,history:1")),
+                properties.getProperty("load.keys", "uniform"),
+                Integer.parseInt(properties.getProperty("load.users", "100")),
+                Double.parseDouble(properties.getProperty("load.rate", "0")),
+                Integer.parseInt(properties.getProperty("load.concurrency", "32")),
+                Duration.ofMillis(Long.parseLong(properties.getProperty("load.warmupMs", "1000"))),
+                Duration.ofMillis(Long.parseLong(properties.getProperty("load.durationMs", "5000"))));
+    }
+
+    static Map<LoadOperation, Integer> parseMix(String spec) {
+        Map<LoadOperation, Integer> mix = new EnumMap<>(LoadOperation.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            mix.put(LoadOperation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+
+    boolean isOpenLoop() {
+        return ratePerSecond > 0;
+    }
+
+    KeyDistribution keyDistribution() {
+        return KeyDistribution.parse(keys, users);
+    }
+
+    /**
+     * 가중치에 따라 다음 작업을 고른다
+     */
+    LoadOperation nextOperation() {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int pick = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<LoadOperation, Integer> entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("작업 가중치가 비어 있습니다.");
+    }
+}
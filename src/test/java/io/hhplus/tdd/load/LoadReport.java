@@ -0,0 +1,100 @@
+package io.hhplus.tdd.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * 부하 생성 결과 (작업별 지연 시간 분위수와 처리량)
+ *
+ * CI 에서 추이를 추적할 수 있도록 JSON 으로 저장한다. 지연 시간 단위는 마이크로초.
+ */
+public record LoadReport(
+        LoadProfile profile,
+        Map<LoadOperation, OperationStats> operations,
+        long measuredMillis
+) {
+
+    public record OperationStats(
+            long count,
+            long errors,
+            double throughputPerSecond,
+            double meanMicros,
+            long p50Micros,
+            long p90Micros,
+            long p99Micros,
+            long p999Micros,
+            long maxMicros
+    ) {
+
+        static OperationStats of(Histogram histogram, long errors, long measuredMillis) {
+            long count = histogram.getTotalCount();
+            return new OperationStats(
+                    count,
+                    errors,
+                    measuredMillis == 0 ? 0 : count * 1000.0 / measuredMillis,
+                    histogram.getMean(),
+                    histogram.getValueAtPercentile(50.0),
+                    histogram.getValueAtPercentile(90.0),
+                    histogram.getValueAtPercentile(99.0),
+                    histogram.getValueAtPercentile(99.9),
+                    histogram.getMaxValue());
+        }
+    }
+
+    public long totalCount() {
+        return operations.values().stream().mapToLong(OperationStats::count).sum();
+    }
+
+    public long totalErrors() {
+        return operations.values().stream().mapToLong(OperationStats::errors).sum();
+    }
+
+    public double throughputPerSecond() {
+        return measuredMillis == 0 ? 0 : totalCount() * 1000.0 / measuredMillis;
+    }
+
+    public String toJson() {
+        StringJoiner operationsJson = new StringJoiner(",", "{", "}");
+        operations.forEach((operation, stats) -> operationsJson.add(String.format(Locale.ROOT,
+                "\"%s\":{\"count\":%d,\"errors\":%d,\"throughputPerSecond\":%.2f,\"meanMicros\":%.1f,"
+                        + "\"p50Micros\":%d,\"p90Micros\":%d,\"p99Micros\":%d,\"p999Micros\":%d,\"maxMicros\":%d}",
+                operation.name().toLowerCase(Locale.ROOT), stats.count(), stats.errors(), stats.throughputPerSecond(),
+                stats.meanMicros(), stats.p50Micros(), stats.p90Micros(), stats.p99Micros(), stats.p999Micros(),
+                stats.maxMicros())));
+        return String.format(Locale.ROOT,
+                "{\"name\":\"%s\",\"keys\":\"%s\",\"users\":%d,\"mode\":\"%s\",\"ratePerSecond\":%.1f,"
+                        + "\"concurrency\":%d,\"measuredMillis\":%d,\"totalCount\":%d,\"totalErrors\":%d,"
+                        + "\"throughputPerSecond\":%.2f,\"operations\":%s}",
+                profile.name(), profile.keys(), profile.users(), profile.isOpenLoop() ? "open" : "closed",
+                profile.ratePerSecond(), profile.concurrency(), measuredMillis, totalCount(), totalErrors(),
+                throughputPerSecond(), operationsJson);
+    }
+
+    /**
+     * load.reportDir (기본 build/load-reports) 아래 {name}.json 으로 저장한다
+     */
+    public Path write() throws IOException {
+        Path directory = Path.of(System.getProperty("load.reportDir", "build/load-reports"));
+        Files.createDirectories(directory);
+        Path file = directory.resolve(profile.name() + ".json");
+        Files.writeString(file, toJson(), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder(String.format(Locale.ROOT, "[%s] %d건, %.1f/s, 오류 %d건%n",
+                profile.name(), totalCount(), throughputPerSecond(), totalErrors()));
+        operations.forEach((operation, stats) -> summary.append(String.format(Locale.ROOT,
+                "  %-7s %6d건  p50 %7.1fms  p99 %7.1fms  p99.9 %7.1fms  max %7.1fms%n",
+                operation, stats.count(), stats.p50Micros() / 1000.0, stats.p99Micros() / 1000.0,
+                stats.p999Micros() / 1000.0, stats.maxMicros() / 1000.0)));
+        return summary.toString();
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.load;
+
+/**
+ * 부하를 받을 대상 (서비스 직접 호출 또는 HTTP)
+ *
+ * 도메인 검증 실패(잔액 부족 등)도 응답으로 보고 정상 처리로 센다.
+ * 예외를 던지면 오류로 집계한다.
+ */
+@FunctionalInterface
+public interface LoadTarget {
+
+    void execute(LoadOperation operation, long userId) throws Exception;
+}
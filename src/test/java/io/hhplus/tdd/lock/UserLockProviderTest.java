@@ -0,0 +1,185 @@
+package io.hhplus.tdd.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("사용자 락 SPI 테스트")
+class UserLockProviderTest {
+
+    @Test
+    @DisplayName("로컬 락은 보유한 스레드에서만 보유 확인을 통과하고, 해제하면 다른 스레드가 획득한다")
+    void 로컬_락_보유_확인() throws Exception {
+        // Given
+        UserLockProvider provider = new LocalUserLockProvider();
+        UserLock holder = provider.lock(1L);
+
+        // When
+        CompletableFuture<Void> otherThreadCheck = CompletableFuture.runAsync(holder::ensureHeld);
+
+        // Then
+        assertDoesNotThrow(holder::ensureHeld);
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> otherThreadCheck.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(LockLeaseExpiredException.class, exception.getCause());
+        holder.close();
+        long reacquired = CompletableFuture.supplyAsync(() -> {
+            try (UserLock lock = provider.tryLock(1L, 1_000L)) {
+                return lock.userId();
+            }
+        }).get(1, TimeUnit.SECONDS);
+        assertEquals(1L, reacquired);
+    }
+
+    @Test
+    @DisplayName("인메모리 락은 해제될 때까지 다른 보유자를 막는다")
+    void 인메모리_락_상호_배제() throws Exception {
+        // Given
+        UserLockProvider provider = new InMemoryUserLockProvider(10_000L);
+        UserLock holder = provider.lock(1L);
+
+        // When - 다른 스레드가 같은 사용자 락을 요청
+        CompletableFuture<Long> waiter = CompletableFuture.supplyAsync(() -> {
+            try (UserLock lock = provider.lock(1L)) {
+                return lock.userId();
+            }
+        });
+
+        // Then - 해제 전에는 대기, 해제 후에는 획득
+        Thread.sleep(100);
+        assertFalse(waiter.isDone());
+        holder.close();
+        assertEquals(1L, (long) waiter.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("인메모리 락을 기다리던 스레드가 인터럽트되면 다른 구현과 같이 LockTimeoutException 으로 실패한다")
+    void 인메모리_락_대기_인터럽트() throws Exception {
+        // Given
+        UserLockProvider provider = new InMemoryUserLockProvider(10_000L);
+        UserLock holder = provider.lock(1L);
+        CompletableFuture<Throwable> failure = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> {
+            try (UserLock lock = provider.tryLock(1L, 10_000L)) {
+                failure.complete(null);
+            } catch (Throwable e) {
+                boolean interrupted = Thread.currentThread().isInterrupted();
+                failure.complete(interrupted ? e : new AssertionError("인터럽트 상태가 지워졌습니다."));
+            }
+        });
+        waiter.start();
+        Thread.sleep(100);
+
+        // When
+        waiter.interrupt();
+
+        // Then
+        assertInstanceOf(LockTimeoutException.class, failure.get(1, TimeUnit.SECONDS));
+        holder.close();
+    }
+
+    @Test
+    @DisplayName("리스가 만료되면 다른 보유자가 락을 가져가고 이전 보유자는 쓰기 전에 감지한다")
+    void 인메모리_락_리스_만료() throws Exception {
+        // Given - 리스 50ms
+        UserLockProvider provider = new InMemoryUserLockProvider(50L);
+        UserLock stale = provider.lock(1L);
+
+        // When - 이전 보유자가 해제하지 않은 상태에서 새 보유자가 획득
+        UserLock fresh = CompletableFuture.supplyAsync(() -> provider.lock(1L)).get(1, TimeUnit.SECONDS);
+
+        // Then - 이전 보유자는 보유 확인에 실패하고, 늦은 해제는 새 보유자에 영향을 주지 않음
+        assertThrows(LockLeaseExpiredException.class, stale::ensureHeld);
+        stale.close();
+        assertDoesNotThrow(fresh::ensureHeld);
+        fresh.close();
+    }
+
+    @Test
+    @DisplayName("락 획득 지연 시간은 구현체 이름 태그와 함께 기록된다")
+    void 락_획득_지연_메트릭() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        UserLockProvider provider = new MeteredUserLockProvider(new LocalUserLockProvider(), registry);
+
+        // When
+        provider.lock(1L).close();
+        provider.lock(2L).close();
+
+        // Then
+        assertEquals(2L, registry.find("point.lock.acquire").tag("provider", "local").timer().count());
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 락을 얻지 못하면 대기를 포기하고 실패한다")
+    void 락_대기_시간_초과() throws Exception {
+        // Given
+        UserLockProvider provider = new LocalUserLockProvider();
+        UserLock holder = provider.lock(1L);
+
+        // When
+        long start = System.nanoTime();
+        CompletableFuture<UserLock> waiter = CompletableFuture.supplyAsync(() -> provider.tryLock(1L, 100L));
+
+        // Then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> waiter.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(LockTimeoutException.class, exception.getCause());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 100L);
+        holder.close();
+    }
+
+    @Test
+    @DisplayName("사용자별 대기 수가 상한을 넘으면 기다리지 않고 바로 실패한다")
+    void 대기열_상한_초과_즉시_실패() throws Exception {
+        // Given - 최대 대기 2, 대기 제한 5초
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BoundedUserLockProvider provider =
+                new BoundedUserLockProvider(new LocalUserLockProvider(), registry, 5_000L, 2, 1, 10, 60_000L);
+        UserLock holder = provider.lock(1L);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> provider.tryLock(1L, 5_000L).close());
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> provider.tryLock(1L, 5_000L).close());
+        while (provider.waiters(1L) < 2) {
+            Thread.sleep(10);
+        }
+
+        // When & Then - 세 번째 대기자는 즉시 실패, 다른 사용자는 영향 없음
+        assertThrows(LockQueueFullException.class, () -> provider.tryLock(1L, 5_000L));
+        assertDoesNotThrow(() -> provider.tryLock(2L, 5_000L).close());
+        assertEquals(1.0, registry.counter("point.lock.rejected", "reason", "queue-full").count());
+
+        holder.close();
+        CompletableFuture.allOf(first, second).get(1, TimeUnit.SECONDS);
+        assertEquals(0, provider.waiters(1L));
+        provider.shutdown();
+    }
+
+    @Test
+    @DisplayName("백그라운드 작업용 lock 은 대기열이 가득 차도 거절되지 않고 대기 제한을 넘겨서도 기다린다")
+    void 백그라운드_락_제한_없음() throws Exception {
+        // Given - 최대 대기 1, 대기 제한 100ms
+        BoundedUserLockProvider provider =
+                new BoundedUserLockProvider(new LocalUserLockProvider(), new SimpleMeterRegistry(), 100L, 1, 1, 10, 60_000L);
+        UserLock holder = provider.lock(1L);
+        CompletableFuture<Void> request = CompletableFuture.runAsync(() -> provider.tryLock(1L, 5_000L).close());
+        while (provider.waiters(1L) < 1) {
+            Thread.sleep(10);
+        }
+
+        // When - 대기열이 가득 찬 상태에서 백그라운드 작업이 락을 요청하고, 대기 제한보다 오래 기다림
+        CompletableFuture<Void> background = CompletableFuture.runAsync(() -> provider.lock(1L).close());
+        Thread.sleep(300L);
+        holder.close();
+
+        // Then - 요청 경로는 대기 제한으로 실패, 백그라운드 작업은 락을 얻음
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> request.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(LockTimeoutException.class, exception.getCause());
+        assertDoesNotThrow(() -> background.get(1, TimeUnit.SECONDS));
+        provider.shutdown();
+    }
+}
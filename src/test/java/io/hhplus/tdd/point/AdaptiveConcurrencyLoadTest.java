@@ -0,0 +1,103 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.ratelimit.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 부하 생성 테스트: 소수 사용자에게 쓰기가 몰려 락 대기열이 생기면 동시 처리 한도가 줄어드는지 검증
+ *
+ * 6초 동안 실행되므로 기본 test 에서는 제외하고 ./gradlew loadTest 로 실행한다.
+ */
+@Tag("load")
+@DisplayName("적응형 동시성 제한 부하 테스트")
+class AdaptiveConcurrencyLoadTest {
+
+    private static final int CLIENT_COUNT = 48;
+    private static final int USER_COUNT = 4;
+    private static final long DURATION_MILLIS = 6_000L;
+
+    @Test
+    @DisplayName("락 대기열로 지연이 늘면 쓰기 한도가 줄어 초과 요청은 바로 거절된다")
+    void 락_대기열_발생_시_한도_감소() throws InterruptedException {
+        // Given - 시작 한도 48 (클라이언트 수와 같음)
+        PointService pointService = PointService.builder(new UserPointTable(), new PointHistoryTable()).build();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("write",
+                new AdaptiveConcurrencyLimiter.Settings(CLIENT_COUNT, 2, 256, 1.5, 8, 0.5), meterRegistry);
+        ExecutorService executorService = Executors.newFixedThreadPool(CLIENT_COUNT);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> limits = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger rejected = new AtomicInteger();
+        long endAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+
+        // When - 클라이언트마다 충전/사용을 번갈아 반복
+        for (int i = 0; i < CLIENT_COUNT; i++) {
+            long userId = i % USER_COUNT + 1;
+            executorService.submit(() -> {
+                boolean charge = true;
+                while (System.nanoTime() < endAt) {
+                    if (!limiter.tryAcquire()) {
+                        rejected.incrementAndGet();
+                        sleep(20L);
+                        continue;
+                    }
+                    long start = System.nanoTime();
+                    try {
+                        if (charge) {
+                            pointService.charge(userId, 5_000L);
+                        } else {
+                            pointService.use(userId, 1_000L);
+                        }
+                        charge = !charge;
+                    } catch (RuntimeException ignored) {
+                        // 최대 잔액 초과 등 도메인 검증 실패
+                        charge = !charge;
+                    } finally {
+                        long latency = System.nanoTime() - start;
+                        limiter.release(latency, false);
+                        latencies.add(TimeUnit.NANOSECONDS.toMillis(latency));
+                        limits.add(limiter.limit());
+                    }
+                }
+            });
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(DURATION_MILLIS + 30_000L, TimeUnit.MILLISECONDS));
+
+        // Then
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        System.out.println("=== 적응형 동시성 제한 부하 결과 ===");
+        System.out.println("처리 건수: " + sorted.size() + ", 거절 횟수: " + rejected.get());
+        System.out.println("한도 변화(처리 순): " + limits.stream().distinct().toList());
+        System.out.println("p50: " + sorted.get(sorted.size() / 2) + "ms, p99: "
+                + sorted.get((int) (sorted.size() * 0.99)) + "ms");
+
+        assertTrue(limiter.limit() < CLIENT_COUNT, "락 대기열이 생기면 한도가 줄어야 합니다.");
+        assertTrue(rejected.get() > 0);
+        assertEquals(rejected.get(), (int) meterRegistry.counter("point.concurrency.rejected", "kind", "write").count());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
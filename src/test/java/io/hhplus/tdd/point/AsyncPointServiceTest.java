@@ -0,0 +1,158 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.deadline.Deadline;
+import io.hhplus.tdd.deadline.DeadlineExceededException;
+import io.hhplus.tdd.shard.ShardWorkers;
+import io.hhplus.tdd.shard.UserShards;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("비동기 포인트 서비스 테스트")
+class AsyncPointServiceTest {
+
+    private ShardWorkers shardWorkers;
+    private AsyncPointService asyncPointService;
+
+    @AfterEach
+    void tearDown() {
+        if (shardWorkers != null) {
+            shardWorkers.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("요약 조회는 잔액과 내역을 동시에 조회하므로 두 조회 시간의 합보다 빨리 끝난다")
+    void 요약_동시_조회() throws Exception {
+        // Given - 잔액 조회 300ms, 내역 조회 300ms
+        UserPointTable userPointTable = new UserPointTable() {
+            @Override
+            public UserPoint selectById(Long id) {
+                sleep(300);
+                return new UserPoint(id, 10_000L, 0L);
+            }
+        };
+        PointHistoryTable pointHistoryTable = new PointHistoryTable() {
+            @Override
+            public List<PointHistory> selectAllByUserId(long userId) {
+                sleep(300);
+                return List.of(new PointHistory(1L, userId, 10_000L, TransactionType.CHARGE, 0L));
+            }
+        };
+        asyncPointService = asyncPointService(userPointTable, pointHistoryTable, 4, 10);
+
+        // When
+        long start = System.nanoTime();
+        PointSummary summary = asyncPointService.summaryAsync(1L).get(5, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        System.out.println("요약 조회 " + elapsedMillis + "ms");
+        assertEquals(10_000L, summary.point().point());
+        assertEquals(1, summary.histories().size());
+        assertTrue(elapsedMillis < 550L, "순차 조회(600ms)보다 빨라야 합니다: " + elapsedMillis);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 비동기 충전이 동시에 실행되어도 모두 반영된다")
+    void 비동기_충전_동시성() throws Exception {
+        // Given
+        asyncPointService = asyncPointService(new UserPointTable(), new PointHistoryTable(), 8, 100);
+
+        // When
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(asyncPointService.chargeAsync(1L, 5_000L));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(25_000L, asyncPointService.pointAsync(1L).get(5, TimeUnit.SECONDS).point());
+        assertEquals(5, asyncPointService.historyAsync(1L).get(5, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    @DisplayName("호출 스레드의 마감 시각이 작업 스레드로 전달된다")
+    void 마감_시각_전달() throws Exception {
+        // Given
+        asyncPointService = asyncPointService(new UserPointTable(), new PointHistoryTable(), 2, 10);
+
+        // When
+        CompletableFuture<UserPoint> future;
+        try (Deadline.Scope scope = Deadline.attach(Deadline.after(0L))) {
+            future = asyncPointService.chargeAsync(1L, 5_000L);
+        }
+
+        // Then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DeadlineExceededException.class, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 실행하지 않고 실패한 future 를 반환한다")
+    void 대기열_초과_거절() throws Exception {
+        // Given - 샤드 하나, 작업 스레드 1개, 대기열 1개
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> calledIds = new CopyOnWriteArrayList<>();
+        UserPointTable userPointTable = new UserPointTable() {
+            @Override
+            public UserPoint selectById(Long id) {
+                calledIds.add(id);
+                await(release);
+                return UserPoint.empty(id);
+            }
+        };
+        asyncPointService = asyncPointService(userPointTable, new PointHistoryTable(), 1, 1);
+
+        // When
+        CompletableFuture<UserPoint> running = asyncPointService.pointAsync(1L);
+        CompletableFuture<UserPoint> queued = asyncPointService.pointAsync(2L);
+        CompletableFuture<UserPoint> rejected = asyncPointService.pointAsync(3L);
+        release.countDown();
+
+        // Then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+        assertEquals(1L, running.get(5, TimeUnit.SECONDS).id());
+        assertEquals(2L, queued.get(5, TimeUnit.SECONDS).id());
+        assertFalse(calledIds.contains(3L));
+    }
+
+    private AsyncPointService asyncPointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable,
+                                                int workers, int queueCapacity) {
+        shardWorkers = new ShardWorkers(UserShards.single(), workers, queueCapacity);
+        PointService pointService = PointService.builder(userPointTable, pointHistoryTable)
+                .shardWorkers(shardWorkers)
+                .build();
+        return new AsyncPointService(pointService, shardWorkers);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
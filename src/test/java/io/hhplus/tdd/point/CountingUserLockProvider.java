@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.lock.LocalUserLockProvider;
+import io.hhplus.tdd.lock.UserLock;
+import io.hhplus.tdd.lock.UserLockProvider;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자 락 획득 횟수를 세는 테스트용 UserLockProvider
+ */
+class CountingUserLockProvider implements UserLockProvider {
+
+    private final UserLockProvider delegate = new LocalUserLockProvider();
+    private final LongAdder acquisitions = new LongAdder();
+
+    @Override
+    public UserLock lock(long userId) {
+        acquisitions.increment();
+        return delegate.lock(userId);
+    }
+
+    @Override
+    public UserLock tryLock(long userId, long timeoutMillis) {
+        acquisitions.increment();
+        return delegate.tryLock(userId, timeoutMillis);
+    }
+
+    @Override
+    public String name() {
+        return "counting";
+    }
+
+    long acquisitions() {
+        return acquisitions.sum();
+    }
+}
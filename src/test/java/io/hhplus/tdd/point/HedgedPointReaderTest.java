@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 헤지 조회 테스트: 같은 조회 부하에서 직접 조회와 헤지 조회의 p99 와 추가 조회 수를 비교
+ */
+@DisplayName("잔액 헤지 조회 테스트")
+class HedgedPointReaderTest {
+
+    private static final int READ_COUNT = 400;
+    private static final int CLIENT_COUNT = 32;
+
+    @Test
+    @DisplayName("헤지 조회는 같은 결과를 반환하고 추가 조회는 예산 안으로 제한된다")
+    void 헤지_조회_예산_제한() throws Exception {
+        // Given
+        UserPointTable userPointTable = new UserPointTable();
+        userPointTable.insertOrUpdate(1L, 10_000L);
+        SimpleMeterRegistry directRegistry = new SimpleMeterRegistry();
+        SimpleMeterRegistry hedgedRegistry = new SimpleMeterRegistry();
+        HedgedPointReader direct = new HedgedPointReader(userPointTable, directRegistry, false, 0.9, 10L, 0.0, 1);
+        HedgedPointReader hedged = new HedgedPointReader(userPointTable, hedgedRegistry, true, 0.5, 10L, 0.2, 64);
+
+        // When
+        long[] directLatencies = measure(direct);
+        long[] hedgedLatencies = measure(hedged);
+        hedged.shutdown();
+
+        // Then
+        double hedges = hedgedRegistry.counter("point.read.requests", "kind", "hedge").count();
+        double primaries = hedgedRegistry.counter("point.read.requests", "kind", "primary").count();
+        System.out.println("=== 헤지 조회 결과 ===");
+        System.out.println("직접 조회 p50: " + percentile(directLatencies, 0.5) + "ms, p99: " + percentile(directLatencies, 0.99) + "ms");
+        System.out.println("헤지 조회 p50: " + percentile(hedgedLatencies, 0.5) + "ms, p99: " + percentile(hedgedLatencies, 0.99) + "ms");
+        System.out.println("헤지 지연: " + hedged.hedgeDelayMillis() + "ms, 추가 조회 비율: " + (hedges / primaries));
+
+        assertEquals(READ_COUNT, primaries);
+        // 조회당 0.2 적립, 초기 적립 상한 10
+        assertTrue(hedges <= READ_COUNT * 0.2 + 10, "추가 조회가 예산을 넘었습니다: " + hedges);
+        assertTrue(hedges > 0, "느린 조회에는 헤지가 발생해야 합니다.");
+    }
+
+    private long[] measure(HedgedPointReader reader) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(CLIENT_COUNT);
+        List<Callable<Long>> reads = new ArrayList<>();
+        for (int i = 0; i < READ_COUNT; i++) {
+            reads.add(() -> {
+                long start = System.nanoTime();
+                UserPoint userPoint = reader.selectById(1L);
+                assertEquals(10_000L, userPoint.point());
+                return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            });
+        }
+        long[] latencies = new long[READ_COUNT];
+        List<Future<Long>> results = executorService.invokeAll(reads);
+        for (int i = 0; i < READ_COUNT; i++) {
+            latencies[i] = results.get(i).get();
+        }
+        executorService.shutdown();
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private long percentile(long[] sorted, double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * percentile))];
+    }
+}
@@ -0,0 +1,92 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.lock.BoundedUserLockProvider;
+import io.hhplus.tdd.lock.LocalUserLockProvider;
+import io.hhplus.tdd.lock.UserLockUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 부하 테스트: 한 사용자에게 요청이 몰릴 때 대기열 제한으로 꼬리 지연 시간이 제한되는지 검증
+ */
+@DisplayName("인기 사용자 부하 차단 테스트")
+class HotUserLoadSheddingTest {
+
+    private static final long WAIT_TIMEOUT_MILLIS = 1_000L;
+    // 테이블 조회/쓰기 지연의 최대값 (selectById 200ms + insertOrUpdate 300ms + insert 300ms)
+    private static final long MAX_TRANSACTION_MILLIS = 800L;
+
+    @Test
+    @DisplayName("한 사용자에게 100건이 몰려도 모든 요청은 대기 제한 + 처리 시간 안에 응답한다")
+    void 인기_사용자_꼬리_지연_제한() throws InterruptedException {
+        // Given - 최대 대기 4, 대기 제한 1초
+        BoundedUserLockProvider userLockProvider = new BoundedUserLockProvider(
+                new LocalUserLockProvider(), new SimpleMeterRegistry(), WAIT_TIMEOUT_MILLIS, 4, 2, 10, 60_000L);
+        PointService pointService = PointService.builder(new UserPointTable(), new PointHistoryTable())
+                .userLockProvider(userLockProvider)
+                .build();
+        int requestCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(requestCount);
+        CountDownLatch ready = new CountDownLatch(requestCount);
+        CountDownLatch done = new CountDownLatch(requestCount);
+        long[] latencies = new long[requestCount];
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger shedCount = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < requestCount; i++) {
+            int index = i;
+            executorService.submit(() -> {
+                ready.countDown();
+                try {
+                    ready.await();
+                    long start = System.nanoTime();
+                    try {
+                        pointService.charge(1L, 5_000L);
+                        successCount.incrementAndGet();
+                    } catch (UserLockUnavailableException e) {
+                        shedCount.incrementAndGet();
+                    } catch (RuntimeException ignored) {
+                        // 최대 잔액 초과 등 도메인 검증 실패
+                    } finally {
+                        latencies[index] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        executorService.shutdown();
+        userLockProvider.shutdown();
+
+        // Then
+        Arrays.sort(latencies);
+        long p50 = latencies[requestCount / 2];
+        long p99 = latencies[(int) (requestCount * 0.99) - 1];
+        long max = latencies[requestCount - 1];
+        System.out.println("=== 인기 사용자 부하 결과 ===");
+        System.out.println("성공: " + successCount.get() + ", 차단: " + shedCount.get());
+        System.out.println("p50: " + p50 + "ms, p99: " + p99 + "ms, max: " + max + "ms");
+
+        assertTrue(shedCount.get() > 0, "대기열 상한을 넘은 요청은 차단되어야 합니다.");
+        assertTrue(successCount.get() > 0);
+        assertTrue(max <= WAIT_TIMEOUT_MILLIS + MAX_TRANSACTION_MILLIS + 500,
+                "꼬리 지연 시간이 대기 제한 + 처리 시간을 넘었습니다: " + max + "ms");
+    }
+}
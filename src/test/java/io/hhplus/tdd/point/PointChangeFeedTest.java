@@ -0,0 +1,150 @@
+package io.hhplus.tdd.point;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("변경 피드 테스트")
+class PointChangeFeedTest {
+
+    @Test
+    @DisplayName("마지막으로 받은 offset 이후의 변경만 순서대로 이어 받는다")
+    void offset_이후_변경_조회() {
+        // Given
+        PointChangeFeed feed = new PointChangeFeed(8);
+        for (int i = 1; i <= 5; i++) {
+            commit(feed, i, 1L + i % 2, 5_000L * i);
+        }
+
+        // When
+        PointChangeBatch first = feed.read(0L, 3);
+        PointChangeBatch second = feed.read(first.nextOffset(), 10);
+
+        // Then
+        assertEquals(3, first.events().size());
+        assertEquals(3L, first.nextOffset());
+        assertEquals(2, second.events().size());
+        assertEquals(4L, second.events().get(0).offset());
+        assertEquals(5L, second.events().get(1).historyId());
+        assertEquals(5L, second.nextOffset());
+        assertFalse(second.truncated());
+        assertTrue(feed.read(second.nextOffset(), 10).events().isEmpty());
+    }
+
+    @Test
+    @DisplayName("보관 범위를 벗어난 offset 으로 요청하면 truncated 와 함께 가장 오래된 변경부터 받는다")
+    void 보관_범위_초과() {
+        // Given - 8건 보관, 12건 발생
+        PointChangeFeed feed = new PointChangeFeed(8);
+        for (int i = 1; i <= 12; i++) {
+            commit(feed, i, 1L, 5_000L);
+        }
+
+        // When
+        PointChangeBatch batch = feed.read(2L, 100);
+
+        // Then - 5 ~ 12 만 남아 있음
+        assertTrue(batch.truncated());
+        assertEquals(8, batch.events().size());
+        assertEquals(5L, batch.events().get(0).offset());
+        assertEquals(12L, batch.nextOffset());
+    }
+
+    @Test
+    @DisplayName("재시작 전 피드의 epoch 나 아직 발급되지 않은 offset 으로 요청하면 truncated 와 함께 처음부터 받는다")
+    void 재시작된_피드_요청() {
+        // Given - 재시작 전 피드에서 5건까지 받은 구독자
+        PointChangeFeed before = new PointChangeFeed(8);
+        for (int i = 1; i <= 5; i++) {
+            commit(before, i, 1L, 5_000L * i);
+        }
+        PointChangeBatch received = before.read(0L, 10);
+        PointChangeFeed restarted = new PointChangeFeed(8);
+        commit(restarted, 6L, 1L, 30_000L);
+
+        // When
+        PointChangeBatch otherEpoch = restarted.read(received.epoch(), 0L, 10);
+        PointChangeBatch futureOffset = restarted.read(null, received.nextOffset(), 10);
+        PointChangeBatch sameEpoch = restarted.read(restarted.epoch(), 0L, 10);
+
+        // Then
+        assertNotEquals(received.epoch(), otherEpoch.epoch());
+        assertTrue(otherEpoch.truncated());
+        assertEquals(1, otherEpoch.events().size());
+        assertEquals(6L, otherEpoch.events().get(0).historyId());
+        assertEquals(1L, otherEpoch.nextOffset());
+        assertTrue(futureOffset.truncated());
+        assertEquals(1L, futureOffset.nextOffset());
+        assertFalse(sameEpoch.truncated());
+    }
+
+    @Test
+    @DisplayName("롱폴링은 새 변경이 커밋되면 바로 응답한다")
+    void 롱폴링_새_변경_응답() throws Exception {
+        // Given
+        PointChangeFeed feed = new PointChangeFeed(16);
+        PointChangeFeedPublisher publisher = new PointChangeFeedPublisher(feed, new SimpleMeterRegistry(), 4, 60_000L);
+        publisher.start();
+        try {
+            commit(feed, 1L, 1L, 5_000L);
+            DeferredResult<PointChangeBatch> result = publisher.poll(null, 1L, 10, 30_000L);
+            assertFalse(result.hasResult());
+
+            // When
+            long start = System.nanoTime();
+            commit(feed, 2L, 2L, 10_000L);
+            while (!result.hasResult() && System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5)) {
+                TimeUnit.MILLISECONDS.sleep(5);
+            }
+
+            // Then
+            System.out.println("롱폴링 응답 지연: " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+            PointChangeBatch batch = (PointChangeBatch) result.getResult();
+            assertEquals(1, batch.events().size());
+            assertEquals(2L, batch.events().get(0).userId());
+            assertEquals(10_000L, batch.events().get(0).balance());
+            assertEquals(2L, batch.nextOffset());
+        } finally {
+            publisher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("이미 받을 변경이 있으면 기다리지 않고 응답한다")
+    void 롱폴링_즉시_응답() {
+        // Given
+        PointChangeFeed feed = new PointChangeFeed(16);
+        PointChangeFeedPublisher publisher = new PointChangeFeedPublisher(feed, new SimpleMeterRegistry(), 4, 60_000L);
+        commit(feed, 1L, 1L, 5_000L);
+
+        // When
+        DeferredResult<PointChangeBatch> result = publisher.poll(null, 0L, 10, 30_000L);
+
+        // Then
+        assertTrue(result.hasResult());
+    }
+
+    @Test
+    @DisplayName("형식이 잘못됐거나 offset 이 음수인 Last-Event-ID 로 구독하면 거절한다")
+    void 잘못된_Last_Event_ID_거절() {
+        // Given
+        PointChangeFeedPublisher publisher = new PointChangeFeedPublisher(new PointChangeFeed(16), new SimpleMeterRegistry(), 4, 60_000L);
+        PointChangeFeedController controller = new PointChangeFeedController(publisher, 30_000L);
+
+        // When & Then
+        assertThrows(InvalidChangeFeedCursorException.class, () -> controller.stream("epoch:abc", null, null));
+        assertThrows(InvalidChangeFeedCursorException.class, () -> controller.stream("epoch:", null, null));
+        assertThrows(InvalidChangeFeedCursorException.class, () -> controller.stream("epoch:-1", null, null));
+        assertThrows(InvalidChangeFeedCursorException.class, () -> controller.stream("99999999999999999999", null, null));
+    }
+
+    private static void commit(PointChangeFeed feed, long historyId, long userId, long balance) {
+        PointHistory history = new PointHistory(historyId, userId, 5_000L, TransactionType.CHARGE, historyId);
+        feed.onCommitted(new PointChange(new UserPoint(userId, balance, historyId), history));
+    }
+}
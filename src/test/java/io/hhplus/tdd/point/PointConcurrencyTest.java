@@ -29,7 +29,7 @@ class PointConcurrencyTest {
     void setUp() {
         userPointTable = new UserPointTable();
         pointHistoryTable = new PointHistoryTable();
-        pointService = new PointService(userPointTable, pointHistoryTable);
+        pointService = PointService.builder(userPointTable, pointHistoryTable).build();
     }
 
     @Test
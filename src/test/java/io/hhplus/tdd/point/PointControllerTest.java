@@ -1,5 +1,8 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.shard.ShardWorkers;
+import io.hhplus.tdd.shard.UserShards;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -12,11 +15,18 @@ class PointControllerTest {
 
     private PointController pointController;
     private PointService pointService;
+    private ShardWorkers shardWorkers;
 
     @BeforeEach
     void setUp() {
         pointService = mock(PointService.class);
-        pointController = new PointController(pointService);
+        shardWorkers = new ShardWorkers(UserShards.single(), 2, 10);
+        pointController = new PointController(pointService, new AsyncPointService(pointService, shardWorkers));
+    }
+
+    @AfterEach
+    void tearDown() {
+        shardWorkers.shutdown();
     }
 
     @Test
@@ -105,4 +115,18 @@ class PointControllerTest {
         // And - pointService.history()가 호출되었는지 검증
         verify(pointService).history(1L);
     }
+
+    @Test
+    void 다른_사용자에게_포인트_전송() {
+        // Given
+        when(pointService.transfer(1L, 2L, 5_000L))
+                .thenReturn(new UserPoint(1L, 5_000L, System.currentTimeMillis()));
+
+        // When
+        UserPoint result = pointController.transfer(1L, new TransferRequest(2L, 5_000L));
+
+        // Then
+        assertEquals(5_000L, result.point());
+        verify(pointService).transfer(1L, 2L, 5_000L);
+    }
 }
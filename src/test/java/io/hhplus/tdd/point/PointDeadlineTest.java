@@ -0,0 +1,84 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.deadline.Deadline;
+import io.hhplus.tdd.deadline.DeadlineExceededException;
+import io.hhplus.tdd.lock.LocalUserLockProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("요청 마감 시각 전파 테스트")
+class PointDeadlineTest {
+
+    private LocalUserLockProvider userLockProvider;
+    private PointHistoryTable pointHistoryTable;
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        userLockProvider = new LocalUserLockProvider();
+        pointHistoryTable = new PointHistoryTable();
+        pointService = PointService.builder(new UserPointTable(), pointHistoryTable)
+                .userLockProvider(userLockProvider)
+                .build();
+    }
+
+    @Test
+    @DisplayName("마감이 지난 요청은 락과 테이블에 닿기 전에 중단되고 아무것도 변경하지 않는다")
+    void 마감_지난_요청_중단() {
+        // Given
+        try (Deadline.Scope ignored = Deadline.attach(Deadline.after(0L))) {
+            // When
+            DeadlineExceededException exception =
+                    assertThrows(DeadlineExceededException.class, () -> pointService.charge(1L, 5_000L));
+
+            // Then
+            assertEquals("lock", exception.getStage());
+        }
+        assertTrue(pointHistoryTable.selectAllByUserId(1L).isEmpty());
+        assertEquals(0L, pointService.point(1L).point());
+    }
+
+    @Test
+    @DisplayName("락 대기 중 마감이 지나면 남은 시간만큼만 기다리고 중단된다")
+    void 락_대기_중_마감() throws Exception {
+        // Given - 다른 요청이 락을 오래 보유
+        CompletableFuture
+                .supplyAsync(() -> userLockProvider.lock(1L)).get(1, TimeUnit.SECONDS);
+
+        // When
+        long start = System.nanoTime();
+        try (Deadline.Scope ignored = Deadline.attach(Deadline.after(200L))) {
+            assertThrows(DeadlineExceededException.class, () -> pointService.use(1L, 1_000L));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        System.out.println("중단까지 걸린 시간: " + elapsedMillis + "ms");
+        assertTrue(elapsedMillis < 1_000L, "마감 이후에도 락을 계속 기다렸습니다.");
+        assertTrue(pointHistoryTable.selectAllByUserId(1L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("마감 안에 끝나는 요청은 정상 처리되고, 스코프를 닫으면 마감이 해제된다")
+    void 마감_안의_요청_정상_처리() {
+        // Given & When
+        try (Deadline.Scope ignored = Deadline.attach(Deadline.after(5_000L))) {
+            pointService.charge(1L, 5_000L);
+            assertTrue(Deadline.current().isBounded());
+        }
+
+        // Then
+        assertFalse(Deadline.current().isBounded());
+        assertEquals(5_000L, pointService.point(1L).point());
+        assertEquals(1, pointHistoryTable.selectAllByUserId(1L).size());
+    }
+}
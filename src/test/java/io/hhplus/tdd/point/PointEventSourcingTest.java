@@ -0,0 +1,111 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.lock.LocalUserLockProvider;
+import io.hhplus.tdd.lock.UserLockProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("이벤트 소싱 모드 테스트")
+class PointEventSourcingTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+
+    private UserPointTable userPointTable;
+    private PointHistoryTable pointHistoryTable;
+    private UserLockProvider userLockProvider;
+    private PointHistoryCompactor compactor;
+    private PointEventProjection projection;
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = new UserPointTable();
+        pointHistoryTable = new PointHistoryTable();
+        userLockProvider = new LocalUserLockProvider();
+        compactor = new PointHistoryCompactor(pointHistoryTable, userLockProvider,
+                false, 30, 60_000L, Clock.fixed(NOW, ZoneOffset.UTC));
+        projection = newProjection();
+        pointService = PointService.builder(userPointTable, pointHistoryTable)
+                .userLockProvider(userLockProvider)
+                .eventProjection(projection)
+                .build();
+    }
+
+    @Test
+    @DisplayName("쓰기는 내역만 추가하고 잔액은 프로젝션에서 계산된다")
+    void 내역만_기록하고_잔액은_프로젝션() {
+        // Given
+        pointService.charge(1L, 10_000L);
+
+        // When
+        UserPoint used = pointService.use(1L, 3_000L);
+        pointService.transfer(1L, 2L, 5_000L);
+
+        // Then - 테이블은 쓰지 않음
+        assertEquals(7_000L, used.point());
+        assertEquals(0L, userPointTable.selectById(1L).point());
+        assertEquals(2_000L, pointService.point(1L).point());
+        assertEquals(5_000L, pointService.point(2L).point());
+        assertEquals(3, pointHistoryTable.selectAllByUserId(1L).size());
+        assertThrows(InsufficientPointException.class, () -> pointService.use(1L, 5_000L));
+    }
+
+    @Test
+    @DisplayName("새 프로젝션은 내역 로그만으로 모든 사용자의 잔액을 재구성한다")
+    void 내역_로그로_재구성() {
+        // Given
+        for (long userId = 1L; userId <= 4L; userId++) {
+            pointService.charge(userId, 5_000L * userId);
+        }
+        pointService.use(3L, 1_000L);
+        pointService.transfer(4L, 1L, 5_000L);
+
+        // When - 재시작을 가정해 비어 있는 프로젝션에서 재구성
+        PointEventProjection restarted = newProjection();
+        int rebuilt = restarted.rebuild();
+
+        // Then
+        assertEquals(4, rebuilt);
+        for (long userId = 1L; userId <= 4L; userId++) {
+            assertEquals(projection.balance(userId), restarted.balance(userId));
+        }
+        assertEquals(10_000L, restarted.balance(1L).point());
+        assertEquals(14_000L, restarted.balance(3L).point());
+    }
+
+    @Test
+    @DisplayName("압축으로 지워진 내역은 체크포인트 합계로 재구성한다")
+    void 압축된_내역_재구성() {
+        // Given - 40일 전 내역 7건 (압축 후 마지막 5건만 원본으로 남음)
+        long old = NOW.minus(Duration.ofDays(40)).toEpochMilli();
+        for (int i = 0; i < 7; i++) {
+            pointHistoryTable.insert(1L, 5_000L, TransactionType.CHARGE, old);
+        }
+        compactor.compact(1L);
+
+        // When - 재시작을 가정해 압축기와 프로젝션을 새로 만들어 재구성
+        compactor = new PointHistoryCompactor(pointHistoryTable, userLockProvider,
+                false, 30, 60_000L, Clock.fixed(NOW, ZoneOffset.UTC));
+        PointEventProjection restarted = newProjection();
+        restarted.rebuild();
+
+        // Then - 체크포인트는 저장소에 남아 있으므로 잔액이 유지됨
+        assertEquals(5, pointHistoryTable.selectAllByUserId(1L).size());
+        assertEquals(35_000L, restarted.balance(1L).point());
+    }
+
+    private PointEventProjection newProjection() {
+        return new PointEventProjection(pointHistoryTable, compactor, userLockProvider, true, 4);
+    }
+}
@@ -0,0 +1,167 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.lock.LocalUserLockProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("포인트 만료 테스트")
+class PointExpirationTest {
+
+    private static final long TTL_MILLIS = 1_000L;
+
+    private PointHistoryTable pointHistoryTable;
+    private LocalUserLockProvider lockProvider;
+    private PointService pointService;
+    private PointLotBook pointLotBook;
+    private PointExpirationScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryTable = new PointHistoryTable();
+        lockProvider = new LocalUserLockProvider();
+        pointLotBook = lotBook();
+        pointService = PointService.builder(new UserPointTable(), pointHistoryTable)
+                .userLockProvider(lockProvider)
+                .changeListeners(List.of(pointLotBook))
+                .build();
+        scheduler = new PointExpirationScheduler(pointService, pointLotBook, 10L);
+    }
+
+    @Test
+    @DisplayName("사용하면 가장 오래된 충전 묶음부터 소진된다")
+    void 오래된_묶음부터_사용() {
+        // Given
+        pointService.charge(1L, 10_000L);
+        pointService.charge(1L, 5_000L);
+
+        // When
+        pointService.use(1L, 12_000L);
+
+        // Then - 첫 묶음은 모두 소진되고 두 번째 묶음에 3000원이 남음
+        List<PointLot> lots = pointLotBook.lots(1L);
+        assertEquals(1, lots.size());
+        assertEquals(5_000L, lots.get(0).amount());
+        assertEquals(3_000L, lots.get(0).remaining());
+    }
+
+    @Test
+    @DisplayName("유효기간이 지나면 남은 금액만큼 소멸되고 EXPIRE 내역이 기록된다")
+    void 만료된_묶음_소멸() {
+        // Given
+        pointService.charge(1L, 10_000L);
+        pointService.use(1L, 4_000L);
+        long chargedMillis = pointHistoryTable.selectAllByUserId(1L).get(0).updateMillis();
+
+        // When - 만료 전에는 아무것도 소멸되지 않고, 만료 후 틱에서 소멸
+        scheduler.tick(chargedMillis + TTL_MILLIS - 100);
+        assertEquals(6_000L, pointService.point(1L).point());
+        int checkedUsers = scheduler.tick(chargedMillis + TTL_MILLIS + 100);
+
+        // Then
+        assertEquals(1, checkedUsers);
+        assertEquals(0L, pointService.point(1L).point());
+        List<PointHistory> histories = pointService.history(1L);
+        PointHistory expired = histories.get(histories.size() - 1);
+        assertEquals(TransactionType.EXPIRE, expired.type());
+        assertEquals(6_000L, expired.amount());
+        assertTrue(pointLotBook.lots(1L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("이미 사용된 묶음은 만료 시점에 소멸 내역을 남기지 않는다")
+    void 소진된_묶음은_소멸하지_않음() {
+        // Given
+        pointService.charge(1L, 5_000L);
+        pointService.use(1L, 5_000L);
+        long chargedMillis = pointHistoryTable.selectAllByUserId(1L).get(0).updateMillis();
+
+        // When
+        scheduler.tick(chargedMillis + TTL_MILLIS + 100);
+
+        // Then
+        assertEquals(2, pointHistoryTable.selectAllByUserId(1L).size());
+        assertEquals(0, pointLotBook.scheduledCount());
+    }
+
+    @Test
+    @DisplayName("재시작하면 저장소의 내역으로 남은 묶음과 만료 일정을 다시 만든다")
+    void 재시작_후_장부_재구성() {
+        // Given
+        pointService.charge(1L, 10_000L);
+        pointService.charge(1L, 5_000L);
+        pointService.use(1L, 12_000L);
+        long secondChargedMillis = pointHistoryTable.selectAllByUserId(1L).get(1).updateMillis();
+
+        // When - 같은 저장소로 장부를 새로 만든다
+        PointLotBook restarted = lotBook();
+        int users = restarted.rebuild();
+
+        // Then
+        assertEquals(1, users);
+        List<PointLot> lots = restarted.lots(1L);
+        assertEquals(1, lots.size());
+        assertEquals(3_000L, lots.get(0).remaining());
+        assertEquals(secondChargedMillis + TTL_MILLIS, lots.get(0).expiresAtMillis());
+        assertEquals(3_000L, restarted.expiredAmount(1L, secondChargedMillis + TTL_MILLIS + 100));
+        assertEquals(1, restarted.scheduledCount());
+    }
+
+    @Test
+    @DisplayName("압축된 일자는 그날 적립 합계를 그날 마지막 순간의 묶음으로 재구성한다")
+    void 압축된_일자_재구성() {
+        // Given - 하루치 적립 20,000 / 차감 15,000 이 체크포인트로 합쳐짐
+        LocalDate day = LocalDate.of(2026, 1, 1);
+        pointHistoryTable.compact(1L, List.of(new PointHistoryCheckpoint(1L, day, 20_000L, 15_000L, 3L, 3L)));
+
+        // When
+        PointLotBook restarted = lotBook();
+        restarted.rebuild();
+
+        // Then
+        long endOfDayMillis = day.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        List<PointLot> lots = restarted.lots(1L);
+        assertEquals(1, lots.size());
+        assertEquals(5_000L, lots.get(0).remaining());
+        assertEquals(endOfDayMillis + TTL_MILLIS, lots.get(0).expiresAtMillis());
+    }
+
+    @Test
+    @DisplayName("타이밍 휠은 상위 레벨에 등록된 항목도 정확한 틱에 만료시킨다")
+    void 타이밍_휠_레벨_간_이동() {
+        // Given - 1ms 틱, 레벨 0~3 에 걸친 마감 시각
+        TimingWheel<Long> wheel = new TimingWheel<>(1L, 0L);
+        long[] deadlines = {5L, 63L, 64L, 100L, 4_095L, 4_096L, 300_000L};
+        for (long deadline : deadlines) {
+            wheel.schedule(deadline, deadline);
+        }
+
+        // When - 틱을 하나씩 진행하며 만료된 시각을 기록
+        List<Long> expiredAt = new ArrayList<>();
+        for (long now = 1; now <= 300_000L; now++) {
+            for (Long deadline : wheel.advance(now)) {
+                assertEquals(deadline.longValue(), now, "마감 시각에 정확히 만료되어야 합니다.");
+                expiredAt.add(now);
+            }
+        }
+
+        // Then
+        assertEquals(deadlines.length, expiredAt.size());
+        assertEquals(0, wheel.size());
+    }
+
+    private PointLotBook lotBook() {
+        PointHistoryCompactor compactor = new PointHistoryCompactor(pointHistoryTable, lockProvider, false, 30, 60_000L);
+        return new PointLotBook(pointHistoryTable, compactor, lockProvider, true, Duration.ofMillis(TTL_MILLIS), 10L);
+    }
+}
@@ -0,0 +1,129 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 변경 스트림으로 갱신되는 팔로워 뷰 테스트
+ */
+@DisplayName("팔로워 뷰 조회 테스트")
+class PointFollowerViewTest {
+
+    private final PointFollowerView followerView = new PointFollowerView(true, 1_000L);
+
+    @AfterEach
+    void tearDown() {
+        followerView.shutdown();
+    }
+
+    @Test
+    @DisplayName("커밋된 변경이 반영되면 팔로워에서 잔액과 최근 내역을 조회한다")
+    void 팔로워_잔액_내역_조회() throws InterruptedException {
+        // Given
+        UserPoint userPoint = new UserPoint(1L, 5_000L, 1_000L);
+        PointHistory history = new PointHistory(1L, 1L, 5_000L, TransactionType.CHARGE, 1_000L);
+
+        // When
+        followerView.onCommitted(new PointChange(userPoint, history));
+        awaitApplied();
+
+        // Then
+        assertEquals(userPoint, followerView.point(1L, 0L).orElseThrow());
+        assertEquals(List.of(history), followerView.history(1L, 0L).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("최근 내역은 최대 5건만 유지한다")
+    void 최근_내역_5건_유지() throws InterruptedException {
+        // When
+        for (long i = 1; i <= 7; i++) {
+            followerView.onCommitted(new PointChange(
+                    new UserPoint(1L, i * 5_000L, i),
+                    new PointHistory(i, 1L, 5_000L, TransactionType.CHARGE, i)));
+        }
+        awaitApplied();
+
+        // Then - 마지막 5건(3~7)만 남아야 함
+        List<PointHistory> histories = followerView.history(1L, 0L).orElseThrow();
+        assertEquals(5, histories.size());
+        assertEquals(3L, histories.get(0).id());
+        assertEquals(7L, histories.get(4).id());
+    }
+
+    @Test
+    @DisplayName("요청한 쓰기가 아직 반영되지 않았으면 팔로워는 응답하지 않는다 (read-your-writes)")
+    void read_your_writes() throws InterruptedException {
+        // Given
+        followerView.onCommitted(new PointChange(new UserPoint(1L, 5_000L, 1_000L), null));
+        awaitApplied();
+
+        // Then
+        assertTrue(followerView.point(1L, 1_000L).isPresent());
+        assertTrue(followerView.point(1L, 2_000L).isEmpty());
+        assertTrue(followerView.point(2L, 0L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("팔로워가 응답하면 원본 테이블을 조회하지 않고, 응답하지 못하면 원본 테이블을 조회한다")
+    void 팔로워_우선_조회_후_원본_대체() throws InterruptedException {
+        // Given
+        UserPointTable userPointTable = spy(new UserPointTable());
+        PointService pointService = PointService.builder(userPointTable, new PointHistoryTable())
+                .changeListeners(List.of(followerView))
+                .followerView(followerView)
+                .build();
+        UserPoint charged = pointService.charge(1L, 5_000L);
+        awaitApplied();
+        clearInvocations(userPointTable);
+
+        // When
+        UserPoint fromFollower = pointService.point(1L, charged.updateMillis());
+        UserPoint fromPrimary = pointService.point(2L);
+
+        // Then
+        assertEquals(5_000L, fromFollower.point());
+        assertEquals(0L, fromPrimary.point());
+        verify(userPointTable, never()).selectById(1L);
+        verify(userPointTable, times(1)).selectById(2L);
+    }
+
+    @Test
+    @DisplayName("시작 전 내역이 있는 사용자를 처음 쓰면 원본 내역으로 채워 최근 내역이 잘리지 않는다")
+    void 시작_전_내역_채움() throws InterruptedException {
+        // Given - 재시작 전에 기록된 내역 3건
+        PointHistoryTable pointHistoryTable = new PointHistoryTable();
+        UserPointTable userPointTable = new UserPointTable();
+        for (int i = 0; i < 3; i++) {
+            pointHistoryTable.insert(1L, 5_000L, TransactionType.CHARGE, i);
+        }
+        userPointTable.insertOrUpdate(1L, 15_000L);
+        PointService pointService = PointService.builder(userPointTable, pointHistoryTable)
+                .changeListeners(List.of(followerView))
+                .followerView(followerView)
+                .build();
+
+        // When
+        pointService.use(1L, 1_000L);
+        awaitApplied();
+
+        // Then - 시작 전 3건 + 시작 후 1건, 중복 없이
+        List<PointHistory> histories = followerView.history(1L, 0L).orElseThrow();
+        assertEquals(pointHistoryTable.selectAllByUserId(1L), histories);
+        assertEquals(4, histories.size());
+        assertEquals(14_000L, followerView.point(1L, 0L).orElseThrow().point());
+    }
+
+    private void awaitApplied() throws InterruptedException {
+        for (int i = 0; i < 100 && !followerView.isCaughtUp(); i++) {
+            Thread.sleep(10);
+        }
+    }
+}
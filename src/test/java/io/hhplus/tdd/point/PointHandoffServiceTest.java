@@ -0,0 +1,170 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.cluster.ClusterMembership;
+import io.hhplus.tdd.cluster.ClusterSecret;
+import io.hhplus.tdd.cluster.ConsistentHashRing;
+import io.hhplus.tdd.cluster.UserHandoffPendingException;
+import io.hhplus.tdd.cluster.UserNotOwnedException;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.lock.LocalUserLockProvider;
+import io.hhplus.tdd.lock.UserLockProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("클러스터 사용자 인계 테스트")
+class PointHandoffServiceTest {
+
+    private static final String NODE_A = "http://node-a";
+    private static final String NODE_B = "http://node-b";
+    private static final String NODE_C = "http://node-c";
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node(NODE_A, NODE_B);
+        nodeB = new Node(NODE_B, NODE_A);
+        // 시드 노드끼리는 서로 합류한 것으로 보므로 (빈) 인계를 먼저 주고받는다
+        handOff(nodeB, nodeA);
+        handOff(nodeA, nodeB);
+    }
+
+    @Test
+    @DisplayName("링이 바뀌어 새로 소유한 사용자는 인계받기 전까지 쓰지 않고, 인계 후에는 이전 잔액에 이어 쓴다")
+    void 인계_전_쓰기_거절_후_이어_쓰기() {
+        // Given - 노드 B가 소유한 사용자의 잔액 7,000
+        long userId = userOwnedBy(nodeA.membership, NODE_B);
+        nodeB.pointService.charge(userId, 10_000L);
+        nodeB.pointService.use(userId, 3_000L);
+
+        // When - 노드 A에서 노드 B를 이탈 처리
+        nodeA.membership.leave(NODE_B);
+
+        // Then - 인계 전에는 거절
+        assertEquals(Set.of(NODE_B), nodeA.membership.pendingSources());
+        assertThrows(UserHandoffPendingException.class, () -> nodeA.pointService.charge(userId, 5_000L));
+
+        // When - 노드 B에서 인계받음
+        List<PointHandoff> handoffs = nodeB.handoffService.export(NODE_A, nodeA.membership.nodes());
+        handoffs.forEach(nodeA.handoffService::importUser);
+        nodeA.membership.completeHandoff(NODE_B, nodeA.membership.nodes());
+
+        // Then - 노드 A는 이어 쓰고, 노드 B는 더 이상 쓰지 않음
+        assertEquals(1, handoffs.size());
+        assertTrue(nodeA.membership.pendingSources().isEmpty());
+        assertEquals(12_000L, nodeA.pointService.charge(userId, 5_000L).point());
+        assertEquals(3, nodeA.historyTable.selectAllByUserId(userId).size());
+        assertThrows(UserNotOwnedException.class, () -> nodeB.pointService.charge(userId, 5_000L));
+        assertEquals(7_000L, nodeB.userPointTable.selectById(userId).point());
+    }
+
+    @Test
+    @DisplayName("기존 클러스터에 합류한 노드는 구간을 넘겨준 시드 노드에서 인계받기 전까지 쓰지 않고, 합류를 알게 된 노드는 넘긴 구간을 더 쓰지 않는다")
+    void 합류_노드_인계() {
+        // Given - 노드 C가 합류하면 노드 B에서 노드 C로 옮겨 갈 사용자의 잔액 10,000
+        ConsistentHashRing joined = nodeA.membership.ringOf(List.of(NODE_A, NODE_B, NODE_C));
+        long userId = 1;
+        while (!NODE_B.equals(nodeA.membership.ownerOf(userId)) || !NODE_C.equals(joined.ownerOf(userId))) {
+            userId++;
+        }
+        long movedId = userId;
+        nodeB.pointService.charge(movedId, 10_000L);
+
+        // When - 노드 C를 시드 노드 A, B 로 시작
+        Node nodeC = new Node(NODE_C, NODE_A, NODE_B);
+
+        // Then - 구간을 넘겨준 노드에서 인계받기 전에는 거절
+        assertEquals(joined.donorsOf(NODE_C), nodeC.membership.pendingSources());
+        assertTrue(nodeC.membership.pendingSources().contains(NODE_B));
+        assertThrows(UserHandoffPendingException.class, () -> nodeC.pointService.charge(movedId, 5_000L));
+
+        // When - 합류 알림을 받은 노드 B가 링을 바꾸고, 노드 C가 인계받음
+        nodeB.membership.join(NODE_C);
+        for (String source : nodeC.membership.pendingSources()) {
+            handOff(source.equals(NODE_A) ? nodeA : nodeB, nodeC);
+        }
+
+        // Then - 노드 C는 이어 쓰고, 노드 B는 더 이상 쓰지 않음
+        assertTrue(nodeC.membership.pendingSources().isEmpty());
+        assertEquals(15_000L, nodeC.pointService.charge(movedId, 5_000L).point());
+        assertThrows(UserNotOwnedException.class, () -> nodeB.pointService.charge(movedId, 5_000L));
+        assertEquals(10_000L, nodeB.userPointTable.selectById(movedId).point());
+    }
+
+    @Test
+    @DisplayName("시드 노드가 없으면 인계받을 곳 없이 바로 쓴다")
+    void 단일_노드_시작() {
+        // Given & When
+        Node single = new Node(NODE_A);
+
+        // Then
+        assertTrue(single.membership.pendingSources().isEmpty());
+        assertEquals(5_000L, single.pointService.charge(1L, 5_000L).point());
+    }
+
+    @Test
+    @DisplayName("같은 인계를 다시 받아도 이미 반영한 내역과 이후 쓰기를 덮어쓰지 않는다")
+    void 인계_재수신_멱등() {
+        // Given
+        long userId = userOwnedBy(nodeA.membership, NODE_B);
+        nodeB.pointService.charge(userId, 10_000L);
+        nodeA.membership.leave(NODE_B);
+        List<PointHandoff> handoffs = nodeB.handoffService.export(NODE_A, nodeA.membership.nodes());
+        handoffs.forEach(nodeA.handoffService::importUser);
+        nodeA.pointService.charge(userId, 5_000L);
+
+        // When
+        handoffs.forEach(nodeA.handoffService::importUser);
+
+        // Then
+        assertEquals(15_000L, nodeA.userPointTable.selectById(userId).point());
+        assertEquals(2, nodeA.historyTable.selectAllByUserId(userId).size());
+    }
+
+    /**
+     * target 이 source 에 인계를 요청해 반영한다 (PointHandoffService.pullPending 과 같은 순서)
+     */
+    private static void handOff(Node source, Node target) {
+        Set<String> nodes = target.membership.nodes();
+        source.handoffService.export(target.self, nodes).forEach(target.handoffService::importUser);
+        target.membership.completeHandoff(source.self, nodes);
+    }
+
+    private static long userOwnedBy(ClusterMembership membership, String node) {
+        for (long userId = 1; ; userId++) {
+            if (node.equals(membership.ownerOf(userId))) {
+                return userId;
+            }
+        }
+    }
+
+    private static final class Node {
+
+        private final UserPointTable userPointTable = new UserPointTable();
+        private final PointHistoryTable historyTable = new PointHistoryTable();
+        private final String self;
+        private final ClusterMembership membership;
+        private final PointService pointService;
+        private final PointHandoffService handoffService;
+
+        private Node(String self, String... seeds) {
+            UserLockProvider lockProvider = new LocalUserLockProvider();
+            this.self = self;
+            membership = new ClusterMembership(self, List.of(seeds), 16, 60_000L, 3, ClusterSecret.none());
+            pointService = PointService.builder(userPointTable, historyTable)
+                    .userLockProvider(lockProvider)
+                    .ownership(membership)
+                    .build();
+            handoffService = new PointHandoffService(membership, ClusterSecret.none(), userPointTable, historyTable,
+                    lockProvider, PointEventProjection.disabled(), PointLotBook.disabled(), PointFollowerView.disabled(), null, 60_000L);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.FilePointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.lock.LocalUserLockProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("내역 압축 테스트")
+class PointHistoryCompactorTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+    private static final long DAY_MILLIS = Duration.ofDays(1).toMillis();
+
+    private PointHistoryTable pointHistoryTable;
+    private PointHistoryCompactor compactor;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryTable = new PointHistoryTable();
+        compactor = new PointHistoryCompactor(pointHistoryTable, new LocalUserLockProvider(),
+                false, 30, 60_000L, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 내역은 일자별 체크포인트로 합쳐지고 최근 내역은 원본으로 남는다")
+    void 오래된_내역_일자별_압축() {
+        // Given - 40일 전 3건, 35일 전 2건, 최근 6건
+        long old40 = NOW.toEpochMilli() - 40 * DAY_MILLIS;
+        long old35 = NOW.toEpochMilli() - 35 * DAY_MILLIS;
+        pointHistoryTable.insert(1L, 10_000L, TransactionType.CHARGE, old40);
+        pointHistoryTable.insert(1L, 1_000L, TransactionType.USE, old40);
+        pointHistoryTable.insert(1L, 5_000L, TransactionType.CHARGE, old40);
+        pointHistoryTable.insert(1L, 2_000L, TransactionType.USE, old35);
+        pointHistoryTable.insert(1L, 5_000L, TransactionType.TRANSFER_IN, old35);
+        for (int i = 0; i < 6; i++) {
+            pointHistoryTable.insert(1L, 1_000L, TransactionType.USE, NOW.toEpochMilli() - i);
+        }
+
+        // When
+        int remaining = compactor.compact(1L);
+
+        // Then
+        assertEquals(6, remaining);
+        assertEquals(6, pointHistoryTable.selectAllByUserId(1L).size());
+
+        PointLedger ledger = compactor.ledger(1L);
+        assertEquals(2, ledger.checkpoints().size());
+        PointHistoryCheckpoint first = ledger.checkpoints().get(0);
+        assertEquals(LocalDate.of(2026, 9, 8), first.day());
+        assertEquals(15_000L, first.chargeAmount());
+        assertEquals(1_000L, first.useAmount());
+        assertEquals(3, first.count());
+        assertEquals(3_000L, ledger.checkpoints().get(1).netAmount());
+        // 10000 - 1000 + 5000 - 2000 + 5000 - 1000 * 6 = 11000
+        assertEquals(11_000L, ledger.balance());
+    }
+
+    @Test
+    @DisplayName("최근 조회에 쓰이는 마지막 5건은 오래되어도 압축하지 않는다")
+    void 마지막_5건은_원본_유지() {
+        // Given - 모두 오래된 내역 7건
+        long old = NOW.toEpochMilli() - 60 * DAY_MILLIS;
+        for (int i = 0; i < 7; i++) {
+            pointHistoryTable.insert(1L, 5_000L, TransactionType.CHARGE, old);
+        }
+
+        // When
+        compactor.compact(1L);
+
+        // Then - 2건만 압축되고 잔액은 그대로
+        PointLedger ledger = compactor.ledger(1L);
+        assertEquals(5, ledger.histories().size());
+        assertEquals(2, ledger.checkpoints().get(0).count());
+        assertEquals(35_000L, ledger.balance());
+    }
+
+    @Test
+    @DisplayName("반복 압축해도 체크포인트가 누적되어 잔액 재구성 결과가 같다")
+    void 반복_압축_누적() {
+        // Given
+        long old = NOW.toEpochMilli() - 31 * DAY_MILLIS;
+        for (int i = 0; i < 7; i++) {
+            pointHistoryTable.insert(1L, 5_000L, TransactionType.CHARGE, old);
+        }
+        compactor.compact(1L);
+
+        // When - 오래된 내역이 더 쌓인 뒤 다시 압축
+        for (int i = 0; i < 3; i++) {
+            pointHistoryTable.insert(1L, 1_000L, TransactionType.USE, old);
+        }
+        compactor.compact(1L);
+
+        // Then
+        PointLedger ledger = compactor.ledger(1L);
+        assertEquals(1, ledger.checkpoints().size());
+        assertEquals(5, ledger.checkpoints().get(0).count());
+        assertEquals(32_000L, ledger.balance());
+    }
+
+    @Test
+    @DisplayName("체크포인트는 내역 저장소에 남으므로 압축 작업을 새로 만들어도(재시작) 원장 합계가 유지된다")
+    void 재시작_후_체크포인트_유지() {
+        // Given
+        long old = NOW.toEpochMilli() - 40 * DAY_MILLIS;
+        for (int i = 0; i < 8; i++) {
+            pointHistoryTable.insert(1L, 5_000L, TransactionType.CHARGE, old);
+        }
+        compactor.compact(1L);
+
+        // When
+        PointHistoryCompactor restarted = new PointHistoryCompactor(pointHistoryTable, new LocalUserLockProvider(),
+                false, 30, 60_000L, Clock.fixed(NOW, ZoneOffset.UTC));
+        PointLedger ledger = restarted.ledger(1L);
+
+        // Then
+        assertEquals(5, ledger.histories().size());
+        assertEquals(3, ledger.checkpoints().get(0).count());
+        assertEquals(40_000L, ledger.balance());
+        assertEquals(compactor.compactedUpTo(1L), restarted.compactedUpTo(1L));
+    }
+
+    @Test
+    @DisplayName("file 엔진에서 압축한 뒤 저장소를 다시 열어도 원장 합계가 압축 전과 같다")
+    void 파일_저장소_압축_후_재시작() throws IOException {
+        // Given
+        Path directory = Files.createTempDirectory("point-compaction");
+        long old = NOW.toEpochMilli() - 40 * DAY_MILLIS;
+        FilePointHistoryRepository repository = new FilePointHistoryRepository(directory, true);
+        for (int i = 0; i < 6; i++) {
+            repository.insert(1L, 10_000L, TransactionType.CHARGE, old + i * DAY_MILLIS);
+            repository.insert(1L, 3_000L, TransactionType.USE, old + i * DAY_MILLIS);
+        }
+        new PointHistoryCompactor(repository, new LocalUserLockProvider(), false, 30, 60_000L,
+                Clock.fixed(NOW, ZoneOffset.UTC)).compact(1L);
+        repository.close();
+
+        // When
+        FilePointHistoryRepository reopened = new FilePointHistoryRepository(directory, true);
+        PointLedger ledger = new PointHistoryCompactor(reopened, new LocalUserLockProvider(), false, 30, 60_000L,
+                Clock.fixed(NOW, ZoneOffset.UTC)).ledger(1L);
+        reopened.close();
+
+        // Then - 앞의 7건이 4개 일자 체크포인트로 합쳐지고 5건은 원본으로 남는다
+        assertEquals(5, ledger.histories().size());
+        assertEquals(4, ledger.checkpoints().size());
+        assertEquals(42_000L, ledger.balance());
+    }
+}
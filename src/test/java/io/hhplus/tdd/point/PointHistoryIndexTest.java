@@ -0,0 +1,144 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("내역 보조 인덱스 테스트")
+class PointHistoryIndexTest {
+
+    private static final long BUCKET = 1_000L;
+    private static final long NOW = 100_000L;
+
+    private final PointHistoryTable pointHistoryTable = new PointHistoryTable();
+    private final PointHistoryIndex index = new PointHistoryIndex(pointHistoryTable, BUCKET, Duration.ofMillis(10_000L),
+            Clock.fixed(Instant.ofEpochMilli(NOW), ZoneId.systemDefault()));
+
+    @Test
+    @DisplayName("시간 범위와 종류로 조회하면 범위 안의 해당 종류만 시간 순으로 반환한다")
+    void 시간_종류_조회() {
+        // Given
+        commit(1L, TransactionType.CHARGE, 5_000L, 95_000L);
+        commit(2L, TransactionType.USE, 1_000L, 95_500L);
+        commit(3L, TransactionType.CHARGE, 10_000L, 96_200L);
+        commit(4L, TransactionType.CHARGE, 5_000L, 98_000L);
+        commit(5L, TransactionType.CHARGE, 5_000L, 94_000L);
+
+        // When - 95,000 이상 98,000 미만의 충전
+        List<PointHistory> results = index.search(
+                new PointHistoryQuery(95_000L, 98_000L, EnumSet.of(TransactionType.CHARGE), 0L, Long.MAX_VALUE, 10));
+
+        // Then
+        System.out.println("결과: " + results);
+        assertEquals(List.of(1L, 3L), ids(results));
+    }
+
+    @Test
+    @DisplayName("금액 조건은 경계 버킷의 범위 밖 항목을 제외하고 limit 만큼만 반환한다")
+    void 금액_범위_조회() {
+        // Given - 범위 시작(95,500)과 끝(97,500)이 버킷 중간에 걸침
+        commit(1L, TransactionType.USE, 60_000L, 95_100L);
+        commit(2L, TransactionType.USE, 70_000L, 95_600L);
+        commit(3L, TransactionType.USE, 40_000L, 96_100L);
+        commit(4L, TransactionType.USE, 80_000L, 96_900L);
+        commit(5L, TransactionType.CHARGE, 90_000L, 97_000L);
+        commit(6L, TransactionType.USE, 55_000L, 97_400L);
+        commit(7L, TransactionType.USE, 65_000L, 97_600L);
+
+        // When - 최근 USE 중 50,000 이상
+        PointHistoryQuery query = new PointHistoryQuery(95_500L, 97_500L, Set.of(TransactionType.USE),
+                50_000L, Long.MAX_VALUE, 10);
+        List<PointHistory> results = index.search(query);
+        List<PointHistory> limited = index.search(new PointHistoryQuery(95_500L, 97_500L,
+                Set.of(TransactionType.USE), 50_000L, Long.MAX_VALUE, 2));
+
+        // Then
+        System.out.println("결과: " + results);
+        assertEquals(List.of(2L, 4L, 6L), ids(results));
+        assertEquals(List.of(2L, 4L), ids(limited));
+    }
+
+    @Test
+    @DisplayName("top-K 는 종류와 버킷에 걸쳐 금액이 큰 순서로 반환한다")
+    void 금액_상위_조회() {
+        // Given
+        commit(1L, TransactionType.CHARGE, 30_000L, 91_000L);
+        commit(2L, TransactionType.USE, 90_000L, 92_500L);
+        commit(3L, TransactionType.CHARGE, 50_000L, 93_100L);
+        commit(4L, TransactionType.USE, 10_000L, 93_200L);
+        commit(5L, TransactionType.CHARGE, 70_000L, 95_900L);
+        commit(6L, TransactionType.USE, 99_000L, 80_000L); // 범위 밖
+
+        // When
+        List<PointHistory> top = index.top(new PointHistoryQuery(90_000L, NOW, Set.of(), 0L, Long.MAX_VALUE, 3));
+
+        // Then
+        System.out.println("상위: " + top);
+        assertEquals(List.of(2L, 5L, 3L), ids(top));
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 항목은 제거된다")
+    void 보관_기간_초과_제거() {
+        // Given - 보관 기간 10초, 현재 100,000
+        commit(1L, TransactionType.CHARGE, 5_000L, 85_000L);
+        commit(2L, TransactionType.CHARGE, 5_000L, 95_000L);
+
+        // When
+        index.evictExpired();
+
+        // Then
+        PointHistoryQuery all = new PointHistoryQuery(0L, NOW, Set.of(), 0L, Long.MAX_VALUE, 10);
+        PointHistoryQuery amount = new PointHistoryQuery(0L, NOW, Set.of(), 1L, Long.MAX_VALUE, 10);
+        assertEquals(List.of(2L), ids(index.search(all)));
+        assertEquals(List.of(2L), ids(index.search(amount)));
+        assertEquals(List.of(2L), ids(index.top(all)));
+    }
+
+    @Test
+    @DisplayName("기동 시 저장소의 보관 기간 안 내역으로 인덱스를 채우고 변경 스트림과 겹쳐도 한 번만 저장한다")
+    void 기동_시_채우기() {
+        // Given - 보관 기간 10초, 현재 100,000
+        pointHistoryTable.insert(1L, 5_000L, TransactionType.CHARGE, 85_000L);
+        PointHistory recent = pointHistoryTable.insert(1L, 3_000L, TransactionType.USE, 95_000L);
+        pointHistoryTable.insert(2L, 7_000L, TransactionType.CHARGE, 96_000L);
+
+        // When
+        int added = index.backfill();
+        index.onCommitted(new PointChange(new UserPoint(1L, 2_000L, recent.updateMillis()), recent));
+
+        // Then
+        List<PointHistory> results = index.search(new PointHistoryQuery(0L, NOW, Set.of(), 0L, Long.MAX_VALUE, 10));
+        assertEquals(2, added);
+        assertEquals(List.of(95_000L, 96_000L), results.stream().map(PointHistory::updateMillis).toList());
+    }
+
+    @Test
+    @DisplayName("시작 시각이 종료 시각보다 늦거나 조회 건수가 0 이하면 검색 조건 예외가 발생한다")
+    void 잘못된_검색_조건() {
+        // When & Then
+        assertThrows(InvalidHistoryQueryException.class,
+                () -> new PointHistoryQuery(NOW, 0L, Set.of(), 0L, Long.MAX_VALUE, 10));
+        assertThrows(InvalidHistoryQueryException.class,
+                () -> new PointHistoryQuery(0L, NOW, Set.of(), 0L, Long.MAX_VALUE, 0));
+    }
+
+    private void commit(long id, TransactionType type, long amount, long updateMillis) {
+        PointHistory history = new PointHistory(id, 1L, amount, type, updateMillis);
+        index.onCommitted(new PointChange(new UserPoint(1L, 0L, updateMillis), history));
+    }
+
+    private static List<Long> ids(List<PointHistory> histories) {
+        return histories.stream().map(PointHistory::id).toList();
+    }
+}
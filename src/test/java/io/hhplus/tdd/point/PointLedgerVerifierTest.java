@@ -0,0 +1,94 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.lock.LocalUserLockProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("원장 정합성 검증 테스트")
+class PointLedgerVerifierTest {
+
+    private UserPointTable userPointTable;
+    private PointHistoryTable pointHistoryTable;
+    private PointService pointService;
+    private PointLedgerVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = new UserPointTable();
+        pointHistoryTable = new PointHistoryTable();
+        LocalUserLockProvider userLockProvider = new LocalUserLockProvider();
+        PointHistoryCompactor compactor = new PointHistoryCompactor(pointHistoryTable, userLockProvider, false, 30, 60_000L);
+        pointService = PointService.builder(userPointTable, pointHistoryTable)
+                .userLockProvider(userLockProvider)
+                .build();
+        verifier = new PointLedgerVerifier(userPointTable, compactor, pointHistoryTable, PointEventProjection.disabled(),
+                new SimpleMeterRegistry(), 8, 10L);
+    }
+
+    @Test
+    @DisplayName("서비스를 통해서만 변경된 원장은 불일치가 없다")
+    void 정상_원장_검증() {
+        // Given
+        pointService.charge(1L, 10_000L);
+        pointService.charge(2L, 20_000L);
+        pointService.use(2L, 5_000L);
+
+        // When
+        LedgerVerificationReport report = verifier.verify();
+
+        // Then
+        System.out.println("=== 원장 검증 결과 ===");
+        System.out.println("검증 사용자 수: " + report.scannedUsers() + ", 소요 시간: " + report.elapsedMillis() + "ms");
+
+        assertEquals(2, report.scannedUsers());
+        assertEquals(0, report.mismatchedUsers());
+        assertTrue(report.mismatches().isEmpty());
+        assertEquals(1.0, verifier.status().scannedUsers() / (double) verifier.status().totalUsers());
+    }
+
+    @Test
+    @DisplayName("잔액이 내역 합계와 다르면 해당 사용자와 내역이 보고된다")
+    void 불일치_사용자_보고() {
+        // Given - 서비스를 거치지 않고 잔액만 바꿔 불일치를 만듦
+        pointService.charge(1L, 10_000L);
+        pointService.charge(2L, 20_000L);
+        userPointTable.insertOrUpdate(2L, 99_000L);
+
+        // When
+        LedgerVerificationReport report = verifier.verify();
+
+        // Then
+        assertEquals(2, report.scannedUsers());
+        assertEquals(1, report.mismatchedUsers());
+        LedgerMismatch mismatch = report.mismatches().get(0);
+        assertEquals(2L, mismatch.userId());
+        assertEquals(99_000L, mismatch.balance());
+        assertEquals(20_000L, mismatch.ledgerBalance());
+        assertEquals(1, mismatch.histories().size());
+        assertSame(report, verifier.status().lastReport());
+    }
+
+    @Test
+    @DisplayName("변경 스트림을 거치지 않고 저장소에 남아 있던 사용자도 검증한다 (재시작 후)")
+    void 저장소에만_있는_사용자_검증() {
+        // Given - 서비스를 거치지 않고 저장소에 직접 기록 (이전 프로세스가 남긴 데이터)
+        pointHistoryTable.insert(3L, 7_000L, TransactionType.CHARGE, System.currentTimeMillis());
+        userPointTable.insertOrUpdate(3L, 5_000L);
+
+        // When
+        LedgerVerificationReport report = verifier.verify();
+
+        // Then
+        assertEquals(1, report.scannedUsers());
+        assertEquals(1, report.mismatchedUsers());
+        assertEquals(7_000L, report.mismatches().get(0).ledgerBalance());
+    }
+}
@@ -0,0 +1,47 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.load.HttpLoadTarget;
+import io.hhplus.tdd.load.LoadGenerator;
+import io.hhplus.tdd.load.LoadProfile;
+import io.hhplus.tdd.load.LoadReport;
+import io.hhplus.tdd.load.LoadTarget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 부하 테스트 진입점 (./gradlew loadTest 로만 실행)
+ *
+ * load.baseUrl 이 있으면 실행 중인 서버의 HTTP API 를, 없으면 PointService 를 직접 호출한다.
+ * 예) ./gradlew loadTest -Pload.keys=zipf:1.1 -Pload.rate=50 -Pload.durationMs=30000
+ */
+@Tag("load")
+@DisplayName("포인트 부하 테스트")
+class PointLoadTest {
+
+    @Test
+    @DisplayName("설정한 부하 프로필을 실행하고 분위수/처리량 보고서를 JSON 으로 남긴다")
+    void 부하_프로필_실행() throws Exception {
+        // Given
+        LoadProfile profile = LoadProfile.fromProperties("point-service", System.getProperties());
+        String baseUrl = System.getProperty("load.baseUrl");
+        LoadTarget target = baseUrl != null
+                ? new HttpLoadTarget(baseUrl)
+                : new PointServiceLoadTarget(PointService.builder(new UserPointTable(), new PointHistoryTable()).build());
+
+        // When
+        LoadReport report = new LoadGenerator(profile, target).run();
+        Path file = report.write();
+
+        // Then
+        System.out.print(report.summary());
+        System.out.println("보고서: " + file.toAbsolutePath());
+        assertTrue(report.totalCount() > 0);
+    }
+}
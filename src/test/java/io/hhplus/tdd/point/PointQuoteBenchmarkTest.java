@@ -0,0 +1,86 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.load.LoadGenerator;
+import io.hhplus.tdd.load.LoadOperation;
+import io.hhplus.tdd.load.LoadProfile;
+import io.hhplus.tdd.load.LoadReport;
+import io.hhplus.tdd.load.LoadTarget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 실패 여부 확인용 요청을 use 로 보낼 때와 quote 로 보낼 때의 쓰기 경로 부하 비교 (./gradlew loadTest 로만 실행)
+ *
+ * 기본 작업 비율은 충전 1 : 확인 9 이며, 확인 요청은 잔액보다 큰 금액이라 대부분 거절된다.
+ * 보고서는 {name}-use.json, {name}-quote.json 으로 남는다.
+ */
+@Tag("load")
+@DisplayName("예상 결과 조회 벤치마크")
+class PointQuoteBenchmarkTest {
+
+    private static final long PROBE_AMOUNT = 90_000L;
+
+    @Test
+    @DisplayName("확인 요청을 quote 로 보내면 사용자 락 획득이 충전 요청 수준으로 줄어든다")
+    void use_대비_quote() throws Exception {
+        // Given
+        Properties defaults = new Properties();
+        defaults.setProperty("load.mix", "charge:1,use:9");
+        defaults.putAll(System.getProperties());
+        String name = defaults.getProperty("load.name", "point-quote");
+
+        // When
+        defaults.setProperty("load.name", name + "-use");
+        Result use = run(defaults, false);
+        defaults.setProperty("load.name", name + "-quote");
+        Result quote = run(defaults, true);
+
+        // Then
+        System.out.print(use.report().summary());
+        System.out.print(quote.report().summary());
+        System.out.printf("요청당 락 획득: use %.3f, quote %.3f%n", use.locksPerRequest(), quote.locksPerRequest());
+        use.report().write();
+        quote.report().write();
+        assertTrue(quote.locksPerRequest() < use.locksPerRequest());
+    }
+
+    private static Result run(Properties properties, boolean quote) throws Exception {
+        CountingUserLockProvider userLockProvider = new CountingUserLockProvider();
+        PointFollowerView followerView = new PointFollowerView(true, 1_000L);
+        PointService pointService = PointService.builder(new UserPointTable(), new PointHistoryTable())
+                .userLockProvider(userLockProvider)
+                .changeListeners(List.of(followerView))
+                .followerView(followerView)
+                .build();
+        LoadTarget target = (operation, userId) -> {
+            try {
+                if (operation == LoadOperation.CHARGE) {
+                    pointService.charge(userId, 5_000L);
+                } else if (quote) {
+                    pointService.quote(userId, TransactionType.USE, PROBE_AMOUNT);
+                } else {
+                    pointService.use(userId, PROBE_AMOUNT);
+                }
+            } catch (InsufficientPointException | MaxPointExceededException ignored) {
+                // 도메인 규칙에 따른 거절
+            }
+        };
+        try {
+            LoadReport report = new LoadGenerator(LoadProfile.fromProperties("point-quote", properties), target).run();
+            return new Result(report, (double) userLockProvider.acquisitions() / Math.max(1L, report.totalCount()));
+        } finally {
+            followerView.shutdown();
+        }
+    }
+
+    private record Result(LoadReport report, double locksPerRequest) {
+    }
+}
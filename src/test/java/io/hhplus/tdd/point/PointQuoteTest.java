@@ -0,0 +1,111 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("충전/사용 예상 결과 조회 테스트")
+class PointQuoteTest {
+
+    private final PointFollowerView followerView = new PointFollowerView(true, 1_000L);
+    private final CountingUserLockProvider userLockProvider = new CountingUserLockProvider();
+    private final AtomicInteger tableReads = new AtomicInteger();
+    private PointHistoryTable pointHistoryTable;
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        UserPointTable userPointTable = new UserPointTable() {
+            @Override
+            public UserPoint selectById(Long id) {
+                tableReads.incrementAndGet();
+                return super.selectById(id);
+            }
+        };
+        pointHistoryTable = new PointHistoryTable();
+        pointService = PointService.builder(userPointTable, pointHistoryTable)
+                .userLockProvider(userLockProvider)
+                .changeListeners(List.of(followerView))
+                .followerView(followerView)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        followerView.shutdown();
+    }
+
+    @Test
+    @DisplayName("사용 예상 결과는 실제 사용과 같은 규칙으로 허용/거절 사유를 알려준다")
+    void 사용_예상_결과() throws InterruptedException {
+        // Given
+        pointService.charge(1L, 10_000L);
+        awaitApplied();
+
+        // When
+        PointQuote allowed = pointService.quote(1L, TransactionType.USE, 3_000L);
+        PointQuote insufficient = pointService.quote(1L, TransactionType.USE, 20_000L);
+        PointQuote wrongUnit = pointService.quote(1L, TransactionType.USE, 1_050L);
+
+        // Then
+        System.out.println("허용: " + allowed);
+        System.out.println("잔액 부족: " + insufficient);
+        assertTrue(allowed.allowed());
+        assertEquals(10_000L, allowed.currentPoint());
+        assertEquals(7_000L, allowed.expectedPoint());
+        assertFalse(insufficient.allowed());
+        assertEquals(new InsufficientPointException(10_000L, 20_000L).getMessage(), insufficient.reason());
+        assertFalse(wrongUnit.allowed());
+        assertEquals(10_000L, wrongUnit.expectedPoint());
+    }
+
+    @Test
+    @DisplayName("충전 예상 결과는 충전 단위와 최대 잔액 규칙을 확인한다")
+    void 충전_예상_결과() {
+        // When
+        PointQuote allowed = pointService.quote(2L, TransactionType.CHARGE, 100_000L);
+        PointQuote overMax = pointService.quote(2L, TransactionType.CHARGE, 105_000L);
+        PointQuote wrongUnit = pointService.quote(2L, TransactionType.CHARGE, 1_000L);
+
+        // Then
+        assertTrue(allowed.allowed());
+        assertEquals(100_000L, allowed.expectedPoint());
+        assertFalse(overMax.allowed());
+        assertFalse(wrongUnit.allowed());
+    }
+
+    @Test
+    @DisplayName("예상 결과 조회는 사용자 락을 잡거나 기록하지 않고, 캐시된 잔액이 있으면 원본을 읽지 않는다")
+    void 락_없이_캐시_사용() throws InterruptedException {
+        // Given
+        pointService.charge(1L, 10_000L);
+        awaitApplied();
+        long locksBefore = userLockProvider.acquisitions();
+        int readsBefore = tableReads.get();
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            pointService.quote(1L, TransactionType.USE, 50_000L);
+        }
+
+        // Then
+        assertEquals(locksBefore, userLockProvider.acquisitions());
+        assertEquals(readsBefore, tableReads.get());
+        assertEquals(1, pointHistoryTable.selectAllByUserId(1L).size());
+        assertEquals(10_000L, pointService.point(1L).point());
+    }
+
+    private void awaitApplied() throws InterruptedException {
+        for (int i = 0; i < 100 && !followerView.isCaughtUp(); i++) {
+            Thread.sleep(10);
+        }
+    }
+}
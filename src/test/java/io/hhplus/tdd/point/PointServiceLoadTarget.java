@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.load.LoadOperation;
+import io.hhplus.tdd.load.LoadTarget;
+
+/**
+ * PointService 를 직접 호출하는 부하 대상
+ *
+ * 도메인 검증 실패(잔액 부족, 최대 잔액 초과)는 정상 응답으로 본다.
+ */
+class PointServiceLoadTarget implements LoadTarget {
+
+    private static final long CHARGE_AMOUNT = 5_000L;
+    private static final long USE_AMOUNT = 1_000L;
+
+    private final PointService pointService;
+
+    PointServiceLoadTarget(PointService pointService) {
+        this.pointService = pointService;
+    }
+
+    @Override
+    public void execute(LoadOperation operation, long userId) {
+        try {
+            switch (operation) {
+                case CHARGE -> pointService.charge(userId, CHARGE_AMOUNT);
+                case USE -> pointService.use(userId, USE_AMOUNT);
+                case POINT -> pointService.point(userId);
+                case HISTORY -> pointService.history(userId);
+            }
+        } catch (InsufficientPointException | MaxPointExceededException ignored) {
+            // 도메인 규칙에 따른 거절
+        }
+    }
+}
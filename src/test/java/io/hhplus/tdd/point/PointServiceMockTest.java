@@ -31,7 +31,7 @@ class PointServiceMockTest {
 
     @BeforeEach
     void setUp() {
-        pointService = new PointService(userPointTable, pointHistoryTable);
+        pointService = PointService.builder(userPointTable, pointHistoryTable).build();
     }
 
     @Test
@@ -19,7 +19,7 @@ class PointServiceTest {
     void setUp() {
         userPointRepository = new UserPointTable();
         pointHistoryRepository = new PointHistoryTable();
-        pointService = new PointService(userPointRepository, pointHistoryRepository);
+        pointService = PointService.builder(userPointRepository, pointHistoryRepository).build();
     }
 
     @Test
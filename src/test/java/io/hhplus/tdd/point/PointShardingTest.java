@@ -0,0 +1,152 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.ShardedPointHistoryRepository;
+import io.hhplus.tdd.database.ShardedUserPointRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.lock.LocalUserLockProvider;
+import io.hhplus.tdd.lock.ShardedUserLockProvider;
+import io.hhplus.tdd.lock.UserLockProvider;
+import io.hhplus.tdd.shard.ShardWorkers;
+import io.hhplus.tdd.shard.UserShards;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("샤드 분할 쓰기 경로 테스트")
+class PointShardingTest {
+
+    private final List<ShardWorkers> workers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        workers.forEach(ShardWorkers::shutdown);
+    }
+
+    @Test
+    @DisplayName("같은 사용자는 항상 같은 샤드로, 연속된 사용자 ID 는 여러 샤드로 나뉜다")
+    void 샤드_선택() {
+        // Given
+        UserShards shards = new UserShards(8);
+        Set<Integer> used = new HashSet<>();
+
+        // When & Then
+        for (long userId = 1; userId <= 1_000; userId++) {
+            int index = shards.indexOf(userId);
+            assertEquals(index, shards.indexOf(userId));
+            assertTrue(index >= 0 && index < 8);
+            used.add(index);
+        }
+        assertEquals(8, used.size());
+        assertThrows(IllegalArgumentException.class, () -> new UserShards(0));
+    }
+
+    @Test
+    @DisplayName("샤드를 거쳐도 충전/사용/조회/내역 결과는 샤드가 하나일 때와 같다")
+    void 샤드_경유_충전_사용_조회() {
+        // Given
+        PointService pointService = shardedPointService(4, 2);
+
+        // When
+        pointService.charge(1L, 10_000L);
+        UserPoint used = pointService.use(1L, 1_300L);
+
+        // Then
+        assertEquals(8_700L, used.point());
+        assertEquals(8_700L, pointService.point(1L).point());
+        assertEquals(2, pointService.history(1L).size());
+        assertThrows(InsufficientPointException.class, () -> pointService.use(1L, 10_000L));
+    }
+
+    @Test
+    @DisplayName("같은 사용자에 대한 동시 충전은 사용자 샤드 안에서 직렬화된다")
+    void 같은_사용자_동시_충전() throws InterruptedException {
+        // Given
+        PointService pointService = shardedPointService(4, 4);
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointService.charge(7L, 5_000L);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // Then
+        assertEquals(50_000L, pointService.point(7L).point());
+        assertEquals(PointService.MAX_HISTORY_SIZE, pointService.history(7L).size());
+    }
+
+    @Test
+    @DisplayName("서로 다른 샤드의 사용자 사이에서도 전송되고, 내역 id 는 샤드 사이에서 겹치지 않는다")
+    void 샤드_간_전송() {
+        // Given - 서로 다른 샤드의 두 사용자
+        UserShards shards = new UserShards(4);
+        long fromId = 1L;
+        long toId = 2L;
+        while (shards.indexOf(toId) == shards.indexOf(fromId)) {
+            toId++;
+        }
+        PointService pointService = shardedPointService(4, 2);
+        pointService.charge(fromId, 20_000L);
+
+        // When
+        UserPoint sender = pointService.transfer(fromId, toId, 5_000L);
+
+        // Then
+        assertEquals(15_000L, sender.point());
+        assertEquals(5_000L, pointService.point(toId).point());
+        Set<Long> ids = new HashSet<>();
+        pointService.history(fromId).forEach(history -> ids.add(history.id()));
+        pointService.history(toId).forEach(history -> ids.add(history.id()));
+        assertEquals(3, ids.size());
+    }
+
+    /**
+     * 샤드마다 락 레지스트리, 저장소, 작업 스레드 풀을 따로 둔 PointService (운영 구성과 같은 조립)
+     */
+    private PointService shardedPointService(int shardCount, int workersPerShard) {
+        UserShards shards = new UserShards(shardCount);
+        ShardWorkers shardWorkers = new ShardWorkers(shards, workersPerShard, 1_000);
+        workers.add(shardWorkers);
+        return shardedPointService(shards, shardWorkers);
+    }
+
+    static PointService shardedPointService(UserShards shards, ShardWorkers shardWorkers) {
+        int shardCount = shards.count();
+        List<UserLockProvider> locks = new ArrayList<>();
+        List<UserPointRepository> userPoints = new ArrayList<>();
+        List<PointHistoryRepository> histories = new ArrayList<>();
+        for (int index = 0; index < shardCount; index++) {
+            locks.add(new LocalUserLockProvider());
+            userPoints.add(new UserPointTable());
+            histories.add(new PointHistoryTable(index + 1L, shardCount));
+        }
+        return PointService.builder(new ShardedUserPointRepository(shards, userPoints),
+                        new ShardedPointHistoryRepository(shards, histories))
+                .userLockProvider(new ShardedUserLockProvider(shards, locks))
+                .shardWorkers(shardWorkers)
+                .build();
+    }
+}
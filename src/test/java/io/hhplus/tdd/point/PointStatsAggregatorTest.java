@@ -0,0 +1,119 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("실시간 집계 테스트")
+class PointStatsAggregatorTest {
+
+    private static final long NOW = 10 * 60 * 60 * 1_000L;
+
+    private final AtomicLong historyId = new AtomicLong();
+
+    @Test
+    @DisplayName("최근 1분과 1시간 합계는 각 구간에 커밋된 내역만 더한다")
+    void 구간별_합계() {
+        // Given
+        PointStatsAggregator aggregator = aggregator(NOW, 5);
+        commit(aggregator, 1L, TransactionType.CHARGE, 10_000L, NOW - 5_000L);
+        commit(aggregator, 1L, TransactionType.USE, 3_000L, NOW - 20_000L);
+        commit(aggregator, 2L, TransactionType.TRANSFER_OUT, 5_000L, NOW - 30_000L);
+        commit(aggregator, 3L, TransactionType.TRANSFER_IN, 5_000L, NOW - 30_000L);
+        commit(aggregator, 2L, TransactionType.CHARGE, 20_000L, NOW - 30 * 60_000L);
+        commit(aggregator, 4L, TransactionType.USE, 1_000L, NOW - 2 * 60 * 60_000L); // 보관 구간 밖
+
+        // When
+        PointStats stats = aggregator.refresh();
+
+        // Then
+        System.out.println("집계: " + stats);
+        assertEquals(10_000L, stats.lastMinute().chargedAmount());
+        assertEquals(3_000L, stats.lastMinute().usedAmount());
+        assertEquals(5_000L, stats.lastMinute().transferredAmount());
+        assertEquals(1L, stats.lastMinute().transferCount());
+        assertEquals(3L, stats.lastMinute().activeUsers());
+        assertEquals(30_000L, stats.lastHour().chargedAmount());
+        assertEquals(2L, stats.lastHour().chargeCount());
+        assertEquals(1L, stats.lastHour().useCount());
+        assertSame(stats, aggregator.stats());
+    }
+
+    @Test
+    @DisplayName("링 버퍼 칸을 재사용하면 이전 구간의 값은 지워진다")
+    void 칸_재사용() {
+        // Given - 1시간 간격이면 같은 칸을 사용
+        PointStatsAggregator aggregator = aggregator(NOW, 5);
+        commit(aggregator, 1L, TransactionType.CHARGE, 50_000L, NOW - 60 * 60_000L - 1_000L);
+        commit(aggregator, 1L, TransactionType.CHARGE, 5_000L, NOW - 1_000L);
+
+        // When - 지나간 칸에 대한 늦은 기록
+        commit(aggregator, 2L, TransactionType.CHARGE, 70_000L, NOW - 60 * 60_000L - 2_000L);
+        PointStats stats = aggregator.refresh();
+
+        // Then
+        assertEquals(5_000L, stats.lastHour().chargedAmount());
+        assertEquals(1L, stats.lastHour().activeUsers());
+    }
+
+    @Test
+    @DisplayName("활성 사용자 수 추정치는 실제 값과 5% 이내로 차이 난다")
+    void 활성_사용자_추정() {
+        // Given - 20,000명이 각각 여러 번 거래
+        PointStatsAggregator aggregator = aggregator(NOW, 5);
+        for (int round = 0; round < 3; round++) {
+            for (long userId = 1; userId <= 20_000; userId++) {
+                commit(aggregator, userId, TransactionType.CHARGE, 5_000L, NOW - 1_000L - round * 10_000L);
+            }
+        }
+
+        // When
+        long estimate = aggregator.refresh().lastMinute().activeUsers();
+
+        // Then
+        System.out.println("추정 활성 사용자 수: " + estimate);
+        assertEquals(20_000.0, estimate, 20_000 * 0.05);
+    }
+
+    @Test
+    @DisplayName("사용 금액 상위 사용자는 추적 용량보다 사용자가 많아도 큰 순서로 찾고 금액을 작게 보고하지 않는다")
+    void 상위_사용자() {
+        // Given - 3명이 크게 쓰고 나머지 5,000명은 조금씩 사용
+        PointStatsAggregator aggregator = aggregator(NOW, 3);
+        for (int round = 0; round < 20; round++) {
+            for (long userId = 100; userId < 5_100; userId++) {
+                commit(aggregator, userId, TransactionType.USE, 100L, NOW - 1_000L);
+            }
+            commit(aggregator, 1L, TransactionType.USE, 30_000L, NOW - 1_000L);
+            commit(aggregator, 2L, TransactionType.USE, 20_000L, NOW - 1_000L);
+            commit(aggregator, 3L, TransactionType.USE, 10_000L, NOW - 1_000L);
+        }
+
+        // When
+        List<PointStats.Spender> top = aggregator.refresh().topSpenders();
+
+        // Then
+        System.out.println("상위 사용자: " + top);
+        assertEquals(List.of(1L, 2L, 3L), top.stream().map(PointStats.Spender::userId).toList());
+        assertTrue(top.get(0).amount() >= 600_000L);
+        assertTrue(top.get(0).amount() - top.get(0).maxError() <= 600_000L);
+    }
+
+    private static PointStatsAggregator aggregator(long nowMillis, int topSpenders) {
+        return new PointStatsAggregator(true, 10_000L, 60, 1_000L, topSpenders,
+                Clock.fixed(Instant.ofEpochMilli(nowMillis), ZoneId.systemDefault()));
+    }
+
+    private void commit(PointStatsAggregator aggregator, long userId, TransactionType type, long amount,
+                        long updateMillis) {
+        PointHistory history = new PointHistory(historyId.incrementAndGet(), userId, amount, type, updateMillis);
+        aggregator.onCommitted(new PointChange(new UserPoint(userId, 0L, updateMillis), history));
+    }
+}
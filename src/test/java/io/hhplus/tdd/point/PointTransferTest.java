@@ -0,0 +1,133 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.cluster.UserNotOwnedException;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("포인트 전송 테스트")
+class PointTransferTest {
+
+    private PointHistoryTable pointHistoryTable;
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        pointHistoryTable = new PointHistoryTable();
+        pointService = PointService.builder(new UserPointTable(), pointHistoryTable).build();
+    }
+
+    @Test
+    @DisplayName("전송하면 보낸 사용자는 차감, 받은 사용자는 적립되고 내역이 쌍으로 기록된다")
+    void 포인트_전송() {
+        // Given
+        pointService.charge(1L, 20_000L);
+
+        // When
+        UserPoint from = pointService.transfer(1L, 2L, 5_000L);
+
+        // Then
+        assertEquals(15_000L, from.point());
+        assertEquals(5_000L, pointService.point(2L).point());
+
+        List<PointHistory> fromHistories = pointHistoryTable.selectAllByUserId(1L);
+        List<PointHistory> toHistories = pointHistoryTable.selectAllByUserId(2L);
+        assertEquals(TransactionType.TRANSFER_OUT, fromHistories.get(1).type());
+        assertEquals(TransactionType.TRANSFER_IN, toHistories.get(0).type());
+        assertEquals(5_000L, toHistories.get(0).amount());
+    }
+
+    @Test
+    @DisplayName("받는 사용자를 이 노드가 소유하지 않으면 (클러스터 모드) 아무것도 쓰지 않고 거절한다")
+    void 비소유_사용자_전송_거절() {
+        // Given - 사용자 2는 다른 노드 소유
+        UserPointTable userPointTable = new UserPointTable();
+        PointService clusterService = PointService.builder(userPointTable, pointHistoryTable)
+                .ownership(userId -> {
+                    if (userId == 2L) {
+                        throw new UserNotOwnedException(userId, "http://node-b");
+                    }
+                })
+                .build();
+        clusterService.charge(1L, 20_000L);
+
+        // When & Then
+        assertThrows(UserNotOwnedException.class, () -> clusterService.transfer(1L, 2L, 5_000L));
+        assertEquals(20_000L, userPointTable.selectById(1L).point());
+        assertEquals(0L, userPointTable.selectById(2L).point());
+        assertTrue(pointHistoryTable.selectAllByUserId(2L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하거나 받는 사용자의 최대 잔액을 넘으면 아무것도 바뀌지 않는다")
+    void 전송_검증_실패() {
+        // Given
+        pointService.charge(1L, 5_000L);
+        pointService.charge(2L, 100_000L);
+
+        // When & Then
+        assertThrows(InsufficientPointException.class, () -> pointService.transfer(1L, 3L, 10_000L));
+        assertThrows(MaxPointExceededException.class, () -> pointService.transfer(1L, 2L, 5_000L));
+        assertThrows(InvalidTransferException.class, () -> pointService.transfer(1L, 1L, 5_000L));
+
+        assertEquals(5_000L, pointService.point(1L).point());
+        assertEquals(100_000L, pointService.point(2L).point());
+        assertEquals(1, pointHistoryTable.selectAllByUserId(1L).size());
+    }
+
+    @Test
+    @DisplayName("서로 엇갈리는 동시 전송에서도 교착 상태 없이 총액이 보존된다")
+    void 엇갈린_동시_전송_교착_없음() throws InterruptedException {
+        // Given - 사용자 1~4 각각 50000원
+        long[] users = {1L, 2L, 3L, 4L};
+        for (long userId : users) {
+            pointService.charge(userId, 50_000L);
+        }
+        int transferCount = 24;
+        ExecutorService executorService = Executors.newFixedThreadPool(transferCount);
+        CountDownLatch latch = new CountDownLatch(transferCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // When - 1→2 와 2→1 처럼 락 순서가 엇갈리는 전송을 동시에 실행
+        for (int i = 0; i < transferCount; i++) {
+            long from = users[i % users.length];
+            long to = users[(i + 1 + (i / users.length) % (users.length - 1)) % users.length];
+            executorService.submit(() -> {
+                try {
+                    pointService.transfer(from, to, 5_000L);
+                    successCount.incrementAndGet();
+                } catch (RuntimeException ignored) {
+                    // 최대 잔액 초과 등 도메인 검증 실패는 허용
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        // Then - 교착 상태라면 제한 시간 안에 끝나지 않음
+        assertTimeoutPreemptively(Duration.ofSeconds(60), () -> latch.await(), "교착 상태가 의심됩니다.");
+        executorService.shutdown();
+
+        long total = 0;
+        for (long userId : users) {
+            total += pointService.point(userId).point();
+        }
+        System.out.println("=== 엇갈린 전송 결과 ===");
+        System.out.println("성공 횟수: " + successCount.get());
+        System.out.println("총액: " + total);
+
+        assertEquals(200_000L, total, "전송 전후 총액은 같아야 합니다.");
+        assertTrue(successCount.get() > 0);
+    }
+}
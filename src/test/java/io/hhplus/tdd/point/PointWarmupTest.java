@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("시작 시 예열 테스트")
+class PointWarmupTest {
+
+    private final PointFollowerView followerView = new PointFollowerView(true, 1_000L);
+    private Path hotUsersFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        hotUsersFile = Files.createTempDirectory("point-warmup").resolve("hot-users.txt");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        followerView.shutdown();
+        Files.deleteIfExists(hotUsersFile);
+        Files.deleteIfExists(hotUsersFile.getParent());
+    }
+
+    @Test
+    @DisplayName("종료 시 조회가 잦은 순서로 저장한 사용자 목록을 다음 시작 시 읽는다")
+    void 상위_사용자_저장_복원() {
+        // Given - 사용자 3이 가장 많이, 1이 그다음으로 조회됨
+        PointHotUsers before = new PointHotUsers(true, hotUsersFile, 2, 1);
+        for (int i = 0; i < 30; i++) {
+            before.recordAccess(3L);
+        }
+        for (int i = 0; i < 20; i++) {
+            before.recordAccess(1L);
+        }
+        before.recordAccess(2L);
+
+        // When
+        before.persist();
+        List<Long> loaded = new PointHotUsers(true, hotUsersFile, 2, 1).load();
+
+        // Then
+        System.out.println("복원된 사용자: " + loaded);
+        assertEquals(List.of(3L, 1L), loaded);
+    }
+
+
+    @Test
+    @DisplayName("조회를 표본으로만 기록해도 조회가 잦은 사용자의 순위는 유지된다")
+    void 표본_기록_순위_유지() {
+        // Given - 16건 중 한 건만 기록
+        PointHotUsers hotUsers = new PointHotUsers(true, hotUsersFile, 2, 16);
+
+        // When
+        for (int i = 0; i < 20_000; i++) {
+            hotUsers.recordAccess(3L);
+            if (i % 2 == 0) {
+                hotUsers.recordAccess(1L);
+            }
+            if (i % 100 == 0) {
+                hotUsers.recordAccess(2L);
+            }
+        }
+
+        // Then
+        assertEquals(List.of(3L, 1L), hotUsers.hottest());
+    }
+    @Test
+    @DisplayName("예열한 사용자는 첫 조회부터 원본 테이블을 거치지 않는다")
+    void 예열_후_팔로워_조회() throws Exception {
+        // Given - 이전 실행의 데이터와 상위 사용자 목록
+        UserPointTable userPointTable = spy(new UserPointTable());
+        PointHistoryTable pointHistoryTable = new PointHistoryTable();
+        for (long userId = 1; userId <= 3; userId++) {
+            userPointTable.insertOrUpdate(userId, userId * 5_000L);
+            pointHistoryTable.insert(userId, userId * 5_000L, TransactionType.CHARGE, System.currentTimeMillis());
+        }
+        Files.write(hotUsersFile, List.of("1", "2", "3"));
+        PointHotUsers hotUsers = new PointHotUsers(true, hotUsersFile, 100, 1);
+        PointService pointService = PointService.builder(userPointTable, pointHistoryTable)
+                .changeListeners(List.of(followerView))
+                .followerView(followerView)
+                .hotUsers(hotUsers)
+                .build();
+
+        // When
+        int loaded = warmup(pointService, hotUsers, 30_000L).warmUp();
+        awaitApplied();
+        clearInvocations(userPointTable);
+
+        // Then
+        assertEquals(3, loaded);
+        assertEquals(10_000L, pointService.point(2L).point());
+        assertEquals(1, pointService.history(3L).size());
+        verify(userPointTable, never()).selectById(anyLong());
+    }
+
+    @Test
+    @DisplayName("예산 시간이 지나면 남은 사용자는 건너뛰고 예열을 끝낸다")
+    void 예산_초과_중단() throws Exception {
+        // Given - 조회 한 건에 최대 200ms 걸리는 사용자 200명, 예산 300ms
+        Files.write(hotUsersFile, LongStream.rangeClosed(1, 200).mapToObj(String::valueOf).toList());
+        PointHotUsers hotUsers = new PointHotUsers(true, hotUsersFile, 1_000, 1);
+        UserPointTable userPointTable = new UserPointTable();
+        PointService pointService = PointService.builder(userPointTable, new PointHistoryTable())
+                .changeListeners(List.of(followerView))
+                .followerView(followerView)
+                .hotUsers(hotUsers)
+                .build();
+
+        // When
+        long start = System.currentTimeMillis();
+        int loaded = warmup(pointService, hotUsers, 300L).warmUp();
+        long elapsed = System.currentTimeMillis() - start;
+
+        // Then
+        System.out.println("예열 " + loaded + "명, " + elapsed + "ms");
+        assertTrue(loaded < 200);
+        assertTrue(elapsed < 2_000L);
+    }
+
+    private PointWarmup warmup(PointService pointService, PointHotUsers hotUsers, long budgetMillis) {
+        return new PointWarmup(pointService, hotUsers, followerView, new SimpleMeterRegistry(), true, 4,
+                budgetMillis);
+    }
+
+    private void awaitApplied() throws InterruptedException {
+        for (int i = 0; i < 100 && !followerView.isCaughtUp(); i++) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.load.HttpLoadTarget;
+import io.hhplus.tdd.load.LoadGenerator;
+import io.hhplus.tdd.load.LoadProfile;
+import io.hhplus.tdd.load.LoadReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * REST 와 바이너리 프로토콜의 같은 부하 비교 (./gradlew loadTest 로만 실행)
+ *
+ * 기본 작업 비율은 조회만(point:1)이다. 쓰기는 테이블 지연이 대부분이라 전송 방식 차이가 드러나지 않는다.
+ * -Pload.mix 등으로 바꿀 수 있으며, 보고서는 {name}-rest.json, {name}-wire.json 으로 남는다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "point.wire.enabled=true",
+        "point.wire.port=0",
+        "point.rate-limit.enabled=false",
+        "point.concurrency.enabled=false"
+})
+@DisplayName("바이너리 프로토콜 벤치마크")
+class PointWireBenchmarkTest {
+
+    private static final int BATCH_SIZE = 64;
+    private static final int BATCHES_IN_FLIGHT = 16;
+
+    @LocalServerPort
+    private int httpPort;
+
+    @Autowired
+    private PointWireServer wireServer;
+
+    @Test
+    @DisplayName("같은 부하 프로필을 REST 와 바이너리 프로토콜로 실행해 지연 분위수와 처리량을 비교한다")
+    void REST_대비_바이너리_프로토콜() throws Exception {
+        // Given
+        Properties defaults = new Properties();
+        defaults.setProperty("load.mix", "point:1");
+        defaults.putAll(System.getProperties());
+        String name = defaults.getProperty("load.name", "point-transport");
+
+        // When
+        defaults.setProperty("load.name", name + "-rest");
+        LoadReport rest = new LoadGenerator(LoadProfile.fromProperties(name, defaults),
+                new HttpLoadTarget("http://127.0.0.1:" + httpPort)).run();
+        defaults.setProperty("load.name", name + "-wire");
+        LoadReport wire;
+        try (PointWireLoadTarget target = new PointWireLoadTarget("127.0.0.1", wireServer.port())) {
+            wire = new LoadGenerator(LoadProfile.fromProperties(name, defaults), target).run();
+        }
+        double batched = batchedThroughput(LoadProfile.fromProperties(name, defaults));
+
+        // Then
+        rest.write();
+        wire.write();
+        System.out.print(rest.summary());
+        System.out.print(wire.summary());
+        System.out.printf("REST %.0f req/s, wire %.0f req/s, wire 배치(%d건/프레임) %.0f ops/s%n",
+                rest.throughputPerSecond(), wire.throughputPerSecond(), BATCH_SIZE, batched);
+        assertTrue(rest.totalCount() > 0);
+        assertTrue(wire.totalCount() > 0);
+        assertEquals(0, wire.totalErrors());
+    }
+
+    /**
+     * 한 연결로 BATCH_SIZE 건짜리 조회 프레임을 BATCHES_IN_FLIGHT 개까지 파이프라이닝했을 때의 처리량
+     */
+    private double batchedThroughput(LoadProfile profile) throws Exception {
+        List<PointWireProtocol.Operation> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(PointWireProtocol.Operation.point(1L + i % profile.users()));
+        }
+        Semaphore inFlight = new Semaphore(BATCHES_IN_FLIGHT);
+        AtomicLong completed = new AtomicLong();
+        long durationNanos = profile.duration().toNanos();
+        try (PointWireClient client = new PointWireClient("127.0.0.1", wireServer.port())) {
+            long start = System.nanoTime();
+            while (System.nanoTime() - start < durationNanos) {
+                inFlight.acquire();
+                client.send(batch).whenComplete((results, e) -> {
+                    if (e == null) {
+                        completed.addAndGet(results.size());
+                    }
+                    inFlight.release();
+                });
+            }
+            inFlight.acquire(BATCHES_IN_FLIGHT);
+            return completed.get() * (double) TimeUnit.SECONDS.toNanos(1) / (System.nanoTime() - start);
+        }
+    }
+}
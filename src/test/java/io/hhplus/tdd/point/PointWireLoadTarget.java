@@ -0,0 +1,54 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.load.LoadOperation;
+import io.hhplus.tdd.load.LoadTarget;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 바이너리 프로토콜로 부하를 주는 대상
+ *
+ * 서버는 한 연결의 프레임을 순서대로 실행하므로 부하 생성 스레드마다 연결을 따로 연다.
+ * UNAVAILABLE, ERROR 응답만 오류로 센다.
+ */
+class PointWireLoadTarget implements LoadTarget, AutoCloseable {
+
+    private static final long CHARGE_AMOUNT = 5_000L;
+    private static final long USE_AMOUNT = 1_000L;
+
+    private final String host;
+    private final int port;
+    private final List<PointWireClient> clients = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<PointWireClient> client = ThreadLocal.withInitial(this::connect);
+
+    PointWireLoadTarget(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    @Override
+    public void execute(LoadOperation operation, long userId) {
+        PointWireProtocol.Operation request = switch (operation) {
+            case CHARGE -> PointWireProtocol.Operation.charge(userId, CHARGE_AMOUNT);
+            case USE -> PointWireProtocol.Operation.use(userId, USE_AMOUNT);
+            case POINT -> PointWireProtocol.Operation.point(userId);
+            case HISTORY -> PointWireProtocol.Operation.history(userId);
+        };
+        PointWireProtocol.Result result = client.get().call(request);
+        if (result.status() == PointWireProtocol.UNAVAILABLE || result.status() == PointWireProtocol.ERROR) {
+            throw new IllegalStateException(result.message());
+        }
+    }
+
+    @Override
+    public void close() {
+        clients.forEach(PointWireClient::close);
+    }
+
+    private PointWireClient connect() {
+        PointWireClient connected = new PointWireClient(host, port);
+        clients.add(connected);
+        return connected;
+    }
+}
@@ -0,0 +1,186 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("바이너리 프로토콜 서버 테스트")
+class PointWireServerTest {
+
+    private PointWireServer server;
+    private PointWireClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        PointService pointService = PointService.builder(new UserPointTable(), new PointHistoryTable()).build();
+        server = new PointWireServer(pointService, new SimpleMeterRegistry(),
+                true, false, "127.0.0.1", 0, 16, 1024 * 1024, 128, 10_000L);
+        server.start();
+        client = new PointWireClient("127.0.0.1", server.port());
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("한 프레임에 담긴 같은 사용자 작업은 순서대로 실행되고 순서대로 응답한다")
+    void 배치_프레임_순서_보장() throws Exception {
+        // Given
+        List<PointWireProtocol.Operation> operations = List.of(
+                PointWireProtocol.Operation.charge(1L, 10_000L),
+                PointWireProtocol.Operation.use(1L, 3_000L),
+                PointWireProtocol.Operation.point(1L),
+                PointWireProtocol.Operation.history(1L));
+
+        // When
+        List<PointWireProtocol.Result> results = client.send(operations).get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(4, results.size());
+        assertTrue(results.stream().allMatch(PointWireProtocol.Result::isOk));
+        assertEquals(10_000L, results.get(0).userPoint().point());
+        assertEquals(7_000L, results.get(1).userPoint().point());
+        assertEquals(7_000L, results.get(2).userPoint().point());
+        List<PointHistory> histories = results.get(3).histories();
+        assertEquals(2, histories.size());
+        assertEquals(TransactionType.CHARGE, histories.get(0).type());
+        assertEquals(1L, histories.get(1).userId());
+        assertEquals(3_000L, histories.get(1).amount());
+    }
+
+    @Test
+    @DisplayName("도메인 규칙 위반은 REJECTED 와 메시지로 응답하고 같은 프레임의 다른 작업은 계속 실행한다")
+    void 도메인_오류_응답() throws Exception {
+        // Given
+        List<PointWireProtocol.Operation> operations = List.of(
+                PointWireProtocol.Operation.use(2L, 1_000L),
+                PointWireProtocol.Operation.transfer(2L, 2L, 5_000L),
+                PointWireProtocol.Operation.charge(2L, 5_000L));
+
+        // When
+        List<PointWireProtocol.Result> results = client.send(operations).get(10, TimeUnit.SECONDS);
+
+        // Then
+        System.out.println("잔액 부족 응답: " + results.get(0).message());
+        assertEquals(PointWireProtocol.REJECTED, results.get(0).status());
+        assertFalse(results.get(0).message().isEmpty());
+        assertEquals(PointWireProtocol.REJECTED, results.get(1).status());
+        assertTrue(results.get(2).isOk());
+        assertEquals(5_000L, results.get(2).userPoint().point());
+    }
+
+    @Test
+    @DisplayName("응답을 기다리지 않고 이어 보낸 프레임은 보낸 순서대로 모두 응답받는다")
+    void 파이프라이닝() throws Exception {
+        // Given - 사용자 10명에게 충전 프레임 50개를 연속 전송
+        List<CompletableFuture<List<PointWireProtocol.Result>>> futures = new ArrayList<>();
+
+        // When
+        long start = System.nanoTime();
+        for (int i = 0; i < 50; i++) {
+            futures.add(client.send(List.of(PointWireProtocol.Operation.charge(100L + i % 10, 5_000L))));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+
+        // Then - 사용자마다 5번씩 충전
+        System.out.println("파이프라이닝 50 프레임: " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+        for (long userId = 100L; userId < 110L; userId++) {
+            assertEquals(25_000L, client.call(PointWireProtocol.Operation.point(userId)).userPoint().point());
+        }
+    }
+
+    @Test
+    @DisplayName("길이가 잘못된 프레임을 보내면 서버가 연결을 끊는다")
+    void 잘못된_프레임_연결_종료() throws Exception {
+        // Given
+        try (SocketChannel channel = SocketChannel.open(new InetSocketAddress("127.0.0.1", server.port()))) {
+            ByteBuffer frame = ByteBuffer.allocate(Integer.BYTES).putInt(Integer.MAX_VALUE).flip();
+
+            // When
+            channel.write(frame);
+
+            // Then
+            assertEquals(-1, channel.read(ByteBuffer.allocate(16)));
+        }
+    }
+
+    @Test
+    @DisplayName("응답에 담을 수 있는 수보다 많은 작업을 담은 프레임은 실행하지 않고 연결을 끊는다")
+    void 작업_수_초과_프레임_거절() throws Exception {
+        // Given - 작업 수 필드만 MAX_OPERATIONS + 1 로 바꾼 충전 프레임
+        int count = PointWireProtocol.MAX_OPERATIONS + 1;
+        List<PointWireProtocol.Operation> operations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            operations.add(PointWireProtocol.Operation.charge(1L, 10_000L));
+        }
+        ByteBuffer frame = ByteBuffer.allocate(PointWireProtocol.LENGTH_BYTES + PointWireProtocol.HEADER_BYTES
+                + count * PointWireProtocol.OPERATION_BYTES);
+        frame.putInt(PointWireProtocol.HEADER_BYTES + count * PointWireProtocol.OPERATION_BYTES)
+                .putInt(0)
+                .putShort((short) count);
+        for (PointWireProtocol.Operation operation : operations) {
+            frame.put(operation.opcode()).putLong(operation.userId()).putLong(operation.arg1()).putLong(operation.arg2());
+        }
+
+        try (SocketChannel channel = SocketChannel.open(new InetSocketAddress("127.0.0.1", server.port()))) {
+            // When
+            frame.flip();
+            while (frame.hasRemaining()) {
+                channel.write(frame);
+            }
+
+            // Then - 연결이 끊기고 충전은 실행되지 않음
+            assertEquals(-1, channel.read(ByteBuffer.allocate(16)));
+        }
+        assertEquals(0L, client.call(PointWireProtocol.Operation.point(1L)).userPoint().point());
+    }
+
+    @Test
+    @DisplayName("인코딩할 수 없는 요청은 보내지 않고 실패하며 같은 연결의 다음 요청은 정상 응답받는다")
+    void 인코딩_실패_요청_미등록() throws Exception {
+        // Given
+        List<PointWireProtocol.Operation> tooMany = new ArrayList<>();
+        for (int i = 0; i <= PointWireProtocol.MAX_OPERATIONS; i++) {
+            tooMany.add(PointWireProtocol.Operation.point(1L));
+        }
+
+        // When
+        CompletableFuture<List<PointWireProtocol.Result>> rejected = client.send(tooMany);
+
+        // Then
+        ExecutionException e = assertThrows(ExecutionException.class, () -> rejected.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        assertTrue(client.call(PointWireProtocol.Operation.charge(1L, 10_000L)).isOk());
+    }
+
+    @Test
+    @DisplayName("클러스터 모드에서는 바이너리 프로토콜 서버가 시작되지 않는다")
+    void 클러스터_모드_시작_거절() {
+        // Given
+        PointService pointService = PointService.builder(new UserPointTable(), new PointHistoryTable()).build();
+        PointWireServer clustered = new PointWireServer(pointService, new SimpleMeterRegistry(),
+                true, true, "127.0.0.1", 0, 4, 1024 * 1024, 128, 10_000L);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, clustered::start);
+    }
+}
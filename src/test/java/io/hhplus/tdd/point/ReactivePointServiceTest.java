@@ -0,0 +1,76 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("리액티브 포인트 서비스 테스트")
+class ReactivePointServiceTest {
+
+    private final ReactivePointService reactivePointService = new ReactivePointService(
+            PointService.builder(new UserPointTable(), new PointHistoryTable()).build(), 4, 1_000);
+
+    @AfterEach
+    void tearDown() {
+        reactivePointService.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 동시 충전은 사용자 큐에서 직렬화된다")
+    void 같은_사용자_동시_충전_직렬화() {
+        // Given - 스레드 4개로 제한된 스케줄러에 10건의 충전 요청
+        List<Mono<UserPoint>> charges = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            charges.add(reactivePointService.charge(1L, 5_000L));
+        }
+
+        // When
+        Flux.merge(charges).blockLast(Duration.ofSeconds(30));
+
+        // Then - 처리가 끝난 사용자 큐는 남지 않아야 함
+        assertEquals(50_000L, reactivePointService.point(1L).block().point());
+        assertEquals(5, reactivePointService.history(1L).collectList().block().size());
+        assertEquals(0, reactivePointService.lanes());
+    }
+
+    @Test
+    @DisplayName("도메인 예외는 에러 신호로 전달된다")
+    void 도메인_예외_에러_신호() {
+        // When & Then
+        assertThrows(InsufficientPointException.class,
+                () -> reactivePointService.use(2L, 1_000L).block());
+
+        // 실패 이후에도 같은 사용자의 다음 요청은 처리되어야 함
+        assertEquals(5_000L, reactivePointService.charge(2L, 5_000L).block().point());
+    }
+
+    @Test
+    @DisplayName("스케줄러가 드레인을 거절하면 대기 중인 요청은 모두 에러로 끝나고 사용자 큐는 제거된다")
+    void 스케줄러_거절_시_대기_요청_실패() {
+        // Given - 모든 작업을 거절하는 스케줄러
+        ReactivePointService rejecting = new ReactivePointService(
+                PointService.builder(new UserPointTable(), new PointHistoryTable()).build(),
+                Schedulers.fromExecutor(command -> {
+                    throw new RejectedExecutionException("스케줄러 큐가 가득 찼습니다.");
+                }));
+
+        // When & Then
+        for (int i = 0; i < 3; i++) {
+            assertThrows(RejectedExecutionException.class, () -> rejecting.charge(1L, 5_000L).block(Duration.ofSeconds(1)));
+        }
+        assertEquals(0, rejecting.lanes());
+        rejecting.shutdown();
+    }
+}
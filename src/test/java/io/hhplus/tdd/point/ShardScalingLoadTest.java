@@ -0,0 +1,86 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.shard.ShardWorkers;
+import io.hhplus.tdd.shard.UserShards;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 부하 생성 테스트: 샤드 수를 1 에서 CPU 코어 수까지 늘리며 쓰기 처리량을 비교
+ *
+ * 샤드당 작업 스레드를 1개로 고정해 샤드 수만 병렬도를 결정하도록 한다.
+ * 사용자마다 충전을 반복하므로 시간이 걸려 기본 test 에서는 제외하고 ./gradlew loadTest 로 실행한다.
+ */
+@Tag("load")
+@DisplayName("샤드 수에 따른 처리량 부하 테스트")
+class ShardScalingLoadTest {
+
+    private static final int USER_COUNT = 32;
+    private static final int CHARGES_PER_USER = 4;
+
+    @Test
+    @DisplayName("샤드 수를 1에서 N 코어까지 늘리면 쓰기 처리량이 증가한다")
+    void 샤드_수에_따른_처리량() throws Exception {
+        int maxShards = Math.min(Runtime.getRuntime().availableProcessors(), USER_COUNT);
+        List<Integer> shardCounts = new ArrayList<>();
+        for (int shardCount = 1; shardCount < maxShards; shardCount *= 2) {
+            shardCounts.add(shardCount);
+        }
+        shardCounts.add(maxShards);
+        double singleShardThroughput = 0;
+        double maxShardThroughput = 0;
+
+        System.out.println("=== 샤드 수에 따른 쓰기 처리량 ===");
+        for (int shardCount : shardCounts) {
+            double throughput = measure(shardCount);
+            System.out.printf("샤드 %d개: %.1f ops/s%n", shardCount, throughput);
+            if (shardCount == 1) {
+                singleShardThroughput = throughput;
+            }
+            maxShardThroughput = throughput;
+        }
+
+        if (maxShards > 1) {
+            assertTrue(maxShardThroughput > singleShardThroughput,
+                    "샤드 수를 늘리면 처리량이 증가해야 합니다: " + singleShardThroughput + " -> " + maxShardThroughput);
+        }
+    }
+
+    private static double measure(int shardCount) throws Exception {
+        ShardWorkers shardWorkers = new ShardWorkers(new UserShards(shardCount), 1, USER_COUNT * CHARGES_PER_USER);
+        PointService pointService = PointShardingTest.shardedPointService(new UserShards(shardCount), shardWorkers);
+        ExecutorService clients = Executors.newFixedThreadPool(USER_COUNT);
+        try {
+            long start = System.nanoTime();
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (long userId = 1; userId <= USER_COUNT; userId++) {
+                long id = userId;
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < CHARGES_PER_USER; i++) {
+                        pointService.charge(id, 5_000L);
+                    }
+                }, clients));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.MINUTES);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            for (long userId = 1; userId <= USER_COUNT; userId++) {
+                assertEquals(CHARGES_PER_USER * 5_000L, pointService.point(userId).point());
+            }
+            return USER_COUNT * CHARGES_PER_USER / seconds;
+        } finally {
+            clients.shutdown();
+            shardWorkers.shutdown();
+        }
+    }
+}
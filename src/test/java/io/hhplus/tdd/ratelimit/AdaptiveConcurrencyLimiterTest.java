@@ -0,0 +1,93 @@
+package io.hhplus.tdd.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("적응형 동시성 제한 테스트")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter("write",
+                new AdaptiveConcurrencyLimiter.Settings(initialLimit, 2, 100, 1.5, 4, 1.0),
+                new SimpleMeterRegistry());
+    }
+
+    /**
+     * 한도까지 요청을 채운 뒤 모두 같은 지연 시간으로 완료시킨다
+     */
+    private void saturate(AdaptiveConcurrencyLimiter limiter, long latencyNanos, boolean dropped) {
+        int admitted = 0;
+        while (limiter.tryAcquire()) {
+            admitted++;
+        }
+        for (int i = 0; i < admitted; i++) {
+            limiter.release(latencyNanos, dropped);
+        }
+    }
+
+    @Test
+    @DisplayName("한도에 도달하면 추가 요청은 바로 거절된다")
+    void 한도_초과_거절() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("read",
+                new AdaptiveConcurrencyLimiter.Settings(2, 1, 10, 1.5, 4, 1.0), registry);
+
+        // When & Then
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(1.0, registry.counter("point.concurrency.rejected", "kind", "read").count());
+    }
+
+    @Test
+    @DisplayName("지연 시간이 기준 이내이면 한도가 늘고, 기준을 크게 넘으면 줄어든다")
+    void 지연_기반_한도_조절() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(16);
+        saturate(limiter, 100 * MILLIS, false);
+        int afterBaseline = limiter.limit();
+
+        // When - 지연이 기준과 같으면 증가
+        saturate(limiter, 100 * MILLIS, false);
+        int afterSteady = limiter.limit();
+
+        // When - 지연이 기준의 4배가 되면 감소
+        saturate(limiter, 400 * MILLIS, false);
+        int afterConvoy = limiter.limit();
+
+        // Then
+        System.out.println("한도 변화: " + afterBaseline + " → " + afterSteady + " → " + afterConvoy);
+        assertTrue(afterSteady > afterBaseline);
+        assertTrue(afterConvoy < afterSteady);
+    }
+
+    @Test
+    @DisplayName("과부하 실패 응답이 섞인 창은 한도를 10% 줄이고, 최소 한도 아래로는 내려가지 않는다")
+    void 실패_응답_시_감소() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+        // When - 창 하나(4건)가 모두 실패
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        for (int i = 0; i < 4; i++) {
+            limiter.release(10 * MILLIS, true);
+        }
+
+        // Then
+        assertEquals(18, limiter.limit());
+        for (int i = 0; i < 50; i++) {
+            saturate(limiter, 10 * MILLIS, true);
+        }
+        assertEquals(2, limiter.limit());
+    }
+}
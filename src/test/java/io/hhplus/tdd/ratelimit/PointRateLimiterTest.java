@@ -0,0 +1,171 @@
+package io.hhplus.tdd.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("처리율 제한 테스트")
+class PointRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private PointRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 사용자: 초당 2개, 버스트 3 / 전체: 초당 5개, 버스트 5 / 버킷 최대 2개
+        rateLimiter = new PointRateLimiter(meterRegistry, true, 2, 3, 5, 5, 2, 10_000L, 0L);
+    }
+
+    @Test
+    @DisplayName("사용자 버스트를 넘으면 거절되고 시간이 지나면 다시 허용된다")
+    void 사용자_한도_초과_후_회복() {
+        // Given
+        long now = 0;
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.acquire(1L, now);
+        }
+
+        // When & Then
+        RateLimitExceededException exception =
+                assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(1L, 0));
+        assertEquals(500L, exception.getRetryAfterMillis());
+        assertDoesNotThrow(() -> rateLimiter.acquire(1L, SECOND / 2));
+        assertEquals(1.0, meterRegistry.counter("point.ratelimit.rejected", "scope", "user").count());
+    }
+
+    @Test
+    @DisplayName("사용자별 한도 안이어도 전체 한도를 넘으면 거절된다")
+    void 전체_한도_초과() {
+        // Given - 두 사용자가 전체 버스트 5개를 나눠 씀
+        rateLimiter.acquire(1L, 0);
+        rateLimiter.acquire(1L, 0);
+        rateLimiter.acquire(1L, 0);
+        rateLimiter.acquire(2L, 0);
+        rateLimiter.acquire(2L, 0);
+
+        // When & Then
+        assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(2L, 0));
+        assertEquals(1.0, meterRegistry.counter("point.ratelimit.rejected", "scope", "global").count());
+    }
+
+    @Test
+    @DisplayName("상한에 도달하면 새 사용자는 거절되고, 백그라운드 제거로 유휴 버킷이 비워진 뒤 받는다")
+    void 유휴_버킷_제거() {
+        // Given
+        rateLimiter.acquire(1L, 0);
+        rateLimiter.acquire(2L, 0);
+        assertEquals(2, rateLimiter.bucketCount());
+
+        // When - 1초 뒤 두 버킷 모두 가득 찬 상태에서 새 사용자 요청 (요청 경로에서는 제거하지 않음)
+        RateLimitExceededException exception =
+                assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(3L, SECOND));
+        int evicted = rateLimiter.evictIdle(SECOND);
+        rateLimiter.acquire(3L, SECOND);
+
+        // Then
+        assertEquals(10_000L, exception.getRetryAfterMillis());
+        assertEquals(2, evicted);
+        assertEquals(1, rateLimiter.bucketCount());
+        assertEquals(0, rateLimiter.evictIdle(SECOND));
+        assertEquals(1, rateLimiter.evictIdle(2 * SECOND));
+    }
+
+    @Test
+    @DisplayName("전체 한도에 걸린 요청은 사용자 토큰을 쓰지 않는다")
+    void 전체_한도_거절_시_사용자_토큰_반환() {
+        // Given - 전체 버스트 5개 소진, 사용자 2는 토큰 1개 남음
+        rateLimiter.acquire(1L, 0);
+        rateLimiter.acquire(1L, 0);
+        rateLimiter.acquire(1L, 0);
+        rateLimiter.acquire(2L, 0);
+        rateLimiter.acquire(2L, 0);
+
+        // When - 사용자 2가 전체 한도에 여러 번 걸림
+        for (int i = 0; i < 5; i++) {
+            RateLimitExceededException exception =
+                    assertThrows(RateLimitExceededException.class, () -> rateLimiter.acquire(2L, 0));
+            assertEquals("global", exception.getScope());
+        }
+
+        // Then - 전체 토큰이 1개 보충되면 사용자 2의 남은 토큰으로 허용
+        assertDoesNotThrow(() -> rateLimiter.acquire(2L, SECOND / 5));
+    }
+
+    @Test
+    @DisplayName("동시에 새 사용자가 몰려도 버킷 수는 상한을 넘지 않는다")
+    void 동시_버킷_생성_상한() throws InterruptedException {
+        // Given
+        PointRateLimiter limiter = new PointRateLimiter(new SimpleMeterRegistry(), true, 2, 3, 1_000_000, 1_000_000, 100, 10_000L, 0L);
+        int threadCount = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // When - 16개 스레드가 각자 다른 사용자 1,000명으로 요청
+        for (int i = 0; i < threadCount; i++) {
+            long base = i * 1_000L;
+            executorService.submit(() -> {
+                try {
+                    for (long userId = base; userId < base + 1_000L; userId++) {
+                        try {
+                            limiter.acquire(userId, 0);
+                        } catch (RateLimitExceededException ignored) {
+                            // 상한 초과 사용자는 거절
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        assertEquals(100, limiter.bucketCount());
+    }
+
+    @Test
+    @DisplayName("동시에 요청해도 버스트 크기만큼만 허용된다")
+    void 동시_요청_버스트_보장() throws InterruptedException {
+        // Given
+        TokenBucket bucket = new TokenBucket(1, 50, 0);
+        int threadCount = 32;
+        int requestsPerThread = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger allowed = new AtomicInteger();
+
+        // When - 같은 시각에 3200건 요청
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < requestsPerThread; j++) {
+                        if (bucket.tryAcquire(0) == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        System.out.println("허용된 요청 수: " + allowed.get());
+        assertEquals(50, allowed.get());
+    }
+}